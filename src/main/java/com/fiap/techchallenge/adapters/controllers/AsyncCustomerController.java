@@ -0,0 +1,24 @@
+package com.fiap.techchallenge.adapters.controllers;
+
+import com.fiap.techchallenge.application.usecases.CustomerRegistrationStatus;
+import com.fiap.techchallenge.application.usecases.CustomerWriteBehind;
+import com.fiap.techchallenge.domain.entities.Customer;
+
+import java.util.UUID;
+
+public class AsyncCustomerController {
+
+    private final CustomerWriteBehind customerWriteBehind;
+
+    public AsyncCustomerController(CustomerWriteBehind customerWriteBehind) {
+        this.customerWriteBehind = customerWriteBehind;
+    }
+
+    public Customer registerCustomer(String name, String email, String cpf) {
+        return customerWriteBehind.submit(name, email, cpf);
+    }
+
+    public CustomerRegistrationStatus findRegistrationStatus(UUID id) {
+        return customerWriteBehind.status(id);
+    }
+}
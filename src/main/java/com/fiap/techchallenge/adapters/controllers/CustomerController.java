@@ -1,33 +1,119 @@
 package com.fiap.techchallenge.adapters.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.adapters.presenters.CustomerJson;
+import com.fiap.techchallenge.adapters.presenters.CustomerJsonPresenter;
+import com.fiap.techchallenge.application.usecases.CustomerLookupResult;
+import com.fiap.techchallenge.application.usecases.CustomerPage;
+import com.fiap.techchallenge.application.usecases.CustomerProjectionPage;
+import com.fiap.techchallenge.application.usecases.CustomerRegistration;
+import com.fiap.techchallenge.application.usecases.CustomerRegistrationResult;
 import com.fiap.techchallenge.application.usecases.CustomerUseCase;
+import com.fiap.techchallenge.application.usecases.IdempotencyStore;
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import com.fiap.techchallenge.domain.exception.DomainException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public class CustomerController {
 
+    // Tamanho da coluna da chave na tabela customer_idempotency_keys
+    static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final CustomerUseCase customerUseCase;
+    private final CustomerJsonPresenter jsonPresenter;
+    private final IdempotencyStore idempotencyStore;
 
     public CustomerController(CustomerUseCase customerUseCase) {
+        this(customerUseCase, new CustomerJsonPresenter(new ObjectMapper()));
+    }
+
+    public CustomerController(CustomerUseCase customerUseCase, CustomerJsonPresenter jsonPresenter) {
+        this(customerUseCase, jsonPresenter, null);
+    }
+
+    /**
+     * @param idempotencyStore opcional; sem ele o {@code Idempotency-Key} é ignorado
+     */
+    public CustomerController(CustomerUseCase customerUseCase, CustomerJsonPresenter jsonPresenter,
+                              IdempotencyStore idempotencyStore) {
         this.customerUseCase = customerUseCase;
+        this.jsonPresenter = jsonPresenter;
+        this.idempotencyStore = idempotencyStore;
     }
 
     public Customer registerCustomer(String name, String email, String cpf) {
         return customerUseCase.registerCustomer(name, email, cpf);
     }
 
+    // Repetição com a mesma chave recebe o resultado da primeira execução, sem passar pelo caso de uso
+    public Customer registerCustomer(String idempotencyKey, String name, String email, String cpf) {
+        if (idempotencyKey == null || idempotencyStore == null) {
+            return registerCustomer(name, email, cpf);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new DomainException("Idempotency-Key must have between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        return idempotencyStore.execute(idempotencyKey, IdempotencyStore.fingerprint(name, email, cpf),
+                () -> customerUseCase.registerCustomer(name, email, cpf));
+    }
+
+    public List<CustomerRegistrationResult> registerCustomers(List<CustomerRegistration> registrations) {
+        return customerUseCase.registerCustomers(registrations);
+    }
+
+    public Customer findOrRegisterCustomer(String name, String email, String cpf) {
+        return customerUseCase.findOrRegister(name, email, cpf);
+    }
+
     public Optional<Customer> findCustomerByCpf(String cpf) {
         return customerUseCase.findCustomerByCpf(cpf);
     }
 
+    public CustomerLookupResult findCustomers(List<String> ids, List<String> cpfs) {
+        return customerUseCase.findCustomers(ids, cpfs);
+    }
+
     public Optional<Customer> findCustomerById(UUID id) {
         return customerUseCase.findCustomerById(id);
     }
 
+    // Mesmas buscas, já devolvendo o JSON da resposta (servido do cache quando habilitado)
+    public Optional<CustomerJson> findCustomerJsonByCpf(String cpf) {
+        return jsonPresenter.findByCpf(cpf, customerUseCase::findCustomerByCpf);
+    }
+
+    public Optional<CustomerJson> findCustomerJsonById(UUID id) {
+        return jsonPresenter.findById(id, customerUseCase::findCustomerById);
+    }
+
+    public Optional<CustomerJson> findCustomerJsonByCpf(String cpf, Set<CustomerField> fields) {
+        return jsonPresenter.findByCpf(cpf, customerUseCase::findCustomerByCpf, fields);
+    }
+
+    public Optional<CustomerJson> findCustomerJsonById(UUID id, Set<CustomerField> fields) {
+        return jsonPresenter.findById(id, customerUseCase::findCustomerById, fields);
+    }
+
     public List<Customer> findAllCustomers() {
         return customerUseCase.findCustomerAll();
     }
+
+    public CustomerPage findCustomerPage(String cursor, int limit) {
+        return customerUseCase.findCustomerPage(cursor, limit);
+    }
+
+    public CustomerProjectionPage findCustomerPage(String cursor, int limit, Set<CustomerField> fields) {
+        return customerUseCase.findCustomerPage(cursor, limit, fields);
+    }
+
+    public void exportCustomers(OutputStream out) throws IOException {
+        jsonPresenter.writeNdjson(out, customerUseCase::exportCustomers);
+    }
 }
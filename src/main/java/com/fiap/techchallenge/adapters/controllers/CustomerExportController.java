@@ -0,0 +1,33 @@
+package com.fiap.techchallenge.adapters.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.adapters.presenters.CustomerGzipNdjsonExport;
+import com.fiap.techchallenge.application.usecases.CustomerExportReport;
+import com.fiap.techchallenge.application.usecases.CustomerExportUseCase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+public class CustomerExportController {
+
+    private final CustomerExportUseCase customerExportUseCase;
+    private final ObjectMapper objectMapper;
+
+    public CustomerExportController(CustomerExportUseCase customerExportUseCase, ObjectMapper objectMapper) {
+        this.customerExportUseCase = customerExportUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    public CustomerExportReport exportGzip(OutputStream out, int partitions) throws IOException {
+        CustomerGzipNdjsonExport export = new CustomerGzipNdjsonExport(objectMapper, out);
+        CustomerExportReport report;
+        try {
+            report = customerExportUseCase.exportCustomers(partitions, export::open);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+        return report;
+    }
+}
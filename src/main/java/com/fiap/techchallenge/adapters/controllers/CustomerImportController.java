@@ -0,0 +1,34 @@
+package com.fiap.techchallenge.adapters.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.adapters.imports.CustomerImportFormat;
+import com.fiap.techchallenge.adapters.imports.CustomerImportReader;
+import com.fiap.techchallenge.application.usecases.CustomerImportReport;
+import com.fiap.techchallenge.application.usecases.CustomerImportUseCase;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+public class CustomerImportController {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final CustomerImportUseCase customerImportUseCase;
+    private final ObjectMapper objectMapper;
+
+    public CustomerImportController(CustomerImportUseCase customerImportUseCase, ObjectMapper objectMapper) {
+        this.customerImportUseCase = customerImportUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    public CustomerImportReport importCustomers(InputStream content,
+                                                CustomerImportFormat format,
+                                                Consumer<CustomerImportReport> progress) {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(content, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        return customerImportUseCase.importCustomers(CustomerImportReader.of(format, reader, objectMapper), progress);
+    }
+}
@@ -0,0 +1,258 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.cache.CpfBloomFilter;
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeListener;
+import com.fiap.techchallenge.adapters.gateway.events.ReplicaSync;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decorator de {@link CustomerRepository} que responde "CPF ausente" sem ir ao banco.
+ * <p>
+ * O Bloom filter é carregado a partir da tabela em {@link #load()} e recebe todo CPF
+ * salvo; os falsos positivos confirmados no banco ficam num cache negativo de TTL curto.
+ * </p>
+ * <p>
+ * CPFs gravados por outras réplicas só chegam pelo barramento de alterações, então o filtro
+ * só responde "ausente" enquanto está em dia com ele: desde a queda da conexão do LISTEN
+ * ({@link #onDisconnected()}) até a recarga do reset seguinte, toda consulta vai ao banco.
+ * </p>
+ */
+public class BloomFilterCustomerRepository extends DelegatingCustomerRepository implements CustomerChangeListener {
+
+    private static final int SAVE_STAMP_STRIPES = 1_024;
+
+    private final CpfBloomFilter registeredCpfs;
+    private final Cache<String, Boolean> absentCpfs;
+
+    private final AtomicLong definitelyAbsent = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    // Versão por stripe de CPF, incrementada a cada gravação: uma consulta só guarda a ausência
+    // se nenhuma gravação do stripe aconteceu desde que ela começou
+    private final AtomicLongArray saveStamps = new AtomicLongArray(SAVE_STAMP_STRIPES);
+    private final ReplicaSync sync = new ReplicaSync();
+
+    public BloomFilterCustomerRepository(CustomerRepository delegate,
+                                         CpfBloomFilter registeredCpfs,
+                                         Cache<String, Boolean> absentCpfs) {
+        super(delegate);
+        this.registeredCpfs = registeredCpfs;
+        this.absentCpfs = absentCpfs;
+    }
+
+    /**
+     * Lê todos os CPFs da tabela. Se a conexão do barramento cair antes do fim da leitura, o
+     * filtro continua fora de uso até a carga do reset seguinte.
+     */
+    public void load() {
+        long started = sync.beginLoad();
+        delegate.forEach(customer -> registeredCpfs.put(customer.getCpf()));
+        sync.completeLoad(started);
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        // Entra no filtro antes do commit: o filtro em si nunca tem janela de falso negativo
+        registeredCpfs.put(customer.getCpf());
+        Customer saved = delegate.save(customer);
+        forgetAbsence(saved.getCpf());
+        return saved;
+    }
+
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        customers.forEach(customer -> registeredCpfs.put(customer.getCpf()));
+        List<Customer> saved = delegate.saveAll(customers);
+        saved.forEach(customer -> forgetAbsence(customer.getCpf()));
+        return saved;
+    }
+
+    @Override
+    public Customer saveIfAbsent(Customer customer) {
+        registeredCpfs.put(customer.getCpf());
+        Customer stored = delegate.saveIfAbsent(customer);
+        forgetAbsence(stored.getCpf());
+        return stored;
+    }
+
+    @Override
+    public Optional<Customer> findByCpf(String cpf) {
+        if (isKnownAbsent(cpf)) {
+            return Optional.empty();
+        }
+        long stamp = saveStamp(cpf);
+        Optional<Customer> customer = delegate.findByCpf(cpf);
+        if (customer.isEmpty()) {
+            recordFalsePositive(cpf, stamp);
+        }
+        return customer;
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        if (isKnownAbsent(cpf)) {
+            return false;
+        }
+        long stamp = saveStamp(cpf);
+        boolean exists = delegate.existsByCpf(cpf);
+        if (!exists) {
+            recordFalsePositive(cpf, stamp);
+        }
+        return exists;
+    }
+
+    // Só os CPFs que o filtro não descarta vão para a consulta
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        List<String> candidates = new ArrayList<>(cpfs.size());
+        for (String cpf : cpfs) {
+            if (!isKnownAbsent(cpf)) {
+                candidates.add(cpf);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        long[] stamps = saveStamps(candidates);
+        Set<String> existing = delegate.findExistingCpfs(candidates);
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!existing.contains(candidates.get(i))) {
+                recordFalsePositive(candidates.get(i), stamps[i]);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Customer> findAllByCpfs(Collection<String> cpfs) {
+        List<String> candidates = new ArrayList<>(cpfs.size());
+        for (String cpf : cpfs) {
+            if (!isKnownAbsent(cpf)) {
+                candidates.add(cpf);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        long[] stamps = saveStamps(candidates);
+        List<Customer> customers = delegate.findAllByCpfs(candidates);
+        Set<String> found = new HashSet<>(customers.size() * 2);
+        for (Customer customer : customers) {
+            found.add(customer.getCpf());
+        }
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!found.contains(candidates.get(i))) {
+                recordFalsePositive(candidates.get(i), stamps[i]);
+            }
+        }
+        return customers;
+    }
+
+    // Cliente gravado por outra réplica: o CPF passa a existir aqui também
+    @Override
+    public void onCustomerChanged(UUID id, String cpf) {
+        if (cpf != null) {
+            registeredCpfs.put(cpf);
+            forgetAbsence(cpf);
+        }
+    }
+
+    // Bits só são adicionados, então recarregar por cima do filtro atual é seguro
+    @Override
+    public void onReset() {
+        for (int i = 0; i < SAVE_STAMP_STRIPES; i++) {
+            saveStamps.incrementAndGet(i);
+        }
+        absentCpfs.invalidateAll();
+        sync.reset();
+        load();
+    }
+
+    // Avisos de outras réplicas podem se perder a partir daqui: nada de "ausente" até a recarga
+    @Override
+    public void onDisconnected() {
+        sync.disconnected();
+    }
+
+    public boolean isLoaded() {
+        return sync.isSynced();
+    }
+
+    public long definitelyAbsentCount() {
+        return definitelyAbsent.get();
+    }
+
+    public long falsePositiveCount() {
+        return falsePositives.get();
+    }
+
+    /**
+     * Taxa de falso positivo observada: FP / (FP + negativos respondidos pelo filtro).
+     */
+    public double observedFalsePositiveRate() {
+        long fp = falsePositives.get();
+        long total = fp + definitelyAbsent.get();
+        return total == 0 ? 0.0 : (double) fp / total;
+    }
+
+    private boolean isKnownAbsent(String cpf) {
+        if (!sync.isSynced()) {
+            return false;
+        }
+        if (!registeredCpfs.mightContain(cpf)) {
+            definitelyAbsent.incrementAndGet();
+            return true;
+        }
+        return absentCpfs.getIfPresent(cpf) != null;
+    }
+
+    /**
+     * Guarda a ausência confirmada no banco, a menos que o CPF tenha sido gravado desde
+     * {@code stamp}: a consulta pode não ter visto um INSERT ainda não commitado. O {@code compute}
+     * é atômico com o {@code invalidate} de {@link #forgetAbsence}, então ou a gravação já mudou
+     * o stamp e nada é guardado, ou a entrada guardada é removida logo depois.
+     */
+    private void recordFalsePositive(String cpf, long stamp) {
+        if (!sync.isSynced()) {
+            return;
+        }
+        falsePositives.incrementAndGet();
+        int stripe = stripeOf(cpf);
+        absentCpfs.asMap().compute(cpf,
+                (key, absent) -> saveStamps.get(stripe) == stamp ? Boolean.TRUE : absent);
+    }
+
+    // Depois do commit: o stamp muda antes de a entrada sair do cache negativo
+    private void forgetAbsence(String cpf) {
+        saveStamps.incrementAndGet(stripeOf(cpf));
+        absentCpfs.invalidate(cpf);
+    }
+
+    private long saveStamp(String cpf) {
+        return saveStamps.get(stripeOf(cpf));
+    }
+
+    private long[] saveStamps(List<String> cpfs) {
+        long[] stamps = new long[cpfs.size()];
+        for (int i = 0; i < stamps.length; i++) {
+            stamps[i] = saveStamp(cpfs.get(i));
+        }
+        return stamps;
+    }
+
+    private static int stripeOf(String cpf) {
+        int hash = cpf.hashCode();
+        return (hash ^ (hash >>> 16)) & (SAVE_STAMP_STRIPES - 1);
+    }
+}
@@ -0,0 +1,137 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeListener;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decorator de {@link CustomerRepository} com cache read-through em memória.
+ * <p>
+ * As buscas por ID e por CPF são servidas pelo cache quando possível e o
+ * resultado de {@code save} já entra populado nos dois índices.
+ * </p>
+ */
+public class CachingCustomerRepository extends DelegatingCustomerRepository implements CustomerChangeListener {
+
+    private final Cache<UUID, Customer> customersById;
+    private final Cache<String, Customer> customersByCpf;
+
+    public CachingCustomerRepository(CustomerRepository delegate,
+                                     Cache<UUID, Customer> customersById,
+                                     Cache<String, Customer> customersByCpf) {
+        super(delegate);
+        this.customersById = customersById;
+        this.customersByCpf = customersByCpf;
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        Customer saved = delegate.save(customer);
+        put(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<Customer> saved = delegate.saveAll(customers);
+        saved.forEach(this::put);
+        return saved;
+    }
+
+    // Cliente já em cache: nem chega a ir ao banco
+    @Override
+    public Customer saveIfAbsent(Customer customer) {
+        Customer cached = customersByCpf.getIfPresent(customer.getCpf());
+        if (cached != null) {
+            return cached;
+        }
+        Customer stored = delegate.saveIfAbsent(customer);
+        put(stored);
+        return stored;
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID id) {
+        return Optional.ofNullable(customersById.get(id, key -> delegate.findById(key)
+                .map(this::putByCpf)
+                .orElse(null)));
+    }
+
+    @Override
+    public Optional<Customer> findByCpf(String cpf) {
+        return Optional.ofNullable(customersByCpf.get(cpf, key -> delegate.findByCpf(key)
+                .map(this::putById)
+                .orElse(null)));
+    }
+
+    // Só as chaves fora do cache vão ao banco, todas numa única consulta
+    @Override
+    public List<Customer> findAllByIds(Collection<UUID> ids) {
+        return new ArrayList<>(customersById.getAll(ids, missing -> {
+            Map<UUID, Customer> loaded = new HashMap<>();
+            for (Customer customer : delegate.findAllByIds(new ArrayList<UUID>(missing))) {
+                loaded.put(customer.getId(), putByCpf(customer));
+            }
+            return loaded;
+        }).values());
+    }
+
+    @Override
+    public List<Customer> findAllByCpfs(Collection<String> cpfs) {
+        return new ArrayList<>(customersByCpf.getAll(cpfs, missing -> {
+            Map<String, Customer> loaded = new HashMap<>();
+            for (Customer customer : delegate.findAllByCpfs(new ArrayList<String>(missing))) {
+                loaded.put(customer.getCpf(), putById(customer));
+            }
+            return loaded;
+        }).values());
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        if (customersByCpf.getIfPresent(cpf) != null) {
+            return true;
+        }
+        return delegate.existsByCpf(cpf);
+    }
+
+    @Override
+    public void onCustomerChanged(UUID id, String cpf) {
+        customersById.invalidate(id);
+        if (cpf != null) {
+            customersByCpf.invalidate(cpf);
+        }
+    }
+
+    @Override
+    public void onReset() {
+        customersById.invalidateAll();
+        customersByCpf.invalidateAll();
+    }
+
+    private void put(Customer customer) {
+        if (customer != null) {
+            putById(customer);
+            putByCpf(customer);
+        }
+    }
+
+    private Customer putById(Customer customer) {
+        customersById.put(customer.getId(), customer);
+        return customer;
+    }
+
+    private Customer putByCpf(Customer customer) {
+        customersByCpf.put(customer.getCpf(), customer);
+        return customer;
+    }
+}
@@ -0,0 +1,45 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeBus;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+
+import java.util.List;
+
+/**
+ * Decorator de {@link CustomerRepository} que avisa o {@link CustomerChangeBus}
+ * depois de cada {@code save} bem-sucedido.
+ */
+public class ChangePublishingCustomerRepository extends DelegatingCustomerRepository {
+
+    private final CustomerChangeBus changeBus;
+
+    public ChangePublishingCustomerRepository(CustomerRepository delegate, CustomerChangeBus changeBus) {
+        super(delegate);
+        this.changeBus = changeBus;
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        Customer saved = delegate.save(customer);
+        changeBus.publish(saved.getId(), saved.getCpf());
+        return saved;
+    }
+
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<Customer> saved = delegate.saveAll(customers);
+        saved.forEach(customer -> changeBus.publish(customer.getId(), customer.getCpf()));
+        return saved;
+    }
+
+    // Só avisa quando houve inserção; devolver o cliente existente não muda nada
+    @Override
+    public Customer saveIfAbsent(Customer customer) {
+        Customer stored = delegate.saveIfAbsent(customer);
+        if (stored.getId().equals(customer.getId())) {
+            changeBus.publish(stored.getId(), stored.getCpf());
+        }
+        return stored;
+    }
+}
@@ -0,0 +1,140 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.cache.CpfIndex;
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeListener;
+import com.fiap.techchallenge.adapters.gateway.events.ReplicaSync;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decorator de {@link CustomerRepository} que resolve CPF -> ID em memória.
+ * <p>
+ * Depois de {@link #load()} o índice contém todos os CPFs da tabela, então
+ * {@code existsByCpf} não consulta o banco e {@code findByCpf} vira uma busca por
+ * chave primária (ou nenhuma consulta, se o CPF não estiver cadastrado).
+ * </p>
+ * <p>
+ * CPFs gravados por outras réplicas só chegam pelo barramento de alterações, então o índice
+ * é assinado antes da carga e só responde enquanto está em dia com ele: desde a queda do
+ * LISTEN ({@link #onDisconnected()}) até a recarga do reset seguinte, tudo vai ao banco.
+ * </p>
+ */
+public class CpfIndexCustomerRepository extends DelegatingCustomerRepository implements CustomerChangeListener {
+
+    private final CpfIndex cpfIndex;
+    private final ReplicaSync sync = new ReplicaSync();
+
+    public CpfIndexCustomerRepository(CustomerRepository delegate, CpfIndex cpfIndex) {
+        super(delegate);
+        this.cpfIndex = cpfIndex;
+    }
+
+    public void load() {
+        long started = sync.beginLoad();
+        delegate.forEach(this::index);
+        sync.completeLoad(started);
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        Customer saved = delegate.save(customer);
+        index(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<Customer> saved = delegate.saveAll(customers);
+        saved.forEach(this::index);
+        return saved;
+    }
+
+    @Override
+    public Customer saveIfAbsent(Customer customer) {
+        Customer stored = delegate.saveIfAbsent(customer);
+        index(stored);
+        return stored;
+    }
+
+    @Override
+    public Optional<Customer> findByCpf(String cpf) {
+        if (!sync.isSynced()) {
+            return delegate.findByCpf(cpf);
+        }
+        UUID id = cpfIndex.get(CpfIndex.toKey(cpf));
+        return id == null ? Optional.empty() : delegate.findById(id);
+    }
+
+    // CPFs fora do índice nem vão ao banco; os demais viram uma única busca por chave primária
+    @Override
+    public List<Customer> findAllByCpfs(Collection<String> cpfs) {
+        if (!sync.isSynced()) {
+            return delegate.findAllByCpfs(cpfs);
+        }
+        List<UUID> ids = new ArrayList<>(cpfs.size());
+        for (String cpf : cpfs) {
+            UUID id = cpfIndex.get(CpfIndex.toKey(cpf));
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids.isEmpty() ? List.of() : delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        if (!sync.isSynced()) {
+            return delegate.existsByCpf(cpf);
+        }
+        return cpfIndex.contains(CpfIndex.toKey(cpf));
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        if (!sync.isSynced()) {
+            return delegate.findExistingCpfs(cpfs);
+        }
+        Set<String> existing = new HashSet<>();
+        for (String cpf : cpfs) {
+            if (cpfIndex.contains(CpfIndex.toKey(cpf))) {
+                existing.add(cpf);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public void onCustomerChanged(UUID id, String cpf) {
+        long key = CpfIndex.toKey(cpf);
+        if (key != CpfIndex.INVALID_CPF) {
+            cpfIndex.put(key, id);
+        }
+    }
+
+    @Override
+    public void onReset() {
+        sync.reset();
+        load();
+    }
+
+    @Override
+    public void onDisconnected() {
+        sync.disconnected();
+    }
+
+    public boolean isLoaded() {
+        return sync.isSynced();
+    }
+
+    private void index(Customer customer) {
+        cpfIndex.put(CpfIndex.toKey(customer.getCpf()), customer.getId());
+    }
+}
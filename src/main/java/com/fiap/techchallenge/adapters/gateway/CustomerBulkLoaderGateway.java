@@ -0,0 +1,54 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeBus;
+import com.fiap.techchallenge.application.usecases.mappers.CustomerMapper;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerBulkLoader;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import com.fiap.techchallenge.external.datasource.repositories.CustomerJdbcRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link CustomerBulkLoader} sobre o staging do {@link CustomerJdbcRepository} (COPY no PostgreSQL).
+ * <p>
+ * A carga passa ao largo dos decorators do {@link com.fiap.techchallenge.domain.repositories.CustomerRepository}:
+ * em vez de um aviso por cliente, o merge dispara um único {@link CustomerChangeBus#publishReset},
+ * e cada réplica descarta ou recarrega seus caches.
+ * </p>
+ */
+public class CustomerBulkLoaderGateway implements CustomerBulkLoader {
+
+    private final CustomerJdbcRepository customerJdbcRepository;
+    private final CustomerChangeBus customerChangeBus;
+
+    public CustomerBulkLoaderGateway(CustomerJdbcRepository customerJdbcRepository, CustomerChangeBus customerChangeBus) {
+        this.customerJdbcRepository = customerJdbcRepository;
+        this.customerChangeBus = customerChangeBus;
+    }
+
+    @Override
+    public void stage(UUID importId, List<Customer> customers) {
+        List<CustomerJpaEntity> jpaEntities = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            jpaEntities.add(CustomerMapper.toJpaEntity(customer));
+        }
+        customerJdbcRepository.copyToStaging(importId, jpaEntities);
+    }
+
+    @Override
+    public long merge(UUID importId) {
+        long inserted = customerJdbcRepository.mergeStaging(importId);
+        if (inserted > 0) {
+            customerChangeBus.publishReset();
+        }
+        return inserted;
+    }
+
+    @Override
+    public void discard(UUID importId) {
+        customerJdbcRepository.clearStaging(importId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.application.usecases.mappers.CustomerMapper;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerExportSource;
+import com.fiap.techchallenge.external.datasource.repositories.CustomerJdbcRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * {@link CustomerExportSource} sobre os cursores do {@link CustomerJdbcRepository}. Como a carga
+ * em massa, passa ao largo dos decorators do {@link com.fiap.techchallenge.domain.repositories.CustomerRepository}:
+ * uma exportação não deve encher nem consultar os caches.
+ */
+public class CustomerExportSourceGateway implements CustomerExportSource {
+
+    private final CustomerJdbcRepository customerJdbcRepository;
+
+    public CustomerExportSourceGateway(CustomerJdbcRepository customerJdbcRepository) {
+        this.customerJdbcRepository = customerJdbcRepository;
+    }
+
+    @Override
+    public Optional<UUID> findFirstId() {
+        return customerJdbcRepository.findFirstId();
+    }
+
+    @Override
+    public Optional<UUID> findLastId() {
+        return customerJdbcRepository.findLastId();
+    }
+
+    @Override
+    public void forEachInRange(UUID from, UUID to, Consumer<Customer> action) {
+        customerJdbcRepository.forEachInRange(from, to,
+                jpaEntity -> action.accept(CustomerMapper.toDomainEntity(jpaEntity)));
+    }
+}
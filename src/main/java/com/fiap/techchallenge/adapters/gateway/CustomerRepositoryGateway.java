@@ -2,27 +2,78 @@ package com.fiap.techchallenge.adapters.gateway;
 
 import com.fiap.techchallenge.application.usecases.mappers.CustomerMapper;
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import com.fiap.techchallenge.domain.exception.DomainException;
 import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import com.fiap.techchallenge.external.datasource.repositories.CustomerGroupCommitter;
+import com.fiap.techchallenge.external.datasource.repositories.CustomerJdbcRepository;
 import com.fiap.techchallenge.external.datasource.repositories.CustomerJpaRepository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class CustomerRepositoryGateway implements CustomerRepository {
 
     private final CustomerJpaRepository customerJpaRepository;
+    private final CustomerJdbcRepository customerJdbcRepository;
+    private final CustomerGroupCommitter customerGroupCommitter;
 
-    public CustomerRepositoryGateway(CustomerJpaRepository customerJpaRepository) {
+    public CustomerRepositoryGateway(CustomerJpaRepository customerJpaRepository,
+                                     CustomerJdbcRepository customerJdbcRepository) {
+        this(customerJpaRepository, customerJdbcRepository, null);
+    }
+
+    /**
+     * @param customerGroupCommitter opcional; quando presente, os cadastros concorrentes dividem o mesmo commit
+     */
+    public CustomerRepositoryGateway(CustomerJpaRepository customerJpaRepository,
+                                     CustomerJdbcRepository customerJdbcRepository,
+                                     CustomerGroupCommitter customerGroupCommitter) {
         this.customerJpaRepository = customerJpaRepository;
+        this.customerJdbcRepository = customerJdbcRepository;
+        this.customerGroupCommitter = customerGroupCommitter;
     }
 
+    // Um único INSERT: a constraint unique do CPF decide, sem existsByCpf antes e sem corrida entre requisições
     @Override
     public Customer save(Customer customer) {
         var jpaEntity = CustomerMapper.toJpaEntity(customer);
-        var savedEntity = customerJpaRepository.save(jpaEntity);
-        return CustomerMapper.toDomainEntity(savedEntity);
+        boolean inserted = customerGroupCommitter != null
+                ? customerGroupCommitter.insertIfAbsent(jpaEntity)
+                : customerJdbcRepository.insertIfAbsent(jpaEntity);
+        if (!inserted) {
+            throw new DomainException("Customer with CPF " + customer.getCpf() + " already exists");
+        }
+        return customer;
+    }
+
+    // JDBC batch com ON CONFLICT DO NOTHING: CPFs que já existiam simplesmente ficam de fora do retorno
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<CustomerJpaEntity> jpaEntities = customers.stream()
+                .map(CustomerMapper::toJpaEntity)
+                .collect(Collectors.toList());
+        boolean[] inserted = customerJdbcRepository.batchInsertIfAbsent(jpaEntities);
+        List<Customer> saved = new ArrayList<>(customers.size());
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i]) {
+                saved.add(customers.get(i));
+            }
+        }
+        return saved;
+    }
+
+    @Override
+    public Customer saveIfAbsent(Customer customer) {
+        return CustomerMapper.toDomainEntity(customerJdbcRepository.insertOrFind(CustomerMapper.toJpaEntity(customer)));
     }
 
     @Override
@@ -42,6 +93,27 @@ public class CustomerRepositoryGateway implements CustomerRepository {
         return customerJpaRepository.existsByCpf(cpf);
     }
 
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return customerJdbcRepository.findExistingCpfs(cpfs);
+    }
+
+    @Override
+    public List<Customer> findAllByIds(Collection<UUID> ids) {
+        return customerJdbcRepository.findAllByIds(ids)
+                .stream()
+                .map(CustomerMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Customer> findAllByCpfs(Collection<String> cpfs) {
+        return customerJdbcRepository.findAllByCpfs(cpfs)
+                .stream()
+                .map(CustomerMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Customer> findAll() {
         return customerJpaRepository.findAll()
@@ -49,4 +121,22 @@ public class CustomerRepositoryGateway implements CustomerRepository {
                 .map(CustomerMapper::toDomainEntity)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<Customer> findPage(UUID after, int limit) {
+        return customerJdbcRepository.findPage(after, limit)
+                .stream()
+                .map(CustomerMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Map<String, Object>> findPage(UUID after, int limit, Set<CustomerField> fields) {
+        return customerJdbcRepository.findPage(after, limit, fields);
+    }
+
+    @Override
+    public void forEach(Consumer<Customer> action) {
+        customerJdbcRepository.forEach(jpaEntity -> action.accept(CustomerMapper.toDomainEntity(jpaEntity)));
+    }
 }
@@ -0,0 +1,91 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Base para os decorators de {@link CustomerRepository}: repassa tudo ao delegate,
+ * de modo que cada camada sobrescreve apenas as operações que otimiza.
+ */
+public abstract class DelegatingCustomerRepository implements CustomerRepository {
+
+    protected final CustomerRepository delegate;
+
+    protected DelegatingCustomerRepository(CustomerRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        return delegate.save(customer);
+    }
+
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        return delegate.saveAll(customers);
+    }
+
+    @Override
+    public Customer saveIfAbsent(Customer customer) {
+        return delegate.saveIfAbsent(customer);
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Customer> findByCpf(String cpf) {
+        return delegate.findByCpf(cpf);
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return delegate.existsByCpf(cpf);
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return delegate.findExistingCpfs(cpfs);
+    }
+
+    @Override
+    public List<Customer> findAllByIds(Collection<UUID> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<Customer> findAllByCpfs(Collection<String> cpfs) {
+        return delegate.findAllByCpfs(cpfs);
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Customer> findPage(UUID after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> findPage(UUID after, int limit, Set<CustomerField> fields) {
+        return delegate.findPage(after, limit, fields);
+    }
+
+    @Override
+    public void forEach(Consumer<Customer> action) {
+        delegate.forEach(action);
+    }
+}
@@ -0,0 +1,61 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.IdempotencyRecord;
+import com.fiap.techchallenge.domain.repositories.IdempotencyKeyRepository;
+import com.fiap.techchallenge.external.datasource.entities.IdempotencyKeyJpaEntity;
+import com.fiap.techchallenge.external.datasource.repositories.IdempotencyKeyJdbcRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+public class IdempotencyKeyRepositoryGateway implements IdempotencyKeyRepository {
+
+    private final IdempotencyKeyJdbcRepository idempotencyKeyJdbcRepository;
+
+    public IdempotencyKeyRepositoryGateway(IdempotencyKeyJdbcRepository idempotencyKeyJdbcRepository) {
+        this.idempotencyKeyJdbcRepository = idempotencyKeyJdbcRepository;
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, Duration lease, Duration ttl) {
+        Instant now = Instant.now();
+        return idempotencyKeyJdbcRepository.reserve(key, fingerprint, now, now.plus(lease), now.minus(ttl));
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        return idempotencyKeyJdbcRepository.findByKey(key).map(IdempotencyKeyRepositoryGateway::toRecord);
+    }
+
+    @Override
+    public void complete(String key, Customer customer) {
+        idempotencyKeyJdbcRepository.complete(key, customer.getId(), customer.getName(), customer.getEmail(), customer.getCpf());
+    }
+
+    @Override
+    public void fail(String key, String error) {
+        idempotencyKeyJdbcRepository.fail(key, error);
+    }
+
+    @Override
+    public void release(String key) {
+        idempotencyKeyJdbcRepository.release(key);
+    }
+
+    @Override
+    public long purgeExpired(Duration ttl) {
+        return idempotencyKeyJdbcRepository.deleteCreatedBefore(Instant.now().minus(ttl));
+    }
+
+    private static IdempotencyRecord toRecord(IdempotencyKeyJpaEntity entity) {
+        Customer customer = entity.getCustomerId() == null ? null : Customer.builder()
+                .id(entity.getCustomerId())
+                .name(entity.getCustomerName())
+                .email(entity.getCustomerEmail())
+                .cpf(entity.getCustomerCpf())
+                .build();
+        return new IdempotencyRecord(entity.getFingerprint(), customer, entity.getError());
+    }
+}
@@ -0,0 +1,154 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.cache.MappedCustomerStore;
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeListener;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorator de {@link CustomerRepository} com cache de segundo nível em arquivo mapeado.
+ * <p>
+ * O arquivo é preenchido incrementalmente por {@code save} e pelas leituras que vão
+ * ao banco; como ele persiste entre restarts, uma instância nova já começa aquecida.
+ * </p>
+ */
+public class MappedCustomerRepository extends DelegatingCustomerRepository implements CustomerChangeListener {
+
+    private final MappedCustomerStore store;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public MappedCustomerRepository(CustomerRepository delegate, MappedCustomerStore store) {
+        super(delegate);
+        this.store = store;
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        Customer saved = delegate.save(customer);
+        store.put(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<Customer> saved = delegate.saveAll(customers);
+        saved.forEach(store::put);
+        return saved;
+    }
+
+    @Override
+    public Customer saveIfAbsent(Customer customer) {
+        Optional<Customer> cached = store.findByCpf(customer.getCpf());
+        if (cached.isPresent()) {
+            hits.incrementAndGet();
+            return cached.get();
+        }
+        Customer stored = delegate.saveIfAbsent(customer);
+        store.put(stored);
+        return stored;
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID id) {
+        Optional<Customer> cached = store.findById(id);
+        if (cached.isPresent()) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        Optional<Customer> customer = delegate.findById(id);
+        customer.ifPresent(store::put);
+        return customer;
+    }
+
+    @Override
+    public Optional<Customer> findByCpf(String cpf) {
+        Optional<Customer> cached = store.findByCpf(cpf);
+        if (cached.isPresent()) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        Optional<Customer> customer = delegate.findByCpf(cpf);
+        customer.ifPresent(store::put);
+        return customer;
+    }
+
+    @Override
+    public List<Customer> findAllByIds(Collection<UUID> ids) {
+        List<Customer> customers = new ArrayList<>(ids.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            Optional<Customer> cached = store.findById(id);
+            if (cached.isPresent()) {
+                hits.incrementAndGet();
+                customers.add(cached.get());
+            } else {
+                misses.incrementAndGet();
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Customer customer : delegate.findAllByIds(missing)) {
+                store.put(customer);
+                customers.add(customer);
+            }
+        }
+        return customers;
+    }
+
+    @Override
+    public List<Customer> findAllByCpfs(Collection<String> cpfs) {
+        List<Customer> customers = new ArrayList<>(cpfs.size());
+        List<String> missing = new ArrayList<>();
+        for (String cpf : cpfs) {
+            Optional<Customer> cached = store.findByCpf(cpf);
+            if (cached.isPresent()) {
+                hits.incrementAndGet();
+                customers.add(cached.get());
+            } else {
+                misses.incrementAndGet();
+                missing.add(cpf);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Customer customer : delegate.findAllByCpfs(missing)) {
+                store.put(customer);
+                customers.add(customer);
+            }
+        }
+        return customers;
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return store.containsCpf(cpf) || delegate.existsByCpf(cpf);
+    }
+
+    @Override
+    public void onCustomerChanged(UUID id, String cpf) {
+        store.remove(id);
+    }
+
+    // Clientes só são inseridos: um aviso perdido nunca torna um registro do arquivo inválido,
+    // e o arquivo não guarda ausências. Reconexões e importações mantêm o L2 aquecido
+    @Override
+    public void onReset() {
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,211 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeListener;
+import com.fiap.techchallenge.adapters.gateway.events.ReplicaSync;
+import com.fiap.techchallenge.adapters.gateway.readmodel.CustomerReadModel;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorator de {@link CustomerRepository} que separa leitura e escrita (CQRS).
+ * <p>
+ * As gravações seguem para o delegate (JPA) e depois atualizam o {@link CustomerReadModel};
+ * com o modelo carregado, {@code findById}, {@code findByCpf}, {@code existsByCpf},
+ * {@code findAll} e as páginas de {@code findPage} não fazem nenhuma chamada JDBC. {@code forEach} continua lendo a tabela,
+ * que é a fonte do bootstrap e da verificação de consistência.
+ * </p>
+ * <p>
+ * O modelo é assinado no barramento antes da carga e só responde enquanto está em dia com
+ * ele: desde a queda do LISTEN ({@link #onDisconnected()}) até a recarga do reset seguinte,
+ * as leituras vão ao delegate.
+ * </p>
+ */
+public class ReadModelCustomerRepository extends DelegatingCustomerRepository implements CustomerChangeListener {
+
+    private final CustomerReadModel readModel;
+    private final ReplicaSync sync = new ReplicaSync();
+    // Clientes alterados enquanto a varredura roda: ela pode tê-los lido antes da alteração
+    private final Set<UUID> changedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+
+    public ReadModelCustomerRepository(CustomerRepository delegate, CustomerReadModel readModel) {
+        super(delegate);
+        this.readModel = readModel;
+    }
+
+    /**
+     * Lê a tabela inteira e depois relê os clientes alterados durante a leitura, para que a
+     * cópia da varredura não sobrescreva uma versão mais nova.
+     */
+    public synchronized void load() {
+        long started = sync.beginLoad();
+        changedDuringLoad.clear();
+        loading = true;
+        try {
+            delegate.forEach(readModel::put);
+        } finally {
+            loading = false;
+        }
+        for (UUID id : changedDuringLoad) {
+            refresh(id);
+        }
+        changedDuringLoad.clear();
+        sync.completeLoad(started);
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        Customer saved = delegate.save(customer);
+        put(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<Customer> saved = delegate.saveAll(customers);
+        saved.forEach(this::put);
+        return saved;
+    }
+
+    @Override
+    public Customer saveIfAbsent(Customer customer) {
+        if (sync.isSynced()) {
+            Optional<Customer> existing = readModel.findByCpf(customer.getCpf());
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+        Customer stored = delegate.saveIfAbsent(customer);
+        put(stored);
+        return stored;
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID id) {
+        return sync.isSynced() ? readModel.findById(id) : delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Customer> findByCpf(String cpf) {
+        return sync.isSynced() ? readModel.findByCpf(cpf) : delegate.findByCpf(cpf);
+    }
+
+    @Override
+    public boolean existsByCpf(String cpf) {
+        return sync.isSynced() ? readModel.containsCpf(cpf) : delegate.existsByCpf(cpf);
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        if (!sync.isSynced()) {
+            return delegate.findExistingCpfs(cpfs);
+        }
+        Set<String> existing = new HashSet<>();
+        for (String cpf : cpfs) {
+            if (readModel.containsCpf(cpf)) {
+                existing.add(cpf);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Customer> findAllByIds(Collection<UUID> ids) {
+        if (!sync.isSynced()) {
+            return delegate.findAllByIds(ids);
+        }
+        List<Customer> customers = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            readModel.findById(id).ifPresent(customers::add);
+        }
+        return customers;
+    }
+
+    @Override
+    public List<Customer> findAllByCpfs(Collection<String> cpfs) {
+        if (!sync.isSynced()) {
+            return delegate.findAllByCpfs(cpfs);
+        }
+        List<Customer> customers = new ArrayList<>(cpfs.size());
+        for (String cpf : cpfs) {
+            readModel.findByCpf(cpf).ifPresent(customers::add);
+        }
+        return customers;
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return sync.isSynced() ? readModel.findAll() : delegate.findAll();
+    }
+
+    @Override
+    public List<Customer> findPage(UUID after, int limit) {
+        return sync.isSynced() ? readModel.findPage(after, limit) : delegate.findPage(after, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> findPage(UUID after, int limit, Set<CustomerField> fields) {
+        if (!sync.isSynced()) {
+            return delegate.findPage(after, limit, fields);
+        }
+        List<Customer> page = readModel.findPage(after, limit);
+        List<Map<String, Object>> rows = new ArrayList<>(page.size());
+        for (Customer customer : page) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (CustomerField field : fields) {
+                row.put(field.getFieldName(), field.valueOf(customer));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // Alteração feita por outra réplica: relê só aquele cliente
+    @Override
+    public void onCustomerChanged(UUID id, String cpf) {
+        rememberIfLoading(id);
+        refresh(id);
+    }
+
+    @Override
+    public void onReset() {
+        sync.reset();
+        load();
+    }
+
+    @Override
+    public void onDisconnected() {
+        sync.disconnected();
+    }
+
+    public boolean isLoaded() {
+        return sync.isSynced();
+    }
+
+    private void put(Customer customer) {
+        rememberIfLoading(customer.getId());
+        readModel.put(customer);
+    }
+
+    private void refresh(UUID id) {
+        delegate.findById(id).ifPresentOrElse(readModel::put, () -> readModel.remove(id));
+    }
+
+    private void rememberIfLoading(UUID id) {
+        if (loading) {
+            changedDuringLoad.add(id);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.fiap.techchallenge.adapters.gateway.cache;
+
+import com.fiap.techchallenge.application.usecases.CpfKeyTable;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Índice CPF -> ID em endereçamento aberto, sem boxing.
+ * <p>
+ * O CPF (11 dígitos) é guardado como {@code long} numa {@link CpfKeyTable} e o UUID
+ * como dois {@code long} em arrays paralelos: cerca de 32 bytes por cliente, contra
+ * algumas centenas de um {@code HashMap<String, Customer>}. Leituras são otimistas ({@link StampedLock}) e
+ * escritas são serializadas.
+ * </p>
+ */
+public class CpfIndex {
+
+    /** Chave reservada para slot vazio: "00000000000" nunca é um CPF válido. */
+    static final long EMPTY = CpfKeyTable.EMPTY;
+    public static final long INVALID_CPF = CpfKeyTable.INVALID_CPF;
+
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private final StampedLock lock = new StampedLock();
+
+    private Table table;
+    private int size;
+
+    public CpfIndex(int expectedSize) {
+        this.table = new Table(CpfKeyTable.tableSizeFor(expectedSize, MAX_LOAD_FACTOR));
+    }
+
+    // Mesma chave da CpfKeyTable; retorna INVALID_CPF para o que não for um CPF de 11 dígitos
+    public static long toKey(String cpf) {
+        return CpfKeyTable.toKey(cpf);
+    }
+
+    public void put(long cpf, UUID id) {
+        checkKey(cpf);
+        long stamp = lock.writeLock();
+        try {
+            if (size + 1 > table.capacity() * MAX_LOAD_FACTOR) {
+                table = table.resize(table.capacity() << 1);
+            }
+            if (table.put(cpf, id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return o ID associado ao CPF, ou {@code null} se o CPF não estiver indexado
+     */
+    public UUID get(long cpf) {
+        if (cpf <= EMPTY) {
+            return null;
+        }
+        long stamp = lock.tryOptimisticRead();
+        UUID id = table.get(cpf);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                id = table.get(cpf);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return id;
+    }
+
+    public boolean contains(long cpf) {
+        return get(cpf) != null;
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            table = new Table(table.capacity());
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Memória ocupada pelos três arrays (sem cabeçalhos de objeto).
+     */
+    public long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            return (long) table.capacity() * Long.BYTES * 3;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Chaves na CpfKeyTable; o UUID fica em dois arrays paralelos indexados pelo mesmo slot
+    private static final class Table {
+        private final CpfKeyTable keys;
+        private final long[] mostSignificantBits;
+        private final long[] leastSignificantBits;
+
+        private Table(int capacity) {
+            this.keys = new CpfKeyTable(capacity);
+            this.mostSignificantBits = new long[capacity];
+            this.leastSignificantBits = new long[capacity];
+        }
+
+        private int capacity() {
+            return keys.capacity();
+        }
+
+        /**
+         * @return {@code true} se o CPF ocupou um slot novo
+         */
+        private boolean put(long cpf, long msb, long lsb) {
+            int slot = keys.insert(cpf);
+            boolean added = slot >= 0;
+            if (!added) {
+                slot = -slot - 1;
+            }
+            mostSignificantBits[slot] = msb;
+            leastSignificantBits[slot] = lsb;
+            return added;
+        }
+
+        private UUID get(long cpf) {
+            int slot = keys.find(cpf);
+            return slot < 0 ? null : new UUID(mostSignificantBits[slot], leastSignificantBits[slot]);
+        }
+
+        private Table resize(int capacity) {
+            Table resized = new Table(capacity);
+            for (int slot = 0; slot < keys.capacity(); slot++) {
+                long key = keys.keyAt(slot);
+                if (key != EMPTY) {
+                    resized.put(key, mostSignificantBits[slot], leastSignificantBits[slot]);
+                }
+            }
+            return resized;
+        }
+    }
+
+    private static void checkKey(long cpf) {
+        if (cpf <= EMPTY) {
+            throw new IllegalArgumentException("Invalid CPF key: " + cpf);
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package com.fiap.techchallenge.adapters.gateway.cache;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Cache de clientes em arquivo mapeado em memória ({@link FileChannel#map}), que sobrevive a restarts.
+ * <p>
+ * O arquivo é uma tabela hash em endereçamento aberto: não há índice a reconstruir no boot,
+ * a primeira busca já lê direto do page cache. Layout:
+ * <pre>
+ * cabeçalho (64 bytes)  magic | versão | capacidade | tamanho do registro | entradas
+ * registros (256 bytes) estado | id (msb, lsb) | cpf | nome (len + 110 bytes) | email (len + 114 bytes)
+ * índice de CPF (16 b)  cpf | slot do registro | reservado
+ * </pre>
+ * Registros com nome ou email acima do limite simplesmente não são cacheados.
+ * </p>
+ */
+public class MappedCustomerStore implements Closeable {
+
+    static final int MAGIC = 0x43555354; // "CUST"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 256;
+    static final int CPF_ENTRY_SIZE = 16;
+    static final int MAX_NAME_BYTES = 110;
+    static final int MAX_EMAIL_BYTES = 114;
+
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_CAPACITY = 8;
+    private static final int HEADER_RECORD_SIZE = 12;
+    private static final int HEADER_ENTRIES = 16;
+
+    private static final int STATE_EMPTY = 0;
+    private static final int STATE_USED = 1;
+    private static final int STATE_REMOVED = 2;
+
+    private static final int RECORD_STATE = 0;
+    private static final int RECORD_MSB = 4;
+    private static final int RECORD_LSB = 12;
+    private static final int RECORD_CPF = 20;
+    private static final int RECORD_NAME = 28;
+    private static final int RECORD_EMAIL = RECORD_NAME + 2 + MAX_NAME_BYTES;
+
+    private static final int CPF_KEY = 0;
+    private static final int CPF_SLOT = 8;
+    private static final int CPF_REMOVED = -1;
+
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private final FileChannel channel;
+    private final FileLock fileLock;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int maxEntries;
+    private final int cpfRegion;
+    private final StampedLock lock = new StampedLock();
+
+    private MappedCustomerStore(FileChannel channel, FileLock fileLock, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.fileLock = fileLock;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.maxEntries = (int) (capacity * MAX_LOAD_FACTOR);
+        this.cpfRegion = HEADER_SIZE + capacity * RECORD_SIZE;
+    }
+
+    /**
+     * Abre (ou cria) o arquivo. Um arquivo existente com o mesmo layout é reaproveitado
+     * como está; qualquer divergência de versão ou capacidade recomeça do zero.
+     *
+     * @throws IllegalStateException se outro processo já mantém o arquivo aberto
+     */
+    public static MappedCustomerStore open(Path file, int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        long size = fileSize(capacity);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacity too large for a single mapping: " + capacity);
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileLock fileLock = channel.tryLock();
+            if (fileLock == null) {
+                throw new IllegalStateException("Cache file is locked by another process: " + file);
+            }
+            boolean reusable = channel.size() == size;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            MappedCustomerStore store = new MappedCustomerStore(channel, fileLock, buffer, capacity);
+            if (!reusable || !store.hasValidHeader()) {
+                store.reset();
+            }
+            return store;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Could not open customer cache file " + file, e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    public static long fileSize(int capacity) {
+        return HEADER_SIZE + (long) capacity * (RECORD_SIZE + CPF_ENTRY_SIZE);
+    }
+
+    /**
+     * @return {@code false} se o cliente não couber no layout fixo ou o arquivo estiver cheio
+     */
+    public boolean put(Customer customer) {
+        byte[] name = customer.getName().getBytes(StandardCharsets.UTF_8);
+        byte[] email = customer.getEmail().getBytes(StandardCharsets.UTF_8);
+        long cpf = CpfIndex.toKey(customer.getCpf());
+        if (name.length > MAX_NAME_BYTES || email.length > MAX_EMAIL_BYTES || cpf == CpfIndex.INVALID_CPF) {
+            return false;
+        }
+        UUID id = customer.getId();
+
+        long stamp = lock.writeLock();
+        try {
+            int slot = findRecordSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            boolean existing = slot >= 0;
+            if (existing) {
+                long previousCpf = buffer.getLong(recordOffset(slot) + RECORD_CPF);
+                if (previousCpf != cpf) {
+                    removeCpfEntry(previousCpf);
+                }
+            } else {
+                if (entries() >= maxEntries) {
+                    return false;
+                }
+                slot = freeRecordSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            }
+
+            int offset = recordOffset(slot);
+            // Marcado como removido durante a escrita: mantém a cadeia de sondagem intacta
+            buffer.putInt(offset + RECORD_STATE, STATE_REMOVED);
+            buffer.putLong(offset + RECORD_MSB, id.getMostSignificantBits());
+            buffer.putLong(offset + RECORD_LSB, id.getLeastSignificantBits());
+            buffer.putLong(offset + RECORD_CPF, cpf);
+            buffer.putShort(offset + RECORD_NAME, (short) name.length);
+            buffer.put(offset + RECORD_NAME + 2, name);
+            buffer.putShort(offset + RECORD_EMAIL, (short) email.length);
+            buffer.put(offset + RECORD_EMAIL + 2, email);
+            // O estado é gravado por último: um registro pela metade nunca é lido como válido
+            buffer.putInt(offset + RECORD_STATE, STATE_USED);
+
+            putCpfEntry(cpf, slot);
+            if (!existing) {
+                buffer.putInt(HEADER_ENTRIES, entries() + 1);
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public Optional<Customer> findById(UUID id) {
+        Record record = read(() -> {
+            int slot = findRecordSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return slot < 0 ? null : readRecord(slot);
+        });
+        return toCustomer(record);
+    }
+
+    public Optional<Customer> findByCpf(String cpf) {
+        long key = CpfIndex.toKey(cpf);
+        if (key == CpfIndex.INVALID_CPF) {
+            return Optional.empty();
+        }
+        Record record = read(() -> {
+            int slot = findCpfSlot(key);
+            if (slot < 0) {
+                return null;
+            }
+            Record candidate = readRecord(slot);
+            return candidate != null && candidate.cpf == key ? candidate : null;
+        });
+        return toCustomer(record);
+    }
+
+    public boolean containsCpf(String cpf) {
+        long key = CpfIndex.toKey(cpf);
+        if (key == CpfIndex.INVALID_CPF) {
+            return false;
+        }
+        long stamp = lock.readLock();
+        try {
+            return findCpfSlot(key) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void remove(UUID id) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = findRecordSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (slot >= 0) {
+                int offset = recordOffset(slot);
+                removeCpfEntry(buffer.getLong(offset + RECORD_CPF));
+                buffer.putInt(offset + RECORD_STATE, STATE_REMOVED);
+                buffer.putInt(HEADER_ENTRIES, entries() - 1);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            reset();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return entries();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void close() {
+        long stamp = lock.writeLock();
+        try {
+            buffer.force();
+            fileLock.release();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private Record read(RecordReader reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                Record record = reader.read();
+                if (lock.validate(stamp)) {
+                    return record;
+                }
+            } catch (RuntimeException e) {
+                // Leitura concorrente com uma escrita: repete com o lock de leitura
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.read();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Record readRecord(int slot) {
+        int offset = recordOffset(slot);
+        if (buffer.getInt(offset + RECORD_STATE) != STATE_USED) {
+            return null;
+        }
+        Record record = new Record();
+        record.msb = buffer.getLong(offset + RECORD_MSB);
+        record.lsb = buffer.getLong(offset + RECORD_LSB);
+        record.cpf = buffer.getLong(offset + RECORD_CPF);
+        record.name = readBytes(offset + RECORD_NAME, MAX_NAME_BYTES);
+        record.email = readBytes(offset + RECORD_EMAIL, MAX_EMAIL_BYTES);
+        return record;
+    }
+
+    private byte[] readBytes(int offset, int maxLength) {
+        int length = Math.min(Math.max(buffer.getShort(offset), 0), maxLength);
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 2, bytes);
+        return bytes;
+    }
+
+    private static Optional<Customer> toCustomer(Record record) {
+        if (record == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Customer.builder()
+                .id(new UUID(record.msb, record.lsb))
+                .name(new String(record.name, StandardCharsets.UTF_8))
+                .email(new String(record.email, StandardCharsets.UTF_8))
+                .cpf(String.format("%011d", record.cpf))
+                .build());
+    }
+
+    private int findRecordSlot(long msb, long lsb) {
+        int mask = capacity - 1;
+        int slot = spread(msb ^ lsb) & mask;
+        for (int probes = 0; probes < capacity; probes++) {
+            int offset = recordOffset(slot);
+            int state = buffer.getInt(offset + RECORD_STATE);
+            if (state == STATE_EMPTY) {
+                return -1;
+            }
+            if (state == STATE_USED && buffer.getLong(offset + RECORD_MSB) == msb
+                    && buffer.getLong(offset + RECORD_LSB) == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int freeRecordSlot(long msb, long lsb) {
+        int mask = capacity - 1;
+        int slot = spread(msb ^ lsb) & mask;
+        while (buffer.getInt(recordOffset(slot) + RECORD_STATE) == STATE_USED) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int findCpfSlot(long cpf) {
+        int mask = capacity - 1;
+        int entry = spread(cpf) & mask;
+        for (int probes = 0; probes < capacity; probes++) {
+            int offset = cpfOffset(entry);
+            long key = buffer.getLong(offset + CPF_KEY);
+            if (key == CpfIndex.EMPTY) {
+                return -1;
+            }
+            int slot = buffer.getInt(offset + CPF_SLOT);
+            if (key == cpf && slot != CPF_REMOVED) {
+                return slot;
+            }
+            entry = (entry + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void putCpfEntry(long cpf, int slot) {
+        int mask = capacity - 1;
+        int entry = spread(cpf) & mask;
+        int reusable = -1;
+        for (int probes = 0; probes < capacity; probes++) {
+            int offset = cpfOffset(entry);
+            long key = buffer.getLong(offset + CPF_KEY);
+            if (key == cpf) {
+                buffer.putInt(offset + CPF_SLOT, slot);
+                return;
+            }
+            if (key == CpfIndex.EMPTY) {
+                break;
+            }
+            if (reusable < 0 && buffer.getInt(offset + CPF_SLOT) == CPF_REMOVED) {
+                reusable = entry;
+            }
+            entry = (entry + 1) & mask;
+        }
+        int offset = cpfOffset(reusable >= 0 ? reusable : entry);
+        buffer.putInt(offset + CPF_SLOT, slot);
+        buffer.putLong(offset + CPF_KEY, cpf);
+    }
+
+    private void removeCpfEntry(long cpf) {
+        int mask = capacity - 1;
+        int entry = spread(cpf) & mask;
+        for (int probes = 0; probes < capacity; probes++) {
+            int offset = cpfOffset(entry);
+            long key = buffer.getLong(offset + CPF_KEY);
+            if (key == CpfIndex.EMPTY) {
+                return;
+            }
+            if (key == cpf) {
+                buffer.putInt(offset + CPF_SLOT, CPF_REMOVED);
+                return;
+            }
+            entry = (entry + 1) & mask;
+        }
+    }
+
+    private boolean hasValidHeader() {
+        return buffer.getInt(HEADER_MAGIC) == MAGIC
+                && buffer.getInt(HEADER_VERSION) == VERSION
+                && buffer.getInt(HEADER_CAPACITY) == capacity
+                && buffer.getInt(HEADER_RECORD_SIZE) == RECORD_SIZE;
+    }
+
+    private void reset() {
+        ByteBuffer zeros = ByteBuffer.allocate(64 * 1024);
+        for (int offset = 0; offset < buffer.capacity(); offset += zeros.capacity()) {
+            int length = Math.min(zeros.capacity(), buffer.capacity() - offset);
+            buffer.put(offset, zeros, 0, length);
+        }
+        buffer.putInt(HEADER_VERSION, VERSION);
+        buffer.putInt(HEADER_CAPACITY, capacity);
+        buffer.putInt(HEADER_RECORD_SIZE, RECORD_SIZE);
+        buffer.putInt(HEADER_ENTRIES, 0);
+        buffer.putInt(HEADER_MAGIC, MAGIC);
+    }
+
+    private int entries() {
+        return buffer.getInt(HEADER_ENTRIES);
+    }
+
+    private static int recordOffset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    private int cpfOffset(int entry) {
+        return cpfRegion + entry * CPF_ENTRY_SIZE;
+    }
+
+    private static int spread(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // já estamos propagando o erro original
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordReader {
+        Record read();
+    }
+
+    private static final class Record {
+        private long msb;
+        private long lsb;
+        private long cpf;
+        private byte[] name;
+        private byte[] email;
+    }
+}
@@ -0,0 +1,32 @@
+package com.fiap.techchallenge.adapters.gateway.events;
+
+import java.util.UUID;
+
+/**
+ * Canal de avisos de alteração de clientes, usado para invalidar caches.
+ * <p>
+ * {@code publish} entrega o aviso aos listeners desta instância e, conforme a
+ * implementação, às demais réplicas.
+ * </p>
+ */
+public interface CustomerChangeBus {
+
+    void publish(UUID id, String cpf);
+
+    /**
+     * Avisa que muitos clientes mudaram de uma vez (ex.: importação em massa): os listeners
+     * recebem {@link CustomerChangeListener#onReset} em vez de um aviso por cliente.
+     */
+    void publishReset();
+
+    /**
+     * Recebe todas as alterações, feitas nesta instância ou em outra réplica.
+     */
+    void subscribe(CustomerChangeListener listener);
+
+    /**
+     * Recebe só as alterações feitas por outras réplicas: para camadas que já se
+     * atualizam sozinhas no {@code save} local.
+     */
+    void subscribeRemote(CustomerChangeListener listener);
+}
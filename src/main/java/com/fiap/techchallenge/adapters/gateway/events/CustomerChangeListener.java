@@ -0,0 +1,25 @@
+package com.fiap.techchallenge.adapters.gateway.events;
+
+import java.util.UUID;
+
+/**
+ * Recebe a notificação de que um cliente foi gravado, para invalidar o que estiver em cache.
+ */
+@FunctionalInterface
+public interface CustomerChangeListener {
+
+    void onCustomerChanged(UUID id, String cpf);
+
+    /**
+     * Avisos podem ter sido perdidos (ex.: reconexão do LISTEN): descartar ou recarregar tudo.
+     */
+    default void onReset() {
+    }
+
+    /**
+     * O transporte entre réplicas caiu: avisos podem se perder até o {@link #onReset} da reconexão.
+     * Quem responde ausências a partir do que já sabe deve parar de confiar nisso até lá.
+     */
+    default void onDisconnected() {
+    }
+}
@@ -0,0 +1,91 @@
+package com.fiap.techchallenge.adapters.gateway.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link CustomerChangeBus} local à JVM: entrega os avisos de forma síncrona,
+ * na thread de quem publicou.
+ * <p>
+ * Sozinho não há outras réplicas, então os listeners remotos só são chamados
+ * quando um transporte entre instâncias usa {@link #publishRemote}.
+ * </p>
+ */
+public class InMemoryCustomerChangeBus implements CustomerChangeBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryCustomerChangeBus.class);
+
+    private final List<CustomerChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<CustomerChangeListener> remoteListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UUID id, String cpf) {
+        notify(listeners, id, cpf);
+    }
+
+    // A carga em massa não passa pelo save dos decorators, então os listeners "remotos" também são resetados
+    @Override
+    public void publishReset() {
+        reset();
+    }
+
+    public void publishRemote(UUID id, String cpf) {
+        notify(remoteListeners, id, cpf);
+        notify(listeners, id, cpf);
+    }
+
+    @Override
+    public void subscribe(CustomerChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void subscribeRemote(CustomerChangeListener listener) {
+        remoteListeners.add(listener);
+    }
+
+    public void reset() {
+        reset(remoteListeners);
+        reset(listeners);
+    }
+
+    public void disconnected() {
+        disconnected(remoteListeners);
+        disconnected(listeners);
+    }
+
+    private static void notify(List<CustomerChangeListener> targets, UUID id, String cpf) {
+        for (CustomerChangeListener listener : targets) {
+            try {
+                listener.onCustomerChanged(id, cpf);
+            } catch (RuntimeException e) {
+                // Um listener com falha não pode impedir a invalidação nos demais
+                log.warn("Customer change listener failed for customer {}", id, e);
+            }
+        }
+    }
+
+    private static void disconnected(List<CustomerChangeListener> targets) {
+        for (CustomerChangeListener listener : targets) {
+            try {
+                listener.onDisconnected();
+            } catch (RuntimeException e) {
+                log.warn("Customer change listener failed to handle disconnection", e);
+            }
+        }
+    }
+
+    private static void reset(List<CustomerChangeListener> targets) {
+        for (CustomerChangeListener listener : targets) {
+            try {
+                listener.onReset();
+            } catch (RuntimeException e) {
+                log.warn("Customer change listener failed to reset", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.fiap.techchallenge.adapters.gateway.events;
+
+/**
+ * Diz se o estado que um decorator carregou da tabela está em dia com o barramento de alterações,
+ * e portanto pode responder sozinho, inclusive ausências.
+ * <p>
+ * O dono se inscreve no barramento antes da primeira carga e repassa {@code onDisconnected} e
+ * {@code onReset} para cá. Uma carga só vale se nada a invalidou enquanto lia a tabela: nem a
+ * queda do LISTEN ({@link #disconnected()}), nem um reset pedido depois que ela começou. Depois
+ * de uma queda, nenhuma carga vale até o {@link #reset()} da reconexão.
+ * </p>
+ */
+public final class ReplicaSync {
+
+    private long generation;
+    private boolean disconnected;
+    private volatile boolean synced;
+
+    /**
+     * @return a geração a passar para {@link #completeLoad(long)} ao fim da leitura
+     */
+    public synchronized long beginLoad() {
+        return generation;
+    }
+
+    public synchronized void completeLoad(long started) {
+        if (generation == started && !disconnected) {
+            synced = true;
+        }
+    }
+
+    // Avisos podem se perder a partir daqui: nada responde pela memória até a recarga do reset
+    public synchronized void disconnected() {
+        generation++;
+        disconnected = true;
+        synced = false;
+    }
+
+    // Só cargas que começarem depois do reset contam
+    public synchronized void reset() {
+        generation++;
+        disconnected = false;
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+}
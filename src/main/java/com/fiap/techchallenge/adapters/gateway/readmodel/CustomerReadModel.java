@@ -0,0 +1,191 @@
+package com.fiap.techchallenge.adapters.gateway.readmodel;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Lado de leitura (CQRS) de clientes: o conjunto completo em memória, indexado por
+ * ID, CPF e e-mail.
+ * <p>
+ * Depois de carregado, uma chave ausente aqui é um cliente inexistente. O e-mail não é
+ * único no cadastro, então o índice guarda um conjunto de IDs por e-mail. Uma visão
+ * ordenada por ID serve a paginação por cursor na mesma ordem do {@code ORDER BY id}.
+ * </p>
+ */
+public class CustomerReadModel {
+
+    private static final int SAMPLE_SIZE = 10;
+
+    /** Ordem do tipo uuid do banco: bytes sem sinal, diferente de {@link UUID#compareTo}. */
+    static final Comparator<UUID> ID_ORDER = (a, b) -> {
+        int most = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return most != 0 ? most : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    private final Map<UUID, Customer> byId = new ConcurrentHashMap<>();
+    private final Map<String, Customer> byCpf = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> idsByEmail = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<UUID, Customer> byIdOrdered = new ConcurrentSkipListMap<>(ID_ORDER);
+
+    public void put(Customer customer) {
+        byIdOrdered.put(customer.getId(), customer);
+        Customer previous = byId.put(customer.getId(), customer);
+        if (previous != null) {
+            unindex(previous);
+        }
+        byCpf.put(customer.getCpf(), customer);
+        if (!customer.getEmail().isEmpty()) {
+            idsByEmail.computeIfAbsent(customer.getEmail(), email -> ConcurrentHashMap.newKeySet())
+                    .add(customer.getId());
+        }
+    }
+
+    public void remove(UUID id) {
+        byIdOrdered.remove(id);
+        Customer previous = byId.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    public void clear() {
+        byId.clear();
+        byCpf.clear();
+        idsByEmail.clear();
+        byIdOrdered.clear();
+    }
+
+    public Optional<Customer> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<Customer> findByCpf(String cpf) {
+        return Optional.ofNullable(byCpf.get(cpf));
+    }
+
+    public List<Customer> findByEmail(String email) {
+        Set<UUID> ids = email == null ? null : idsByEmail.get(email.trim().toLowerCase());
+        if (ids == null) {
+            return List.of();
+        }
+        List<Customer> customers = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Customer customer = byId.get(id);
+            if (customer != null) {
+                customers.add(customer);
+            }
+        }
+        return customers;
+    }
+
+    public boolean containsCpf(String cpf) {
+        return byCpf.containsKey(cpf);
+    }
+
+    public List<Customer> findAll() {
+        return new ArrayList<>(byId.values());
+    }
+
+    /**
+     * Até {@code limit} clientes com ID maior que {@code after} (ou desde o início), em ordem de ID.
+     */
+    public List<Customer> findPage(UUID after, int limit) {
+        Map<UUID, Customer> view = after == null ? byIdOrdered : byIdOrdered.tailMap(after, false);
+        List<Customer> page = new ArrayList<>(Math.min(limit, byIdOrdered.size()));
+        for (Customer customer : view.values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(customer);
+        }
+        return page;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Compara o modelo com a tabela, lida em streaming por {@code source.forEach}.
+     * Gravações concorrentes com a varredura podem aparecer como divergência.
+     */
+    public ConsistencyReport verify(CustomerRepository source) {
+        Set<UUID> seen = ConcurrentHashMap.newKeySet();
+        ConsistencyReport report = new ConsistencyReport();
+        source.forEach(customer -> {
+            seen.add(customer.getId());
+            report.tableCount++;
+            Customer current = byId.get(customer.getId());
+            if (current == null) {
+                report.missing++;
+                report.sample(report.missingIds, customer.getId());
+            } else if (!sameContent(current, customer)) {
+                report.stale++;
+                report.sample(report.staleIds, customer.getId());
+            }
+        });
+        for (UUID id : byId.keySet()) {
+            report.modelCount++;
+            if (!seen.contains(id)) {
+                report.extra++;
+                report.sample(report.extraIds, id);
+            }
+        }
+        return report;
+    }
+
+    private void unindex(Customer customer) {
+        byCpf.remove(customer.getCpf(), customer);
+        Set<UUID> ids = idsByEmail.get(customer.getEmail());
+        if (ids != null) {
+            ids.remove(customer.getId());
+        }
+    }
+
+    private static boolean sameContent(Customer a, Customer b) {
+        return a.getName().equals(b.getName())
+                && a.getEmail().equals(b.getEmail())
+                && a.getCpf().equals(b.getCpf());
+    }
+
+    /**
+     * Resultado de {@link #verify}: contagens e até {@value #SAMPLE_SIZE} IDs de exemplo por tipo.
+     */
+    public static class ConsistencyReport {
+        private long tableCount;
+        private long modelCount;
+        private long missing;
+        private long stale;
+        private long extra;
+        private final List<UUID> missingIds = new ArrayList<>();
+        private final List<UUID> staleIds = new ArrayList<>();
+        private final List<UUID> extraIds = new ArrayList<>();
+
+        public boolean isConsistent() { return missing == 0 && stale == 0 && extra == 0; }
+        public long getTableCount() { return tableCount; }
+        public long getModelCount() { return modelCount; }
+        public long getMissing() { return missing; }
+        public long getStale() { return stale; }
+        public long getExtra() { return extra; }
+        public List<UUID> getMissingIds() { return missingIds; }
+        public List<UUID> getStaleIds() { return staleIds; }
+        public List<UUID> getExtraIds() { return extraIds; }
+
+        private void sample(List<UUID> ids, UUID id) {
+            if (ids.size() < SAMPLE_SIZE) {
+                ids.add(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.fiap.techchallenge.adapters.imports;
+
+public enum CustomerImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,199 @@
+package com.fiap.techchallenge.adapters.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.application.usecases.CustomerImportRow;
+import com.fiap.techchallenge.application.usecases.CustomerRegistration;
+import com.fiap.techchallenge.domain.exception.DomainException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê o arquivo de importação linha a linha, sem carregá-lo inteiro.
+ * <p>
+ * CSV: a primeira linha é o cabeçalho com as colunas {@code name}, {@code email} e {@code cpf}
+ * (em qualquer ordem), separadas por vírgula ou ponto e vírgula; campos entre aspas aceitam
+ * {@code ""} como aspas literais, mas não quebra de linha. NDJSON: um objeto JSON por linha.
+ * Linhas em branco são ignoradas; uma linha ilegível vira um {@link CustomerImportRow#unreadable}.
+ * </p>
+ */
+public abstract class CustomerImportReader implements Iterator<CustomerImportRow> {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private CustomerImportRow next;
+
+    protected CustomerImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    public static CustomerImportReader of(CustomerImportFormat format, BufferedReader reader, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new Csv(reader);
+            case NDJSON -> new Ndjson(reader, objectMapper);
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            String line = readLine();
+            if (line == null) {
+                return false;
+            }
+            lineNumber++;
+            if (!line.isBlank()) {
+                next = parse(lineNumber, line);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public CustomerImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CustomerImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * @return a linha convertida, ou {@code null} para pular a linha (cabeçalho)
+     */
+    protected abstract CustomerImportRow parse(long lineNumber, String line);
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static final class Csv extends CustomerImportReader {
+
+        private char separator;
+        private int nameColumn = -1;
+        private int emailColumn = -1;
+        private int cpfColumn = -1;
+        private int columns;
+
+        Csv(BufferedReader reader) {
+            super(reader);
+        }
+
+        @Override
+        protected CustomerImportRow parse(long lineNumber, String line) {
+            if (columns == 0) {
+                readHeader(line);
+                return null;
+            }
+            List<String> fields = split(line, separator);
+            if (fields == null) {
+                return CustomerImportRow.unreadable(lineNumber, "Unterminated quoted field");
+            }
+            if (fields.size() != columns) {
+                return CustomerImportRow.unreadable(lineNumber,
+                        "Expected " + columns + " columns but found " + fields.size());
+            }
+            return CustomerImportRow.of(lineNumber, new CustomerRegistration(
+                    fields.get(nameColumn),
+                    emailColumn < 0 ? null : fields.get(emailColumn),
+                    fields.get(cpfColumn)));
+        }
+
+        private void readHeader(String line) {
+            separator = line.indexOf(';') >= 0 && line.indexOf(',') < 0 ? ';' : ',';
+            List<String> header = split(line, separator);
+            if (header == null) {
+                throw new DomainException("Invalid CSV header: " + line);
+            }
+            for (int i = 0; i < header.size(); i++) {
+                switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                    case "name" -> nameColumn = i;
+                    case "email" -> emailColumn = i;
+                    case "cpf" -> cpfColumn = i;
+                    default -> { }
+                }
+            }
+            if (nameColumn < 0 || cpfColumn < 0) {
+                throw new DomainException("CSV header must have name and cpf columns: " + line);
+            }
+            columns = header.size();
+        }
+
+        /**
+         * @return os campos da linha, ou {@code null} se uma aspa ficou aberta
+         */
+        static List<String> split(String line, char separator) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == separator) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    static final class Ndjson extends CustomerImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected CustomerImportRow parse(long lineNumber, String line) {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                return CustomerImportRow.unreadable(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (node == null || !node.isObject()) {
+                return CustomerImportRow.unreadable(lineNumber, "Expected a JSON object");
+            }
+            return CustomerImportRow.of(lineNumber, new CustomerRegistration(
+                    text(node, "name"), text(node, "email"), text(node, "cpf")));
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+    }
+}
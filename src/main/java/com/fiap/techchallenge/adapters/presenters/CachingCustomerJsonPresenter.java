@@ -0,0 +1,80 @@
+package com.fiap.techchallenge.adapters.presenters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeListener;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * {@link CustomerJsonPresenter} que guarda o JSON já serializado por ID e por CPF.
+ * <p>
+ * Num hit a resposta é só a cópia dos bytes, sem Jackson, e o ETag guardado junto
+ * responde o GET condicional sem recalcular hash. As entradas de um cliente
+ * são descartadas quando ele é gravado ({@link #onCustomerChanged}).
+ * </p>
+ */
+public class CachingCustomerJsonPresenter extends CustomerJsonPresenter implements CustomerChangeListener {
+
+    private final Cache<UUID, CustomerJson> jsonById;
+    private final Cache<String, CustomerJson> jsonByCpf;
+
+    public CachingCustomerJsonPresenter(ObjectMapper objectMapper,
+                                        Cache<UUID, CustomerJson> jsonById,
+                                        Cache<String, CustomerJson> jsonByCpf) {
+        super(objectMapper);
+        this.jsonById = jsonById;
+        this.jsonByCpf = jsonByCpf;
+    }
+
+    @Override
+    public Optional<CustomerJson> findById(UUID id, Function<UUID, Optional<Customer>> loader) {
+        return Optional.ofNullable(jsonById.get(id, key -> loader.apply(key)
+                .map(customer -> putByCpf(customer, render(customer)))
+                .orElse(null)));
+    }
+
+    @Override
+    public Optional<CustomerJson> findByCpf(String cpf, Function<String, Optional<Customer>> loader) {
+        return Optional.ofNullable(jsonByCpf.get(cpf, key -> loader.apply(key)
+                .map(customer -> putById(customer, render(customer)))
+                .orElse(null)));
+    }
+
+    @Override
+    public void onCustomerChanged(UUID id, String cpf) {
+        jsonById.invalidate(id);
+        if (cpf != null) {
+            jsonByCpf.invalidate(cpf);
+        }
+    }
+
+    @Override
+    public void onReset() {
+        jsonById.invalidateAll();
+        jsonByCpf.invalidateAll();
+    }
+
+    /**
+     * IDs mais acessados segundo a política de frequência do Caffeine, do mais quente ao mais frio.
+     */
+    public List<UUID> hottestIds(int limit) {
+        return jsonById.policy().eviction()
+                .map(eviction -> List.copyOf(eviction.hottest(limit).keySet()))
+                .orElseGet(List::of);
+    }
+
+    private CustomerJson putById(Customer customer, CustomerJson json) {
+        jsonById.put(customer.getId(), json);
+        return json;
+    }
+
+    private CustomerJson putByCpf(Customer customer, CustomerJson json) {
+        jsonByCpf.put(customer.getCpf(), json);
+        return json;
+    }
+}
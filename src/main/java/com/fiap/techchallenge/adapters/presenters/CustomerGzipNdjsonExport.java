@@ -0,0 +1,101 @@
+package com.fiap.techchallenge.adapters.presenters;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.application.usecases.CustomerExportUseCase;
+import com.fiap.techchallenge.domain.entities.Customer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Junta as partições de uma exportação num único stream NDJSON comprimido.
+ * <p>
+ * Cada partição comprime na sua própria thread e, a cada {@code rowsPerMember} clientes, fecha
+ * um membro gzip completo e o copia inteiro para a saída compartilhada. Um arquivo gzip pode
+ * ter vários membros concatenados ({@code gunzip}, {@code zcat} e o {@code GZIPInputStream}
+ * leem todos em sequência), então o resultado é um {@code .ndjson.gz} comum, com as linhas das
+ * partições intercaladas por bloco. A memória fica em um bloco comprimido por partição em andamento.
+ * </p>
+ */
+public class CustomerGzipNdjsonExport {
+
+    static final int DEFAULT_ROWS_PER_MEMBER = 10_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final OutputStream out;
+    private final int rowsPerMember;
+
+    public CustomerGzipNdjsonExport(ObjectMapper objectMapper, OutputStream out) {
+        this(objectMapper, out, DEFAULT_ROWS_PER_MEMBER);
+    }
+
+    public CustomerGzipNdjsonExport(ObjectMapper objectMapper, OutputStream out, int rowsPerMember) {
+        this.objectMapper = objectMapper;
+        this.out = out;
+        this.rowsPerMember = rowsPerMember;
+    }
+
+    public CustomerExportUseCase.PartitionSink open(int partition) {
+        return new PartitionWriter();
+    }
+
+    private final class PartitionWriter implements CustomerExportUseCase.PartitionSink {
+
+        private final ByteArrayOutputStream member = new ByteArrayOutputStream(BUFFER_SIZE);
+        private JsonGenerator generator;
+        private int rows;
+
+        PartitionWriter() {
+            startMember();
+        }
+
+        @Override
+        public void accept(Customer customer) {
+            try {
+                generator.writeObject(customer);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (++rows == rowsPerMember) {
+                emitMember();
+                startMember();
+            }
+        }
+
+        // Sempre emite o último membro, mesmo vazio: uma exportação sem clientes ainda é um gzip válido
+        @Override
+        public void finish() {
+            emitMember();
+        }
+
+        private void startMember() {
+            try {
+                generator = objectMapper.createGenerator(new GZIPOutputStream(member, BUFFER_SIZE));
+                // Sem o espaço padrão entre valores raiz: cada linha começa no '{'
+                generator.setRootValueSeparator(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows = 0;
+        }
+
+        // Fechar o generator fecha o GZIPOutputStream, que escreve o trailer do membro no buffer
+        private void emitMember() {
+            try {
+                generator.close();
+                synchronized (out) {
+                    member.writeTo(out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            member.reset();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.fiap.techchallenge.adapters.presenters;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * JSON já renderizado de um cliente e o ETag forte correspondente (hash MD5 do conteúdo).
+ */
+public final class CustomerJson {
+
+    private final byte[] body;
+    private final String etag;
+
+    private CustomerJson(byte[] body, String etag) {
+        this.body = body;
+        this.etag = etag;
+    }
+
+    public static CustomerJson of(byte[] body) {
+        return new CustomerJson(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,96 @@
+package com.fiap.techchallenge.adapters.presenters;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Renderiza um cliente como JSON UTF-8, pronto para ser copiado na resposta HTTP,
+ * junto com o ETag calculado sobre esses bytes.
+ */
+public class CustomerJsonPresenter {
+
+    private final ObjectMapper objectMapper;
+
+    public CustomerJsonPresenter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<CustomerJson> findById(UUID id, Function<UUID, Optional<Customer>> loader) {
+        return loader.apply(id).map(this::render);
+    }
+
+    public Optional<CustomerJson> findByCpf(String cpf, Function<String, Optional<Customer>> loader) {
+        return loader.apply(cpf).map(this::render);
+    }
+
+    // Leitura parcial (fields=): renderizada a cada vez, fora do cache do JSON completo
+    public Optional<CustomerJson> findById(UUID id, Function<UUID, Optional<Customer>> loader,
+                                           Set<CustomerField> fields) {
+        return loader.apply(id).map(customer -> render(customer, fields));
+    }
+
+    public Optional<CustomerJson> findByCpf(String cpf, Function<String, Optional<Customer>> loader,
+                                            Set<CustomerField> fields) {
+        return loader.apply(cpf).map(customer -> render(customer, fields));
+    }
+
+    /**
+     * Escreve os clientes como NDJSON (um objeto JSON por linha) à medida que a fonte os entrega:
+     * um único {@link JsonGenerator} sobre o stream, sem montar lista nem array em memória.
+     *
+     * @param source percorre os clientes, entregando cada um ao consumidor recebido
+     */
+    public void writeNdjson(OutputStream out, Consumer<Consumer<Customer>> source) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            // Quem abriu o stream (o container, na resposta HTTP) é quem o fecha
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // O separador padrão entre valores raiz é um espaço, que abriria cada linha depois da primeira
+            generator.setRootValueSeparator(null);
+            source.accept(customer -> {
+                try {
+                    generator.writeObject(customer);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public CustomerJson render(Customer customer) {
+        try {
+            return CustomerJson.of(objectMapper.writeValueAsBytes(customer));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Só os campos pedidos, na ordem do enum; o ETag é o do conteúdo parcial
+    public CustomerJson render(Customer customer, Set<CustomerField> fields) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (CustomerField field : fields) {
+            json.put(field.getFieldName(), field.valueOf(customer));
+        }
+        try {
+            return CustomerJson.of(objectMapper.writeValueAsBytes(json));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
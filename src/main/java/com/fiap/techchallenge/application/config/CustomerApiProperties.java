@@ -0,0 +1,57 @@
+package com.fiap.techchallenge.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configurações da API HTTP de clientes ({@code customer.api.*}).
+ */
+@ConfigurationProperties(prefix = "customer.api")
+public class CustomerApiProperties {
+
+    private final ResponseCache responseCache = new ResponseCache();
+    private final Idempotency idempotency = new Idempotency();
+
+    public ResponseCache getResponseCache() { return responseCache; }
+    public Idempotency getIdempotency() { return idempotency; }
+
+    public static class ResponseCache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public long getMaximumSize() { return maximumSize; }
+        public void setMaximumSize(long maximumSize) { this.maximumSize = maximumSize; }
+        public Duration getExpireAfterWrite() { return expireAfterWrite; }
+        public void setExpireAfterWrite(Duration expireAfterWrite) { this.expireAfterWrite = expireAfterWrite; }
+    }
+
+    public static class Idempotency {
+        private boolean enabled = true;
+        private int stripes = 64;
+        private int maximumSize = 100_000;
+        private Duration expireAfterWrite = Duration.ofHours(24);
+        // Chaves também na tabela customer_idempotency_keys, valendo entre réplicas
+        private boolean shared = false;
+        private Duration lease = Duration.ofSeconds(10);
+        private Duration pollInterval = Duration.ofMillis(50);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getStripes() { return stripes; }
+        public void setStripes(int stripes) { this.stripes = stripes; }
+        public int getMaximumSize() { return maximumSize; }
+        public void setMaximumSize(int maximumSize) { this.maximumSize = maximumSize; }
+        public Duration getExpireAfterWrite() { return expireAfterWrite; }
+        public void setExpireAfterWrite(Duration expireAfterWrite) { this.expireAfterWrite = expireAfterWrite; }
+        public boolean isShared() { return shared; }
+        public void setShared(boolean shared) { this.shared = shared; }
+        public Duration getLease() { return lease; }
+        public void setLease(Duration lease) { this.lease = lease; }
+        public Duration getPollInterval() { return pollInterval; }
+        public void setPollInterval(Duration pollInterval) { this.pollInterval = pollInterval; }
+    }
+}
@@ -0,0 +1,129 @@
+package com.fiap.techchallenge.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configurações das camadas em torno do repositório de clientes ({@code customer.repository.*}).
+ */
+@ConfigurationProperties(prefix = "customer.repository")
+public class CustomerRepositoryProperties {
+
+    private final Cache cache = new Cache();
+    private final BloomFilter bloomFilter = new BloomFilter();
+    private final CpfIndex cpfIndex = new CpfIndex();
+    private final MappedCache mappedCache = new MappedCache();
+    private final ChangeNotifications changeNotifications = new ChangeNotifications();
+    private final ReadModel readModel = new ReadModel();
+    private final GroupCommit groupCommit = new GroupCommit();
+
+    public Cache getCache() { return cache; }
+    public BloomFilter getBloomFilter() { return bloomFilter; }
+    public CpfIndex getCpfIndex() { return cpfIndex; }
+    public MappedCache getMappedCache() { return mappedCache; }
+    public ChangeNotifications getChangeNotifications() { return changeNotifications; }
+    public ReadModel getReadModel() { return readModel; }
+    public GroupCommit getGroupCommit() { return groupCommit; }
+
+    public static class Cache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public long getMaximumSize() { return maximumSize; }
+        public void setMaximumSize(long maximumSize) { this.maximumSize = maximumSize; }
+        public Duration getExpireAfterWrite() { return expireAfterWrite; }
+        public void setExpireAfterWrite(Duration expireAfterWrite) { this.expireAfterWrite = expireAfterWrite; }
+    }
+
+    public static class BloomFilter {
+        private boolean enabled = true;
+        private long expectedInsertions = 1_000_000;
+        private double falsePositiveProbability = 0.01;
+        private long negativeMaximumSize = 100_000;
+        private Duration negativeExpireAfterWrite = Duration.ofSeconds(30);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public long getExpectedInsertions() { return expectedInsertions; }
+        public void setExpectedInsertions(long expectedInsertions) { this.expectedInsertions = expectedInsertions; }
+        public double getFalsePositiveProbability() { return falsePositiveProbability; }
+        public void setFalsePositiveProbability(double falsePositiveProbability) { this.falsePositiveProbability = falsePositiveProbability; }
+        public long getNegativeMaximumSize() { return negativeMaximumSize; }
+        public void setNegativeMaximumSize(long negativeMaximumSize) { this.negativeMaximumSize = negativeMaximumSize; }
+        public Duration getNegativeExpireAfterWrite() { return negativeExpireAfterWrite; }
+        public void setNegativeExpireAfterWrite(Duration negativeExpireAfterWrite) { this.negativeExpireAfterWrite = negativeExpireAfterWrite; }
+    }
+
+    public static class CpfIndex {
+        private boolean enabled = false;
+        private int expectedSize = 1_000_000;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getExpectedSize() { return expectedSize; }
+        public void setExpectedSize(int expectedSize) { this.expectedSize = expectedSize; }
+    }
+
+    public static class MappedCache {
+        private boolean enabled = false;
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "customer-cache");
+        private int capacity = 262_144;
+        private int files = 4;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public Path getDirectory() { return directory; }
+        public void setDirectory(Path directory) { this.directory = directory; }
+        public int getCapacity() { return capacity; }
+        public void setCapacity(int capacity) { this.capacity = capacity; }
+        public int getFiles() { return files; }
+        public void setFiles(int files) { this.files = files; }
+    }
+
+    public static class ReadModel {
+        private boolean enabled = false;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    }
+
+    public static class ChangeNotifications {
+        private boolean enabled = false;
+        private String channel = "customer_changed";
+        private Duration batchWindow = Duration.ofMillis(10);
+        private Duration pollTimeout = Duration.ofSeconds(1);
+        private Duration reconnectDelay = Duration.ofSeconds(1);
+        private Duration maxReconnectDelay = Duration.ofSeconds(30);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public String getChannel() { return channel; }
+        public void setChannel(String channel) { this.channel = channel; }
+        public Duration getBatchWindow() { return batchWindow; }
+        public void setBatchWindow(Duration batchWindow) { this.batchWindow = batchWindow; }
+        public Duration getPollTimeout() { return pollTimeout; }
+        public void setPollTimeout(Duration pollTimeout) { this.pollTimeout = pollTimeout; }
+        public Duration getReconnectDelay() { return reconnectDelay; }
+        public void setReconnectDelay(Duration reconnectDelay) { this.reconnectDelay = reconnectDelay; }
+        public Duration getMaxReconnectDelay() { return maxReconnectDelay; }
+        public void setMaxReconnectDelay(Duration maxReconnectDelay) { this.maxReconnectDelay = maxReconnectDelay; }
+    }
+
+    public static class GroupCommit {
+        private boolean enabled = false;
+        private int maxBatchSize = 256;
+        private Duration maxWait = Duration.ofMillis(2);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getMaxBatchSize() { return maxBatchSize; }
+        public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+        public Duration getMaxWait() { return maxWait; }
+        public void setMaxWait(Duration maxWait) { this.maxWait = maxWait; }
+    }
+}
@@ -0,0 +1,97 @@
+package com.fiap.techchallenge.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configurações das camadas em torno dos casos de uso de clientes ({@code customer.use-case.*}).
+ */
+@ConfigurationProperties(prefix = "customer.use-case")
+public class CustomerUseCaseProperties {
+
+    private IdGenerator idGenerator = IdGenerator.UUID_V7;
+    private final Coalescing coalescing = new Coalescing();
+    private final RegistrationLocks registrationLocks = new RegistrationLocks();
+    private final Import customerImport = new Import();
+    private final Export export = new Export();
+    private final WriteBehind writeBehind = new WriteBehind();
+
+    public IdGenerator getIdGenerator() { return idGenerator; }
+    public void setIdGenerator(IdGenerator idGenerator) { this.idGenerator = idGenerator; }
+    public Coalescing getCoalescing() { return coalescing; }
+    public RegistrationLocks getRegistrationLocks() { return registrationLocks; }
+    public Import getImport() { return customerImport; }
+    public Export getExport() { return export; }
+    public WriteBehind getWriteBehind() { return writeBehind; }
+
+    public enum IdGenerator {
+        RANDOM,
+        UUID_V7
+    }
+
+    public static class Coalescing {
+        private boolean enabled = true;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    }
+
+    public static class RegistrationLocks {
+        private boolean enabled = true;
+        // Potência de 2; cada stripe vira uma série nas métricas de contenção
+        private int stripes = 64;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getStripes() { return stripes; }
+        public void setStripes(int stripes) { this.stripes = stripes; }
+    }
+
+    public static class Import {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int chunkSize = 50_000;
+        private int maxRejectionsReported = 1_000;
+
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+        public int getChunkSize() { return chunkSize; }
+        public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+        public int getMaxRejectionsReported() { return maxRejectionsReported; }
+        public void setMaxRejectionsReported(int maxRejectionsReported) { this.maxRejectionsReported = maxRejectionsReported; }
+    }
+
+    public static class Export {
+        // Cada thread segura uma conexão durante a exportação: manter abaixo do tamanho do pool do Hikari
+        private int parallelism = 4;
+
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+    }
+
+    public static class WriteBehind {
+        private boolean enabled = false;
+        private int capacity = 10_000;
+        private int maxBatchSize = 256;
+        private Duration maxWait = Duration.ofMillis(5);
+        private Duration retryDelay = Duration.ofSeconds(1);
+        private Duration drainTimeout = Duration.ofSeconds(20);
+        private Path spillDirectory;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getCapacity() { return capacity; }
+        public void setCapacity(int capacity) { this.capacity = capacity; }
+        public int getMaxBatchSize() { return maxBatchSize; }
+        public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+        public Duration getMaxWait() { return maxWait; }
+        public void setMaxWait(Duration maxWait) { this.maxWait = maxWait; }
+        public Duration getRetryDelay() { return retryDelay; }
+        public void setRetryDelay(Duration retryDelay) { this.retryDelay = retryDelay; }
+        public Duration getDrainTimeout() { return drainTimeout; }
+        public void setDrainTimeout(Duration drainTimeout) { this.drainTimeout = drainTimeout; }
+        public Path getSpillDirectory() { return spillDirectory; }
+        public void setSpillDirectory(Path spillDirectory) { this.spillDirectory = spillDirectory; }
+    }
+}
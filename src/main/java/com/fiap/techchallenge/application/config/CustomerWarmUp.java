@@ -0,0 +1,180 @@
+package com.fiap.techchallenge.application.config;
+
+import com.fiap.techchallenge.adapters.controllers.CustomerController;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Pré-carrega os clientes mais acessados pelo mesmo caminho das requisições de GET,
+ * aquecendo caches, conexões e JIT antes de a instância receber tráfego.
+ * <p>
+ * A origem preferida é o arquivo de chaves quentes gravado no último shutdown; sem
+ * ele, a tabela é varrida até {@code maxEntries} clientes (tabelas pequenas entram
+ * inteiras). O trabalho para quando o orçamento de tempo acaba.
+ * </p>
+ */
+public class CustomerWarmUp {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerWarmUp.class);
+
+    public enum Source { HOT_KEYS, FULL_SCAN }
+
+    private final CustomerController customerController;
+    private final CustomerRepository customerRepository;
+
+    public CustomerWarmUp(CustomerController customerController, CustomerRepository customerRepository) {
+        this.customerController = customerController;
+        this.customerRepository = customerRepository;
+    }
+
+    public WarmUpReport warmUp(Path hotKeysFile, int maxEntries, Duration budget) {
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+
+        List<UUID> hotKeys = readHotKeys(hotKeysFile, maxEntries);
+        WarmUpReport report = hotKeys.isEmpty()
+                ? warmFromScan(maxEntries, deadline)
+                : warmFromHotKeys(hotKeys, deadline);
+        report.duration = Duration.ofNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    private WarmUpReport warmFromHotKeys(List<UUID> hotKeys, long deadline) {
+        WarmUpReport report = new WarmUpReport(Source.HOT_KEYS, hotKeys.size());
+        for (UUID id : hotKeys) {
+            if (System.nanoTime() - deadline >= 0) {
+                report.timedOut = true;
+                break;
+            }
+            warm(report, id, null);
+        }
+        return report;
+    }
+
+    private WarmUpReport warmFromScan(int maxEntries, long deadline) {
+        WarmUpReport report = new WarmUpReport(Source.FULL_SCAN, maxEntries);
+        int[] visited = {0};
+        try {
+            customerRepository.forEach(customer -> {
+                if (visited[0] >= maxEntries) {
+                    throw StopScan.INSTANCE;
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    report.timedOut = true;
+                    throw StopScan.INSTANCE;
+                }
+                visited[0]++;
+                warm(report, customer.getId(), customer);
+            });
+            // Tabela inteira percorrida: a cobertura é sobre o que existe, não sobre o limite
+            report.requested = visited[0];
+        } catch (StopScan e) {
+            // limite ou orçamento atingido
+        }
+        return report;
+    }
+
+    private void warm(WarmUpReport report, UUID id, Customer customer) {
+        try {
+            customerController.findCustomerJsonById(id);
+            if (customer != null) {
+                customerController.findCustomerJsonByCpf(customer.getCpf());
+            }
+            report.loaded++;
+        } catch (RuntimeException e) {
+            // Chave do arquivo que não existe mais: não é motivo para atrasar o start
+            report.failed++;
+        }
+    }
+
+    static List<UUID> readHotKeys(Path file, int limit) {
+        if (file == null || !Files.isRegularFile(file)) {
+            return List.of();
+        }
+        List<UUID> ids = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+                if (ids.size() >= limit) {
+                    break;
+                }
+                try {
+                    ids.add(UUID.fromString(line.trim()));
+                } catch (IllegalArgumentException e) {
+                    // linha corrompida ou vazia
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read customer hot keys from {}", file, e);
+            return List.of();
+        }
+        return ids;
+    }
+
+    /**
+     * Grava as chaves num arquivo temporário e o move por cima do anterior, para que
+     * um start concorrente nunca leia um arquivo pela metade.
+     */
+    public static void saveHotKeys(Path file, Collection<UUID> ids) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            String content = ids.stream().map(UUID::toString).collect(Collectors.joining("\n"));
+            Files.writeString(temp, content, StandardCharsets.US_ASCII);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static class WarmUpReport {
+        private final Source source;
+        private long requested;
+        private long loaded;
+        private long failed;
+        private boolean timedOut;
+        private Duration duration = Duration.ZERO;
+
+        WarmUpReport(Source source, long requested) {
+            this.source = source;
+            this.requested = requested;
+        }
+
+        public Source getSource() { return source; }
+        public long getRequested() { return requested; }
+        public long getLoaded() { return loaded; }
+        public long getFailed() { return failed; }
+        public boolean isTimedOut() { return timedOut; }
+        public Duration getDuration() { return duration; }
+
+        /**
+         * Fração das chaves planejadas que foi carregada (1.0 quando não havia nada a carregar).
+         */
+        public double getCoverage() {
+            return requested == 0 ? 1.0 : (double) loaded / requested;
+        }
+    }
+
+    // Interrompe o forEach da varredura sem custo de stack trace
+    private static final class StopScan extends RuntimeException {
+        private static final StopScan INSTANCE = new StopScan();
+
+        private StopScan() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.fiap.techchallenge.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configurações do warm-up de clientes no start ({@code customer.warm-up.*}).
+ */
+@ConfigurationProperties(prefix = "customer.warm-up")
+public class CustomerWarmUpProperties {
+
+    private boolean enabled = true;
+    private Path hotKeysFile = Path.of("/var/cache/customer-service", "hot-keys.txt");
+    private int maxEntries = 10_000;
+    private Duration budget = Duration.ofSeconds(30);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public Path getHotKeysFile() { return hotKeysFile; }
+    public void setHotKeysFile(Path hotKeysFile) { this.hotKeysFile = hotKeysFile; }
+    public int getMaxEntries() { return maxEntries; }
+    public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+    public Duration getBudget() { return budget; }
+    public void setBudget(Duration budget) { this.budget = budget; }
+}
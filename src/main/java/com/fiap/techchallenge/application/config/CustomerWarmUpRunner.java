@@ -0,0 +1,68 @@
+package com.fiap.techchallenge.application.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Executa o warm-up de clientes durante o start.
+ * <p>
+ * O Spring Boot só publica {@code ReadinessState.ACCEPTING_TRAFFIC} depois que todos os
+ * {@link ApplicationRunner} terminam, então {@code /actuator/health/readiness} fica DOWN
+ * enquanto o warm-up roda. No shutdown, as chaves mais quentes são gravadas para o próximo start.
+ * </p>
+ */
+public class CustomerWarmUpRunner implements ApplicationRunner, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerWarmUpRunner.class);
+
+    private final CustomerWarmUp warmUp;
+    private final CustomerWarmUpProperties properties;
+    private final IntFunction<Collection<UUID>> hottestIds;
+
+    private volatile CustomerWarmUp.WarmUpReport lastReport;
+
+    public CustomerWarmUpRunner(CustomerWarmUp warmUp,
+                                CustomerWarmUpProperties properties,
+                                IntFunction<Collection<UUID>> hottestIds) {
+        this.warmUp = warmUp;
+        this.properties = properties;
+        this.hottestIds = hottestIds;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        CustomerWarmUp.WarmUpReport report = warmUp.warmUp(
+                properties.getHotKeysFile(), properties.getMaxEntries(), properties.getBudget());
+        lastReport = report;
+        log.info("Customer warm-up from {} loaded {}/{} customers ({} failed, coverage {}%) in {} ms{}",
+                report.getSource(), report.getLoaded(), report.getRequested(), report.getFailed(),
+                Math.round(report.getCoverage() * 100), report.getDuration().toMillis(),
+                report.isTimedOut() ? ", stopped by the time budget" : "");
+    }
+
+    @Override
+    public void destroy() {
+        Collection<UUID> ids = hottestIds.apply(properties.getMaxEntries());
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            CustomerWarmUp.saveHotKeys(properties.getHotKeysFile(), ids);
+            log.info("Saved {} customer hot keys to {}", ids.size(), properties.getHotKeysFile());
+        } catch (IOException e) {
+            log.warn("Could not save customer hot keys to {}", properties.getHotKeysFile(), e);
+        }
+    }
+
+    public CustomerWarmUp.WarmUpReport getLastReport() {
+        return lastReport;
+    }
+}
@@ -1,32 +1,579 @@
 package com.fiap.techchallenge.application.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.techchallenge.adapters.controllers.*;
 import com.fiap.techchallenge.adapters.gateway.*;
+import com.fiap.techchallenge.adapters.gateway.cache.CpfBloomFilter;
+import com.fiap.techchallenge.adapters.gateway.cache.CpfIndex;
+import com.fiap.techchallenge.adapters.gateway.cache.MappedCustomerStore;
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeBus;
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeListener;
+import com.fiap.techchallenge.adapters.gateway.events.InMemoryCustomerChangeBus;
+import com.fiap.techchallenge.adapters.gateway.readmodel.CustomerReadModel;
+import com.fiap.techchallenge.adapters.presenters.CachingCustomerJsonPresenter;
+import com.fiap.techchallenge.adapters.presenters.CustomerJson;
+import com.fiap.techchallenge.adapters.presenters.CustomerJsonPresenter;
 import com.fiap.techchallenge.application.usecases.*;
+import com.fiap.techchallenge.domain.entities.Customer;
 import com.fiap.techchallenge.domain.repositories.*;
+import com.fiap.techchallenge.external.actuator.CustomerReadModelEndpoint;
+import com.fiap.techchallenge.external.datasource.events.PostgresCustomerChangeBus;
 import com.fiap.techchallenge.external.datasource.repositories.*;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
 
 @Configuration
+@EnableConfigurationProperties({CustomerRepositoryProperties.class, CustomerUseCaseProperties.class,
+        CustomerApiProperties.class, CustomerWarmUpProperties.class})
 public class UseCaseConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(UseCaseConfig.class);
+
     // Repository Gateways (implementam as interfaces do domínio)
     @Bean
-    public CustomerRepository customerRepository(CustomerJpaRepository customerJpaRepository) {
-        return new CustomerRepositoryGateway(customerJpaRepository);
+    public CustomerRepository customerRepository(CustomerJpaRepository customerJpaRepository,
+                                                 CustomerJdbcRepository customerJdbcRepository,
+                                                 CustomerRepositoryProperties properties,
+                                                 ObjectProvider<MappedCustomerStore> mappedCustomerStore,
+                                                 ObjectProvider<CustomerReadModel> customerReadModel,
+                                                 ObjectProvider<CustomerGroupCommitter> customerGroupCommitter,
+                                                 CustomerChangeBus customerChangeBus,
+                                                 MeterRegistry meterRegistry) {
+        CustomerRepository repository = new CustomerRepositoryGateway(
+                customerJpaRepository, customerJdbcRepository, customerGroupCommitter.getIfAvailable());
+
+        // Decorators, do mais próximo do banco para o mais externo; cada um assina as alterações de outras réplicas
+        if (properties.getCpfIndex().isEnabled()) {
+            repository = cpfIndexRepository(repository, properties.getCpfIndex(), customerChangeBus, meterRegistry);
+        }
+        if (properties.getBloomFilter().isEnabled()) {
+            repository = bloomFilterRepository(repository, properties.getBloomFilter(), customerChangeBus, meterRegistry);
+        }
+        MappedCustomerStore store = mappedCustomerStore.getIfAvailable();
+        if (store != null) {
+            repository = subscribe(customerChangeBus, mappedRepository(repository, store, meterRegistry));
+        }
+        if (properties.getCache().isEnabled()) {
+            repository = subscribe(customerChangeBus,
+                    cachingRepository(repository, properties.getCache(), meterRegistry));
+        }
+        CustomerReadModel readModel = customerReadModel.getIfAvailable();
+        if (readModel != null) {
+            repository = readModelRepository(repository, readModel, customerChangeBus, meterRegistry);
+        }
+
+        return new ChangePublishingCustomerRepository(repository, customerChangeBus);
+    }
+
+    // Group commit: os cadastros que chegam juntos viram um INSERT multi-linha e um único commit
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.repository.group-commit", name = "enabled", havingValue = "true")
+    public CustomerGroupCommitter customerGroupCommitter(CustomerJdbcRepository customerJdbcRepository,
+                                                         CustomerRepositoryProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        CustomerRepositoryProperties.GroupCommit groupCommit = properties.getGroupCommit();
+        DistributionSummary batchSize = DistributionSummary.builder("customers.group-commit.batch-size")
+                .description("Cadastros gravados por commit")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) groupCommit.getMaxBatchSize())
+                .register(meterRegistry);
+        CustomerGroupCommitter committer = new CustomerGroupCommitter(
+                customerJdbcRepository, groupCommit.getMaxBatchSize(), groupCommit.getMaxWait(), batchSize::record);
+
+        FunctionCounter.builder("customers.group-commit.commits", committer, CustomerGroupCommitter::commitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.group-commit.rows", committer, CustomerGroupCommitter::rowCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.group-commit.fallbacks", committer, CustomerGroupCommitter::fallbackCount)
+                .description("Lotes que falharam e foram regravados linha a linha")
+                .register(meterRegistry);
+        Gauge.builder("customers.group-commit.queue", committer, CustomerGroupCommitter::queueSize)
+                .register(meterRegistry);
+
+        committer.start();
+        return committer;
+    }
+
+    // Lado de leitura (CQRS): todos os clientes em memória, indexados por ID, CPF e e-mail
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.repository.read-model", name = "enabled", havingValue = "true")
+    public CustomerReadModel customerReadModel() {
+        return new CustomerReadModel();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.repository.read-model", name = "enabled", havingValue = "true")
+    public CustomerReadModelEndpoint customerReadModelEndpoint(CustomerReadModel customerReadModel,
+                                                               CustomerRepository customerRepository) {
+        return new CustomerReadModelEndpoint(customerReadModel, customerRepository);
+    }
+
+    // Avisos de alteração de clientes, consumidos pelos caches: só nesta JVM...
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.repository.change-notifications", name = "enabled",
+            havingValue = "false", matchIfMissing = true)
+    public CustomerChangeBus customerChangeBus() {
+        return new InMemoryCustomerChangeBus();
+    }
+
+    // ...ou entre todas as réplicas, via LISTEN/NOTIFY numa conexão dedicada fora do pool
+    @Bean(name = "customerChangeBus")
+    @ConditionalOnProperty(prefix = "customer.repository.change-notifications", name = "enabled", havingValue = "true")
+    public PostgresCustomerChangeBus postgresCustomerChangeBus(JdbcTemplate jdbcTemplate,
+                                                               DataSourceProperties dataSourceProperties,
+                                                               CustomerRepositoryProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        CustomerRepositoryProperties.ChangeNotifications notifications = properties.getChangeNotifications();
+        String url = dataSourceProperties.determineUrl();
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        PostgresCustomerChangeBus bus = new PostgresCustomerChangeBus(
+                jdbcTemplate,
+                () -> DriverManager.getConnection(url, username, password),
+                notifications.getChannel(),
+                notifications.getBatchWindow(),
+                notifications.getPollTimeout(),
+                notifications.getReconnectDelay(),
+                notifications.getMaxReconnectDelay());
+
+        Gauge.builder("customers.changes.listener.connected", bus, b -> b.isConnected() ? 1 : 0)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.changes.published", bus, PostgresCustomerChangeBus::publishedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.changes.received", bus, PostgresCustomerChangeBus::receivedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.changes.batches", bus, PostgresCustomerChangeBus::batchCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.changes.reconnects", bus, PostgresCustomerChangeBus::reconnectCount)
+                .register(meterRegistry);
+
+        bus.start();
+        return bus;
+    }
+
+    // Cache L2 em arquivo mapeado: cada instância trava um dos arquivos do diretório
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.repository.mapped-cache", name = "enabled", havingValue = "true")
+    public MappedCustomerStore mappedCustomerStore(CustomerRepositoryProperties properties) {
+        CustomerRepositoryProperties.MappedCache mappedCache = properties.getMappedCache();
+        try {
+            Files.createDirectories(mappedCache.getDirectory());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (int i = 0; i < mappedCache.getFiles(); i++) {
+            Path file = mappedCache.getDirectory().resolve("customers-" + i + ".l2");
+            try {
+                return MappedCustomerStore.open(file, mappedCache.getCapacity());
+            } catch (IllegalStateException e) {
+                // inclui OverlappingFileLockException, quando a própria JVM já trava o arquivo
+                log.info("Customer L2 cache file {} is in use, trying the next one", file);
+            }
+        }
+        log.warn("All customer L2 cache files in {} are in use, starting without the L2 cache", mappedCache.getDirectory());
+        return null;
     }
 
     // Use Cases (aplicação core)
+    // UUID v7 por padrão: IDs crescentes no tempo mantêm os INSERTs no fim do índice da chave primária
+    @Bean
+    public CustomerIdGenerator customerIdGenerator(CustomerUseCaseProperties properties) {
+        return switch (properties.getIdGenerator()) {
+            case RANDOM -> CustomerIdGenerator.RANDOM;
+            case UUID_V7 -> new UuidV7CustomerIdGenerator();
+        };
+    }
+
+    @Bean
+    public CustomerUseCase customerUseCase(CustomerRepository customerRepository,
+                                           CustomerIdGenerator customerIdGenerator,
+                                           CustomerUseCaseProperties properties,
+                                           MeterRegistry meterRegistry) {
+        CustomerUseCase useCase = new CustomerUseCaseImpl(customerRepository, customerIdGenerator);
+
+        // Cadastros concorrentes do mesmo CPF esperam um pelo outro em vez de disputarem a constraint no banco
+        if (properties.getRegistrationLocks().isEnabled()) {
+            StripedLockCustomerUseCase striped = new StripedLockCustomerUseCase(
+                    useCase, customerRepository, properties.getRegistrationLocks().getStripes());
+            registerLockMetrics(meterRegistry, striped);
+            useCase = striped;
+        }
+
+        // Buscas concorrentes pela mesma chave compartilham uma única consulta
+        if (properties.getCoalescing().isEnabled()) {
+            CoalescingCustomerUseCase coalescing = new CoalescingCustomerUseCase(useCase);
+            registerSingleFlightMetrics(meterRegistry, "cpf", coalescing.cpfLookups());
+            registerSingleFlightMetrics(meterRegistry, "id", coalescing.idLookups());
+            useCase = coalescing;
+        }
+
+        return useCase;
+    }
+
+    // Cadastro assíncrono: valida e responde 202, grava em lotes por trás de uma fila limitada
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.use-case.write-behind", name = "enabled", havingValue = "true")
+    public CustomerWriteBehind customerWriteBehind(CustomerRepository customerRepository,
+                                                   CustomerIdGenerator customerIdGenerator,
+                                                   CustomerUseCaseProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        CustomerUseCaseProperties.WriteBehind writeBehind = properties.getWriteBehind();
+        requirePersistentSpillDirectory(writeBehind.getSpillDirectory());
+        CustomerWriteBehind queue = new CustomerWriteBehind(customerRepository,
+                writeBehind.getCapacity(), writeBehind.getMaxBatchSize(), writeBehind.getMaxWait(),
+                writeBehind.getRetryDelay(), writeBehind.getDrainTimeout(), writeBehind.getSpillDirectory(),
+                customerIdGenerator);
+
+        Gauge.builder("customers.write-behind.queue", queue, CustomerWriteBehind::queueSize)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.write-behind.accepted", queue, CustomerWriteBehind::acceptedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.write-behind.written", queue, CustomerWriteBehind::writtenCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.write-behind.rejected", queue, CustomerWriteBehind::rejectedCount)
+                .description("Cadastros aceitos cujo CPF foi gravado por outro antes do lote")
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.write-behind.failures", queue, CustomerWriteBehind::failureCount)
+                .description("Lotes que falharam e serão repetidos")
+                .register(meterRegistry);
+
+        queue.start();
+        return queue;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.use-case.write-behind", name = "enabled", havingValue = "true")
+    public AsyncCustomerController asyncCustomerController(CustomerWriteBehind customerWriteBehind) {
+        return new AsyncCustomerController(customerWriteBehind);
+    }
+
+    // Importação em massa: staging via COPY e um único merge, fora da cadeia de decorators do repositório
+    @Bean
+    public CustomerBulkLoader customerBulkLoader(CustomerJdbcRepository customerJdbcRepository,
+                                                 CustomerChangeBus customerChangeBus) {
+        return new CustomerBulkLoaderGateway(customerJdbcRepository, customerChangeBus);
+    }
+
+    // Pool próprio para a validação das importações, para não disputar o commonPool com o resto da aplicação
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool customerImportPool(CustomerUseCaseProperties properties) {
+        return new ForkJoinPool(properties.getImport().getParallelism());
+    }
+
+    @Bean
+    public CustomerImportUseCase customerImportUseCase(CustomerBulkLoader customerBulkLoader,
+                                                       ForkJoinPool customerImportPool,
+                                                       CustomerIdGenerator customerIdGenerator,
+                                                       CustomerUseCaseProperties properties) {
+        CustomerUseCaseProperties.Import customerImport = properties.getImport();
+        return new CustomerImportUseCaseImpl(customerBulkLoader, customerImportPool,
+                customerImport.getChunkSize(), customerImport.getMaxRejectionsReported(), customerIdGenerator);
+    }
+
     @Bean
-    public CustomerUseCase customerUseCase(CustomerRepository customerRepository) {
-        return new CustomerUseCaseImpl(customerRepository);
+    public CustomerImportController customerImportController(CustomerImportUseCase customerImportUseCase,
+                                                             ObjectMapper objectMapper) {
+        return new CustomerImportController(customerImportUseCase, objectMapper);
+    }
+
+    // Exportação particionada: cursores por faixa de ID, também fora da cadeia de decorators
+    @Bean
+    public CustomerExportSource customerExportSource(CustomerJdbcRepository customerJdbcRepository) {
+        return new CustomerExportSourceGateway(customerJdbcRepository);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService customerExportPool(CustomerUseCaseProperties properties) {
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.getExport().getParallelism(), task -> {
+            Thread thread = new Thread(task, "customer-export-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public CustomerExportUseCase customerExportUseCase(CustomerExportSource customerExportSource,
+                                                       ExecutorService customerExportPool,
+                                                       CustomerUseCaseProperties properties) {
+        return new CustomerExportUseCaseImpl(customerExportSource, customerExportPool,
+                properties.getExport().getParallelism());
+    }
+
+    @Bean
+    public CustomerExportController customerExportController(CustomerExportUseCase customerExportUseCase,
+                                                             ObjectMapper objectMapper) {
+        return new CustomerExportController(customerExportUseCase, objectMapper);
     }
 
     // Controllers de orquestração (adapters)
     @Bean
-    public CustomerController customerController(CustomerUseCase customerUseCase) {
-        return new CustomerController(customerUseCase);
+    public CustomerController customerController(CustomerUseCase customerUseCase,
+                                                 CustomerJsonPresenter customerJsonPresenter,
+                                                 ObjectProvider<IdempotencyStore> idempotencyStore) {
+        return new CustomerController(customerUseCase, customerJsonPresenter, idempotencyStore.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.api.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public IdempotencyStore idempotencyStore(CustomerApiProperties properties,
+                                             IdempotencyKeyJdbcRepository idempotencyKeyJdbcRepository,
+                                             MeterRegistry meterRegistry) {
+        CustomerApiProperties.Idempotency idempotency = properties.getIdempotency();
+        IdempotencyKeyRepository repository = idempotency.isShared()
+                ? new IdempotencyKeyRepositoryGateway(idempotencyKeyJdbcRepository)
+                : null;
+        IdempotencyStore store = new IdempotencyStore(idempotency.getStripes(), idempotency.getMaximumSize(),
+                idempotency.getExpireAfterWrite(), repository, idempotency.getLease(), idempotency.getPollInterval());
+        Gauge.builder("customers.idempotency.keys", store, IdempotencyStore::size)
+                .description("Chaves de idempotência em memória")
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.idempotency.executions", store, IdempotencyStore::executionCount)
+                .description("Cadastros executados com Idempotency-Key")
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.idempotency.replays", store, IdempotencyStore::replayCount)
+                .description("Repetições respondidas com o resultado da requisição original")
+                .register(meterRegistry);
+        return store;
+    }
+
+    // JSON das respostas de GET já serializado, invalidado a cada gravação do cliente
+    @Bean
+    public CustomerJsonPresenter customerJsonPresenter(ObjectMapper objectMapper,
+                                                       CustomerApiProperties properties,
+                                                       CustomerChangeBus customerChangeBus,
+                                                       MeterRegistry meterRegistry) {
+        CustomerApiProperties.ResponseCache responseCache = properties.getResponseCache();
+        if (!responseCache.isEnabled()) {
+            return new CustomerJsonPresenter(objectMapper);
+        }
+
+        Cache<UUID, CustomerJson> jsonById = buildCache(responseCache.getMaximumSize(), responseCache.getExpireAfterWrite());
+        Cache<String, CustomerJson> jsonByCpf = buildCache(responseCache.getMaximumSize(), responseCache.getExpireAfterWrite());
+        CaffeineCacheMetrics.monitor(meterRegistry, jsonById, "customers.json.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, jsonByCpf, "customers.json.by-cpf");
+        CachingCustomerJsonPresenter presenter = new CachingCustomerJsonPresenter(objectMapper, jsonById, jsonByCpf);
+        customerChangeBus.subscribe(presenter);
+        return presenter;
+    }
+
+    // Warm-up no start: a readiness só vira UP quando ele termina (ou o orçamento de tempo acaba)
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CustomerWarmUpRunner customerWarmUpRunner(CustomerController customerController,
+                                                     CustomerRepository customerRepository,
+                                                     CustomerJsonPresenter customerJsonPresenter,
+                                                     CustomerWarmUpProperties properties,
+                                                     MeterRegistry meterRegistry) {
+        IntFunction<Collection<UUID>> hottestIds = customerJsonPresenter instanceof CachingCustomerJsonPresenter caching
+                ? caching::hottestIds
+                : limit -> List.of();
+        CustomerWarmUpRunner runner = new CustomerWarmUpRunner(
+                new CustomerWarmUp(customerController, customerRepository), properties, hottestIds);
+
+        TimeGauge.builder("customers.warmup.duration", runner,
+                        TimeUnit.MILLISECONDS, r -> r.getLastReport() == null ? 0 : r.getLastReport().getDuration().toMillis())
+                .register(meterRegistry);
+        Gauge.builder("customers.warmup.loaded", runner,
+                        r -> r.getLastReport() == null ? 0 : r.getLastReport().getLoaded())
+                .register(meterRegistry);
+        Gauge.builder("customers.warmup.coverage", runner,
+                        r -> r.getLastReport() == null ? 0 : r.getLastReport().getCoverage())
+                .register(meterRegistry);
+        return runner;
+    }
+
+    // Cache read-through em memória (hit/miss/eviction expostos em /actuator/metrics)
+    private static CustomerRepository cachingRepository(CustomerRepository delegate,
+                                                        CustomerRepositoryProperties.Cache cache,
+                                                        MeterRegistry meterRegistry) {
+        Cache<UUID, Customer> customersById = buildCache(cache.getMaximumSize(), cache.getExpireAfterWrite());
+        Cache<String, Customer> customersByCpf = buildCache(cache.getMaximumSize(), cache.getExpireAfterWrite());
+        CaffeineCacheMetrics.monitor(meterRegistry, customersById, "customers.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, customersByCpf, "customers.by-cpf");
+        return new CachingCustomerRepository(delegate, customersById, customersByCpf);
+    }
+
+    // Bloom filter de CPFs cadastrados + cache negativo para responder ausências sem ir ao banco.
+    // Sem o barramento entre réplicas, CPFs gravados em outro pod viram 404: não sobe assim
+    private static CustomerRepository bloomFilterRepository(CustomerRepository delegate,
+                                                            CustomerRepositoryProperties.BloomFilter bloomFilter,
+                                                            CustomerChangeBus customerChangeBus,
+                                                            MeterRegistry meterRegistry) {
+        requireChangeNotifications(customerChangeBus, "customer.repository.bloom-filter.enabled");
+        CpfBloomFilter registeredCpfs = new CpfBloomFilter(
+                bloomFilter.getExpectedInsertions(), bloomFilter.getFalsePositiveProbability());
+        Cache<String, Boolean> absentCpfs = buildCache(
+                bloomFilter.getNegativeMaximumSize(), bloomFilter.getNegativeExpireAfterWrite());
+        CaffeineCacheMetrics.monitor(meterRegistry, absentCpfs, "customers.absent-cpf");
+
+        BloomFilterCustomerRepository repository =
+                new BloomFilterCustomerRepository(delegate, registeredCpfs, absentCpfs);
+        // Assina antes de carregar: CPFs gravados por outras réplicas durante a carga não se perdem
+        subscribe(customerChangeBus, repository);
+        repository.load();
+
+        Gauge.builder("customers.cpf.bloom.memory", registeredCpfs, CpfBloomFilter::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("customers.cpf.bloom.insertions", registeredCpfs, CpfBloomFilter::insertions)
+                .register(meterRegistry);
+        Gauge.builder("customers.cpf.bloom.fpp.expected", registeredCpfs, CpfBloomFilter::expectedFalsePositiveProbability)
+                .register(meterRegistry);
+        Gauge.builder("customers.cpf.bloom.fpp.observed", repository, BloomFilterCustomerRepository::observedFalsePositiveRate)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.cpf.bloom.absent", repository, BloomFilterCustomerRepository::definitelyAbsentCount)
+                .description("Consultas de CPF respondidas como ausentes sem acessar o banco")
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.cpf.bloom.false-positives", repository, BloomFilterCustomerRepository::falsePositiveCount)
+                .register(meterRegistry);
+        return repository;
+    }
+
+    private static CustomerRepository mappedRepository(CustomerRepository delegate,
+                                                       MappedCustomerStore store,
+                                                       MeterRegistry meterRegistry) {
+        MappedCustomerRepository repository = new MappedCustomerRepository(delegate, store);
+
+        Gauge.builder("customers.l2.size", store, MappedCustomerStore::size)
+                .register(meterRegistry);
+        Gauge.builder("customers.l2.capacity", store, MappedCustomerStore::capacity)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.l2.hits", repository, MappedCustomerRepository::hitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.l2.misses", repository, MappedCustomerRepository::missCount)
+                .register(meterRegistry);
+        return repository;
+    }
+
+    // Índice CPF -> ID em arrays primitivos: existsByCpf/findByCpf sem consulta por CPF
+    private static CustomerRepository cpfIndexRepository(CustomerRepository delegate,
+                                                         CustomerRepositoryProperties.CpfIndex cpfIndex,
+                                                         CustomerChangeBus customerChangeBus,
+                                                         MeterRegistry meterRegistry) {
+        requireChangeNotifications(customerChangeBus, "customer.repository.cpf-index.enabled");
+        CpfIndex index = new CpfIndex(cpfIndex.getExpectedSize());
+        CpfIndexCustomerRepository repository = new CpfIndexCustomerRepository(delegate, index);
+        // Assina antes de carregar, como o Bloom filter: ausências no índice viram 404
+        subscribe(customerChangeBus, repository);
+        repository.load();
+
+        Gauge.builder("customers.cpf.index.size", index, CpfIndex::size)
+                .register(meterRegistry);
+        Gauge.builder("customers.cpf.index.memory", index, CpfIndex::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        return repository;
+    }
+
+    private static CustomerRepository readModelRepository(CustomerRepository delegate,
+                                                          CustomerReadModel readModel,
+                                                          CustomerChangeBus customerChangeBus,
+                                                          MeterRegistry meterRegistry) {
+        requireChangeNotifications(customerChangeBus, "customer.repository.read-model.enabled");
+        ReadModelCustomerRepository repository = new ReadModelCustomerRepository(delegate, readModel);
+        // Assina antes de carregar: clientes gravados por outras réplicas durante a carga não se perdem
+        subscribe(customerChangeBus, repository);
+        long start = System.nanoTime();
+        repository.load();
+        log.info("Customer read model loaded with {} customers in {} ms",
+                readModel.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+
+        Gauge.builder("customers.read-model.size", readModel, CustomerReadModel::size)
+                .register(meterRegistry);
+        return repository;
+    }
+
+    private static void registerSingleFlightMetrics(MeterRegistry meterRegistry, String key, SingleFlight<?, ?> lookups) {
+        FunctionCounter.builder("customers.lookups.executed", lookups, SingleFlight::executionCount)
+                .tag("key", key)
+                .register(meterRegistry);
+        FunctionCounter.builder("customers.lookups.coalesced", lookups, SingleFlight::coalescedCount)
+                .description("Buscas atendidas pela consulta de outra requisição em andamento")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    // Um FunctionTimer por stripe: quantas aquisições esperaram pelo lock e o tempo total de espera
+    private static void registerLockMetrics(MeterRegistry meterRegistry, StripedLockCustomerUseCase striped) {
+        for (int i = 0; i < striped.stripeCount(); i++) {
+            int stripe = i;
+            FunctionTimer.builder("customers.registration.lock.contention", striped,
+                            useCase -> useCase.contendedCount(stripe),
+                            useCase -> useCase.waitNanos(stripe),
+                            TimeUnit.NANOSECONDS)
+                    .description("Cadastros que esperaram por outro cadastro no mesmo stripe")
+                    .tag("stripe", Integer.toString(stripe))
+                    .register(meterRegistry);
+        }
+    }
+
+    // Cadastros já responderam 202: um spill que some com o container é perda de dados no próximo deploy
+    static void requirePersistentSpillDirectory(Path spillDirectory) {
+        if (spillDirectory == null) {
+            throw new IllegalStateException("customer.use-case.write-behind.spill-directory is required when write-behind is enabled");
+        }
+        Path normalized = spillDirectory.toAbsolutePath().normalize();
+        Path tmpDir = Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize();
+        if (normalized.startsWith(tmpDir) || normalized.startsWith(Path.of("/tmp"))) {
+            throw new IllegalStateException("customer.use-case.write-behind.spill-directory must be on a persistent volume, not "
+                    + spillDirectory);
+        }
+    }
+
+    // Sem LISTEN, o que outra réplica grava nunca chega a quem responde ausências pela memória
+    private static void requireChangeNotifications(CustomerChangeBus customerChangeBus, String property) {
+        if (!(customerChangeBus instanceof PostgresCustomerChangeBus)) {
+            throw new IllegalStateException(property + "=true requires customer.repository.change-notifications.enabled=true");
+        }
+    }
+
+    private static CustomerRepository subscribe(CustomerChangeBus customerChangeBus, CustomerRepository repository) {
+        if (repository instanceof CustomerChangeListener listener) {
+            customerChangeBus.subscribeRemote(listener);
+        }
+        return repository;
+    }
+
+    private static <K, V> Cache<K, V> buildCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
     }
 
 }
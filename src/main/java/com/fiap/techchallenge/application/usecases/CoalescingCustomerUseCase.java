@@ -0,0 +1,83 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decorator de {@link CustomerUseCase} que coalesce buscas concorrentes pela mesma chave:
+ * N requisições simultâneas pelo mesmo CPF (ou ID) resultam em uma única consulta.
+ */
+public class CoalescingCustomerUseCase implements CustomerUseCase {
+
+    private final CustomerUseCase delegate;
+    private final SingleFlight<String, Optional<Customer>> cpfLookups = new SingleFlight<>();
+    private final SingleFlight<UUID, Optional<Customer>> idLookups = new SingleFlight<>();
+
+    public CoalescingCustomerUseCase(CustomerUseCase delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Customer registerCustomer(String name, String email, String cpf) {
+        return delegate.registerCustomer(name, email, cpf);
+    }
+
+    @Override
+    public List<CustomerRegistrationResult> registerCustomers(List<CustomerRegistration> registrations) {
+        return delegate.registerCustomers(registrations);
+    }
+
+    @Override
+    public Customer findOrRegister(String name, String email, String cpf) {
+        return delegate.findOrRegister(name, email, cpf);
+    }
+
+    @Override
+    public Optional<Customer> findCustomerByCpf(String cpf) {
+        return cpfLookups.execute(cpf, () -> delegate.findCustomerByCpf(cpf));
+    }
+
+    @Override
+    public CustomerLookupResult findCustomers(List<String> ids, List<String> cpfs) {
+        return delegate.findCustomers(ids, cpfs);
+    }
+
+    @Override
+    public Optional<Customer> findCustomerById(UUID id) {
+        return idLookups.execute(id, () -> delegate.findCustomerById(id));
+    }
+
+    @Override
+    public List<Customer> findCustomerAll() {
+        return delegate.findCustomerAll();
+    }
+
+    @Override
+    public CustomerPage findCustomerPage(String cursor, int limit) {
+        return delegate.findCustomerPage(cursor, limit);
+    }
+
+    @Override
+    public CustomerProjectionPage findCustomerPage(String cursor, int limit, Set<CustomerField> fields) {
+        return delegate.findCustomerPage(cursor, limit, fields);
+    }
+
+    @Override
+    public void exportCustomers(Consumer<Customer> action) {
+        delegate.exportCustomers(action);
+    }
+
+    public SingleFlight<String, Optional<Customer>> cpfLookups() {
+        return cpfLookups;
+    }
+
+    public SingleFlight<UUID, Optional<Customer>> idLookups() {
+        return idLookups;
+    }
+}
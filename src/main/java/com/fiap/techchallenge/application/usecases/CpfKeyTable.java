@@ -0,0 +1,111 @@
+package com.fiap.techchallenge.application.usecases;
+
+/**
+ * Tabela de CPFs em endereçamento aberto com sondagem linear sobre um {@code long[]}.
+ * <p>
+ * Só guarda as chaves: quem precisa associar valores (o índice CPF -> ID do cache) mantém
+ * arrays paralelos indexados pelo slot. A capacidade é fixa e potência de dois; crescer é
+ * criar uma tabela maior e reinserir. Não é thread-safe.
+ * </p>
+ */
+public final class CpfKeyTable {
+
+    /** Chave reservada para slot vazio: "00000000000" nunca é um CPF válido. */
+    public static final long EMPTY = 0L;
+    public static final long INVALID_CPF = -1L;
+
+    private static final int CPF_LENGTH = 11;
+
+    private final long[] keys;
+
+    public CpfKeyTable(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.keys = new long[capacity];
+    }
+
+    /**
+     * Converte um CPF de exatamente 11 dígitos em {@code long}, sem regex nem alocação.
+     * Retorna {@link #INVALID_CPF} para qualquer outra entrada.
+     */
+    public static long toKey(String cpf) {
+        if (cpf == null || cpf.length() != CPF_LENGTH) {
+            return INVALID_CPF;
+        }
+        long key = 0;
+        for (int i = 0; i < CPF_LENGTH; i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID_CPF;
+            }
+            key = key * 10 + (c - '0');
+        }
+        return key == EMPTY ? INVALID_CPF : key;
+    }
+
+    /**
+     * Menor capacidade (potência de dois, mínimo 16) que comporta {@code expectedSize}
+     * chaves sem passar de {@code maxLoadFactor}.
+     */
+    public static int tableSizeFor(int expectedSize, double maxLoadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / maxLoadFactor);
+        int capacity = Integer.highestOneBit((int) Math.min(needed, 1 << 30));
+        return Math.max(16, capacity < needed ? capacity << 1 : capacity);
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * @return o slot do CPF, ou {@code -1} se ele não estiver na tabela
+     */
+    public int find(long key) {
+        int mask = keys.length - 1;
+        int slot = spread(key) & mask;
+        // Limita a sondagem ao tamanho da tabela: uma leitura otimista inconsistente não pode entrar em loop
+        for (int probes = 0; probes < keys.length; probes++) {
+            long current = keys[slot];
+            if (current == EMPTY) {
+                return -1;
+            }
+            if (current == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Ocupa um slot para o CPF; a tabela precisa ter ao menos um slot livre.
+     *
+     * @return o slot novo, ou {@code -(slot + 1)} se o CPF já estava na tabela
+     */
+    public int insert(long key) {
+        if (key <= EMPTY) {
+            throw new IllegalArgumentException("Invalid CPF key: " + key);
+        }
+        int mask = keys.length - 1;
+        int slot = spread(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return -(slot + 1);
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        return slot;
+    }
+
+    // CPFs sequenciais caem em slots vizinhos sem o mix; com ele a sondagem linear fica curta
+    private static int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,48 @@
+package com.fiap.techchallenge.application.usecases;
+
+/**
+ * Conjunto de CPFs (11 dígitos, já validados) sobre uma {@link CpfKeyTable}: cerca de
+ * 16 bytes por CPF, o que permite deduplicar alguns milhões de linhas em memória.
+ * Não é thread-safe.
+ */
+final class CpfSet {
+
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    private CpfKeyTable table;
+    private int size;
+
+    CpfSet(int expectedSize) {
+        table = new CpfKeyTable(CpfKeyTable.tableSizeFor(expectedSize, MAX_LOAD_FACTOR));
+    }
+
+    /**
+     * @return {@code false} se o CPF já estava no conjunto
+     */
+    boolean add(String cpf) {
+        long key = CpfKeyTable.toKey(cpf);
+        if (size + 1 > table.capacity() * MAX_LOAD_FACTOR) {
+            resize(table.capacity() << 1);
+        }
+        if (table.insert(key) >= 0) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        CpfKeyTable resized = new CpfKeyTable(capacity);
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            long key = table.keyAt(slot);
+            if (key != CpfKeyTable.EMPTY) {
+                resized.insert(key);
+            }
+        }
+        table = resized;
+    }
+}
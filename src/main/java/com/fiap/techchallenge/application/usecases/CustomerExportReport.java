@@ -0,0 +1,96 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado de uma exportação particionada: o total e, por partição, a faixa de IDs lida,
+ * quantos clientes ela tinha e a vazão. Partições bem mais lentas que as outras indicam
+ * faixas desequilibradas; vazão por partição caindo quando o número de partições sobe
+ * indica que o banco, e não o pool, é o limite.
+ */
+public final class CustomerExportReport {
+
+    private final int parallelism;
+    private final Duration elapsed;
+    private final List<Partition> partitions;
+
+    CustomerExportReport(int parallelism, Duration elapsed, List<Partition> partitions) {
+        this.parallelism = parallelism;
+        this.elapsed = elapsed;
+        this.partitions = List.copyOf(partitions);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getRows() {
+        long rows = 0;
+        for (Partition partition : partitions) {
+            rows += partition.getRows();
+        }
+        return rows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsed.toMillis();
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond(getRows(), elapsed);
+    }
+
+    public List<Partition> getPartitions() {
+        return partitions;
+    }
+
+    private static long rowsPerSecond(long rows, Duration elapsed) {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? rows : rows * 1_000 / millis;
+    }
+
+    public static final class Partition {
+
+        private final int index;
+        private final UUID from;
+        private final UUID to;
+        private final long rows;
+        private final Duration elapsed;
+
+        Partition(int index, UUID from, UUID to, long rows, Duration elapsed) {
+            this.index = index;
+            this.from = from;
+            this.to = to;
+            this.rows = rows;
+            this.elapsed = elapsed;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        // null na primeira partição: a faixa começa no início
+        public UUID getFrom() {
+            return from;
+        }
+
+        // null na última partição: a faixa vai até o fim
+        public UUID getTo() {
+            return to;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getElapsedMillis() {
+            return elapsed.toMillis();
+        }
+
+        public long getRowsPerSecond() {
+            return rowsPerSecond(rows, elapsed);
+        }
+    }
+}
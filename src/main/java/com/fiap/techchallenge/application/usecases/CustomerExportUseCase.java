@@ -0,0 +1,27 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+public interface CustomerExportUseCase {
+
+    /**
+     * Exporta a base inteira dividindo o espaço de IDs em {@code partitions} faixas, lidas em
+     * paralelo (cada uma numa conexão) por um pool de tamanho fixo.
+     *
+     * @param sinks abre o destino de cada partição; cada destino é usado por uma única thread
+     * @return as contagens e a vazão de cada partição
+     * @throws com.fiap.techchallenge.domain.exception.DomainException se o número de partições é inválido
+     */
+    CustomerExportReport exportCustomers(int partitions, IntFunction<PartitionSink> sinks);
+
+    /**
+     * Destino dos clientes de uma partição. {@link #finish()} é chamado uma vez, depois do último cliente.
+     */
+    interface PartitionSink extends Consumer<Customer> {
+
+        void finish();
+    }
+}
@@ -0,0 +1,154 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.repositories.CustomerExportSource;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+/**
+ * Exportação particionada: o intervalo entre o menor e o maior ID é dividido em faixas de
+ * mesma largura (em ordem de bytes, a mesma do índice da PK), e cada faixa vira uma tarefa
+ * no pool. Com mais partições que threads, as faixas mais cheias não seguram a exportação:
+ * quem termina antes pega a próxima.
+ * <p>
+ * A largura igual só distribui bem os clientes quando os IDs se espalham pelo intervalo: é o
+ * caso do UUID aleatório e, aproximadamente, do UUIDv7 de uma base com cadastros contínuos.
+ * O relatório traz as linhas e a vazão de cada partição para mostrar o desequilíbrio.
+ * </p>
+ */
+public class CustomerExportUseCaseImpl implements CustomerExportUseCase {
+
+    static final int MAX_PARTITIONS = 1_024;
+
+    private final CustomerExportSource source;
+    private final ExecutorService pool;
+    private final int parallelism;
+
+    /**
+     * @param pool        pool de tamanho fixo; cada thread ocupa uma conexão enquanto lê a sua faixa
+     * @param parallelism tamanho do pool, só para o relatório
+     */
+    public CustomerExportUseCaseImpl(CustomerExportSource source, ExecutorService pool, int parallelism) {
+        this.source = source;
+        this.pool = pool;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public CustomerExportReport exportCustomers(int partitions, IntFunction<PartitionSink> sinks) {
+        if (partitions < 1 || partitions > MAX_PARTITIONS) {
+            throw new DomainException("Partitions must be between 1 and " + MAX_PARTITIONS);
+        }
+        long start = System.nanoTime();
+        List<UUID> bounds = bounds(source.findFirstId(), source.findLastId(), partitions);
+        AtomicBoolean aborted = new AtomicBoolean();
+        CompletionService<CustomerExportReport.Partition> completion = new ExecutorCompletionService<>(pool);
+        List<Future<CustomerExportReport.Partition>> tasks = new ArrayList<>(bounds.size() - 1);
+        for (int i = 0; i < bounds.size() - 1; i++) {
+            int index = i;
+            UUID from = bounds.get(i);
+            UUID to = bounds.get(i + 1);
+            tasks.add(completion.submit(() -> scan(index, from, to, sinks, aborted)));
+        }
+
+        // Na ordem em que terminam: a primeira falha aborta as demais sem esperar as partições anteriores
+        List<CustomerExportReport.Partition> results = new ArrayList<>(tasks.size());
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                results.add(completion.take().get());
+            }
+        } catch (ExecutionException e) {
+            abort(aborted, tasks);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Customer export failed", e.getCause());
+        } catch (InterruptedException e) {
+            abort(aborted, tasks);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Customer export interrupted", e);
+        }
+        results.sort(Comparator.comparingInt(CustomerExportReport.Partition::getIndex));
+        return new CustomerExportReport(parallelism, Duration.ofNanos(System.nanoTime() - start), results);
+    }
+
+    private CustomerExportReport.Partition scan(int index, UUID from, UUID to, IntFunction<PartitionSink> sinks,
+                                                AtomicBoolean aborted) {
+        long start = System.nanoTime();
+        long[] rows = {0};
+        PartitionSink sink = sinks.apply(index);
+        // Com outra partição já falhando, interrompe o cursor em vez de ler a faixa até o fim
+        source.forEachInRange(from, to, customer -> {
+            if (aborted.get()) {
+                throw new CancellationException("Customer export aborted");
+            }
+            sink.accept(customer);
+            rows[0]++;
+        });
+        sink.finish();
+        return new CustomerExportReport.Partition(index, from, to, rows[0], Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static void abort(AtomicBoolean aborted, List<? extends Future<?>> tasks) {
+        aborted.set(true);
+        for (Future<?> task : tasks) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Limites das faixas: a partição {@code i} vai de {@code bounds[i]} (inclusive) a {@code bounds[i + 1]}
+     * (exclusive). O primeiro e o último são {@code null}, para não perder quem for cadastrado
+     * fora do intervalo durante a exportação. Faixas que ficariam vazias (menos IDs que partições) são descartadas.
+     */
+    static List<UUID> bounds(Optional<UUID> first, Optional<UUID> last, int partitions) {
+        List<UUID> bounds = new ArrayList<>(partitions + 1);
+        bounds.add(null);
+        if (first.isPresent() && last.isPresent()) {
+            BigInteger low = unsigned(first.get());
+            BigInteger span = unsigned(last.get()).subtract(low).add(BigInteger.ONE);
+            BigInteger count = BigInteger.valueOf(partitions);
+            BigInteger previous = low;
+            for (int i = 1; i < partitions; i++) {
+                BigInteger bound = low.add(span.multiply(BigInteger.valueOf(i)).divide(count));
+                if (bound.compareTo(previous) > 0) {
+                    bounds.add(uuid(bound));
+                    previous = bound;
+                }
+            }
+        }
+        bounds.add(null);
+        return bounds;
+    }
+
+    // Sem sinal, como o PostgreSQL (e o H2) ordenam UUIDs; UUID.compareTo compara com sinal
+    private static BigInteger unsigned(UUID id) {
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+        return new BigInteger(1, bytes);
+    }
+
+    private static UUID uuid(BigInteger value) {
+        return new UUID(value.shiftRight(64).longValue(), value.longValue());
+    }
+}
@@ -0,0 +1,17 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.util.UUID;
+
+/**
+ * Gera o ID de cada cliente novo.
+ */
+@FunctionalInterface
+public interface CustomerIdGenerator {
+
+    /**
+     * UUID v4 do {@link UUID#randomUUID()}: aleatório, via {@code SecureRandom} compartilhado.
+     */
+    CustomerIdGenerator RANDOM = UUID::randomUUID;
+
+    UUID nextId();
+}
@@ -0,0 +1,98 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Situação de uma importação: parcial enquanto ela roda (progresso) e final ao terminar.
+ * <p>
+ * {@code rejected} conta todas as linhas descartadas (ilegíveis, inválidas ou com CPF repetido
+ * no arquivo); {@code rejections} traz só as primeiras, para a resposta não crescer com o arquivo.
+ * </p>
+ */
+public final class CustomerImportReport {
+
+    private final UUID importId;
+    private final boolean finished;
+    private final long read;
+    private final long rejected;
+    private final long staged;
+    private final long inserted;
+    private final long alreadyRegistered;
+    private final Duration elapsed;
+    private final List<Rejection> rejections;
+
+    CustomerImportReport(UUID importId, boolean finished, long read, long rejected, long staged,
+                         long inserted, long alreadyRegistered, Duration elapsed, List<Rejection> rejections) {
+        this.importId = importId;
+        this.finished = finished;
+        this.read = read;
+        this.rejected = rejected;
+        this.staged = staged;
+        this.inserted = inserted;
+        this.alreadyRegistered = alreadyRegistered;
+        this.elapsed = elapsed;
+        this.rejections = List.copyOf(rejections);
+    }
+
+    public UUID getImportId() {
+        return importId;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public long getRead() {
+        return read;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getStaged() {
+        return staged;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public long getAlreadyRegistered() {
+        return alreadyRegistered;
+    }
+
+    public long getElapsedMillis() {
+        return elapsed.toMillis();
+    }
+
+    public long getRowsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? read : read * 1_000 / millis;
+    }
+
+    public List<Rejection> getRejections() {
+        return rejections;
+    }
+
+    public static final class Rejection {
+
+        private final long line;
+        private final String reason;
+
+        Rejection(long line, String reason) {
+            this.line = line;
+            this.reason = reason;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
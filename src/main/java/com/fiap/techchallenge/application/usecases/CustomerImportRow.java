@@ -0,0 +1,37 @@
+package com.fiap.techchallenge.application.usecases;
+
+/**
+ * Uma linha do arquivo de importação: os dados lidos ou, se a linha nem pôde ser lida, o erro.
+ */
+public final class CustomerImportRow {
+
+    private final long line;
+    private final CustomerRegistration registration;
+    private final String error;
+
+    private CustomerImportRow(long line, CustomerRegistration registration, String error) {
+        this.line = line;
+        this.registration = registration;
+        this.error = error;
+    }
+
+    public static CustomerImportRow of(long line, CustomerRegistration registration) {
+        return new CustomerImportRow(line, registration, null);
+    }
+
+    public static CustomerImportRow unreadable(long line, String error) {
+        return new CustomerImportRow(line, null, error);
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public CustomerRegistration getRegistration() {
+        return registration;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface CustomerImportUseCase {
+
+    /**
+     * Importa as linhas na ordem em que chegam, sem carregar o arquivo inteiro em memória.
+     *
+     * @param progress recebe um relatório parcial a cada bloco gravado no staging
+     * @return o relatório final
+     */
+    CustomerImportReport importCustomers(Iterator<CustomerImportRow> rows, Consumer<CustomerImportReport> progress);
+}
@@ -0,0 +1,153 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.exception.InvalidCpfException;
+import com.fiap.techchallenge.domain.exception.InvalidEmailException;
+import com.fiap.techchallenge.domain.repositories.CustomerBulkLoader;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Importação em massa: lê as linhas em blocos, valida cada bloco em paralelo no
+ * {@link ForkJoinPool} com as mesmas regras do {@link Customer}, descarta CPFs repetidos no
+ * arquivo e grava o bloco no staging do {@link CustomerBulkLoader}. No fim, um único merge
+ * leva tudo para a base; CPFs que já estavam cadastrados são contados, não rejeitados linha a linha.
+ */
+public class CustomerImportUseCaseImpl implements CustomerImportUseCase {
+
+    private final CustomerBulkLoader bulkLoader;
+    private final ForkJoinPool validationPool;
+    private final int chunkSize;
+    private final int maxRejectionsReported;
+    private final CustomerIdGenerator idGenerator;
+
+    public CustomerImportUseCaseImpl(CustomerBulkLoader bulkLoader,
+                                     ForkJoinPool validationPool,
+                                     int chunkSize,
+                                     int maxRejectionsReported) {
+        this(bulkLoader, validationPool, chunkSize, maxRejectionsReported, CustomerIdGenerator.RANDOM);
+    }
+
+    public CustomerImportUseCaseImpl(CustomerBulkLoader bulkLoader,
+                                     ForkJoinPool validationPool,
+                                     int chunkSize,
+                                     int maxRejectionsReported,
+                                     CustomerIdGenerator idGenerator) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.bulkLoader = bulkLoader;
+        this.validationPool = validationPool;
+        this.chunkSize = chunkSize;
+        this.maxRejectionsReported = maxRejectionsReported;
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public CustomerImportReport importCustomers(Iterator<CustomerImportRow> rows, Consumer<CustomerImportReport> progress) {
+        Run run = new Run();
+        try {
+            List<CustomerImportRow> chunk = new ArrayList<>(chunkSize);
+            while (rows.hasNext()) {
+                chunk.add(rows.next());
+                if (chunk.size() == chunkSize) {
+                    stage(run, chunk);
+                    chunk.clear();
+                    progress.accept(run.report(false));
+                }
+            }
+            if (!chunk.isEmpty()) {
+                stage(run, chunk);
+                progress.accept(run.report(false));
+            }
+            if (run.staged > 0) {
+                run.inserted = bulkLoader.merge(run.importId);
+            }
+        } catch (RuntimeException | Error e) {
+            discardQuietly(run.importId, e);
+            throw e;
+        }
+        return run.report(true);
+    }
+
+    private void stage(Run run, List<CustomerImportRow> chunk) {
+        Object[] validated = new Object[chunk.size()];
+        validationPool.submit(() -> IntStream.range(0, validated.length).parallel()
+                .forEach(i -> validated[i] = validate(chunk.get(i)))).join();
+
+        List<Customer> customers = new ArrayList<>(validated.length);
+        for (int i = 0; i < validated.length; i++) {
+            long line = chunk.get(i).getLine();
+            run.read++;
+            if (validated[i] instanceof Customer customer) {
+                if (run.seenCpfs.add(customer.getCpf())) {
+                    customers.add(customer);
+                } else {
+                    run.reject(line, "CPF " + customer.getCpf() + " is repeated in the file");
+                }
+            } else {
+                run.reject(line, (String) validated[i]);
+            }
+        }
+        if (!customers.isEmpty()) {
+            bulkLoader.stage(run.importId, customers);
+            run.staged += customers.size();
+        }
+    }
+
+    // Customer ou a mensagem de erro da linha
+    private Object validate(CustomerImportRow row) {
+        if (row.getError() != null) {
+            return row.getError();
+        }
+        CustomerRegistration registration = row.getRegistration();
+        try {
+            return Customer.builder()
+                    .id(idGenerator.nextId())
+                    .name(registration.getName())
+                    .email(registration.getEmail())
+                    .cpf(registration.getCpf())
+                    .build();
+        } catch (IllegalArgumentException | InvalidCpfException | InvalidEmailException e) {
+            return e.getMessage();
+        }
+    }
+
+    private void discardQuietly(UUID importId, Throwable cause) {
+        try {
+            bulkLoader.discard(importId);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private final class Run {
+        private final UUID importId = UUID.randomUUID();
+        private final long start = System.nanoTime();
+        private final CpfSet seenCpfs = new CpfSet(chunkSize);
+        private final List<CustomerImportReport.Rejection> rejections = new ArrayList<>();
+        private long read;
+        private long rejected;
+        private long staged;
+        private long inserted;
+
+        private void reject(long line, String reason) {
+            rejected++;
+            if (rejections.size() < maxRejectionsReported) {
+                rejections.add(new CustomerImportReport.Rejection(line, reason));
+            }
+        }
+
+        private CustomerImportReport report(boolean finished) {
+            return new CustomerImportReport(importId, finished, read, rejected, staged, inserted,
+                    finished ? staged - inserted : 0, Duration.ofNanos(System.nanoTime() - start), rejections);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+
+import java.util.List;
+
+/**
+ * Resultado de uma busca de vários clientes de uma vez: os encontrados, sem repetição, e as
+ * chaves que não correspondem a nenhum cliente, do jeito que foram pedidas.
+ */
+public final class CustomerLookupResult {
+
+    private final List<Customer> items;
+    private final List<String> missingIds;
+    private final List<String> missingCpfs;
+
+    public CustomerLookupResult(List<Customer> items, List<String> missingIds, List<String> missingCpfs) {
+        this.items = List.copyOf(items);
+        this.missingIds = List.copyOf(missingIds);
+        this.missingCpfs = List.copyOf(missingCpfs);
+    }
+
+    public List<Customer> getItems() {
+        return items;
+    }
+
+    public List<String> getMissingIds() {
+        return missingIds;
+    }
+
+    public List<String> getMissingCpfs() {
+        return missingCpfs;
+    }
+}
@@ -0,0 +1,31 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+
+import java.util.List;
+
+/**
+ * Uma página da listagem de clientes, em ordem de ID.
+ * <p>
+ * {@code nextCursor} é opaco para o cliente da API: basta devolvê-lo para ler a página
+ * seguinte. Vem {@code null} na última página.
+ * </p>
+ */
+public final class CustomerPage {
+
+    private final List<Customer> items;
+    private final String nextCursor;
+
+    public CustomerPage(List<Customer> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Customer> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
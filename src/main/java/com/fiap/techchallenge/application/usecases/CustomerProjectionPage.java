@@ -0,0 +1,27 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uma página da listagem só com os campos pedidos ({@code fields=}): cada item é um mapa
+ * nome do campo → valor, serializado como está. O cursor funciona como o de {@link CustomerPage}.
+ */
+public final class CustomerProjectionPage {
+
+    private final List<Map<String, Object>> items;
+    private final String nextCursor;
+
+    public CustomerProjectionPage(List<Map<String, Object>> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Map<String, Object>> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.fiap.techchallenge.application.usecases;
+
+/**
+ * Dados de um cadastro, como chegam da API, ainda sem validação.
+ */
+public final class CustomerRegistration {
+
+    private final String name;
+    private final String email;
+    private final String cpf;
+
+    public CustomerRegistration(String name, String email, String cpf) {
+        this.name = name;
+        this.email = email;
+        this.cpf = cpf;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getCpf() {
+        return cpf;
+    }
+}
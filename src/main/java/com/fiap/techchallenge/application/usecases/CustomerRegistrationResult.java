@@ -0,0 +1,55 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+
+/**
+ * Resultado de um item de um cadastro em lote, na mesma posição em que ele veio.
+ */
+public final class CustomerRegistrationResult {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    private final int index;
+    private final Status status;
+    private final Customer customer;
+    private final String error;
+
+    private CustomerRegistrationResult(int index, Status status, Customer customer, String error) {
+        this.index = index;
+        this.status = status;
+        this.customer = customer;
+        this.error = error;
+    }
+
+    public static CustomerRegistrationResult created(int index, Customer customer) {
+        return new CustomerRegistrationResult(index, Status.CREATED, customer, null);
+    }
+
+    public static CustomerRegistrationResult duplicate(int index, String error) {
+        return new CustomerRegistrationResult(index, Status.DUPLICATE, null, error);
+    }
+
+    public static CustomerRegistrationResult invalid(int index, String error) {
+        return new CustomerRegistrationResult(index, Status.INVALID, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,42 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.util.UUID;
+
+/**
+ * Situação de um cadastro assíncrono, consultada pelo ID devolvido no {@code 202 Accepted}.
+ */
+public final class CustomerRegistrationStatus {
+
+    public enum Status {
+        PENDING,
+        CREATED,
+        REJECTED,
+        UNKNOWN
+    }
+
+    private final UUID id;
+    private final Status status;
+    private final String error;
+
+    CustomerRegistrationStatus(UUID id, Status status, String error) {
+        this.id = id;
+        this.status = status;
+        this.error = error;
+    }
+
+    public static CustomerRegistrationStatus pending(UUID id) {
+        return new CustomerRegistrationStatus(id, Status.PENDING, null);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
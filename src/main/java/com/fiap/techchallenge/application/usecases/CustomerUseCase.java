@@ -1,14 +1,58 @@
 package com.fiap.techchallenge.application.usecases;
 
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CustomerUseCase {
     Customer registerCustomer(String name, String email, String cpf);
+
+    /**
+     * Cadastra vários clientes de uma vez; um item inválido ou duplicado não impede os demais.
+     *
+     * @return um resultado por item, na ordem recebida
+     */
+    List<CustomerRegistrationResult> registerCustomers(List<CustomerRegistration> registrations);
+
+    /**
+     * Devolve o cliente com o CPF informado, cadastrando-o antes se ainda não existir.
+     * Nome e e-mail só são usados no cadastro; um cliente existente volta como está.
+     */
+    Customer findOrRegister(String name, String email, String cpf);
     Optional<Customer> findCustomerByCpf(String cpf);
+
+    /**
+     * Busca vários clientes de uma vez, por ID e/ou por CPF. Chaves malformadas ou sem cliente
+     * voltam como ausentes, sem derrubar as demais.
+     *
+     * @throws com.fiap.techchallenge.domain.exception.DomainException se não há nenhuma chave ou há chaves demais
+     */
+    CustomerLookupResult findCustomers(List<String> ids, List<String> cpfs);
     Optional<Customer> findCustomerById(UUID id);
     List<Customer> findCustomerAll();
+
+    /**
+     * Lista os clientes em páginas, em ordem de ID.
+     *
+     * @param cursor o {@link CustomerPage#getNextCursor()} da página anterior; {@code null} para a primeira
+     * @param limit  tamanho da página, limitado a um máximo fixo
+     * @throws com.fiap.techchallenge.domain.exception.DomainException se o cursor ou o limite são inválidos
+     */
+    CustomerPage findCustomerPage(String cursor, int limit);
+
+    /**
+     * A mesma listagem só com os campos pedidos, lidos direto das colunas. O ID vem sempre.
+     */
+    CustomerProjectionPage findCustomerPage(String cursor, int limit, Set<CustomerField> fields);
+
+    /**
+     * Entrega todos os clientes, um por vez, direto do cursor do banco: a memória usada
+     * não cresce com o tamanho da base.
+     */
+    void exportCustomers(Consumer<Customer> action);
 }
@@ -1,32 +1,57 @@
 package com.fiap.techchallenge.application.usecases;
 
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
 import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.exception.InvalidCpfException;
+import com.fiap.techchallenge.domain.exception.InvalidEmailException;
 import com.fiap.techchallenge.domain.exception.NotFoundException;
 import com.fiap.techchallenge.domain.repositories.CustomerRepository;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 public class CustomerUseCaseImpl implements CustomerUseCase {
 
     private static final String RECORD_NOT_FOUND_MESSAGE = "Record not found";
 
+    static final int MAX_BATCH_SIZE = 1_000;
+    static final int MAX_PAGE_SIZE = 1_000;
+    // Abaixo disso a validação sequencial sai mais barata que dividir o trabalho no ForkJoinPool
+    static final int PARALLEL_VALIDATION_THRESHOLD = 64;
+
     private final CustomerRepository customerRepository;
+    private final CustomerIdGenerator idGenerator;
 
     public CustomerUseCaseImpl(CustomerRepository customerRepository) {
+        this(customerRepository, CustomerIdGenerator.RANDOM);
+    }
+
+    public CustomerUseCaseImpl(CustomerRepository customerRepository, CustomerIdGenerator idGenerator) {
         this.customerRepository = customerRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Override
     public Customer registerCustomer(String name, String email, String cpf) {
-        if (customerRepository.existsByCpf(cpf)) {
-            throw new DomainException("Customer with CPF " + cpf + " already exists");
-        }
-
+        // CPF duplicado é rejeitado pelo próprio save (DomainException), em um único comando
         Customer customer = Customer.builder()
-                .id(UUID.randomUUID())
+                .id(idGenerator.nextId())
                 .name(name)
                 .email(email)
                 .cpf(cpf)
@@ -35,6 +60,80 @@ public class CustomerUseCaseImpl implements CustomerUseCase {
         return customerRepository.save(customer);
     }
 
+    // Um único comando no banco, em vez de GET por CPF seguido de POST
+    @Override
+    public Customer findOrRegister(String name, String email, String cpf) {
+        Customer customer = Customer.builder()
+                .id(idGenerator.nextId())
+                .name(name)
+                .email(email)
+                .cpf(cpf)
+                .build();
+
+        return customerRepository.saveIfAbsent(customer);
+    }
+
+    /**
+     * Valida tudo antes de gravar, consulta os CPFs existentes numa única ida ao banco e
+     * insere o restante num único lote. CPF repetido dentro do próprio lote vale só na primeira ocorrência.
+     */
+    @Override
+    public List<CustomerRegistrationResult> registerCustomers(List<CustomerRegistration> registrations) {
+        if (registrations == null || registrations.isEmpty() || registrations.size() > MAX_BATCH_SIZE) {
+            throw new DomainException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " customers");
+        }
+
+        int size = registrations.size();
+        CustomerRegistrationResult[] results = new CustomerRegistrationResult[size];
+        Customer[] customers = new Customer[size];
+        IntStream indexes = IntStream.range(0, size);
+        if (size >= PARALLEL_VALIDATION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                customers[i] = toCustomer(registrations.get(i));
+            } catch (IllegalArgumentException | InvalidCpfException | InvalidEmailException e) {
+                results[i] = CustomerRegistrationResult.invalid(i, e.getMessage());
+            }
+        });
+
+        Map<String, Integer> firstByCpf = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (customers[i] != null && firstByCpf.putIfAbsent(customers[i].getCpf(), i) != null) {
+                results[i] = CustomerRegistrationResult.duplicate(i, "CPF " + customers[i].getCpf() + " is repeated in the batch");
+                customers[i] = null;
+            }
+        }
+
+        Set<String> existing = firstByCpf.isEmpty() ? Set.of() : customerRepository.findExistingCpfs(firstByCpf.keySet());
+        List<Customer> pending = new ArrayList<>(firstByCpf.size());
+        for (int i = 0; i < size; i++) {
+            if (customers[i] == null) {
+                continue;
+            }
+            if (existing.contains(customers[i].getCpf())) {
+                results[i] = CustomerRegistrationResult.duplicate(i, duplicateMessage(customers[i].getCpf()));
+            } else {
+                pending.add(customers[i]);
+            }
+        }
+
+        Set<UUID> saved = new HashSet<>();
+        if (!pending.isEmpty()) {
+            customerRepository.saveAll(pending).forEach(customer -> saved.add(customer.getId()));
+        }
+        for (int i = 0; i < size; i++) {
+            if (results[i] == null) {
+                // Fora do retorno: outro cadastro levou o CPF entre a consulta e o INSERT
+                results[i] = saved.contains(customers[i].getId())
+                        ? CustomerRegistrationResult.created(i, customers[i])
+                        : CustomerRegistrationResult.duplicate(i, duplicateMessage(customers[i].getCpf()));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
     @Override
     public Optional<Customer> findCustomerByCpf(String cpf) {
         Optional<Customer> customer = customerRepository.findByCpf(cpf);
@@ -44,6 +143,62 @@ public class CustomerUseCaseImpl implements CustomerUseCase {
         return customer;
     }
 
+    // Uma consulta por tipo de chave (no máximo duas no total), em vez de uma busca por cliente
+    @Override
+    public CustomerLookupResult findCustomers(List<String> ids, List<String> cpfs) {
+        List<String> requestedIds = ids == null ? List.of() : ids;
+        List<String> requestedCpfs = cpfs == null ? List.of() : cpfs;
+        int keys = requestedIds.size() + requestedCpfs.size();
+        if (keys == 0 || keys > MAX_BATCH_SIZE) {
+            throw new DomainException("Lookup must contain between 1 and " + MAX_BATCH_SIZE + " ids and CPFs");
+        }
+
+        Map<String, UUID> idsByKey = new LinkedHashMap<>();
+        for (String key : requestedIds) {
+            if (key != null) {
+                idsByKey.put(key, parseId(key));
+            }
+        }
+        Map<String, String> cpfsByKey = new LinkedHashMap<>();
+        for (String key : requestedCpfs) {
+            if (key != null) {
+                cpfsByKey.put(key, normalizeCpf(key));
+            }
+        }
+        Map<UUID, Customer> byId = new HashMap<>();
+        Set<UUID> lookupIds = withoutNulls(idsByKey.values());
+        if (!lookupIds.isEmpty()) {
+            customerRepository.findAllByIds(lookupIds).forEach(customer -> byId.put(customer.getId(), customer));
+        }
+        Map<String, Customer> byCpf = new HashMap<>();
+        Set<String> lookupCpfs = withoutNulls(cpfsByKey.values());
+        if (!lookupCpfs.isEmpty()) {
+            customerRepository.findAllByCpfs(lookupCpfs).forEach(customer -> byCpf.put(customer.getCpf(), customer));
+        }
+
+        // Um cliente pedido por ID e por CPF aparece uma vez só
+        Map<UUID, Customer> items = new LinkedHashMap<>();
+        List<String> missingIds = new ArrayList<>();
+        idsByKey.forEach((key, id) -> {
+            Customer customer = id == null ? null : byId.get(id);
+            if (customer == null) {
+                missingIds.add(key);
+            } else {
+                items.putIfAbsent(customer.getId(), customer);
+            }
+        });
+        List<String> missingCpfs = new ArrayList<>();
+        cpfsByKey.forEach((key, cpf) -> {
+            Customer customer = cpf == null ? null : byCpf.get(cpf);
+            if (customer == null) {
+                missingCpfs.add(key);
+            } else {
+                items.putIfAbsent(customer.getId(), customer);
+            }
+        });
+        return new CustomerLookupResult(new ArrayList<>(items.values()), missingIds, missingCpfs);
+    }
+
     @Override
     public Optional<Customer> findCustomerById(UUID id) {
         Optional<Customer> customer = customerRepository.findById(id);
@@ -57,4 +212,107 @@ public class CustomerUseCaseImpl implements CustomerUseCase {
     public List<Customer> findCustomerAll() {
         return customerRepository.findAll();
     }
+
+    @Override
+    public void exportCustomers(Consumer<Customer> action) {
+        customerRepository.forEach(action);
+    }
+
+    // Lê um cliente a mais que o limite: se ele vier, existe próxima página, sem uma última página vazia
+    @Override
+    public CustomerPage findCustomerPage(String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        List<Customer> customers = customerRepository.findPage(decodeCursor(cursor), pageSize + 1);
+        if (customers.size() <= pageSize) {
+            return new CustomerPage(customers, null);
+        }
+        List<Customer> items = customers.subList(0, pageSize);
+        return new CustomerPage(items, encodeCursor(items.get(pageSize - 1).getId()));
+    }
+
+    // Mesma paginação lida como projeção; o ID entra sempre porque é dele que sai o cursor
+    @Override
+    public CustomerProjectionPage findCustomerPage(String cursor, int limit, Set<CustomerField> fields) {
+        int pageSize = pageSize(limit);
+        Set<CustomerField> selected = EnumSet.of(CustomerField.ID);
+        selected.addAll(fields);
+        List<Map<String, Object>> rows = customerRepository.findPage(decodeCursor(cursor), pageSize + 1, selected);
+        if (rows.size() <= pageSize) {
+            return new CustomerProjectionPage(rows, null);
+        }
+        List<Map<String, Object>> items = rows.subList(0, pageSize);
+        UUID lastId = (UUID) items.get(pageSize - 1).get(CustomerField.ID.getFieldName());
+        return new CustomerProjectionPage(items, encodeCursor(lastId));
+    }
+
+    private static int pageSize(int limit) {
+        if (limit < 1) {
+            throw new DomainException("Page limit must be positive");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    // O cursor é o último ID da página em Base64 URL-safe: opaco para a API e sem estado no servidor
+    static String encodeCursor(UUID id) {
+        ByteBuffer bytes = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    static UUID decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new DomainException("Invalid page cursor");
+        }
+        if (bytes.length != 16) {
+            throw new DomainException("Invalid page cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private Customer toCustomer(CustomerRegistration registration) {
+        return Customer.builder()
+                .id(idGenerator.nextId())
+                .name(registration.getName())
+                .email(registration.getEmail())
+                .cpf(registration.getCpf())
+                .build();
+    }
+
+    private static UUID parseId(String key) {
+        try {
+            return UUID.fromString(key.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Só os dígitos, como o CPF é gravado; o que não tem 11 dígitos nem vai ao banco
+    private static String normalizeCpf(String key) {
+        StringBuilder digits = new StringBuilder(11);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.length() == 11 ? digits.toString() : null;
+    }
+
+    private static <T> Set<T> withoutNulls(Collection<T> values) {
+        Set<T> distinct = new LinkedHashSet<>(values);
+        distinct.remove(null);
+        return distinct;
+    }
+
+    private static String duplicateMessage(String cpf) {
+        return "Customer with CPF " + cpf + " already exists";
+    }
 }
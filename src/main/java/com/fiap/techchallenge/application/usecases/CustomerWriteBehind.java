@@ -0,0 +1,455 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.exception.RegistrationQueueFullException;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Cadastro assíncrono (write-behind): o cliente é validado e checado contra duplicidade na
+ * hora, entra numa fila limitada e é gravado depois, em lotes, por {@link CustomerRepository#saveAll}.
+ * <p>
+ * A duplicidade é conferida contra os CPFs ainda na fila e contra o {@code existsByCpf} do
+ * repositório (Bloom filter/índice de CPF em memória, quando habilitados); o INSERT com
+ * {@code ON CONFLICT} continua sendo a palavra final, e quem perder a corrida fica {@code REJECTED}.
+ * Fila cheia é {@link RegistrationQueueFullException}. Lotes que falham são repetidos até
+ * gravar. No {@link #close()} a fila é drenada até o {@code drainTimeout}; o que sobrar vai
+ * para um arquivo de spill desta instância ({@code write-behind-<uuid>.spill}).
+ * </p>
+ * <p>
+ * Os arquivos de spill do diretório são gravados no {@link #start()} e de novo a cada
+ * {@code 30s} pelo flusher, por qualquer instância que compartilhe o diretório: num rolling
+ * update, o pod novo pega o que o antigo deixou depois de ele mesmo ter subido. Cada arquivo
+ * só aparece com o nome final depois de completo, e quem o grava segura um {@link FileLock}
+ * até apagá-lo, então duas instâncias nunca gravam o mesmo arquivo.
+ * </p>
+ */
+public class CustomerWriteBehind implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerWriteBehind.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final int MAX_REJECTIONS_KEPT = 10_000;
+    private static final long SPILL_RESCAN_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final String SPILL_PREFIX = "write-behind";
+    private static final String SPILL_SUFFIX = ".spill";
+
+    private final CustomerRepository customerRepository;
+    private final BlockingQueue<Customer> queue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Duration retryDelay;
+    private final Duration drainTimeout;
+    private final Path spillDirectory;
+    private final Path spillFile;
+    private final CustomerIdGenerator idGenerator;
+
+    private final Map<UUID, Customer> pending = new ConcurrentHashMap<>();
+    private final Set<String> pendingCpfs = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, String> rejections = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+            return size() > MAX_REJECTIONS_KEPT;
+        }
+    };
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusherThread;
+    // Lote que o flusher ainda não conseguiu gravar quando parou
+    private List<Customer> inFlight = List.of();
+
+    public CustomerWriteBehind(CustomerRepository customerRepository,
+                               int capacity,
+                               int maxBatchSize,
+                               Duration maxWait,
+                               Duration retryDelay,
+                               Duration drainTimeout,
+                               Path spillDirectory) {
+        this(customerRepository, capacity, maxBatchSize, maxWait, retryDelay, drainTimeout, spillDirectory,
+                CustomerIdGenerator.RANDOM);
+    }
+
+    /**
+     * @param spillDirectory opcional; sem ele, o que não for gravado no shutdown só é logado
+     */
+    public CustomerWriteBehind(CustomerRepository customerRepository,
+                               int capacity,
+                               int maxBatchSize,
+                               Duration maxWait,
+                               Duration retryDelay,
+                               Duration drainTimeout,
+                               Path spillDirectory,
+                               CustomerIdGenerator idGenerator) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive: " + maxBatchSize);
+        }
+        this.customerRepository = customerRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryDelay = retryDelay;
+        this.drainTimeout = drainTimeout;
+        this.spillDirectory = spillDirectory;
+        this.spillFile = spillDirectory == null ? null
+                : spillDirectory.resolve(SPILL_PREFIX + "-" + UUID.randomUUID() + SPILL_SUFFIX);
+        this.idGenerator = idGenerator;
+    }
+
+    /**
+     * Valida e enfileira o cadastro.
+     *
+     * @return o cliente com o ID gerado, ainda não gravado
+     * @throws DomainException se o CPF já está cadastrado ou na fila
+     * @throws RegistrationQueueFullException se a fila está cheia
+     */
+    public Customer submit(String name, String email, String cpf) {
+        if (!running) {
+            throw new RegistrationQueueFullException("Asynchronous registration is not accepting requests");
+        }
+        Customer customer = Customer.builder()
+                .id(idGenerator.nextId())
+                .name(name)
+                .email(email)
+                .cpf(cpf)
+                .build();
+        if (!pendingCpfs.add(customer.getCpf())) {
+            throw duplicate(customer.getCpf());
+        }
+        boolean queued = false;
+        try {
+            if (customerRepository.existsByCpf(customer.getCpf())) {
+                throw duplicate(customer.getCpf());
+            }
+            pending.put(customer.getId(), customer);
+            queued = queue.offer(customer);
+            if (!queued) {
+                throw new RegistrationQueueFullException("Registration queue is full, retry later");
+            }
+            // Corrida com close(): se a fila já foi drenada, ninguém mais gravaria este cadastro
+            if (!running && queue.remove(customer)) {
+                queued = false;
+                throw new RegistrationQueueFullException("Asynchronous registration is not accepting requests");
+            }
+        } finally {
+            if (!queued) {
+                pending.remove(customer.getId());
+                pendingCpfs.remove(customer.getCpf());
+            }
+        }
+        accepted.incrementAndGet();
+        return customer;
+    }
+
+    public CustomerRegistrationStatus status(UUID id) {
+        if (pending.containsKey(id)) {
+            return CustomerRegistrationStatus.pending(id);
+        }
+        String reason;
+        synchronized (rejections) {
+            reason = rejections.get(id);
+        }
+        if (reason != null) {
+            return new CustomerRegistrationStatus(id, CustomerRegistrationStatus.Status.REJECTED, reason);
+        }
+        return customerRepository.findById(id)
+                .map(customer -> new CustomerRegistrationStatus(id, CustomerRegistrationStatus.Status.CREATED, null))
+                .orElseGet(() -> new CustomerRegistrationStatus(id, CustomerRegistrationStatus.Status.UNKNOWN, null));
+    }
+
+    /**
+     * Grava o que ficou nos spills de shutdowns anteriores e passa a aceitar cadastros.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        replaySpills();
+        running = true;
+        flusherThread = new Thread(this::flushLoop, "customer-write-behind");
+        flusherThread.setDaemon(true);
+        flusherThread.start();
+    }
+
+    /**
+     * Para de aceitar cadastros e grava a fila antes de retornar.
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (flusherThread != null) {
+            try {
+                flusherThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusherThread = null;
+        }
+        List<Customer> remaining = new ArrayList<>(inFlight);
+        queue.drainTo(remaining);
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        int from = 0;
+        while (from < remaining.size() && System.nanoTime() < deadline) {
+            List<Customer> batch = remaining.subList(from, Math.min(from + maxBatchSize, remaining.size()));
+            if (write(batch)) {
+                from += batch.size();
+            } else if (!sleep(retryDelay.toMillis())) {
+                break;
+            }
+        }
+        if (from < remaining.size()) {
+            spill(remaining.subList(from, remaining.size()));
+        }
+    }
+
+    public long acceptedCount() {
+        return accepted.get();
+    }
+
+    public long writtenCount() {
+        return written.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    public long failureCount() {
+        return failures.get();
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    private void flushLoop() {
+        List<Customer> batch = new ArrayList<>(maxBatchSize);
+        long lastRescan = System.nanoTime();
+        while (running) {
+            // Spills que instâncias antigas deixaram depois do nosso start
+            if (System.nanoTime() - lastRescan >= SPILL_RESCAN_NANOS) {
+                replaySpills();
+                lastRescan = System.nanoTime();
+            }
+            try {
+                Customer first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize && running) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Customer next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                // O lote só sai da mão do flusher depois de gravado
+                while (!write(batch)) {
+                    if (!running || !sleep(retryDelay.toMillis())) {
+                        inFlight = List.copyOf(batch);
+                        return;
+                    }
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                inFlight = List.copyOf(batch);
+                return;
+            }
+        }
+        inFlight = List.copyOf(batch);
+    }
+
+    private boolean write(List<Customer> batch) {
+        List<Customer> saved;
+        try {
+            saved = customerRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            log.warn("Write-behind batch of {} customers failed, retrying in {} ms", batch.size(), retryDelay.toMillis(), e);
+            return false;
+        }
+        Set<UUID> savedIds = new HashSet<>();
+        for (Customer customer : saved) {
+            savedIds.add(customer.getId());
+        }
+        for (Customer customer : batch) {
+            if (!savedIds.contains(customer.getId())) {
+                // Outro cadastro (síncrono ou de outra réplica) levou o CPF depois da checagem
+                synchronized (rejections) {
+                    rejections.put(customer.getId(), duplicate(customer.getCpf()).getMessage());
+                }
+                rejected.incrementAndGet();
+            }
+            pending.remove(customer.getId());
+            pendingCpfs.remove(customer.getCpf());
+        }
+        written.addAndGet(savedIds.size());
+        return true;
+    }
+
+    private void spill(List<Customer> customers) {
+        if (spillFile == null) {
+            log.error("Write-behind lost {} customers on shutdown: {}", customers.size(),
+                    customers.stream().map(Customer::getId).toList());
+            return;
+        }
+        Path partial = spillFile.resolveSibling(spillFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(spillDirectory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)))) {
+                for (Customer customer : customers) {
+                    out.writeLong(customer.getId().getMostSignificantBits());
+                    out.writeLong(customer.getId().getLeastSignificantBits());
+                    out.writeUTF(customer.getName());
+                    out.writeUTF(customer.getEmail());
+                    out.writeUTF(customer.getCpf());
+                }
+            }
+            // Só ganha o nome que o replay procura depois de completo
+            Files.move(partial, spillFile, StandardCopyOption.ATOMIC_MOVE);
+            log.warn("Write-behind spilled {} customers to {}", customers.size(), spillFile);
+        } catch (IOException e) {
+            log.error("Write-behind could not spill {} customers to {}: {}", customers.size(), spillFile,
+                    customers.stream().map(Customer::getId).toList(), e);
+        }
+    }
+
+    /**
+     * Grava todo arquivo de spill do diretório que nenhuma outra instância esteja gravando.
+     */
+    void replaySpills() {
+        if (spillDirectory == null || !Files.isDirectory(spillDirectory)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(spillDirectory)) {
+            files = listing.filter(CustomerWriteBehind::isSpillFile).sorted().toList();
+        } catch (IOException e) {
+            log.warn("Could not list write-behind spill directory {}", spillDirectory, e);
+            return;
+        }
+        for (Path file : files) {
+            replaySpill(file);
+        }
+    }
+
+    private void replaySpill(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock lock = tryLock(channel)) {
+            // Sem o lock, outra instância está gravando; depois dele, ela pode já ter apagado o arquivo
+            if (lock == null || !Files.exists(file)) {
+                return;
+            }
+            List<Customer> customers = readSpill(channel);
+            for (int from = 0; from < customers.size(); from += maxBatchSize) {
+                if (!write(customers.subList(from, Math.min(from + maxBatchSize, customers.size())))) {
+                    log.error("Could not replay write-behind spill file {}, keeping it for the next rescan", file);
+                    return;
+                }
+            }
+            Files.delete(file);
+            log.info("Replayed {} customers from write-behind spill file {}", customers.size(), file);
+        } catch (NoSuchFileException e) {
+            // Outra instância terminou o replay entre a listagem e o open
+        } catch (IOException e) {
+            log.error("Could not replay write-behind spill file {}, keeping it", file, e);
+        }
+    }
+
+    // Não fecha o stream: isso fecharia o canal e soltaria o lock antes do delete
+    private static List<Customer> readSpill(FileChannel channel) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        List<Customer> customers = new ArrayList<>();
+        while (true) {
+            UUID id;
+            try {
+                id = new UUID(in.readLong(), in.readLong());
+            } catch (EOFException e) {
+                return customers;
+            }
+            customers.add(Customer.builder()
+                    .id(id)
+                    .name(in.readUTF())
+                    .email(in.readUTF())
+                    .cpf(in.readUTF())
+                    .build());
+        }
+    }
+
+    // OverlappingFileLockException: outra instância desta mesma JVM já trava o arquivo
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    // Inclui o write-behind.spill de versões anteriores, que usavam um arquivo só
+    private static boolean isSpillFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SPILL_PREFIX) && name.endsWith(SPILL_SUFFIX);
+    }
+
+    private static DomainException duplicate(String cpf) {
+        return new DomainException("Customer with CPF " + cpf + " already exists");
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
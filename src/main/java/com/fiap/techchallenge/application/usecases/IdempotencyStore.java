@@ -0,0 +1,281 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.IdempotencyRecord;
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.repositories.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cadastros com {@code Idempotency-Key}: a primeira requisição com a chave executa, as repetições
+ * (inclusive as que chegam enquanto a primeira ainda está em andamento) recebem o mesmo
+ * resultado, sem passar de novo pelo caso de uso.
+ * <p>
+ * Em memória, as chaves ficam em {@code stripes} mapas independentes, cada um com seu lock e
+ * limitado a {@code maximumSize / stripes} entradas (sai a mais antiga). Com o
+ * {@link IdempotencyKeyRepository} presente, a chave também é reservada no banco e a repetição
+ * que cair em outra réplica recebe o resultado de lá.
+ * </p>
+ * <p>
+ * Sucesso e erro de domínio (CPF duplicado, dado inválido) são definitivos e ficam registrados;
+ * qualquer outra falha libera a chave para a próxima tentativa. A mesma chave com outro corpo
+ * é rejeitada.
+ * </p>
+ */
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    // A cada tantas chaves reservadas no banco, apaga as expiradas
+    static final int PURGE_EVERY = 1_024;
+
+    private final Stripe[] stripes;
+    private final long ttlNanos;
+    private final IdempotencyKeyRepository repository;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration pollInterval;
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong replays = new AtomicLong();
+    private final AtomicLong reservations = new AtomicLong();
+
+    public IdempotencyStore(int stripes, int maximumSize, Duration ttl) {
+        this(stripes, maximumSize, ttl, null, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * @param repository   opcional; sem ele as chaves valem só nesta réplica
+     * @param lease        quanto tempo uma reserva no banco sem resultado bloqueia a chave
+     * @param pollInterval intervalo entre as leituras enquanto outra réplica executa a mesma chave
+     */
+    public IdempotencyStore(int stripes,
+                            int maximumSize,
+                            Duration ttl,
+                            IdempotencyKeyRepository repository,
+                            Duration lease,
+                            Duration pollInterval) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripes must be a power of two: " + stripes);
+        }
+        int perStripe = Math.max(1, maximumSize / stripes);
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.ttl = ttl;
+        this.repository = repository;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Executa {@code registration} uma única vez por chave.
+     *
+     * @param fingerprint identifica o corpo da requisição; veja {@link #fingerprint}
+     * @throws DomainException se a chave já foi usada com outro corpo
+     */
+    public Customer execute(String key, String fingerprint, Supplier<Customer> registration) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        long now = System.nanoTime();
+        Entry entry;
+        boolean owner = false;
+        synchronized (stripe) {
+            entry = stripe.get(key);
+            if (entry == null || now - entry.createdAt > ttlNanos) {
+                entry = new Entry(fingerprint, now);
+                stripe.put(key, entry);
+                owner = true;
+            }
+        }
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw mismatch(key);
+        }
+        if (!owner) {
+            replays.incrementAndGet();
+            return await(entry.result);
+        }
+
+        try {
+            Customer customer = repository == null ? run(registration) : runShared(key, fingerprint, registration);
+            entry.result.complete(customer);
+            return customer;
+        } catch (DomainException e) {
+            entry.result.completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            synchronized (stripe) {
+                stripe.remove(key, entry);
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public long executionCount() {
+        return executions.get();
+    }
+
+    public long replayCount() {
+        return replays.get();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * SHA-256 dos campos da requisição, para comparar corpos sem guardar os dados do cliente.
+     */
+    public static String fingerprint(String... fields) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : fields) {
+                digest.update(String.valueOf(field).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Customer run(Supplier<Customer> registration) {
+        executions.incrementAndGet();
+        return registration.get();
+    }
+
+    // Réplicas diferentes com a mesma chave: só quem reserva no banco executa, as demais esperam o resultado
+    private Customer runShared(String key, String fingerprint, Supplier<Customer> registration) {
+        while (!repository.reserve(key, fingerprint, lease, ttl)) {
+            Optional<IdempotencyRecord> record = repository.find(key);
+            if (record.isPresent()) {
+                if (!record.get().getFingerprint().equals(fingerprint)) {
+                    throw mismatch(key);
+                }
+                if (record.get().getCustomer() != null) {
+                    replays.incrementAndGet();
+                    return record.get().getCustomer();
+                }
+                if (record.get().getError() != null) {
+                    replays.incrementAndGet();
+                    throw new DomainException(record.get().getError());
+                }
+            }
+            // Em andamento em outra réplica; se ela cair, a reserva expira com o lease e é retomada aqui
+            sleep(pollInterval);
+        }
+        if (reservations.incrementAndGet() % PURGE_EVERY == 0) {
+            purgeExpired();
+        }
+
+        Customer customer;
+        try {
+            customer = run(registration);
+        } catch (DomainException e) {
+            repository.fail(key, e.getMessage());
+            throw e;
+        } catch (RuntimeException | Error e) {
+            release(key);
+            throw e;
+        }
+        repository.complete(key, customer);
+        return customer;
+    }
+
+    private void release(String key) {
+        try {
+            repository.release(key);
+        } catch (RuntimeException e) {
+            log.warn("Could not release idempotency key {}; it stays locked until the lease expires", key, e);
+        }
+    }
+
+    private void purgeExpired() {
+        try {
+            long purged = repository.purgeExpired(ttl);
+            log.debug("Purged {} expired idempotency keys", purged);
+        } catch (RuntimeException e) {
+            log.warn("Could not purge expired idempotency keys", e);
+        }
+    }
+
+    private static DomainException mismatch(String key) {
+        return new DomainException("Idempotency-Key " + key + " was already used with a different request");
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for idempotency key", e);
+        }
+    }
+
+    private static Customer await(CompletableFuture<Customer> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // Mesma dispersão do HashMap: os bits altos do hash também escolhem o stripe
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long createdAt;
+        private final CompletableFuture<Customer> result = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long createdAt) {
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Entry> {
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            super(16, 0.75f, false);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Decorator de {@link CustomerUseCase} que serializa, dentro da réplica, cadastros concorrentes do
+ * mesmo CPF: cada CPF cai num de {@code stripes} locks, então CPFs diferentes seguem em paralelo
+ * (salvo colisão de stripe).
+ * <p>
+ * Sem disputa pelo lock o cadastro segue direto para o INSERT, como antes. Quem precisou
+ * esperar confere o CPF com {@link CustomerRepository#existsByCpf} ao entrar: se o cadastro
+ * anterior gravou o mesmo CPF, a resposta sai do cache do repositório, sem ocupar uma conexão
+ * só para esbarrar na constraint.
+ * </p>
+ */
+public class StripedLockCustomerUseCase implements CustomerUseCase {
+
+    private final CustomerUseCase delegate;
+    private final CustomerRepository customerRepository;
+    private final ReentrantLock[] locks;
+    private final AtomicLongArray contended;
+    private final AtomicLongArray waitNanos;
+
+    public StripedLockCustomerUseCase(CustomerUseCase delegate, CustomerRepository customerRepository, int stripes) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripes must be a power of two: " + stripes);
+        }
+        this.delegate = delegate;
+        this.customerRepository = customerRepository;
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.contended = new AtomicLongArray(stripes);
+        this.waitNanos = new AtomicLongArray(stripes);
+    }
+
+    @Override
+    public Customer registerCustomer(String name, String email, String cpf) {
+        if (cpf == null) {
+            return delegate.registerCustomer(name, email, cpf);
+        }
+        int stripe = stripeOf(cpf);
+        ReentrantLock lock = locks[stripe];
+        boolean waited = !lock.tryLock();
+        if (waited) {
+            long start = System.nanoTime();
+            lock.lock();
+            contended.incrementAndGet(stripe);
+            waitNanos.addAndGet(stripe, System.nanoTime() - start);
+        }
+        try {
+            if (waited && customerRepository.existsByCpf(digitsOf(cpf))) {
+                throw new DomainException("Customer with CPF " + digitsOf(cpf) + " already exists");
+            }
+            return delegate.registerCustomer(name, email, cpf);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<CustomerRegistrationResult> registerCustomers(List<CustomerRegistration> registrations) {
+        return delegate.registerCustomers(registrations);
+    }
+
+    @Override
+    public Customer findOrRegister(String name, String email, String cpf) {
+        return delegate.findOrRegister(name, email, cpf);
+    }
+
+    @Override
+    public Optional<Customer> findCustomerByCpf(String cpf) {
+        return delegate.findCustomerByCpf(cpf);
+    }
+
+    @Override
+    public CustomerLookupResult findCustomers(List<String> ids, List<String> cpfs) {
+        return delegate.findCustomers(ids, cpfs);
+    }
+
+    @Override
+    public Optional<Customer> findCustomerById(UUID id) {
+        return delegate.findCustomerById(id);
+    }
+
+    @Override
+    public List<Customer> findCustomerAll() {
+        return delegate.findCustomerAll();
+    }
+
+    @Override
+    public CustomerPage findCustomerPage(String cursor, int limit) {
+        return delegate.findCustomerPage(cursor, limit);
+    }
+
+    @Override
+    public CustomerProjectionPage findCustomerPage(String cursor, int limit, Set<CustomerField> fields) {
+        return delegate.findCustomerPage(cursor, limit, fields);
+    }
+
+    @Override
+    public void exportCustomers(Consumer<Customer> action) {
+        delegate.exportCustomers(action);
+    }
+
+    public int stripeCount() {
+        return locks.length;
+    }
+
+    // Aquisições do stripe que encontraram o lock ocupado
+    public long contendedCount(int stripe) {
+        return contended.get(stripe);
+    }
+
+    public long waitNanos(int stripe) {
+        return waitNanos.get(stripe);
+    }
+
+    // Só os dígitos entram no hash: "111.444.777-35" e "11144477735" caem no mesmo stripe
+    int stripeOf(String cpf) {
+        int hash = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hash = 31 * hash + (c - '0');
+            }
+        }
+        hash ^= hash >>> 16;
+        return hash & (locks.length - 1);
+    }
+
+    private static String digitsOf(String cpf) {
+        StringBuilder digits = new StringBuilder(cpf.length());
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+}
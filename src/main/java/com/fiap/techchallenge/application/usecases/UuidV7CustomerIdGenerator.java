@@ -0,0 +1,65 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * UUID v7 (RFC 9562): 48 bits de timestamp em milissegundos, versão, 12 bits de contador
+ * e 62 bits aleatórios.
+ * <p>
+ * IDs gerados em sequência são crescentes, então os INSERTs caem sempre no fim do índice da
+ * chave primária em vez de espalhados pela B-tree inteira. Não há estado compartilhado entre
+ * threads: o contador é por thread (monotônico dentro do milissegundo, recomeçando de um valor
+ * aleatório a cada milissegundo novo) e a parte aleatória vem do {@link ThreadLocalRandom}.
+ * Threads diferentes no mesmo milissegundo se distinguem pelos 62 bits aleatórios.
+ * </p>
+ * <p>
+ * O {@link ThreadLocalRandom} não é criptográfico e o timestamp fica exposto no ID: o ID
+ * identifica o cliente, não serve como segredo.
+ * </p>
+ */
+public class UuidV7CustomerIdGenerator implements CustomerIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+    // Semente do contador na metade de baixo: sobram pelo menos 2048 IDs por milissegundo antes de estourar
+    private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_62_BITS = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    public UuidV7CustomerIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7CustomerIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID nextId() {
+        State current = state.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = clock.getAsLong();
+        if (now > current.millis) {
+            current.millis = now;
+            current.counter = random.nextInt(COUNTER_SEED_BOUND);
+        } else if (++current.counter > MAX_COUNTER) {
+            // Contador esgotado (ou relógio voltou): avança o timestamp em vez de repetir ou regredir
+            current.millis++;
+            current.counter = random.nextInt(COUNTER_SEED_BOUND);
+        }
+        long mostSigBits = (current.millis << 16) | VERSION_7 | current.counter;
+        long leastSigBits = VARIANT_RFC_9562 | (random.nextLong() & RANDOM_62_BITS);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static final class State {
+        private long millis = Long.MIN_VALUE;
+        private int counter;
+    }
+}
@@ -66,7 +66,7 @@ public final class Customer {
             throw new InvalidCpfException("CPF cannot be null");
         }
 
-        String cleanCpf = cpf.replaceAll("\\D", "");
+        String cleanCpf = digitsOf(cpf);
         if (cleanCpf.length() != CPF_LENGTH) {
             throw new InvalidCpfException("CPF must contain exactly 11 digits");
         }
@@ -78,27 +78,46 @@ public final class Customer {
         return cleanCpf;
     }
 
+    // Equivalente a replaceAll("\\D", ""), sem compilar regex a cada construção
+    private static String digitsOf(String cpf) {
+        StringBuilder digits = null;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            boolean isDigit = c >= '0' && c <= '9';
+            if (!isDigit && digits == null) {
+                digits = new StringBuilder(CPF_LENGTH).append(cpf, 0, i);
+            } else if (isDigit && digits != null) {
+                digits.append(c);
+            }
+        }
+        return digits == null ? cpf : digits.toString();
+    }
+
     private boolean isValidCpfChecksum(String cpf) {
-        if (cpf.chars().distinct().count() == 1) {
+        boolean allSame = true;
+        for (int i = 1; i < CPF_LENGTH && allSame; i++) {
+            allSame = cpf.charAt(i) == cpf.charAt(0);
+        }
+        if (allSame) {
             return false;
         }
 
         int sum = 0;
         for (int i = 0; i < 9; i++) {
-            sum += Character.getNumericValue(cpf.charAt(i)) * (10 - i);
+            sum += (cpf.charAt(i) - '0') * (10 - i);
         }
         int firstDigit = 11 - (sum % 11);
         firstDigit = (firstDigit >= 10) ? 0 : firstDigit;
 
         sum = 0;
         for (int i = 0; i < 10; i++) {
-            sum += Character.getNumericValue(cpf.charAt(i)) * (11 - i);
+            sum += (cpf.charAt(i) - '0') * (11 - i);
         }
         int secondDigit = 11 - (sum % 11);
         secondDigit = (secondDigit >= 10) ? 0 : secondDigit;
 
-        return firstDigit == Character.getNumericValue(cpf.charAt(9)) &&
-               secondDigit == Character.getNumericValue(cpf.charAt(10));
+        return firstDigit == cpf.charAt(9) - '0' &&
+               secondDigit == cpf.charAt(10) - '0';
     }
 
     @Override
@@ -0,0 +1,61 @@
+package com.fiap.techchallenge.domain.entities;
+
+import com.fiap.techchallenge.domain.exception.DomainException;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Campos de um cliente que podem ser pedidos numa leitura parcial ({@code fields=id,name}).
+ * O {@link #ID} vem sempre: identifica o cliente e é o cursor da paginação.
+ */
+public enum CustomerField {
+
+    ID("id", Customer::getId),
+    NAME("name", Customer::getName),
+    EMAIL("email", Customer::getEmail),
+    CPF("cpf", Customer::getCpf);
+
+    private final String fieldName;
+    private final Function<Customer, Object> getter;
+
+    CustomerField(String fieldName, Function<Customer, Object> getter) {
+        this.fieldName = fieldName;
+        this.getter = getter;
+    }
+
+    // Nome do campo no JSON do cliente
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public Object valueOf(Customer customer) {
+        return getter.apply(customer);
+    }
+
+    /**
+     * Lê a lista separada por vírgulas, sem diferenciar maiúsculas e ignorando espaços.
+     *
+     * @throws DomainException se algum nome não é um campo do cliente
+     */
+    public static Set<CustomerField> parse(String fields) {
+        Set<CustomerField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(byName(trimmed));
+            }
+        }
+        return selected;
+    }
+
+    private static CustomerField byName(String name) {
+        for (CustomerField field : values()) {
+            if (field.fieldName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new DomainException("Unknown customer field: " + name);
+    }
+}
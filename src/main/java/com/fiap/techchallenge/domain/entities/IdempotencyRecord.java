@@ -0,0 +1,35 @@
+package com.fiap.techchallenge.domain.entities;
+
+/**
+ * O que ficou registrado para uma chave de idempotência: a requisição que a usou
+ * (pelo fingerprint) e, depois de concluída, o cliente cadastrado ou o erro de domínio.
+ */
+public final class IdempotencyRecord {
+
+    private final String fingerprint;
+    private final Customer customer;
+    private final String error;
+
+    public IdempotencyRecord(String fingerprint, Customer customer, String error) {
+        this.fingerprint = fingerprint;
+        this.customer = customer;
+        this.error = error;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    // Sem cliente e sem erro: a requisição original ainda está em andamento
+    public boolean isCompleted() {
+        return customer != null || error != null;
+    }
+}
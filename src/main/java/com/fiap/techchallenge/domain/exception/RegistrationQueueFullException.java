@@ -0,0 +1,10 @@
+package com.fiap.techchallenge.domain.exception;
+
+/**
+ * A fila de cadastros assíncronos está cheia (ou fechando): o cliente deve tentar de novo depois.
+ */
+public class RegistrationQueueFullException extends DomainException {
+    public RegistrationQueueFullException(String message) {
+        super(message);
+    }
+}
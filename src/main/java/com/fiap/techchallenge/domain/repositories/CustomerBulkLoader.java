@@ -0,0 +1,30 @@
+package com.fiap.techchallenge.domain.repositories;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Carga em massa de clientes, fora do caminho de cadastro unitário.
+ * <p>
+ * Os blocos de uma importação são acumulados numa área de staging e só entram na base
+ * no {@link #merge}, de uma vez.
+ * </p>
+ */
+public interface CustomerBulkLoader {
+
+    void stage(UUID importId, List<Customer> customers);
+
+    /**
+     * Move para a base tudo o que foi preparado na importação. CPFs já cadastrados ficam de fora.
+     *
+     * @return quantos clientes foram efetivamente inseridos
+     */
+    long merge(UUID importId);
+
+    /**
+     * Descarta o que foi preparado e não chegou ao {@link #merge} (importação interrompida).
+     */
+    void discard(UUID importId);
+}
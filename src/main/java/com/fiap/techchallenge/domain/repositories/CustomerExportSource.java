@@ -0,0 +1,26 @@
+package com.fiap.techchallenge.domain.repositories;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Leitura da base inteira de clientes em faixas da chave primária, para exportações que
+ * dividem a varredura entre várias conexões.
+ */
+public interface CustomerExportSource {
+
+    Optional<UUID> findFirstId();
+
+    Optional<UUID> findLastId();
+
+    /**
+     * Entrega, um por vez e em ordem de ID, os clientes com {@code from <= id < to}.
+     *
+     * @param from início da faixa; {@code null} para começar do primeiro cliente
+     * @param to   fim da faixa (exclusive); {@code null} para ir até o último
+     */
+    void forEachInRange(UUID from, UUID to, Consumer<Customer> action);
+}
@@ -1,15 +1,71 @@
 package com.fiap.techchallenge.domain.repositories;
 
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CustomerRepository {
+    /**
+     * Insere o cliente.
+     *
+     * @throws com.fiap.techchallenge.domain.exception.DomainException se já existe um cliente com o mesmo CPF
+     */
     Customer save(Customer customer);
+
+    /**
+     * Insere vários clientes de uma vez. Os que esbarram num CPF já cadastrado são ignorados.
+     *
+     * @return apenas os clientes efetivamente inseridos
+     */
+    List<Customer> saveAll(List<Customer> customers);
+
+    /**
+     * Insere o cliente, a menos que o CPF já esteja cadastrado.
+     *
+     * @return o cliente gravado com esse CPF: o próprio {@code customer} se foi inserido, senão o que já existia
+     */
+    Customer saveIfAbsent(Customer customer);
     Optional<Customer> findById(UUID id);
     Optional<Customer> findByCpf(String cpf);
     boolean existsByCpf(String cpf);
+
+    /**
+     * @return os CPFs da coleção que já estão cadastrados
+     */
+    Set<String> findExistingCpfs(Collection<String> cpfs);
+
+    /**
+     * Busca vários clientes por ID de uma vez; IDs não cadastrados simplesmente ficam de fora.
+     */
+    List<Customer> findAllByIds(Collection<UUID> ids);
+
+    /**
+     * Busca vários clientes por CPF de uma vez; CPFs não cadastrados simplesmente ficam de fora.
+     */
+    List<Customer> findAllByCpfs(Collection<String> cpfs);
     List<Customer> findAll();
+
+    /**
+     * Página da listagem por keyset: os clientes com ID maior que {@code after}, em ordem de ID.
+     *
+     * @param after último ID da página anterior; {@code null} para a primeira página
+     * @param limit máximo de clientes devolvidos
+     */
+    List<Customer> findPage(UUID after, int limit);
+
+    /**
+     * A mesma página só com os campos pedidos: cada cliente é um mapa nome do campo → valor,
+     * lido direto das colunas, sem montar (nem validar de novo) o {@link Customer}.
+     *
+     * @param fields campos lidos; precisa conter {@link CustomerField#ID}
+     */
+    List<Map<String, Object>> findPage(UUID after, int limit, Set<CustomerField> fields);
+    void forEach(Consumer<Customer> action);
 }
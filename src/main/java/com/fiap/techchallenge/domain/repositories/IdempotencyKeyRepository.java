@@ -0,0 +1,43 @@
+package com.fiap.techchallenge.domain.repositories;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.IdempotencyRecord;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Chaves de idempotência compartilhadas entre as réplicas.
+ * <p>
+ * Quem consegue o {@link #reserve} executa a requisição e registra o resultado com
+ * {@link #complete} ou {@link #fail}; os demais leem o resultado com {@link #find}.
+ * </p>
+ */
+public interface IdempotencyKeyRepository {
+
+    /**
+     * Reserva a chave para esta requisição. Uma reserva sem resultado há mais de {@code lease}
+     * (réplica que caiu no meio) ou uma chave mais antiga que {@code ttl} podem ser retomadas.
+     *
+     * @return {@code true} se a chave ficou com quem chamou
+     */
+    boolean reserve(String key, String fingerprint, Duration lease, Duration ttl);
+
+    Optional<IdempotencyRecord> find(String key);
+
+    void complete(String key, Customer customer);
+
+    void fail(String key, String error);
+
+    /**
+     * Libera a reserva de uma requisição que falhou por um erro transitório, para que a próxima tentativa execute.
+     */
+    void release(String key);
+
+    /**
+     * Apaga as chaves mais antigas que {@code ttl}.
+     *
+     * @return quantas foram apagadas
+     */
+    long purgeExpired(Duration ttl);
+}
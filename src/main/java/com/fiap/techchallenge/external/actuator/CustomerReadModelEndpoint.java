@@ -0,0 +1,30 @@
+package com.fiap.techchallenge.external.actuator;
+
+import com.fiap.techchallenge.adapters.gateway.readmodel.CustomerReadModel;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * {@code /actuator/readmodel}: compara o read model de clientes com a tabela.
+ * <p>
+ * A verificação percorre a tabela inteira em streaming, então é para uso operacional,
+ * não para probes.
+ * </p>
+ */
+@Endpoint(id = "readmodel")
+public class CustomerReadModelEndpoint {
+
+    private final CustomerReadModel readModel;
+    private final CustomerRepository customerRepository;
+
+    public CustomerReadModelEndpoint(CustomerReadModel readModel, CustomerRepository customerRepository) {
+        this.readModel = readModel;
+        this.customerRepository = customerRepository;
+    }
+
+    @ReadOperation
+    public CustomerReadModel.ConsistencyReport verify() {
+        return readModel.verify(customerRepository);
+    }
+}
@@ -0,0 +1,75 @@
+package com.fiap.techchallenge.external.api;
+
+import com.fiap.techchallenge.adapters.controllers.AsyncCustomerController;
+import com.fiap.techchallenge.application.usecases.CustomerRegistrationStatus;
+import com.fiap.techchallenge.domain.entities.Customer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Cadastro assíncrono para o totem de autoatendimento: responde {@code 202 Accepted} com o ID
+ * gerado antes de o cliente ser gravado; a situação fica em {@code GET /customers/async/{id}}.
+ */
+@RestController
+@RequestMapping("/customers/async")
+@Tag(name = "Customers", description = "API para gerenciamento de clientes")
+@ConditionalOnProperty(prefix = "customer.use-case.write-behind", name = "enabled", havingValue = "true")
+public class AsyncCustomerRestController {
+
+    private final AsyncCustomerController asyncCustomerController;
+
+    public AsyncCustomerRestController(AsyncCustomerController asyncCustomerController) {
+        this.asyncCustomerController = asyncCustomerController;
+    }
+
+    @PostMapping(consumes = "application/json")
+    @Operation(summary = "Cadastrar cliente de forma assíncrona",
+            description = "Valida e checa duplicidade na hora; a gravação acontece em lote logo depois")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Cadastro aceito; acompanhe pelo Location",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CustomerRegistrationStatus.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou CPF já cadastrado"),
+            @ApiResponse(responseCode = "503", description = "Fila de cadastros cheia; repita após o Retry-After")
+    })
+    public ResponseEntity<CustomerRegistrationStatus> registerCustomer(
+            @RequestBody CustomerRestController.CustomerRequestDTO customerRequest) {
+        Customer customer = asyncCustomerController.registerCustomer(
+                customerRequest.getName(),
+                customerRequest.getEmail(),
+                customerRequest.getCpf()
+        );
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(customer.getId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .body(CustomerRegistrationStatus.pending(customer.getId()));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Situação de um cadastro assíncrono", description = "PENDING, CREATED ou REJECTED")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Situação do cadastro",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CustomerRegistrationStatus.class))),
+            @ApiResponse(responseCode = "404", description = "ID desconhecido")
+    })
+    public ResponseEntity<CustomerRegistrationStatus> findRegistrationStatus(@PathVariable UUID id) {
+        CustomerRegistrationStatus status = asyncCustomerController.findRegistrationStatus(id);
+        if (status.getStatus() == CustomerRegistrationStatus.Status.UNKNOWN) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(status);
+    }
+}
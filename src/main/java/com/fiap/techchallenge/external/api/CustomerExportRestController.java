@@ -0,0 +1,66 @@
+package com.fiap.techchallenge.external.api;
+
+import com.fiap.techchallenge.adapters.controllers.CustomerExportController;
+import com.fiap.techchallenge.application.usecases.CustomerExportReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Exportação paralela da base de clientes: o espaço de IDs é dividido em faixas lidas em
+ * conexões separadas, e o resultado sai como um único NDJSON comprimido com gzip.
+ */
+@RestController
+@RequestMapping("/customers/export")
+@Tag(name = "Customers", description = "API para gerenciamento de clientes")
+public class CustomerExportRestController {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerExportRestController.class);
+
+    static final String GZIP = "application/gzip";
+    private static final String DEFAULT_PARTITIONS = "16";
+
+    private final CustomerExportController customerExportController;
+
+    public CustomerExportRestController(CustomerExportController customerExportController) {
+        this.customerExportController = customerExportController;
+    }
+
+    @GetMapping(value = "/partitioned", produces = GZIP)
+    @Operation(summary = "Exportar clientes em paralelo",
+            description = "NDJSON comprimido (customers.ndjson.gz); as linhas das partições vêm intercaladas, sem ordem global")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clientes transmitidos",
+                    content = @Content(mediaType = GZIP)),
+            @ApiResponse(responseCode = "400", description = "Número de partições inválido")
+    })
+    public void exportPartitioned(
+            @Parameter(description = "Em quantas faixas de ID dividir a leitura, até 1024")
+            @RequestParam(defaultValue = DEFAULT_PARTITIONS) int partitions,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(GZIP);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"customers.ndjson.gz\"");
+        CustomerExportReport report = customerExportController.exportGzip(response.getOutputStream(), partitions);
+        for (CustomerExportReport.Partition partition : report.getPartitions()) {
+            log.info("Customer export partition {} [{}, {}): {} rows in {} ms ({} rows/s)",
+                    partition.getIndex(), partition.getFrom(), partition.getTo(), partition.getRows(),
+                    partition.getElapsedMillis(), partition.getRowsPerSecond());
+        }
+        log.info("Customer export finished: {} rows in {} partitions, {} threads, {} ms ({} rows/s)",
+                report.getRows(), report.getPartitions().size(), report.getParallelism(),
+                report.getElapsedMillis(), report.getRowsPerSecond());
+    }
+}
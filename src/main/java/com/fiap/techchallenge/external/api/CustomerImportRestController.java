@@ -0,0 +1,71 @@
+package com.fiap.techchallenge.external.api;
+
+import com.fiap.techchallenge.adapters.controllers.CustomerImportController;
+import com.fiap.techchallenge.adapters.imports.CustomerImportFormat;
+import com.fiap.techchallenge.application.usecases.CustomerImportReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Importação de bases inteiras de clientes (migração de lojas adquiridas). O corpo é lido
+ * em streaming direto do request, sem passar por multipart nem ser materializado em memória.
+ */
+@RestController
+@RequestMapping("/customers/import")
+@Tag(name = "Customers", description = "API para gerenciamento de clientes")
+public class CustomerImportRestController {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerImportRestController.class);
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private final CustomerImportController customerImportController;
+
+    public CustomerImportRestController(CustomerImportController customerImportController) {
+        this.customerImportController = customerImportController;
+    }
+
+    @PostMapping(consumes = "text/csv")
+    @Operation(summary = "Importar clientes de CSV",
+            description = "Cabeçalho com as colunas name, email e cpf; separador vírgula ou ponto e vírgula")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída; linhas rejeitadas vêm no relatório",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CustomerImportReport.class))),
+            @ApiResponse(responseCode = "400", description = "Cabeçalho do CSV inválido")
+    })
+    public ResponseEntity<CustomerImportReport> importCsv(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importCustomers(request, CustomerImportFormat.CSV));
+    }
+
+    @PostMapping(consumes = NDJSON)
+    @Operation(summary = "Importar clientes de NDJSON",
+            description = "Um objeto {\"name\", \"email\", \"cpf\"} por linha")
+    @ApiResponse(responseCode = "200", description = "Importação concluída; linhas rejeitadas vêm no relatório",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CustomerImportReport.class)))
+    public ResponseEntity<CustomerImportReport> importNdjson(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importCustomers(request, CustomerImportFormat.NDJSON));
+    }
+
+    private CustomerImportReport importCustomers(HttpServletRequest request, CustomerImportFormat format) throws IOException {
+        CustomerImportReport report = customerImportController.importCustomers(request.getInputStream(), format,
+                progress -> log.info("Customer import {}: {} rows read, {} rejected, {} rows/s",
+                        progress.getImportId(), progress.getRead(), progress.getRejected(), progress.getRowsPerSecond()));
+        log.info("Customer import {} finished: {} rows read, {} inserted, {} already registered, {} rejected in {} ms ({} rows/s)",
+                report.getImportId(), report.getRead(), report.getInserted(), report.getAlreadyRegistered(),
+                report.getRejected(), report.getElapsedMillis(), report.getRowsPerSecond());
+        return report;
+    }
+}
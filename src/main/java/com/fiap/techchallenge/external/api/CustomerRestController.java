@@ -1,20 +1,32 @@
 package com.fiap.techchallenge.external.api;
 
 import com.fiap.techchallenge.adapters.controllers.CustomerController;
+import com.fiap.techchallenge.adapters.presenters.CustomerJson;
+import com.fiap.techchallenge.application.usecases.CustomerLookupResult;
+import com.fiap.techchallenge.application.usecases.CustomerPage;
+import com.fiap.techchallenge.application.usecases.CustomerRegistration;
+import com.fiap.techchallenge.application.usecases.CustomerRegistrationResult;
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -22,6 +34,9 @@ import java.util.UUID;
 @Tag(name = "Customers", description = "API para gerenciamento de clientes")
 public class CustomerRestController {
 
+    private static final String DEFAULT_PAGE_SIZE = "100";
+    private static final String NDJSON = "application/x-ndjson";
+
     private final CustomerController customerController;
 
     public CustomerRestController(CustomerController customerController) {
@@ -33,11 +48,15 @@ public class CustomerRestController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Cliente cadastrado com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Customer.class))),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos, ou Idempotency-Key já usado com outro corpo"),
             @ApiResponse(responseCode = "409", description = "Cliente com CPF já existe")
     })
-    public ResponseEntity<Customer> registerCustomer(@RequestBody @Valid CustomerRequestDTO customerRequest) {
+    public ResponseEntity<Customer> registerCustomer(
+            @Parameter(description = "Repetições com a mesma chave recebem a resposta original")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody @Valid CustomerRequestDTO customerRequest) {
         Customer customer = customerController.registerCustomer(
+                idempotencyKey,
                 customerRequest.getName(),
                 customerRequest.getEmail(),
                 customerRequest.getCpf()
@@ -45,16 +64,69 @@ public class CustomerRestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(customer);
     }
 
+    @PostMapping(value = "/batch", consumes = "application/json")
+    @Operation(summary = "Cadastrar clientes em lote",
+            description = "Registra até 1000 clientes numa única chamada; cada item recebe seu próprio status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; status por item (CREATED, DUPLICATE ou INVALID)",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CustomerRegistrationResult.class)))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o permitido")
+    })
+    public ResponseEntity<List<CustomerRegistrationResult>> registerCustomers(
+            @RequestBody List<CustomerRequestDTO> customerRequests) {
+        List<CustomerRegistration> registrations = customerRequests.stream()
+                .map(request -> new CustomerRegistration(request.getName(), request.getEmail(), request.getCpf()))
+                .toList();
+        return ResponseEntity.ok(customerController.registerCustomers(registrations));
+    }
+
+    @PostMapping(value = "/find-or-register", consumes = "application/json")
+    @Operation(summary = "Buscar ou cadastrar cliente",
+            description = "Devolve o cliente com o CPF informado, cadastrando-o numa única operação se ainda não existir")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cliente existente ou recém-cadastrado",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Customer.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    })
+    public ResponseEntity<Customer> findOrRegisterCustomer(@RequestBody @Valid CustomerRequestDTO customerRequest) {
+        Customer customer = customerController.findOrRegisterCustomer(
+                customerRequest.getName(),
+                customerRequest.getEmail(),
+                customerRequest.getCpf()
+        );
+        return ResponseEntity.ok(customer);
+    }
+
+    @PostMapping(value = "/_mget", consumes = "application/json")
+    @Operation(summary = "Buscar vários clientes",
+            description = "Resolve até 1000 IDs e/ou CPFs numa única chamada; as chaves sem cliente vêm em missingIds e missingCpfs")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clientes encontrados e chaves ausentes",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CustomerLookupResult.class))),
+            @ApiResponse(responseCode = "400", description = "Nenhuma chave ou chaves demais")
+    })
+    public ResponseEntity<CustomerLookupResult> findCustomers(@RequestBody CustomerLookupRequestDTO lookupRequest) {
+        return ResponseEntity.ok(customerController.findCustomers(lookupRequest.getIds(), lookupRequest.getCpfs()));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar cliente por ID", description = "Busca um cliente específico pelo seu ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cliente encontrado",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Customer.class))),
+            @ApiResponse(responseCode = "304", description = "Cliente não mudou desde o ETag informado em If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado")
     })
-    public ResponseEntity<Customer> findCustomerById(@PathVariable UUID id) {
-        return customerController.findCustomerById(id)
-                .map(customer -> ResponseEntity.ok(customer))
+    public ResponseEntity<byte[]> findCustomerById(
+            @PathVariable UUID id,
+            @Parameter(description = "Campos devolvidos, separados por vírgula (id, name, email, cpf); o id vem sempre")
+            @RequestParam(required = false) String fields) {
+        Optional<CustomerJson> json = fields == null
+                ? customerController.findCustomerJsonById(id)
+                : customerController.findCustomerJsonById(id, CustomerField.parse(fields));
+        return json.map(CustomerRestController::json)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -63,22 +135,64 @@ public class CustomerRestController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cliente encontrado",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Customer.class))),
+            @ApiResponse(responseCode = "304", description = "Cliente não mudou desde o ETag informado em If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado")
     })
-    public ResponseEntity<Customer> findCustomerByCpf(@PathVariable String cpf) {
-        return customerController.findCustomerByCpf(cpf)
-                .map(customer -> ResponseEntity.ok(customer))
+    public ResponseEntity<byte[]> findCustomerByCpf(
+            @PathVariable String cpf,
+            @Parameter(description = "Campos devolvidos, separados por vírgula (id, name, email, cpf); o id vem sempre")
+            @RequestParam(required = false) String fields) {
+        Optional<CustomerJson> json = fields == null
+                ? customerController.findCustomerJsonByCpf(cpf)
+                : customerController.findCustomerJsonByCpf(cpf, CustomerField.parse(fields));
+        return json.map(CustomerRestController::json)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping
-    @Operation(summary = "Listar todos os clientes", description = "Retorna todos os clientes cadastrados")
+    @Operation(summary = "Listar clientes",
+            description = "Retorna os clientes em páginas, em ordem de ID; a próxima página vem de nextCursor. "
+                    + "Com fields, o banco lê só as colunas pedidas")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de clientes retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Página de clientes retornada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CustomerPage.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor, limite ou campo inválido")
     })
-    public ResponseEntity<List<Customer>> findAllCustomers() {
-        List<Customer> customers = customerController.findAllCustomers();
-        return ResponseEntity.ok(customers);
+    public ResponseEntity<?> findAllCustomers(
+            @Parameter(description = "nextCursor da página anterior; omitido na primeira página")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página, até 1000")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @Parameter(description = "Campos devolvidos, separados por vírgula (id, name, email, cpf); o id vem sempre")
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(customerController.findCustomerPage(cursor, limit, CustomerField.parse(fields)));
+        }
+        return ResponseEntity.ok(customerController.findCustomerPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    @Operation(summary = "Exportar todos os clientes",
+            description = "Transmite a base inteira como NDJSON (um cliente por linha), lida de um cursor do banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clientes transmitidos um por linha",
+                    content = @Content(mediaType = NDJSON, schema = @Schema(implementation = Customer.class)))
+    })
+    // Escrita síncrona na resposta: uma exportação longa não esbarra no timeout de requisições assíncronas
+    public void exportCustomers(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        customerController.exportCustomers(response.getOutputStream());
+    }
+
+    // JSON pré-renderizado: o conversor de byte[] copia direto no output stream, sem passar pelo Jackson.
+    // Com o ETag no ResponseEntity o Spring responde 304 sozinho quando o If-None-Match confere.
+    private static ResponseEntity<byte[]> json(CustomerJson json) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(json.getEtag())
+                .body(json.getBody());
     }
 
     // DTOs internos para este controller
@@ -94,4 +208,14 @@ public class CustomerRestController {
         public String getCpf() { return cpf; }
         public void setCpf(String cpf) { this.cpf = cpf; }
     }
+
+    public static class CustomerLookupRequestDTO {
+        private List<String> ids;
+        private List<String> cpfs;
+
+        public List<String> getIds() { return ids; }
+        public void setIds(List<String> ids) { this.ids = ids; }
+        public List<String> getCpfs() { return cpfs; }
+        public void setCpfs(List<String> cpfs) { this.cpfs = cpfs; }
+    }
 }
@@ -3,6 +3,8 @@ package com.fiap.techchallenge.external.api.exception;
 import com.fiap.techchallenge.domain.exception.DomainException;
 import com.fiap.techchallenge.domain.exception.InvalidCpfException;
 import com.fiap.techchallenge.domain.exception.InvalidEmailException;
+import com.fiap.techchallenge.domain.exception.RegistrationQueueFullException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -30,6 +32,15 @@ public class GlobalExceptionHandler {
         return buildResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    // Backpressure do cadastro assíncrono: o cliente deve repetir a chamada
+    @ExceptionHandler(RegistrationQueueFullException.class)
+    public ResponseEntity<Object> handleRegistrationQueueFullException(RegistrationQueueFullException ex) {
+        ResponseEntity<Object> response = buildResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
     private ResponseEntity<Object> buildResponse(String message, HttpStatus status) {
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
@@ -0,0 +1,78 @@
+package com.fiap.techchallenge.external.datasource.entities;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Mapeia a tabela das chaves de idempotência para que o {@code ddl-auto} a crie; a leitura
+ * e a escrita passam pelo {@code IdempotencyKeyJdbcRepository}, que precisa de
+ * {@code INSERT ... ON CONFLICT} para reservar a chave atomicamente.
+ */
+@Entity
+@Table(name = "customer_idempotency_keys",
+        indexes = @Index(name = "customer_idempotency_keys_created_at_idx", columnList = "created_at"))
+public class IdempotencyKeyJpaEntity {
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String key;
+
+    @Column(nullable = false)
+    private String fingerprint;
+
+    @Column(name = "customer_id")
+    private UUID customerId;
+
+    @Column(name = "customer_name")
+    private String customerName;
+
+    @Column(name = "customer_email")
+    private String customerEmail;
+
+    @Column(name = "customer_cpf")
+    private String customerCpf;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    public IdempotencyKeyJpaEntity() {}
+
+    public IdempotencyKeyJpaEntity(String key, String fingerprint, UUID customerId, String customerName,
+                                   String customerEmail, String customerCpf, String error) {
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.customerCpf = customerCpf;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+    public String getFingerprint() { return fingerprint; }
+    public void setFingerprint(String fingerprint) { this.fingerprint = fingerprint; }
+    public UUID getCustomerId() { return customerId; }
+    public void setCustomerId(UUID customerId) { this.customerId = customerId; }
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) { this.customerName = customerName; }
+    public String getCustomerEmail() { return customerEmail; }
+    public void setCustomerEmail(String customerEmail) { this.customerEmail = customerEmail; }
+    public String getCustomerCpf() { return customerCpf; }
+    public void setCustomerCpf(String customerCpf) { this.customerCpf = customerCpf; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+    public Instant getLockedUntil() { return lockedUntil; }
+    public void setLockedUntil(Instant lockedUntil) { this.lockedUntil = lockedUntil; }
+}
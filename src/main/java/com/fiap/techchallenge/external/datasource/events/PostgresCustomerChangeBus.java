@@ -0,0 +1,411 @@
+package com.fiap.techchallenge.external.datasource.events;
+
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeBus;
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeListener;
+import com.fiap.techchallenge.adapters.gateway.events.InMemoryCustomerChangeBus;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * {@link CustomerChangeBus} entre réplicas via LISTEN/NOTIFY do PostgreSQL.
+ * <p>
+ * {@code publish} entrega o aviso localmente e emite {@code pg_notify} pelo pool. Cada
+ * instância mantém uma conexão dedicada (fora do pool) em {@code LISTEN}, numa thread
+ * própria: os avisos que chegam juntos dentro da janela de batching são deduplicados e
+ * entregues de uma vez, ignorando os emitidos pela própria instância. Se a conexão cair,
+ * os listeners recebem {@code onDisconnected}; a thread reconecta com backoff e pede um
+ * {@code onReset}, já que avisos podem ter se perdido nesse intervalo. {@code publishReset}
+ * faz o mesmo em todas as réplicas.
+ * </p>
+ * <p>
+ * Um reset pode reler a tabela inteira, então roda numa thread própria e nunca na que
+ * drena os avisos: pedidos que chegam enquanto um reset está em andamento viram um único
+ * reset seguinte.
+ * </p>
+ * <p>
+ * Quem se inscreve com {@code subscribeRemote} enquanto o LISTEN não está ativo recebe
+ * {@code onDisconnected} na hora, e o reset vem quando a conexão subir, seja ela a primeira
+ * ou uma reconexão: o que foi lido da tabela antes disso pode não ter visto avisos.
+ * {@link #start()} espera a primeira tentativa de conexão para que, no caso comum, a carga
+ * inicial já aconteça com o LISTEN ativo e não precise ser repetida.
+ * </p>
+ */
+public class PostgresCustomerChangeBus implements CustomerChangeBus, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresCustomerChangeBus.class);
+
+    public static final String DEFAULT_CHANNEL = "customer_changed";
+
+    private static final char SEPARATOR = '|';
+    private static final String RESET = "reset";
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Callable<Connection> listenConnections;
+    private final String channel;
+    private final Duration batchWindow;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final Duration maxReconnectDelay;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final InMemoryCustomerChangeBus local = new InMemoryCustomerChangeBus();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong reconnects = new AtomicLong();
+    private final AtomicLong connections = new AtomicLong();
+
+    private final AtomicBoolean resetPending = new AtomicBoolean();
+    private final ExecutorService resetWorker = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "customer-change-reset");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final CountDownLatch firstAttempt = new CountDownLatch(1);
+    private final Object connectionLock = new Object();
+    // Alguém se inscreveu sem LISTEN ativo: a próxima conexão pede reset mesmo sendo a primeira
+    private boolean staleSubscribers;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public PostgresCustomerChangeBus(JdbcTemplate jdbcTemplate,
+                                     Callable<Connection> listenConnections,
+                                     String channel,
+                                     Duration batchWindow,
+                                     Duration pollTimeout,
+                                     Duration reconnectDelay,
+                                     Duration maxReconnectDelay) {
+        // O canal entra literal no comando LISTEN, que não aceita parâmetro
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.listenConnections = listenConnections;
+        this.channel = channel;
+        this.batchWindow = batchWindow;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.maxReconnectDelay = maxReconnectDelay;
+    }
+
+    @Override
+    public void publish(UUID id, String cpf) {
+        local.publish(id, cpf);
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload(instanceId, id, cpf));
+            published.incrementAndGet();
+        } catch (DataAccessException e) {
+            // O cliente já foi gravado; as outras réplicas ficam com o cache até o TTL
+            log.warn("Failed to notify customer change {} on channel {}", id, channel, e);
+        }
+    }
+
+    @Override
+    public void publishReset() {
+        local.reset();
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, instanceId + SEPARATOR + RESET);
+            published.incrementAndGet();
+        } catch (DataAccessException e) {
+            log.warn("Failed to notify customer reset on channel {}", channel, e);
+        }
+    }
+
+    @Override
+    public void subscribe(CustomerChangeListener listener) {
+        local.subscribe(listener);
+    }
+
+    @Override
+    public void subscribeRemote(CustomerChangeListener listener) {
+        synchronized (connectionLock) {
+            local.subscribeRemote(listener);
+            if (!connected) {
+                staleSubscribers = true;
+                listener.onDisconnected();
+            }
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "customer-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        try {
+            if (!firstAttempt.await(maxReconnectDelay.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Customer change listener is not connected yet, local caches wait for its reset");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        closeConnection();
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            try {
+                listenerThread.join(pollTimeout.toMillis() + 1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            listenerThread = null;
+        }
+        resetWorker.shutdownNow();
+        try {
+            resetWorker.awaitTermination(pollTimeout.toMillis() + 1_000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public long publishedCount() {
+        return published.get();
+    }
+
+    public long receivedCount() {
+        return received.get();
+    }
+
+    public long batchCount() {
+        return batches.get();
+    }
+
+    public long reconnectCount() {
+        return reconnects.get();
+    }
+
+    private void listen() {
+        long delay = reconnectDelay.toMillis();
+        boolean firstConnection = true;
+        while (running) {
+            try {
+                PGConnection pgConnection = connect();
+                boolean missedChanges = markConnected();
+                firstAttempt.countDown();
+                if (!firstConnection) {
+                    reconnects.incrementAndGet();
+                    log.info("Customer change listener reconnected, resetting local caches");
+                    requestReset();
+                } else if (missedChanges) {
+                    log.info("Customer change listener connected after subscribers loaded, resetting local caches");
+                    requestReset();
+                }
+                firstConnection = false;
+                delay = reconnectDelay.toMillis();
+                while (running) {
+                    poll(pgConnection);
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Customer change listener lost its connection, retrying in {} ms", delay, e);
+            } finally {
+                closeConnection();
+                firstAttempt.countDown();
+            }
+            local.disconnected();
+            if (!sleep(delay)) {
+                break;
+            }
+            delay = Math.min(delay * 2, maxReconnectDelay.toMillis());
+        }
+    }
+
+    private PGConnection connect() throws SQLException {
+        Connection listenConnection;
+        try {
+            listenConnection = listenConnections.call();
+        } catch (SQLException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SQLException("Could not open customer change listener connection", e);
+        }
+        connection = listenConnection;
+        listenConnection.setAutoCommit(true);
+        try (Statement statement = listenConnection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        }
+        connections.incrementAndGet();
+        return listenConnection.unwrap(PGConnection.class);
+    }
+
+    /**
+     * @return {@code true} se algum listener se inscreveu sem LISTEN ativo desde a última conexão
+     */
+    private boolean markConnected() {
+        synchronized (connectionLock) {
+            connected = true;
+            boolean missedChanges = staleSubscribers;
+            staleSubscribers = false;
+            return missedChanges;
+        }
+    }
+
+    /**
+     * Agenda um reset, a menos que já exista um esperando para rodar: o que está na fila
+     * ainda vai reler tudo e cobre este pedido também.
+     */
+    void requestReset() {
+        if (resetPending.compareAndSet(false, true)) {
+            try {
+                resetWorker.execute(this::runReset);
+            } catch (RejectedExecutionException e) {
+                resetPending.set(false);
+            }
+        }
+    }
+
+    private void runReset() {
+        // Liberado antes de começar: um pedido durante este reset agenda o próximo
+        resetPending.set(false);
+        long epoch = connections.get();
+        local.reset();
+        // A conexão caiu no meio do reset: o que foi recarregado pode já ter perdido avisos
+        if (!connected || connections.get() != epoch) {
+            local.disconnected();
+        }
+    }
+
+    /**
+     * Espera o primeiro aviso por até {@code pollTimeout}; depois dele, segura a janela de
+     * batching para juntar a rajada e entrega tudo de uma vez.
+     */
+    void poll(PGConnection pgConnection) throws SQLException {
+        PGNotification[] first = pgConnection.getNotifications((int) pollTimeout.toMillis());
+        if (first == null || first.length == 0) {
+            return;
+        }
+        Map<UUID, String> changes = new LinkedHashMap<>();
+        boolean reset = collect(first, changes);
+        if (!batchWindow.isZero() && sleep(batchWindow.toMillis())) {
+            reset |= collect(pgConnection.getNotifications(), changes);
+        }
+        if (reset) {
+            // O reset já cobre os avisos individuais da mesma rajada
+            batches.incrementAndGet();
+            requestReset();
+        } else if (!changes.isEmpty()) {
+            batches.incrementAndGet();
+            changes.forEach(local::publishRemote);
+        }
+    }
+
+    /**
+     * @return {@code true} se alguma outra réplica pediu reset
+     */
+    private boolean collect(PGNotification[] notifications, Map<UUID, String> changes) {
+        if (notifications == null) {
+            return false;
+        }
+        boolean reset = false;
+        for (PGNotification notification : notifications) {
+            received.incrementAndGet();
+            String payload = notification.getParameter();
+            if (isReset(payload)) {
+                reset |= !payload.startsWith(instanceId + SEPARATOR);
+                continue;
+            }
+            String[] parts = parse(payload);
+            if (parts == null) {
+                log.warn("Ignoring malformed customer change notification: {}", notification.getParameter());
+            } else if (!instanceId.equals(parts[0])) {
+                changes.put(UUID.fromString(parts[1]), parts[2]);
+            }
+        }
+        return reset;
+    }
+
+    // "instanceId|reset": um único separador, o que nunca acontece num aviso de cliente
+    static boolean isReset(String payload) {
+        return payload != null && payload.endsWith(RESET)
+                && payload.indexOf(SEPARATOR) == payload.length() - RESET.length() - 1;
+    }
+
+    static String payload(String instanceId, UUID id, String cpf) {
+        return instanceId + SEPARATOR + id + SEPARATOR + (cpf == null ? "" : cpf);
+    }
+
+    /**
+     * @return {@code [instanceId, id, cpf]}, ou {@code null} se o payload não estiver no formato esperado
+     */
+    static String[] parse(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        int first = payload.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : payload.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            return null;
+        }
+        String id = payload.substring(first + 1, second);
+        try {
+            UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        String cpf = payload.substring(second + 1);
+        return new String[]{payload.substring(0, first), id, cpf.isEmpty() ? null : cpf};
+    }
+
+    private void closeConnection() {
+        connected = false;
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("Error closing customer change listener connection", e);
+            }
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * Group commit dos cadastros: inserções concorrentes são reunidas numa janela curta
+ * (tempo ou quantidade de linhas, o que vier primeiro) e gravadas num único INSERT
+ * multi-linha, numa única transação.
+ * <p>
+ * Quem chama {@link #insertIfAbsent} fica bloqueado até o commit do lote em que entrou e
+ * recebe o resultado da própria linha ({@code false} se o CPF já existia). Se o lote
+ * inteiro falhar por outro motivo, as linhas são repetidas uma a uma, para que o erro
+ * chegue só a quem o causou.
+ * </p>
+ */
+public class CustomerGroupCommitter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerGroupCommitter.class);
+
+    // Intervalo em que o flusher confere se foi parado enquanto espera
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final CustomerJdbcRepository customerJdbcRepository;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final IntConsumer batchSizes;
+    private final BlockingQueue<PendingInsert> queue = new LinkedBlockingQueue<>();
+
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusherThread;
+
+    /**
+     * @param batchSizes recebe o tamanho de cada lote gravado (histograma de métricas)
+     */
+    public CustomerGroupCommitter(CustomerJdbcRepository customerJdbcRepository,
+                                  int maxBatchSize,
+                                  Duration maxWait,
+                                  IntConsumer batchSizes) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive: " + maxBatchSize);
+        }
+        this.customerJdbcRepository = customerJdbcRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.batchSizes = batchSizes;
+    }
+
+    /**
+     * Mesmo contrato de {@link CustomerJdbcRepository#insertIfAbsent}, mas dividindo o commit
+     * com as outras inserções da mesma janela. Sem o flusher rodando, grava direto.
+     */
+    public boolean insertIfAbsent(CustomerJpaEntity customer) {
+        if (!running) {
+            return customerJdbcRepository.insertIfAbsent(customer);
+        }
+        PendingInsert pending = new PendingInsert(customer);
+        queue.add(pending);
+        // Corrida com close(): se ninguém mais vai drenar a fila, a linha é gravada aqui mesmo
+        if (!running && queue.remove(pending)) {
+            return customerJdbcRepository.insertIfAbsent(customer);
+        }
+        return await(pending.result);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusherThread = new Thread(this::flushLoop, "customer-group-commit");
+        flusherThread.setDaemon(true);
+        flusherThread.start();
+    }
+
+    /**
+     * Para de aceitar inserções e grava o que já estava na fila antes de retornar.
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (flusherThread != null) {
+            try {
+                flusherThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusherThread = null;
+        }
+        // Quem entrou na fila entre o fim do flusher e o running = false
+        List<PendingInsert> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, maxBatchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+    }
+
+    public long commitCount() {
+        return commits.get();
+    }
+
+    public long rowCount() {
+        return rows.get();
+    }
+
+    public long fallbackCount() {
+        return fallbacks.get();
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    private void flushLoop() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingInsert first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    // O que já está na fila entra sem esperar; depois, só até o fim da janela
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !running) {
+                        break;
+                    }
+                    PendingInsert next = queue.poll(
+                            Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MILLIS)), TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        List<CustomerJpaEntity> customers = new ArrayList<>(batch.size());
+        for (PendingInsert pending : batch) {
+            customers.add(pending.customer);
+        }
+        try {
+            boolean[] inserted = customerJdbcRepository.insertAllIfAbsent(customers);
+            commits.incrementAndGet();
+            rows.addAndGet(batch.size());
+            batchSizes.accept(batch.size());
+            for (int i = 0; i < inserted.length; i++) {
+                batch.get(i).result.complete(inserted[i]);
+            }
+        } catch (DataAccessException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            fallbacks.incrementAndGet();
+            log.warn("Customer group commit of {} rows failed, retrying one by one", batch.size(), e);
+            for (PendingInsert pending : batch) {
+                insertAlone(pending);
+            }
+        } catch (RuntimeException | Error e) {
+            for (PendingInsert pending : batch) {
+                pending.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void insertAlone(PendingInsert pending) {
+        try {
+            pending.result.complete(customerJdbcRepository.insertIfAbsent(pending.customer));
+            commits.incrementAndGet();
+            rows.incrementAndGet();
+            batchSizes.accept(1);
+        } catch (RuntimeException | Error e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    private static boolean await(CompletableFuture<Boolean> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class PendingInsert {
+        private final CustomerJpaEntity customer;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private PendingInsert(CustomerJpaEntity customer) {
+            this.customer = customer;
+        }
+    }
+}
@@ -0,0 +1,518 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Acesso JDBC direto à tabela de clientes para operações em que o JPA
+ * materializaria entidades demais (varreduras completas, cargas em lote).
+ */
+@Repository
+public class CustomerJdbcRepository {
+
+    static final int FETCH_SIZE = 1_000;
+    // Mesmo valor de hibernate.jdbc.batch_size
+    static final int BATCH_SIZE = 256;
+
+    private static final String SELECT_ALL = "SELECT id, name, email, cpf FROM customers";
+    private static final String INSERT = "INSERT INTO customers (id, name, email, cpf) VALUES (?, ?, ?, ?)";
+    private static final String ON_CONFLICT_RETURNING = " ON CONFLICT (cpf) DO NOTHING RETURNING id";
+    private static final String INSERT_IF_ABSENT = INSERT + ON_CONFLICT_RETURNING;
+    private static final String INSERT_OR_SKIP = INSERT + " ON CONFLICT (cpf) DO NOTHING";
+    private static final String SELECT_EXISTING_CPFS = "SELECT cpf FROM customers WHERE cpf = ANY(?)";
+    private static final String SELECT_EXISTING_IDS = "SELECT id FROM customers WHERE id = ANY(?)";
+    private static final String SELECT_BY_CPF = SELECT_ALL + " WHERE cpf = ?";
+    private static final String SELECT_BY_IDS = SELECT_ALL + " WHERE id = ANY(?)";
+    private static final String SELECT_BY_CPFS = SELECT_ALL + " WHERE cpf = ANY(?)";
+    private static final String SELECT_FIRST_PAGE = SELECT_ALL + " ORDER BY id LIMIT ?";
+    private static final String SELECT_PAGE_AFTER = SELECT_ALL + " WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_FIRST_ID = "SELECT id FROM customers ORDER BY id LIMIT 1";
+    private static final String SELECT_LAST_ID = "SELECT id FROM customers ORDER BY id DESC LIMIT 1";
+    private static final String SELECT_ORDERED = SELECT_ALL + " ORDER BY id";
+    private static final String SELECT_RANGE = SELECT_ALL + " WHERE id >= ? AND id < ? ORDER BY id";
+    private static final String SELECT_RANGE_FROM = SELECT_ALL + " WHERE id >= ? ORDER BY id";
+    private static final String SELECT_RANGE_BEFORE = SELECT_ALL + " WHERE id < ? ORDER BY id";
+    // Quando o INSERT entra, o SELECT (mesmo snapshot) não enxerga a linha nova: sai no máximo uma linha
+    private static final String INSERT_OR_SELECT = "WITH inserted AS (" + INSERT
+            + " ON CONFLICT (cpf) DO NOTHING RETURNING id, name, email, cpf)"
+            + " SELECT id, name, email, cpf FROM inserted"
+            + " UNION ALL " + SELECT_BY_CPF;
+
+    // Área de staging das importações em massa; UNLOGGED no PostgreSQL, já que é descartável
+    private static final String STAGING_COLUMNS = "(import_id UUID NOT NULL, id UUID NOT NULL,"
+            + " name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, cpf VARCHAR(255) NOT NULL)";
+    private static final String CREATE_STAGING = "CREATE TABLE IF NOT EXISTS customers_import " + STAGING_COLUMNS;
+    private static final String CREATE_UNLOGGED_STAGING = "CREATE UNLOGGED TABLE IF NOT EXISTS customers_import " + STAGING_COLUMNS;
+    private static final String CREATE_STAGING_INDEX = "CREATE INDEX IF NOT EXISTS customers_import_import_id_idx"
+            + " ON customers_import (import_id)";
+    private static final String COPY_STAGING = "COPY customers_import (import_id, id, name, email, cpf)"
+            + " FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_STAGING = "INSERT INTO customers_import (import_id, id, name, email, cpf)"
+            + " VALUES (?, ?, ?, ?, ?)";
+    private static final String MERGE_STAGING = "INSERT INTO customers (id, name, email, cpf)"
+            + " SELECT id, name, email, cpf FROM customers_import WHERE import_id = ?"
+            + " ON CONFLICT (cpf) DO NOTHING";
+    private static final String MERGE_STAGING_IF_ABSENT = "INSERT INTO customers (id, name, email, cpf)"
+            + " SELECT s.id, s.name, s.email, s.cpf FROM customers_import s WHERE s.import_id = ?"
+            + " AND NOT EXISTS (SELECT 1 FROM customers c WHERE c.cpf = s.cpf)";
+    private static final String DELETE_STAGING = "DELETE FROM customers_import WHERE import_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private volatile Boolean postgres;
+    private volatile boolean stagingReady;
+
+    public CustomerJdbcRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Percorre a tabela inteira com um cursor do lado do servidor: o PostgreSQL só
+     * respeita o fetch size dentro de uma transação, por isso a leitura roda em uma.
+     */
+    public void forEach(Consumer<CustomerJpaEntity> action) {
+        stream(SELECT_ALL, action);
+    }
+
+    /**
+     * Mesmo cursor do {@link #forEach}, restrito a uma faixa da chave primária e em ordem de ID.
+     * Cada chamada usa a sua própria conexão, então faixas disjuntas podem ser lidas em paralelo.
+     *
+     * @param from primeiro ID da faixa (inclusive); {@code null} para começar do início
+     * @param to   fim da faixa (exclusive); {@code null} para ir até o último
+     */
+    public void forEachInRange(UUID from, UUID to, Consumer<CustomerJpaEntity> action) {
+        if (from == null && to == null) {
+            stream(SELECT_ORDERED, action);
+        } else if (from == null) {
+            stream(SELECT_RANGE_BEFORE, action, to);
+        } else if (to == null) {
+            stream(SELECT_RANGE_FROM, action, from);
+        } else {
+            stream(SELECT_RANGE, action, from, to);
+        }
+    }
+
+    public Optional<UUID> findFirstId() {
+        return jdbcTemplate.queryForList(SELECT_FIRST_ID, UUID.class).stream().findFirst();
+    }
+
+    public Optional<UUID> findLastId() {
+        return jdbcTemplate.queryForList(SELECT_LAST_ID, UUID.class).stream().findFirst();
+    }
+
+    private void stream(String sql, Consumer<CustomerJpaEntity> action, Object... args) {
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, (RowCallbackHandler) resultSet -> action.accept(mapRow(resultSet))));
+    }
+
+    /**
+     * Página por keyset na chave primária: {@code WHERE id > ? ORDER BY id LIMIT ?} desce direto
+     * no índice da PK a partir do último ID lido, então a página N custa o mesmo que a primeira
+     * (ao contrário de um {@code OFFSET}, que percorre e descarta todas as linhas anteriores).
+     *
+     * @param after último ID da página anterior; {@code null} para a primeira página
+     */
+    public List<CustomerJpaEntity> findPage(UUID after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(SELECT_FIRST_PAGE, (resultSet, rowNum) -> mapRow(resultSet), limit);
+        }
+        return jdbcTemplate.query(SELECT_PAGE_AFTER, (resultSet, rowNum) -> mapRow(resultSet), after, limit);
+    }
+
+    /**
+     * A mesma página, mas o SELECT traz só as colunas dos campos pedidos e cada linha vira um
+     * mapa nome do campo → valor, sem passar por {@link CustomerJpaEntity}.
+     *
+     * @param fields campos lidos, na ordem em que entram no mapa; precisa conter {@link CustomerField#ID}
+     */
+    public List<Map<String, Object>> findPage(UUID after, int limit, Set<CustomerField> fields) {
+        String select = "SELECT " + columns(fields) + " FROM customers";
+        RowMapper<Map<String, Object>> rowMapper = (resultSet, rowNum) -> mapFields(resultSet, fields);
+        if (after == null) {
+            return jdbcTemplate.query(select + " ORDER BY id LIMIT ?", rowMapper, limit);
+        }
+        return jdbcTemplate.query(select + " WHERE id > ? ORDER BY id LIMIT ?", rowMapper, after, limit);
+    }
+
+    /**
+     * Insere o cliente em um único comando, sem consultar antes se o CPF existe.
+     * <p>
+     * No PostgreSQL o conflito de CPF vira "nenhuma linha retornada" via
+     * {@code ON CONFLICT (cpf) DO NOTHING RETURNING}; nos demais bancos (H2 nos testes)
+     * o INSERT simples tem o mesmo efeito, com a violação da unique traduzida pelo Spring.
+     * </p>
+     *
+     * @return {@code false} se já existe um cliente com o mesmo CPF
+     */
+    public boolean insertIfAbsent(CustomerJpaEntity customer) {
+        Object[] args = {customer.getId(), customer.getName(), customer.getEmail(), customer.getCpf()};
+        if (isPostgres()) {
+            List<UUID> inserted = jdbcTemplate.queryForList(INSERT_IF_ABSENT, UUID.class, args);
+            return !inserted.isEmpty();
+        }
+        try {
+            jdbcTemplate.update(INSERT, args);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Insere o cliente ou devolve o que já tem o mesmo CPF.
+     * <p>
+     * No PostgreSQL é um único comando: o {@code INSERT ... ON CONFLICT DO NOTHING RETURNING}
+     * numa CTE, unido ao {@code SELECT} pelo CPF. Se o conflito for com um cadastro que
+     * commitou depois do snapshot do comando, nenhum dos dois enxerga a linha e ela é
+     * relida numa segunda consulta. Nos demais bancos é o {@link #insertIfAbsent} seguido
+     * da consulta, quando o CPF já existia.
+     * </p>
+     *
+     * @return o cliente gravado com esse CPF; o próprio {@code customer} se ele foi inserido
+     */
+    public CustomerJpaEntity insertOrFind(CustomerJpaEntity customer) {
+        if (isPostgres()) {
+            List<CustomerJpaEntity> rows = jdbcTemplate.query(INSERT_OR_SELECT, (resultSet, rowNum) -> mapRow(resultSet),
+                    customer.getId(), customer.getName(), customer.getEmail(), customer.getCpf(), customer.getCpf());
+            if (!rows.isEmpty()) {
+                return rows.get(0);
+            }
+        } else if (insertIfAbsent(customer)) {
+            return customer;
+        }
+        return jdbcTemplate.query(SELECT_BY_CPF, (resultSet, rowNum) -> mapRow(resultSet), customer.getCpf())
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Customer with CPF " + customer.getCpf()
+                        + " conflicted on insert but could not be read"));
+    }
+
+    /**
+     * Insere vários clientes numa única transação (um único commit).
+     * <p>
+     * No PostgreSQL é um só INSERT multi-linha com {@code ON CONFLICT (cpf) DO NOTHING RETURNING id}:
+     * os IDs devolvidos dizem quais linhas entraram, inclusive quando o mesmo CPF aparece
+     * duas vezes no lote. Nos demais bancos cada linha é um INSERT na mesma transação, e a
+     * violação da unique só descarta aquela linha.
+     * </p>
+     *
+     * @return para cada posição da lista, {@code false} se o CPF já existia
+     */
+    public boolean[] insertAllIfAbsent(List<CustomerJpaEntity> customers) {
+        boolean[] inserted = new boolean[customers.size()];
+        if (customers.isEmpty()) {
+            return inserted;
+        }
+        if (isPostgres()) {
+            Set<UUID> ids = new HashSet<>(writeTransaction.execute(status ->
+                    jdbcTemplate.queryForList(multiRowInsert(customers.size()), UUID.class, flatten(customers))));
+            for (int i = 0; i < inserted.length; i++) {
+                inserted[i] = ids.contains(customers.get(i).getId());
+            }
+            return inserted;
+        }
+        return insertEachIfAbsent(customers);
+    }
+
+    /**
+     * Mesmo contrato de {@link #insertAllIfAbsent}, mas via JDBC batch ({@code addBatch}/{@code executeBatch})
+     * em blocos de {@link #BATCH_SIZE}: com {@code reWriteBatchedInserts=true} o pgjdbc reescreve cada bloco
+     * como um INSERT multi-linha. Nesse caso o driver não informa a contagem por linha
+     * ({@link Statement#SUCCESS_NO_INFO}) e as linhas gravadas são confirmadas com uma consulta por ID.
+     */
+    public boolean[] batchInsertIfAbsent(List<CustomerJpaEntity> customers) {
+        if (customers.isEmpty()) {
+            return new boolean[0];
+        }
+        if (!isPostgres()) {
+            return insertEachIfAbsent(customers);
+        }
+        return writeTransaction.execute(status -> {
+            int[][] counts = jdbcTemplate.batchUpdate(INSERT_OR_SKIP, customers, BATCH_SIZE, (statement, customer) -> {
+                statement.setObject(1, customer.getId());
+                statement.setString(2, customer.getName());
+                statement.setString(3, customer.getEmail());
+                statement.setString(4, customer.getCpf());
+            });
+            boolean[] inserted = new boolean[customers.size()];
+            boolean unknown = false;
+            int i = 0;
+            for (int[] block : counts) {
+                for (int count : block) {
+                    unknown |= count == Statement.SUCCESS_NO_INFO;
+                    inserted[i++] = count > 0;
+                }
+            }
+            if (unknown) {
+                Set<UUID> ids = new HashSet<>(findExistingIds(customers));
+                for (int j = 0; j < inserted.length; j++) {
+                    inserted[j] = ids.contains(customers.get(j).getId());
+                }
+            }
+            return inserted;
+        });
+    }
+
+    /**
+     * CPFs da lista que já estão cadastrados, numa única consulta {@code cpf = ANY(?)}.
+     */
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        if (cpfs.isEmpty()) {
+            return Set.of();
+        }
+        String[] values = cpfs.toArray(String[]::new);
+        return new HashSet<>(jdbcTemplate.query(SELECT_EXISTING_CPFS,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("varchar", values)),
+                (resultSet, rowNum) -> resultSet.getString("cpf")));
+    }
+
+    /**
+     * Clientes com os IDs da lista, numa única consulta {@code id = ANY(?)}.
+     */
+    public List<CustomerJpaEntity> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        UUID[] values = ids.toArray(UUID[]::new);
+        return jdbcTemplate.query(SELECT_BY_IDS,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("uuid", values)),
+                (resultSet, rowNum) -> mapRow(resultSet));
+    }
+
+    /**
+     * Clientes com os CPFs da lista, numa única consulta {@code cpf = ANY(?)}.
+     */
+    public List<CustomerJpaEntity> findAllByCpfs(Collection<String> cpfs) {
+        if (cpfs.isEmpty()) {
+            return List.of();
+        }
+        String[] values = cpfs.toArray(String[]::new);
+        return jdbcTemplate.query(SELECT_BY_CPFS,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("varchar", values)),
+                (resultSet, rowNum) -> mapRow(resultSet));
+    }
+
+    private List<UUID> findExistingIds(List<CustomerJpaEntity> customers) {
+        UUID[] ids = customers.stream().map(CustomerJpaEntity::getId).toArray(UUID[]::new);
+        return jdbcTemplate.query(SELECT_EXISTING_IDS,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids)),
+                (resultSet, rowNum) -> resultSet.getObject("id", UUID.class));
+    }
+
+    // Sem ON CONFLICT (H2): um INSERT por linha na mesma transação, a violação da unique só descarta a linha
+    private boolean[] insertEachIfAbsent(List<CustomerJpaEntity> customers) {
+        boolean[] inserted = new boolean[customers.size()];
+        writeTransaction.executeWithoutResult(status -> {
+            for (int i = 0; i < inserted.length; i++) {
+                CustomerJpaEntity customer = customers.get(i);
+                try {
+                    jdbcTemplate.update(INSERT, customer.getId(), customer.getName(), customer.getEmail(), customer.getCpf());
+                    inserted[i] = true;
+                } catch (DuplicateKeyException e) {
+                    inserted[i] = false;
+                }
+            }
+        });
+        return inserted;
+    }
+
+    /**
+     * Grava um bloco de uma importação na tabela de staging {@code customers_import}.
+     * <p>
+     * No PostgreSQL o bloco vai num único {@code COPY ... FROM STDIN} (CSV) pelo
+     * {@code CopyManager} do pgjdbc; nos demais bancos (H2 nos testes), via JDBC batch.
+     * Nada é validado aqui: o staging aceita CPF repetido, quem resolve é o {@link #mergeStaging}.
+     * </p>
+     */
+    public void copyToStaging(UUID importId, List<CustomerJpaEntity> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        ensureStaging();
+        if (!isPostgres()) {
+            jdbcTemplate.batchUpdate(INSERT_STAGING, customers, BATCH_SIZE, (statement, customer) -> {
+                statement.setObject(1, importId);
+                statement.setObject(2, customer.getId());
+                statement.setString(3, customer.getName());
+                statement.setString(4, customer.getEmail());
+                statement.setString(5, customer.getCpf());
+            });
+            return;
+        }
+        String csv = toCsv(importId, customers);
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING, new StringReader(csv));
+            } catch (IOException e) {
+                throw new SQLException("Could not stream customers to COPY", e);
+            }
+        });
+    }
+
+    /**
+     * Move as linhas da importação do staging para {@code customers} num único
+     * {@code INSERT ... SELECT}, na mesma transação que limpa o staging. CPFs já cadastrados
+     * ficam de fora ({@code ON CONFLICT (cpf) DO NOTHING} no PostgreSQL, {@code NOT EXISTS} nos demais).
+     *
+     * @return quantas linhas entraram em {@code customers}
+     */
+    public long mergeStaging(UUID importId) {
+        ensureStaging();
+        String merge = isPostgres() ? MERGE_STAGING : MERGE_STAGING_IF_ABSENT;
+        return writeTransaction.execute(status -> {
+            int inserted = jdbcTemplate.update(merge, importId);
+            jdbcTemplate.update(DELETE_STAGING, importId);
+            return (long) inserted;
+        });
+    }
+
+    public void clearStaging(UUID importId) {
+        ensureStaging();
+        jdbcTemplate.update(DELETE_STAGING, importId);
+    }
+
+    // A tabela de staging não é uma entidade JPA, então o ddl-auto não a cria
+    private void ensureStaging() {
+        if (stagingReady) {
+            return;
+        }
+        jdbcTemplate.execute(isPostgres() ? CREATE_UNLOGGED_STAGING : CREATE_STAGING);
+        jdbcTemplate.execute(CREATE_STAGING_INDEX);
+        stagingReady = true;
+    }
+
+    static String toCsv(UUID importId, List<CustomerJpaEntity> customers) {
+        String prefix = importId + ",";
+        StringBuilder csv = new StringBuilder(customers.size() * 128);
+        for (CustomerJpaEntity customer : customers) {
+            csv.append(prefix).append(customer.getId()).append(',');
+            appendCsvField(csv, customer.getName());
+            csv.append(',');
+            appendCsvField(csv, customer.getEmail());
+            csv.append(',');
+            appendCsvField(csv, customer.getCpf());
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    // Sempre entre aspas: vírgula, aspas e quebra de linha no nome não quebram o COPY, e "" não vira NULL
+    private static void appendCsvField(StringBuilder csv, String value) {
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        csv.append('"');
+    }
+
+    static String multiRowInsert(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + rows * 15 + ON_CONFLICT_RETURNING.length());
+        sql.append(INSERT);
+        for (int i = 1; i < rows; i++) {
+            sql.append(", (?, ?, ?, ?)");
+        }
+        return sql.append(ON_CONFLICT_RETURNING).toString();
+    }
+
+    private static Object[] flatten(List<CustomerJpaEntity> customers) {
+        Object[] args = new Object[customers.size() * 4];
+        int i = 0;
+        for (CustomerJpaEntity customer : customers) {
+            args[i++] = customer.getId();
+            args[i++] = customer.getName();
+            args[i++] = customer.getEmail();
+            args[i++] = customer.getCpf();
+        }
+        return args;
+    }
+
+    private boolean isPostgres() {
+        Boolean current = postgres;
+        if (current == null) {
+            current = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = current;
+        }
+        return current;
+    }
+
+    // Os nomes das colunas saem do enum, nunca do texto da requisição
+    private static String columns(Set<CustomerField> fields) {
+        StringJoiner columns = new StringJoiner(", ");
+        for (CustomerField field : fields) {
+            columns.add(column(field));
+        }
+        return columns.toString();
+    }
+
+    private static String column(CustomerField field) {
+        return switch (field) {
+            case ID -> "id";
+            case NAME -> "name";
+            case EMAIL -> "email";
+            case CPF -> "cpf";
+        };
+    }
+
+    private static Map<String, Object> mapFields(ResultSet resultSet, Set<CustomerField> fields) throws SQLException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (CustomerField field : fields) {
+            Object value = field == CustomerField.ID
+                    ? resultSet.getObject(column(field), UUID.class)
+                    : resultSet.getString(column(field));
+            row.put(field.getFieldName(), value);
+        }
+        return row;
+    }
+
+    static CustomerJpaEntity mapRow(ResultSet resultSet) throws SQLException {
+        return new CustomerJpaEntity(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("name"),
+                resultSet.getString("email"),
+                resultSet.getString("cpf")
+        );
+    }
+}
@@ -0,0 +1,117 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fiap.techchallenge.external.datasource.entities.IdempotencyKeyJpaEntity;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Acesso JDBC à tabela {@code customer_idempotency_keys}: a reserva da chave precisa ser
+ * um único comando atômico entre réplicas, o que o {@code save} do JPA (SELECT + INSERT) não é.
+ */
+@Repository
+public class IdempotencyKeyJdbcRepository {
+
+    private static final String INSERT = "INSERT INTO customer_idempotency_keys"
+            + " (idempotency_key, fingerprint, created_at, locked_until) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_IF_ABSENT = INSERT + " ON CONFLICT (idempotency_key) DO NOTHING";
+    // Retoma a chave expirada ou a reserva abandonada por uma réplica que caiu antes de gravar o resultado
+    private static final String TAKE_OVER = "UPDATE customer_idempotency_keys SET fingerprint = ?,"
+            + " customer_id = NULL, customer_name = NULL, customer_email = NULL, customer_cpf = NULL, error = NULL,"
+            + " created_at = ?, locked_until = ?"
+            + " WHERE idempotency_key = ?"
+            + " AND (created_at < ? OR (customer_id IS NULL AND error IS NULL AND locked_until < ?))";
+    private static final String SELECT = "SELECT idempotency_key, fingerprint, customer_id, customer_name,"
+            + " customer_email, customer_cpf, error FROM customer_idempotency_keys WHERE idempotency_key = ?";
+    private static final String COMPLETE = "UPDATE customer_idempotency_keys SET customer_id = ?, customer_name = ?,"
+            + " customer_email = ?, customer_cpf = ?, locked_until = NULL WHERE idempotency_key = ?";
+    private static final String FAIL = "UPDATE customer_idempotency_keys SET error = ?, locked_until = NULL"
+            + " WHERE idempotency_key = ?";
+    private static final String RELEASE = "DELETE FROM customer_idempotency_keys"
+            + " WHERE idempotency_key = ? AND customer_id IS NULL AND error IS NULL";
+    private static final String PURGE = "DELETE FROM customer_idempotency_keys WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public IdempotencyKeyJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insere a chave; se ela já existe, tenta retomá-la (expirada ou abandonada).
+     *
+     * @return {@code true} se a chave ficou reservada para quem chamou
+     */
+    public boolean reserve(String key, String fingerprint, Instant now, Instant lockedUntil, Instant expiredBefore) {
+        if (insert(key, fingerprint, now, lockedUntil)) {
+            return true;
+        }
+        return jdbcTemplate.update(TAKE_OVER, fingerprint, Timestamp.from(now), Timestamp.from(lockedUntil),
+                key, Timestamp.from(expiredBefore), Timestamp.from(now)) > 0;
+    }
+
+    public Optional<IdempotencyKeyJpaEntity> findByKey(String key) {
+        return jdbcTemplate.query(SELECT, (resultSet, rowNum) -> mapRow(resultSet), key).stream().findFirst();
+    }
+
+    public void complete(String key, UUID customerId, String name, String email, String cpf) {
+        jdbcTemplate.update(COMPLETE, customerId, name, email, cpf, key);
+    }
+
+    public void fail(String key, String error) {
+        jdbcTemplate.update(FAIL, error, key);
+    }
+
+    public void release(String key) {
+        jdbcTemplate.update(RELEASE, key);
+    }
+
+    public int deleteCreatedBefore(Instant before) {
+        return jdbcTemplate.update(PURGE, Timestamp.from(before));
+    }
+
+    // Sem ON CONFLICT (H2): a violação da PK traduzida pelo Spring tem o mesmo efeito
+    private boolean insert(String key, String fingerprint, Instant now, Instant lockedUntil) {
+        Object[] args = {key, fingerprint, Timestamp.from(now), Timestamp.from(lockedUntil)};
+        if (isPostgres()) {
+            return jdbcTemplate.update(INSERT_IF_ABSENT, args) > 0;
+        }
+        try {
+            jdbcTemplate.update(INSERT, args);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean current = postgres;
+        if (current == null) {
+            current = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = current;
+        }
+        return current;
+    }
+
+    private static IdempotencyKeyJpaEntity mapRow(ResultSet resultSet) throws SQLException {
+        return new IdempotencyKeyJpaEntity(
+                resultSet.getString("idempotency_key"),
+                resultSet.getString("fingerprint"),
+                resultSet.getObject("customer_id", UUID.class),
+                resultSet.getString("customer_name"),
+                resultSet.getString("customer_email"),
+                resultSet.getString("customer_cpf"),
+                resultSet.getString("error")
+        );
+    }
+}
@@ -1,7 +1,11 @@
 package com.fiap.techchallenge.adapters.controllers;
 
+import com.fiap.techchallenge.adapters.presenters.CustomerJson;
+import com.fiap.techchallenge.adapters.presenters.CustomerJsonPresenter;
 import com.fiap.techchallenge.application.usecases.CustomerUseCase;
+import com.fiap.techchallenge.application.usecases.IdempotencyStore;
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.exception.DomainException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,6 +15,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -85,6 +91,57 @@ class CustomerControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Idempotent Register Customer Tests")
+    class IdempotentRegisterCustomerTests {
+
+        @Test
+        @DisplayName("Should answer a retry with the same key without calling the use case again")
+        void shouldAnswerRetryWithoutCallingUseCaseAgain() {
+            // Arrange
+            CustomerController controller = new CustomerController(customerUseCase, mock(CustomerJsonPresenter.class),
+                    new IdempotencyStore(4, 100, Duration.ofHours(1)));
+            when(customerUseCase.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF)).thenReturn(mockCustomer);
+
+            // Act
+            Customer first = controller.registerCustomer("retry-123", VALID_NAME, VALID_EMAIL, VALID_CPF);
+            Customer retry = controller.registerCustomer("retry-123", VALID_NAME, VALID_EMAIL, VALID_CPF);
+
+            // Assert
+            assertSame(first, retry);
+            verify(customerUseCase, times(1)).registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF);
+        }
+
+        @Test
+        @DisplayName("Should call the use case directly without a key")
+        void shouldCallUseCaseDirectlyWithoutKey() {
+            // Arrange
+            CustomerController controller = new CustomerController(customerUseCase, mock(CustomerJsonPresenter.class),
+                    new IdempotencyStore(4, 100, Duration.ofHours(1)));
+            when(customerUseCase.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF)).thenReturn(mockCustomer);
+
+            // Act
+            controller.registerCustomer(null, VALID_NAME, VALID_EMAIL, VALID_CPF);
+            controller.registerCustomer(null, VALID_NAME, VALID_EMAIL, VALID_CPF);
+
+            // Assert
+            verify(customerUseCase, times(2)).registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF);
+        }
+
+        @Test
+        @DisplayName("Should reject a blank key")
+        void shouldRejectBlankKey() {
+            // Arrange
+            CustomerController controller = new CustomerController(customerUseCase, mock(CustomerJsonPresenter.class),
+                    new IdempotencyStore(4, 100, Duration.ofHours(1)));
+
+            // Act & Assert
+            assertThrows(DomainException.class,
+                    () -> controller.registerCustomer(" ", VALID_NAME, VALID_EMAIL, VALID_CPF));
+            verifyNoInteractions(customerUseCase);
+        }
+    }
+
     @Nested
     @DisplayName("Find Customer By CPF Tests")
     class FindCustomerByCpfTests {
@@ -194,6 +251,44 @@ class CustomerControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Find Customer JSON Tests")
+    class FindCustomerJsonTests {
+
+        @Test
+        @DisplayName("Should render customer found by ID as JSON")
+        void shouldRenderCustomerFoundByIdAsJson() {
+            // Arrange
+            CustomerController controller = new CustomerController(customerUseCase);
+            when(customerUseCase.findCustomerById(CUSTOMER_ID))
+                    .thenReturn(Optional.of(mockCustomer));
+
+            // Act
+            Optional<CustomerJson> result = controller.findCustomerJsonById(CUSTOMER_ID);
+
+            // Assert
+            assertTrue(result.isPresent());
+            String json = new String(result.get().getBody(), StandardCharsets.UTF_8);
+            assertTrue(json.contains("\"id\":\"" + CUSTOMER_ID + "\""));
+            assertTrue(json.contains("\"cpf\":\"" + VALID_CPF + "\""));
+        }
+
+        @Test
+        @DisplayName("Should return empty JSON when customer not found by CPF")
+        void shouldReturnEmptyJsonWhenCustomerNotFoundByCpf() {
+            // Arrange
+            CustomerController controller = new CustomerController(customerUseCase);
+            when(customerUseCase.findCustomerByCpf(VALID_CPF))
+                    .thenReturn(Optional.empty());
+
+            // Act
+            Optional<CustomerJson> result = controller.findCustomerJsonByCpf(VALID_CPF);
+
+            // Assert
+            assertFalse(result.isPresent());
+        }
+    }
+
     @Nested
     @DisplayName("Find All Customers Tests")
     class FindAllCustomersTests {
@@ -0,0 +1,276 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.cache.CpfBloomFilter;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bloom Filter Customer Repository Tests")
+class BloomFilterCustomerRepositoryTest {
+
+    @Mock
+    private CustomerRepository delegate;
+
+    private CpfBloomFilter registeredCpfs;
+    private Cache<String, Boolean> absentCpfs;
+    private BloomFilterCustomerRepository repository;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final String UNKNOWN_CPF = "52998224725";
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        registeredCpfs = new CpfBloomFilter(1_000, 0.01);
+        absentCpfs = Caffeine.newBuilder().maximumSize(100).build();
+        repository = new BloomFilterCustomerRepository(delegate, registeredCpfs, absentCpfs);
+
+        mockCustomer = Customer.builder()
+                .id(UUID.randomUUID())
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadWith(Customer... customers) {
+        doAnswer(invocation -> {
+            Consumer<Customer> action = invocation.getArgument(0);
+            for (Customer customer : customers) {
+                action.accept(customer);
+            }
+            return null;
+        }).when(delegate).forEach(any(Consumer.class));
+        repository.load();
+    }
+
+    @Nested
+    @DisplayName("Load Tests")
+    class LoadTests {
+
+        @Test
+        @DisplayName("Should add every stored CPF to the filter")
+        void shouldAddEveryStoredCpfToFilter() {
+            loadWith(mockCustomer);
+
+            assertTrue(repository.isLoaded());
+            assertTrue(registeredCpfs.mightContain(VALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should pass through to the delegate before loading")
+        void shouldPassThroughBeforeLoading() {
+            when(delegate.findByCpf(UNKNOWN_CPF)).thenReturn(Optional.empty());
+
+            assertTrue(repository.findByCpf(UNKNOWN_CPF).isEmpty());
+            verify(delegate).findByCpf(UNKNOWN_CPF);
+            assertEquals(0, repository.falsePositiveCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should answer unknown CPFs without touching the delegate")
+        void shouldAnswerUnknownCpfsWithoutTouchingDelegate() {
+            loadWith(mockCustomer);
+
+            assertTrue(repository.findByCpf(UNKNOWN_CPF).isEmpty());
+            assertFalse(repository.existsByCpf(UNKNOWN_CPF));
+
+            verify(delegate, never()).findByCpf(anyString());
+            verify(delegate, never()).existsByCpf(anyString());
+            assertEquals(2, repository.definitelyAbsentCount());
+        }
+
+        @Test
+        @DisplayName("Should delegate lookups for registered CPFs")
+        void shouldDelegateLookupsForRegisteredCpfs() {
+            loadWith(mockCustomer);
+            when(delegate.findByCpf(VALID_CPF)).thenReturn(Optional.of(mockCustomer));
+
+            Optional<Customer> result = repository.findByCpf(VALID_CPF);
+
+            assertEquals(mockCustomer, result.orElseThrow());
+            assertEquals(0, repository.falsePositiveCount());
+        }
+
+        @Test
+        @DisplayName("Should remember confirmed false positives in the negative cache")
+        void shouldRememberConfirmedFalsePositives() {
+            loadWith();
+            registeredCpfs.put(UNKNOWN_CPF);
+            when(delegate.existsByCpf(UNKNOWN_CPF)).thenReturn(false);
+
+            assertFalse(repository.existsByCpf(UNKNOWN_CPF));
+            assertFalse(repository.existsByCpf(UNKNOWN_CPF));
+
+            verify(delegate, times(1)).existsByCpf(UNKNOWN_CPF);
+            assertEquals(1, repository.falsePositiveCount());
+            assertEquals(Boolean.TRUE, absentCpfs.getIfPresent(UNKNOWN_CPF));
+        }
+
+        @Test
+        @DisplayName("Should compute the observed false positive rate")
+        void shouldComputeObservedFalsePositiveRate() {
+            loadWith();
+            assertEquals(0.0, repository.observedFalsePositiveRate());
+
+            registeredCpfs.put(UNKNOWN_CPF);
+            when(delegate.findByCpf(UNKNOWN_CPF)).thenReturn(Optional.empty());
+            repository.findByCpf(UNKNOWN_CPF);
+            repository.findByCpf(VALID_CPF);
+
+            assertEquals(0.5, repository.observedFalsePositiveRate());
+        }
+    }
+
+    @Nested
+    @DisplayName("Save Tests")
+    class SaveTests {
+
+        @Test
+        @DisplayName("Should add the saved CPF and clear its negative entry")
+        void shouldAddSavedCpfAndClearNegativeEntry() {
+            loadWith();
+            absentCpfs.put(VALID_CPF, Boolean.TRUE);
+            when(delegate.save(mockCustomer)).thenReturn(mockCustomer);
+            when(delegate.existsByCpf(VALID_CPF)).thenReturn(true);
+
+            repository.save(mockCustomer);
+
+            assertTrue(registeredCpfs.mightContain(VALID_CPF));
+            assertNull(absentCpfs.getIfPresent(VALID_CPF));
+            assertTrue(repository.existsByCpf(VALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should not cache an absence when a save commits during the lookup")
+        void shouldNotCacheAbsenceWhenSaveCommitsDuringLookup() {
+            // Arrange
+            loadWith();
+            registeredCpfs.put(VALID_CPF);
+            when(delegate.save(mockCustomer)).thenReturn(mockCustomer);
+            // A consulta lê o banco antes do commit; o save termina antes de ela voltar
+            when(delegate.existsByCpf(VALID_CPF)).thenAnswer(invocation -> {
+                repository.save(mockCustomer);
+                return false;
+            }).thenReturn(true);
+
+            // Act
+            boolean duringSave = repository.existsByCpf(VALID_CPF);
+            boolean afterSave = repository.existsByCpf(VALID_CPF);
+
+            // Assert
+            assertFalse(duringSave);
+            assertNull(absentCpfs.getIfPresent(VALID_CPF));
+            assertTrue(afterSave);
+            verify(delegate, times(2)).existsByCpf(VALID_CPF);
+        }
+    }
+
+    @Nested
+    @DisplayName("Remote Change Tests")
+    class RemoteChangeTests {
+
+        @Test
+        @DisplayName("Should stop answering absent for a CPF saved by another replica")
+        void shouldStopAnsweringAbsentForCpfSavedByAnotherReplica() {
+            // Arrange
+            loadWith();
+            absentCpfs.put(UNKNOWN_CPF, Boolean.TRUE);
+            when(delegate.existsByCpf(UNKNOWN_CPF)).thenReturn(true);
+
+            // Act
+            repository.onCustomerChanged(UUID.randomUUID(), UNKNOWN_CPF);
+
+            // Assert
+            assertTrue(repository.existsByCpf(UNKNOWN_CPF));
+            verify(delegate).existsByCpf(UNKNOWN_CPF);
+        }
+
+        @Test
+        @DisplayName("Should reload the filter on reset")
+        void shouldReloadFilterOnReset() {
+            // Arrange
+            loadWith(mockCustomer);
+
+            // Act
+            repository.onReset();
+
+            // Assert
+            verify(delegate, times(2)).forEach(any());
+            assertTrue(registeredCpfs.mightContain(VALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should fall through to the delegate while disconnected from other replicas")
+        void shouldFallThroughToDelegateWhileDisconnected() {
+            // Arrange
+            loadWith(mockCustomer);
+            when(delegate.existsByCpf(UNKNOWN_CPF)).thenReturn(true);
+
+            // Act
+            repository.onDisconnected();
+
+            // Assert
+            assertFalse(repository.isLoaded());
+            assertTrue(repository.existsByCpf(UNKNOWN_CPF));
+            verify(delegate).existsByCpf(UNKNOWN_CPF);
+        }
+
+        @Test
+        @DisplayName("Should answer from the filter again after the reconnect reset")
+        void shouldAnswerFromFilterAfterReconnectReset() {
+            // Arrange
+            loadWith(mockCustomer);
+            repository.onDisconnected();
+
+            // Act
+            repository.onReset();
+
+            // Assert
+            assertTrue(repository.isLoaded());
+            assertFalse(repository.existsByCpf(UNKNOWN_CPF));
+            verify(delegate, never()).existsByCpf(anyString());
+        }
+
+        @Test
+        @DisplayName("Should stay unloaded when disconnected during a load")
+        @SuppressWarnings("unchecked")
+        void shouldStayUnloadedWhenDisconnectedDuringLoad() {
+            // Arrange
+            doAnswer(invocation -> {
+                repository.onDisconnected();
+                return null;
+            }).when(delegate).forEach(any(Consumer.class));
+
+            // Act
+            repository.load();
+
+            // Assert
+            assertFalse(repository.isLoaded());
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Caching Customer Repository Tests")
+class CachingCustomerRepositoryTest {
+
+    @Mock
+    private CustomerRepository delegate;
+
+    private Cache<UUID, Customer> customersById;
+    private Cache<String, Customer> customersByCpf;
+    private CachingCustomerRepository cachingRepository;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        customersById = Caffeine.newBuilder().maximumSize(100).recordStats().build();
+        customersByCpf = Caffeine.newBuilder().maximumSize(100).recordStats().build();
+        cachingRepository = new CachingCustomerRepository(delegate, customersById, customersByCpf);
+
+        mockCustomer = Customer.builder()
+                .id(CUSTOMER_ID)
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Find By CPF Tests")
+    class FindByCpfTests {
+
+        @Test
+        @DisplayName("Should hit the delegate only once for repeated lookups")
+        void shouldHitDelegateOnlyOnceForRepeatedLookups() {
+            // Arrange
+            when(delegate.findByCpf(VALID_CPF)).thenReturn(Optional.of(mockCustomer));
+
+            // Act
+            Optional<Customer> first = cachingRepository.findByCpf(VALID_CPF);
+            Optional<Customer> second = cachingRepository.findByCpf(VALID_CPF);
+
+            // Assert
+            assertEquals(mockCustomer, first.orElseThrow());
+            assertEquals(mockCustomer, second.orElseThrow());
+            verify(delegate, times(1)).findByCpf(VALID_CPF);
+            assertEquals(1, customersByCpf.stats().hitCount());
+            assertEquals(1, customersByCpf.stats().missCount());
+        }
+
+        @Test
+        @DisplayName("Should populate the ID index when loading by CPF")
+        void shouldPopulateIdIndexWhenLoadingByCpf() {
+            // Arrange
+            when(delegate.findByCpf(VALID_CPF)).thenReturn(Optional.of(mockCustomer));
+
+            // Act
+            cachingRepository.findByCpf(VALID_CPF);
+            Optional<Customer> byId = cachingRepository.findById(CUSTOMER_ID);
+
+            // Assert
+            assertTrue(byId.isPresent());
+            verify(delegate, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should not cache absent customers")
+        void shouldNotCacheAbsentCustomers() {
+            // Arrange
+            when(delegate.findByCpf(VALID_CPF)).thenReturn(Optional.empty());
+
+            // Act
+            Optional<Customer> first = cachingRepository.findByCpf(VALID_CPF);
+            Optional<Customer> second = cachingRepository.findByCpf(VALID_CPF);
+
+            // Assert
+            assertTrue(first.isEmpty());
+            assertTrue(second.isEmpty());
+            verify(delegate, times(2)).findByCpf(VALID_CPF);
+            assertNull(customersByCpf.getIfPresent(VALID_CPF));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find By ID Tests")
+    class FindByIdTests {
+
+        @Test
+        @DisplayName("Should serve repeated lookups from cache")
+        void shouldServeRepeatedLookupsFromCache() {
+            // Arrange
+            when(delegate.findById(CUSTOMER_ID)).thenReturn(Optional.of(mockCustomer));
+
+            // Act
+            cachingRepository.findById(CUSTOMER_ID);
+            Optional<Customer> result = cachingRepository.findById(CUSTOMER_ID);
+
+            // Assert
+            assertEquals(mockCustomer, result.orElseThrow());
+            verify(delegate, times(1)).findById(CUSTOMER_ID);
+            assertSame(mockCustomer, customersByCpf.getIfPresent(VALID_CPF));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find All By Keys Tests")
+    class FindAllByKeysTests {
+
+        @Test
+        @DisplayName("Should load only the ids missing from the cache, in one call")
+        void shouldLoadOnlyMissingIdsInOneCall() {
+            // Arrange
+            Customer other = Customer.builder()
+                    .id(UUID.randomUUID())
+                    .name("Maria Souza")
+                    .email("maria.souza@example.com")
+                    .cpf("52998224725")
+                    .build();
+            UUID unknownId = UUID.randomUUID();
+            when(delegate.findById(CUSTOMER_ID)).thenReturn(Optional.of(mockCustomer));
+            cachingRepository.findById(CUSTOMER_ID);
+            when(delegate.findAllByIds(anyCollection())).thenReturn(List.of(other));
+
+            // Act
+            List<Customer> result = cachingRepository.findAllByIds(List.of(CUSTOMER_ID, other.getId(), unknownId));
+
+            // Assert
+            assertEquals(2, result.size());
+            assertTrue(result.containsAll(List.of(mockCustomer, other)));
+            verify(delegate, times(1)).findAllByIds(argThat(ids -> ids.size() == 2 && !ids.contains(CUSTOMER_ID)));
+            assertSame(other, customersByCpf.getIfPresent("52998224725"));
+        }
+
+        @Test
+        @DisplayName("Should serve cached CPFs without touching the delegate")
+        void shouldServeCachedCpfsWithoutTouchingDelegate() {
+            // Arrange
+            when(delegate.save(mockCustomer)).thenReturn(mockCustomer);
+            cachingRepository.save(mockCustomer);
+
+            // Act
+            List<Customer> result = cachingRepository.findAllByCpfs(List.of(VALID_CPF));
+
+            // Assert
+            assertEquals(List.of(mockCustomer), result);
+            verify(delegate, never()).findAllByCpfs(anyCollection());
+        }
+    }
+
+    @Nested
+    @DisplayName("Save And Exists Tests")
+    class SaveAndExistsTests {
+
+        @Test
+        @DisplayName("Should populate both indexes on save")
+        void shouldPopulateBothIndexesOnSave() {
+            // Arrange
+            when(delegate.save(mockCustomer)).thenReturn(mockCustomer);
+
+            // Act
+            Customer saved = cachingRepository.save(mockCustomer);
+
+            // Assert
+            assertSame(mockCustomer, saved);
+            assertSame(mockCustomer, customersById.getIfPresent(CUSTOMER_ID));
+            assertSame(mockCustomer, customersByCpf.getIfPresent(VALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should answer existsByCpf from cache after save")
+        void shouldAnswerExistsByCpfFromCacheAfterSave() {
+            // Arrange
+            when(delegate.save(mockCustomer)).thenReturn(mockCustomer);
+            cachingRepository.save(mockCustomer);
+
+            // Act
+            boolean exists = cachingRepository.existsByCpf(VALID_CPF);
+
+            // Assert
+            assertTrue(exists);
+            verify(delegate, never()).existsByCpf(anyString());
+        }
+
+        @Test
+        @DisplayName("Should delegate existsByCpf on cache miss")
+        void shouldDelegateExistsByCpfOnCacheMiss() {
+            // Arrange
+            when(delegate.existsByCpf(VALID_CPF)).thenReturn(false);
+
+            // Act & Assert
+            assertFalse(cachingRepository.existsByCpf(VALID_CPF));
+            verify(delegate).existsByCpf(VALID_CPF);
+        }
+
+        @Test
+        @DisplayName("Should always delegate findAll")
+        void shouldAlwaysDelegateFindAll() {
+            // Arrange
+            when(delegate.findAll()).thenReturn(List.of(mockCustomer));
+
+            // Act
+            List<Customer> result = cachingRepository.findAll();
+
+            // Assert
+            assertEquals(1, result.size());
+            verify(delegate).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("Save If Absent Tests")
+    class SaveIfAbsentTests {
+
+        @Test
+        @DisplayName("Should cache the stored customer returned by the delegate")
+        void shouldCacheStoredCustomer() {
+            // Arrange
+            when(delegate.saveIfAbsent(mockCustomer)).thenReturn(mockCustomer);
+
+            // Act
+            Customer stored = cachingRepository.saveIfAbsent(mockCustomer);
+
+            // Assert
+            assertSame(mockCustomer, stored);
+            assertSame(mockCustomer, customersById.getIfPresent(CUSTOMER_ID));
+            assertSame(mockCustomer, customersByCpf.getIfPresent(VALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should return a cached customer without touching the delegate")
+        void shouldReturnCachedCustomerWithoutTouchingDelegate() {
+            // Arrange
+            customersByCpf.put(VALID_CPF, mockCustomer);
+            Customer candidate = Customer.builder()
+                    .id(UUID.randomUUID())
+                    .name("Outro Nome")
+                    .email("outro@example.com")
+                    .cpf(VALID_CPF)
+                    .build();
+
+            // Act
+            Customer stored = cachingRepository.saveIfAbsent(candidate);
+
+            // Assert
+            assertSame(mockCustomer, stored);
+            verifyNoInteractions(delegate);
+        }
+    }
+
+    @Nested
+    @DisplayName("Remote Change Tests")
+    class RemoteChangeTests {
+
+        @Test
+        @DisplayName("Should evict both entries of a customer changed by another replica")
+        void shouldEvictBothEntriesOfCustomerChangedByAnotherReplica() {
+            // Arrange
+            customersById.put(CUSTOMER_ID, mockCustomer);
+            customersByCpf.put(VALID_CPF, mockCustomer);
+
+            // Act
+            cachingRepository.onCustomerChanged(CUSTOMER_ID, VALID_CPF);
+
+            // Assert
+            assertNull(customersById.getIfPresent(CUSTOMER_ID));
+            assertNull(customersByCpf.getIfPresent(VALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should drop everything on reset")
+        void shouldDropEverythingOnReset() {
+            // Arrange
+            customersById.put(CUSTOMER_ID, mockCustomer);
+            customersByCpf.put(VALID_CPF, mockCustomer);
+
+            // Act
+            cachingRepository.onReset();
+
+            // Assert
+            assertEquals(0, customersById.estimatedSize());
+            assertEquals(0, customersByCpf.estimatedSize());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeBus;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Change Publishing Customer Repository Tests")
+class ChangePublishingCustomerRepositoryTest {
+
+    @Mock
+    private CustomerRepository delegate;
+
+    @Mock
+    private CustomerChangeBus changeBus;
+
+    private ChangePublishingCustomerRepository repository;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ChangePublishingCustomerRepository(delegate, changeBus);
+        mockCustomer = Customer.builder()
+                .id(CUSTOMER_ID)
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should publish the change after saving")
+    void shouldPublishChangeAfterSaving() {
+        // Arrange
+        when(delegate.save(mockCustomer)).thenReturn(mockCustomer);
+
+        // Act
+        Customer saved = repository.save(mockCustomer);
+
+        // Assert
+        assertSame(mockCustomer, saved);
+        var inOrder = inOrder(delegate, changeBus);
+        inOrder.verify(delegate).save(mockCustomer);
+        inOrder.verify(changeBus).publish(CUSTOMER_ID, VALID_CPF);
+    }
+
+    @Test
+    @DisplayName("Should publish when save-if-absent inserts the customer")
+    void shouldPublishWhenSaveIfAbsentInserts() {
+        // Arrange
+        when(delegate.saveIfAbsent(mockCustomer)).thenReturn(mockCustomer);
+
+        // Act
+        Customer stored = repository.saveIfAbsent(mockCustomer);
+
+        // Assert
+        assertSame(mockCustomer, stored);
+        verify(changeBus).publish(CUSTOMER_ID, VALID_CPF);
+    }
+
+    @Test
+    @DisplayName("Should not publish when save-if-absent returns an existing customer")
+    void shouldNotPublishWhenSaveIfAbsentReturnsExisting() {
+        // Arrange
+        Customer existing = Customer.builder()
+                .id(UUID.randomUUID())
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(VALID_CPF)
+                .build();
+        when(delegate.saveIfAbsent(mockCustomer)).thenReturn(existing);
+
+        // Act
+        Customer stored = repository.saveIfAbsent(mockCustomer);
+
+        // Assert
+        assertSame(existing, stored);
+        verifyNoInteractions(changeBus);
+    }
+
+    @Test
+    @DisplayName("Should not publish when saving fails")
+    void shouldNotPublishWhenSavingFails() {
+        // Arrange
+        when(delegate.save(any(Customer.class))).thenThrow(new IllegalStateException("db down"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> repository.save(mockCustomer));
+        verifyNoInteractions(changeBus);
+    }
+}
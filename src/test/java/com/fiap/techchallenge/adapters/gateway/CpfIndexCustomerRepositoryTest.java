@@ -0,0 +1,229 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.cache.CpfIndex;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CPF Index Customer Repository Tests")
+class CpfIndexCustomerRepositoryTest {
+
+    @Mock
+    private CustomerRepository delegate;
+
+    private CpfIndex cpfIndex;
+    private CpfIndexCustomerRepository repository;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final String UNKNOWN_CPF = "52998224725";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        cpfIndex = new CpfIndex(16);
+        repository = new CpfIndexCustomerRepository(delegate, cpfIndex);
+
+        mockCustomer = Customer.builder()
+                .id(CUSTOMER_ID)
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadWith(Customer... customers) {
+        doAnswer(invocation -> {
+            Consumer<Customer> action = invocation.getArgument(0);
+            for (Customer customer : customers) {
+                action.accept(customer);
+            }
+            return null;
+        }).when(delegate).forEach(any(Consumer.class));
+        repository.load();
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should resolve CPF lookups through the primary key")
+        void shouldResolveCpfLookupsThroughPrimaryKey() {
+            loadWith(mockCustomer);
+            when(delegate.findById(CUSTOMER_ID)).thenReturn(Optional.of(mockCustomer));
+
+            Optional<Customer> result = repository.findByCpf(VALID_CPF);
+
+            assertEquals(mockCustomer, result.orElseThrow());
+            verify(delegate, never()).findByCpf(anyString());
+        }
+
+        @Test
+        @DisplayName("Should answer unknown CPFs from memory")
+        void shouldAnswerUnknownCpfsFromMemory() {
+            loadWith(mockCustomer);
+
+            assertTrue(repository.findByCpf(UNKNOWN_CPF).isEmpty());
+            assertFalse(repository.existsByCpf(UNKNOWN_CPF));
+            assertFalse(repository.existsByCpf("123"));
+            assertTrue(repository.existsByCpf(VALID_CPF));
+
+            verify(delegate, never()).findByCpf(anyString());
+            verify(delegate, never()).existsByCpf(anyString());
+            verify(delegate, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should delegate while the index is not loaded")
+        void shouldDelegateWhileNotLoaded() {
+            when(delegate.findByCpf(VALID_CPF)).thenReturn(Optional.of(mockCustomer));
+            when(delegate.existsByCpf(VALID_CPF)).thenReturn(true);
+
+            assertFalse(repository.isLoaded());
+            assertTrue(repository.findByCpf(VALID_CPF).isPresent());
+            assertTrue(repository.existsByCpf(VALID_CPF));
+        }
+    }
+
+    @Nested
+    @DisplayName("Save Tests")
+    class SaveTests {
+
+        @Test
+        @DisplayName("Should index the saved customer")
+        void shouldIndexSavedCustomer() {
+            loadWith();
+            when(delegate.save(mockCustomer)).thenReturn(mockCustomer);
+
+            repository.save(mockCustomer);
+
+            assertEquals(CUSTOMER_ID, cpfIndex.get(CpfIndex.toKey(VALID_CPF)));
+            assertTrue(repository.existsByCpf(VALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should not index when the save fails")
+        void shouldNotIndexWhenSaveFails() {
+            loadWith();
+            when(delegate.save(mockCustomer)).thenThrow(new RuntimeException("constraint"));
+
+            assertThrows(RuntimeException.class, () -> repository.save(mockCustomer));
+            assertFalse(repository.existsByCpf(VALID_CPF));
+        }
+    }
+
+    @Nested
+    @DisplayName("Remote Change Tests")
+    class RemoteChangeTests {
+
+        @Test
+        @DisplayName("Should index a customer saved by another replica")
+        void shouldIndexCustomerSavedByAnotherReplica() {
+            // Arrange
+            loadWith();
+
+            // Act
+            repository.onCustomerChanged(CUSTOMER_ID, VALID_CPF);
+
+            // Assert
+            assertTrue(repository.existsByCpf(VALID_CPF));
+            assertEquals(CUSTOMER_ID, cpfIndex.get(CpfIndex.toKey(VALID_CPF)));
+        }
+
+        @Test
+        @DisplayName("Should ignore changes without a valid CPF")
+        void shouldIgnoreChangesWithoutValidCpf() {
+            // Act
+            repository.onCustomerChanged(CUSTOMER_ID, null);
+
+            // Assert
+            assertEquals(0, cpfIndex.size());
+        }
+
+        @Test
+        @DisplayName("Should keep a customer saved by another replica during the load")
+        @SuppressWarnings("unchecked")
+        void shouldKeepCustomerSavedByAnotherReplicaDuringLoad() {
+            // Arrange
+            UUID remoteId = UUID.randomUUID();
+            doAnswer(invocation -> {
+                Consumer<Customer> action = invocation.getArgument(0);
+                action.accept(mockCustomer);
+                // Gravado depois que a varredura passou por ele: só chega pelo barramento
+                repository.onCustomerChanged(remoteId, UNKNOWN_CPF);
+                return null;
+            }).when(delegate).forEach(any(Consumer.class));
+
+            // Act
+            repository.load();
+
+            // Assert
+            assertTrue(repository.isLoaded());
+            assertTrue(repository.existsByCpf(UNKNOWN_CPF));
+            assertEquals(remoteId, cpfIndex.get(CpfIndex.toKey(UNKNOWN_CPF)));
+        }
+
+        @Test
+        @DisplayName("Should fall through to the delegate while disconnected from other replicas")
+        void shouldFallThroughToDelegateWhileDisconnected() {
+            // Arrange
+            loadWith(mockCustomer);
+            when(delegate.existsByCpf(UNKNOWN_CPF)).thenReturn(true);
+
+            // Act
+            repository.onDisconnected();
+
+            // Assert
+            assertFalse(repository.isLoaded());
+            assertTrue(repository.existsByCpf(UNKNOWN_CPF));
+            verify(delegate).existsByCpf(UNKNOWN_CPF);
+        }
+
+        @Test
+        @DisplayName("Should stay unloaded when disconnected before the reset")
+        void shouldStayUnloadedWhenDisconnectedBeforeReset() {
+            // Arrange
+            repository.onDisconnected();
+
+            // Act
+            loadWith(mockCustomer);
+
+            // Assert
+            assertFalse(repository.isLoaded());
+        }
+
+        @Test
+        @DisplayName("Should answer from the index again after the reconnect reset")
+        void shouldAnswerFromIndexAfterReconnectReset() {
+            // Arrange
+            loadWith(mockCustomer);
+            repository.onDisconnected();
+
+            // Act
+            repository.onReset();
+
+            // Assert
+            assertTrue(repository.isLoaded());
+            assertFalse(repository.existsByCpf(UNKNOWN_CPF));
+            verify(delegate, never()).existsByCpf(any());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeBus;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import com.fiap.techchallenge.external.datasource.repositories.CustomerJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Bulk Loader Gateway Tests")
+class CustomerBulkLoaderGatewayTest {
+
+    @Mock
+    private CustomerJdbcRepository customerJdbcRepository;
+
+    @Mock
+    private CustomerChangeBus changeBus;
+
+    private CustomerBulkLoaderGateway bulkLoader;
+
+    private static final UUID IMPORT_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        bulkLoader = new CustomerBulkLoaderGateway(customerJdbcRepository, changeBus);
+    }
+
+    @Test
+    @DisplayName("Should stage customers as JPA entities")
+    @SuppressWarnings("unchecked")
+    void shouldStageCustomersAsJpaEntities() {
+        // Arrange
+        Customer customer = Customer.builder()
+                .id(UUID.randomUUID())
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf("11144477735")
+                .build();
+
+        // Act
+        bulkLoader.stage(IMPORT_ID, List.of(customer));
+
+        // Assert
+        ArgumentCaptor<List<CustomerJpaEntity>> staged = ArgumentCaptor.forClass(List.class);
+        verify(customerJdbcRepository).copyToStaging(eq(IMPORT_ID), staged.capture());
+        assertEquals(customer.getId(), staged.getValue().get(0).getId());
+        assertEquals("11144477735", staged.getValue().get(0).getCpf());
+    }
+
+    @Test
+    @DisplayName("Should reset caches everywhere once the merge inserts rows")
+    void shouldResetCachesOnceMergeInsertsRows() {
+        when(customerJdbcRepository.mergeStaging(IMPORT_ID)).thenReturn(3L);
+
+        assertEquals(3, bulkLoader.merge(IMPORT_ID));
+        verify(changeBus).publishReset();
+    }
+
+    @Test
+    @DisplayName("Should not reset caches when nothing was inserted")
+    void shouldNotResetCachesWhenNothingInserted() {
+        when(customerJdbcRepository.mergeStaging(IMPORT_ID)).thenReturn(0L);
+
+        assertEquals(0, bulkLoader.merge(IMPORT_ID));
+        verify(changeBus, never()).publishReset();
+    }
+}
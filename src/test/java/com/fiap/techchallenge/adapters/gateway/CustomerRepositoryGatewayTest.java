@@ -2,7 +2,10 @@ package com.fiap.techchallenge.adapters.gateway;
 
 import com.fiap.techchallenge.application.usecases.mappers.CustomerMapper;
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.exception.DomainException;
 import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import com.fiap.techchallenge.external.datasource.repositories.CustomerGroupCommitter;
+import com.fiap.techchallenge.external.datasource.repositories.CustomerJdbcRepository;
 import com.fiap.techchallenge.external.datasource.repositories.CustomerJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,10 +16,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,6 +34,9 @@ class CustomerRepositoryGatewayTest {
     @Mock
     private CustomerJpaRepository customerJpaRepository;
 
+    @Mock
+    private CustomerJdbcRepository customerJdbcRepository;
+
     @InjectMocks
     private CustomerRepositoryGateway customerRepositoryGateway;
 
@@ -65,8 +73,8 @@ class CustomerRepositoryGatewayTest {
         @DisplayName("Should save customer successfully")
         void shouldSaveCustomerSuccessfully() {
             // Arrange
-            when(customerJpaRepository.save(any(CustomerJpaEntity.class)))
-                    .thenReturn(mockJpaEntity);
+            when(customerJdbcRepository.insertIfAbsent(any(CustomerJpaEntity.class)))
+                    .thenReturn(true);
 
             // Act
             Customer result = customerRepositoryGateway.save(mockCustomer);
@@ -78,21 +86,22 @@ class CustomerRepositoryGatewayTest {
             assertEquals(VALID_EMAIL.toLowerCase(), result.getEmail());
             assertEquals(VALID_CPF, result.getCpf());
 
-            verify(customerJpaRepository).save(any(CustomerJpaEntity.class));
+            verify(customerJdbcRepository).insertIfAbsent(any(CustomerJpaEntity.class));
+            verifyNoInteractions(customerJpaRepository);
         }
 
         @Test
         @DisplayName("Should convert domain entity to JPA entity before saving")
         void shouldConvertDomainEntityToJpaEntityBeforeSaving() {
             // Arrange
-            when(customerJpaRepository.save(any(CustomerJpaEntity.class)))
-                    .thenReturn(mockJpaEntity);
+            when(customerJdbcRepository.insertIfAbsent(any(CustomerJpaEntity.class)))
+                    .thenReturn(true);
 
             // Act
             customerRepositoryGateway.save(mockCustomer);
 
             // Assert
-            verify(customerJpaRepository).save(argThat(jpaEntity ->
+            verify(customerJdbcRepository).insertIfAbsent(argThat(jpaEntity ->
                     jpaEntity.getId().equals(CUSTOMER_ID) &&
                     jpaEntity.getName().equals(VALID_NAME) &&
                     jpaEntity.getEmail().equals(VALID_EMAIL.toLowerCase()) &&
@@ -101,26 +110,35 @@ class CustomerRepositoryGatewayTest {
         }
 
         @Test
-        @DisplayName("Should convert saved JPA entity back to domain entity")
-        void shouldConvertSavedJpaEntityBackToDomainEntity() {
+        @DisplayName("Should insert through the group committer when configured")
+        void shouldInsertThroughGroupCommitterWhenConfigured() {
             // Arrange
-            CustomerJpaEntity savedEntity = new CustomerJpaEntity(
-                    UUID.randomUUID(),
-                    "New Name",
-                    "new@example.com",
-                    "52998224725"
-            );
-            when(customerJpaRepository.save(any(CustomerJpaEntity.class)))
-                    .thenReturn(savedEntity);
+            CustomerGroupCommitter committer = mock(CustomerGroupCommitter.class);
+            CustomerRepositoryGateway gateway =
+                    new CustomerRepositoryGateway(customerJpaRepository, customerJdbcRepository, committer);
+            when(committer.insertIfAbsent(any(CustomerJpaEntity.class))).thenReturn(true);
 
             // Act
-            Customer result = customerRepositoryGateway.save(mockCustomer);
+            Customer result = gateway.save(mockCustomer);
 
             // Assert
-            assertEquals(savedEntity.getId(), result.getId());
-            assertEquals(savedEntity.getName(), result.getName());
-            assertEquals(savedEntity.getEmail().toLowerCase(), result.getEmail());
-            assertEquals(savedEntity.getCpf(), result.getCpf());
+            assertEquals(CUSTOMER_ID, result.getId());
+            verify(committer).insertIfAbsent(any(CustomerJpaEntity.class));
+            verifyNoInteractions(customerJdbcRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw DomainException when CPF already exists")
+        void shouldThrowDomainExceptionWhenCpfAlreadyExists() {
+            // Arrange
+            when(customerJdbcRepository.insertIfAbsent(any(CustomerJpaEntity.class)))
+                    .thenReturn(false);
+
+            // Act & Assert
+            DomainException exception = assertThrows(DomainException.class, () ->
+                    customerRepositoryGateway.save(mockCustomer)
+            );
+            assertEquals("Customer with CPF " + VALID_CPF + " already exists", exception.getMessage());
         }
     }
 
@@ -344,5 +362,31 @@ class CustomerRepositoryGatewayTest {
             assertEquals(mockJpaEntity.getCpf(), customer.getCpf());
         }
     }
-}
 
+    @Nested
+    @DisplayName("For Each Customer Tests")
+    class ForEachCustomerTests {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("Should stream JDBC rows as domain entities")
+        void shouldStreamJdbcRowsAsDomainEntities() {
+            // Arrange
+            doAnswer(invocation -> {
+                Consumer<CustomerJpaEntity> action = invocation.getArgument(0);
+                action.accept(mockJpaEntity);
+                return null;
+            }).when(customerJdbcRepository).forEach(any(Consumer.class));
+            List<Customer> visited = new ArrayList<>();
+
+            // Act
+            customerRepositoryGateway.forEach(visited::add);
+
+            // Assert
+            assertEquals(1, visited.size());
+            assertEquals(CUSTOMER_ID, visited.get(0).getId());
+            assertEquals(VALID_CPF, visited.get(0).getCpf());
+            verifyNoInteractions(customerJpaRepository);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.cache.MappedCustomerStore;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Mapped Customer Repository Tests")
+class MappedCustomerRepositoryTest {
+
+    @Mock
+    private CustomerRepository delegate;
+
+    @TempDir
+    Path directory;
+
+    private MappedCustomerStore store;
+    private MappedCustomerRepository repository;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        store = MappedCustomerStore.open(directory.resolve("customers.l2"), 64);
+        repository = new MappedCustomerRepository(delegate, store);
+        mockCustomer = Customer.builder()
+                .id(CUSTOMER_ID)
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Nested
+    @DisplayName("Read Through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Should load misses from the delegate and serve hits from the file")
+        void shouldLoadMissesAndServeHitsFromFile() {
+            when(delegate.findById(CUSTOMER_ID)).thenReturn(Optional.of(mockCustomer));
+
+            repository.findById(CUSTOMER_ID);
+            Optional<Customer> byId = repository.findById(CUSTOMER_ID);
+            Optional<Customer> byCpf = repository.findByCpf(VALID_CPF);
+
+            assertEquals(mockCustomer, byId.orElseThrow());
+            assertEquals(mockCustomer, byCpf.orElseThrow());
+            verify(delegate, times(1)).findById(CUSTOMER_ID);
+            verify(delegate, never()).findByCpf(anyString());
+            assertEquals(2, repository.hitCount());
+            assertEquals(1, repository.missCount());
+        }
+
+        @Test
+        @DisplayName("Should not store absent customers")
+        void shouldNotStoreAbsentCustomers() {
+            when(delegate.findByCpf(VALID_CPF)).thenReturn(Optional.empty());
+
+            assertTrue(repository.findByCpf(VALID_CPF).isEmpty());
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Save Tests")
+    class SaveTests {
+
+        @Test
+        @DisplayName("Should write saved customers to the file")
+        void shouldWriteSavedCustomersToFile() {
+            when(delegate.save(mockCustomer)).thenReturn(mockCustomer);
+
+            repository.save(mockCustomer);
+
+            assertTrue(repository.existsByCpf(VALID_CPF));
+            assertEquals(mockCustomer, store.findById(CUSTOMER_ID).orElseThrow());
+            verify(delegate, never()).existsByCpf(anyString());
+        }
+
+        @Test
+        @DisplayName("Should delegate existsByCpf when the file misses")
+        void shouldDelegateExistsByCpfOnMiss() {
+            when(delegate.existsByCpf(VALID_CPF)).thenReturn(true);
+
+            assertTrue(repository.existsByCpf(VALID_CPF));
+            verify(delegate).existsByCpf(VALID_CPF);
+        }
+    }
+
+    @Nested
+    @DisplayName("Remote Change Tests")
+    class RemoteChangeTests {
+
+        @Test
+        @DisplayName("Should evict a customer changed by another replica")
+        void shouldEvictCustomerChangedByAnotherReplica() {
+            // Arrange
+            store.put(mockCustomer);
+
+            // Act
+            repository.onCustomerChanged(CUSTOMER_ID, VALID_CPF);
+
+            // Assert
+            assertTrue(store.findById(CUSTOMER_ID).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should keep mapped records on reset")
+        void shouldKeepMappedRecordsOnReset() {
+            // Arrange
+            store.put(mockCustomer);
+
+            // Act
+            repository.onReset();
+
+            // Assert
+            assertEquals(1, store.size());
+            assertEquals(mockCustomer, repository.findById(CUSTOMER_ID).orElseThrow());
+            verify(delegate, never()).findById(any());
+        }
+    }
+}
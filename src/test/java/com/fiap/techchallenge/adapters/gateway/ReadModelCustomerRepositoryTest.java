@@ -0,0 +1,282 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.adapters.gateway.readmodel.CustomerReadModel;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Read Model Customer Repository Tests")
+class ReadModelCustomerRepositoryTest {
+
+    @Mock
+    private CustomerRepository delegate;
+
+    private CustomerReadModel readModel;
+    private ReadModelCustomerRepository repository;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final String UNKNOWN_CPF = "52998224725";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new CustomerReadModel();
+        repository = new ReadModelCustomerRepository(delegate, readModel);
+        mockCustomer = Customer.builder()
+                .id(CUSTOMER_ID)
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadWith(Customer... customers) {
+        doAnswer(invocation -> {
+            Consumer<Customer> action = invocation.getArgument(0);
+            for (Customer customer : customers) {
+                action.accept(customer);
+            }
+            return null;
+        }).when(delegate).forEach(any(Consumer.class));
+        repository.load();
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Should serve every query from memory once loaded")
+        void shouldServeEveryQueryFromMemoryOnceLoaded() {
+            // Arrange
+            loadWith(mockCustomer);
+
+            // Act & Assert
+            assertEquals(mockCustomer, repository.findById(CUSTOMER_ID).orElseThrow());
+            assertEquals(mockCustomer, repository.findByCpf(VALID_CPF).orElseThrow());
+            assertTrue(repository.existsByCpf(VALID_CPF));
+            assertFalse(repository.existsByCpf(UNKNOWN_CPF));
+            assertTrue(repository.findByCpf(UNKNOWN_CPF).isEmpty());
+            assertEquals(List.of(mockCustomer), repository.findAll());
+            verify(delegate, never()).findById(any());
+            verify(delegate, never()).findByCpf(any());
+            verify(delegate, never()).existsByCpf(any());
+            verify(delegate, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Should serve keyset pages and projections from memory once loaded")
+        void shouldServeKeysetPagesFromMemoryOnceLoaded() {
+            // Arrange
+            loadWith(mockCustomer);
+
+            // Act
+            List<Customer> page = repository.findPage(null, 10);
+            List<Map<String, Object>> rows = repository.findPage(null, 10, CustomerField.parse("name"));
+            List<Customer> after = repository.findPage(CUSTOMER_ID, 10);
+
+            // Assert
+            assertEquals(List.of(mockCustomer), page);
+            assertEquals(List.of(Map.of("id", CUSTOMER_ID, "name", "João da Silva")), rows);
+            assertTrue(after.isEmpty());
+            verify(delegate, never()).findPage(any(), anyInt());
+            verify(delegate, never()).findPage(any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Should delegate while not loaded")
+        void shouldDelegateWhileNotLoaded() {
+            // Arrange
+            when(delegate.findByCpf(VALID_CPF)).thenReturn(Optional.of(mockCustomer));
+
+            // Act
+            Optional<Customer> result = repository.findByCpf(VALID_CPF);
+
+            // Assert
+            assertEquals(mockCustomer, result.orElseThrow());
+            verify(delegate).findByCpf(VALID_CPF);
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should write through the delegate and then update the model")
+        void shouldWriteThroughDelegateAndUpdateModel() {
+            // Arrange
+            loadWith();
+            when(delegate.save(mockCustomer)).thenReturn(mockCustomer);
+
+            // Act
+            repository.save(mockCustomer);
+
+            // Assert
+            verify(delegate).save(mockCustomer);
+            assertTrue(repository.findById(CUSTOMER_ID).isPresent());
+        }
+
+        @Test
+        @DisplayName("Should reload a customer changed by another replica")
+        void shouldReloadCustomerChangedByAnotherReplica() {
+            // Arrange
+            loadWith();
+            when(delegate.findById(CUSTOMER_ID)).thenReturn(Optional.of(mockCustomer));
+
+            // Act
+            repository.onCustomerChanged(CUSTOMER_ID, VALID_CPF);
+
+            // Assert
+            assertEquals(mockCustomer, repository.findByCpf(VALID_CPF).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should drop a customer that no longer exists")
+        void shouldDropCustomerThatNoLongerExists() {
+            // Arrange
+            loadWith(mockCustomer);
+            when(delegate.findById(CUSTOMER_ID)).thenReturn(Optional.empty());
+
+            // Act
+            repository.onCustomerChanged(CUSTOMER_ID, VALID_CPF);
+
+            // Assert
+            assertTrue(repository.findById(CUSTOMER_ID).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Replica Sync Tests")
+    class ReplicaSyncTests {
+
+        @Test
+        @DisplayName("Should keep a customer inserted by another replica after the scan passed it")
+        @SuppressWarnings("unchecked")
+        void shouldKeepCustomerInsertedByAnotherReplicaDuringScan() {
+            // Arrange
+            Customer remote = Customer.builder()
+                    .id(UUID.randomUUID())
+                    .name("Maria Souza")
+                    .email("maria.souza@example.com")
+                    .cpf(UNKNOWN_CPF)
+                    .build();
+            when(delegate.findById(remote.getId())).thenReturn(Optional.of(remote));
+            doAnswer(invocation -> {
+                Consumer<Customer> action = invocation.getArgument(0);
+                action.accept(mockCustomer);
+                // INSERT de outra réplica depois do snapshot da varredura: só chega pelo barramento
+                repository.onCustomerChanged(remote.getId(), remote.getCpf());
+                return null;
+            }).when(delegate).forEach(any(Consumer.class));
+
+            // Act
+            repository.load();
+
+            // Assert
+            assertTrue(repository.isLoaded());
+            assertEquals(remote, repository.findByCpf(UNKNOWN_CPF).orElseThrow());
+            assertTrue(repository.existsByCpf(UNKNOWN_CPF));
+            assertEquals(2, repository.findAll().size());
+            verify(delegate, never()).findByCpf(any());
+            verify(delegate, never()).existsByCpf(any());
+        }
+
+        @Test
+        @DisplayName("Should not let the scan overwrite a newer version received during it")
+        @SuppressWarnings("unchecked")
+        void shouldNotLetScanOverwriteNewerVersion() {
+            // Arrange
+            Customer updated = Customer.builder()
+                    .id(CUSTOMER_ID)
+                    .name("João da Silva Santos")
+                    .email("joao.silva@example.com")
+                    .cpf(VALID_CPF)
+                    .build();
+            when(delegate.findById(CUSTOMER_ID)).thenReturn(Optional.of(updated));
+            doAnswer(invocation -> {
+                Consumer<Customer> action = invocation.getArgument(0);
+                repository.onCustomerChanged(CUSTOMER_ID, VALID_CPF);
+                // A varredura leu a linha antes da alteração
+                action.accept(mockCustomer);
+                return null;
+            }).when(delegate).forEach(any(Consumer.class));
+
+            // Act
+            repository.load();
+
+            // Assert
+            assertEquals("João da Silva Santos", repository.findById(CUSTOMER_ID).orElseThrow().getName());
+        }
+
+        @Test
+        @DisplayName("Should route reads to the delegate while disconnected from other replicas")
+        void shouldRouteReadsToDelegateWhileDisconnected() {
+            // Arrange
+            loadWith(mockCustomer);
+            when(delegate.existsByCpf(UNKNOWN_CPF)).thenReturn(true);
+            when(delegate.findAll()).thenReturn(List.of(mockCustomer));
+
+            // Act
+            repository.onDisconnected();
+
+            // Assert
+            assertFalse(repository.isLoaded());
+            assertTrue(repository.existsByCpf(UNKNOWN_CPF));
+            assertEquals(List.of(mockCustomer), repository.findAll());
+            verify(delegate).existsByCpf(UNKNOWN_CPF);
+            verify(delegate).findAll();
+        }
+
+        @Test
+        @DisplayName("Should stay on the delegate when the bus was down before the load")
+        void shouldStayOnDelegateWhenBusWasDownBeforeLoad() {
+            // Arrange
+            repository.onDisconnected();
+
+            // Act
+            loadWith(mockCustomer);
+
+            // Assert
+            assertFalse(repository.isLoaded());
+        }
+
+        @Test
+        @DisplayName("Should serve reads from memory again after the reconnect reset")
+        void shouldServeReadsFromMemoryAfterReconnectReset() {
+            // Arrange
+            loadWith(mockCustomer);
+            repository.onDisconnected();
+
+            // Act
+            repository.onReset();
+
+            // Assert
+            assertTrue(repository.isLoaded());
+            assertFalse(repository.existsByCpf(UNKNOWN_CPF));
+            verify(delegate, never()).existsByCpf(any());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.fiap.techchallenge.adapters.gateway.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CPF Bloom Filter Tests")
+class CpfBloomFilterTest {
+
+    @Nested
+    @DisplayName("Membership Tests")
+    class MembershipTests {
+
+        @Test
+        @DisplayName("Should never report an inserted CPF as absent")
+        void shouldNeverReportInsertedCpfAsAbsent() {
+            // Arrange
+            CpfBloomFilter filter = new CpfBloomFilter(10_000, 0.01);
+
+            // Act
+            for (long i = 0; i < 10_000; i++) {
+                filter.put(String.format("%011d", 10_000_000_000L + i));
+            }
+
+            // Assert
+            for (long i = 0; i < 10_000; i++) {
+                assertTrue(filter.mightContain(String.format("%011d", 10_000_000_000L + i)));
+            }
+            assertEquals(10_000, filter.insertions());
+        }
+
+        @Test
+        @DisplayName("Should keep false positives close to the configured probability")
+        void shouldKeepFalsePositivesCloseToConfiguredProbability() {
+            // Arrange
+            CpfBloomFilter filter = new CpfBloomFilter(10_000, 0.01);
+            for (long i = 0; i < 10_000; i++) {
+                filter.put(String.format("%011d", 10_000_000_000L + i));
+            }
+
+            // Act
+            int falsePositives = 0;
+            for (long i = 0; i < 100_000; i++) {
+                if (filter.mightContain(String.format("%011d", 50_000_000_000L + i))) {
+                    falsePositives++;
+                }
+            }
+
+            // Assert
+            assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+            assertTrue(filter.expectedFalsePositiveProbability() < 0.02);
+        }
+
+        @Test
+        @DisplayName("Should report absent on an empty filter")
+        void shouldReportAbsentOnEmptyFilter() {
+            CpfBloomFilter filter = new CpfBloomFilter(100, 0.01);
+
+            assertFalse(filter.mightContain("11144477735"));
+            assertEquals(0.0, filter.expectedFalsePositiveProbability());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sizing Tests")
+    class SizingTests {
+
+        @Test
+        @DisplayName("Should size the bit array from expected insertions and probability")
+        void shouldSizeBitArrayFromExpectedInsertionsAndProbability() {
+            CpfBloomFilter filter = new CpfBloomFilter(1_000_000, 0.01);
+
+            // ~9,6 bits por elemento e 7 funções de hash para 1%
+            assertTrue(filter.bitSize() >= 9_585_059);
+            assertEquals(7, filter.hashFunctions());
+            assertEquals(filter.bitSize() / 8, filter.memoryBytes());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid parameters")
+        void shouldRejectInvalidParameters() {
+            assertThrows(IllegalArgumentException.class, () -> new CpfBloomFilter(0, 0.01));
+            assertThrows(IllegalArgumentException.class, () -> new CpfBloomFilter(100, 0));
+            assertThrows(IllegalArgumentException.class, () -> new CpfBloomFilter(100, 1));
+        }
+    }
+}
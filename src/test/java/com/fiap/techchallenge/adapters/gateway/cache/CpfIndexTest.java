@@ -0,0 +1,147 @@
+package com.fiap.techchallenge.adapters.gateway.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CPF Index Tests")
+class CpfIndexTest {
+
+    @Nested
+    @DisplayName("Key Conversion Tests")
+    class KeyConversionTests {
+
+        @Test
+        @DisplayName("Should convert an 11 digit CPF to long")
+        void shouldConvertElevenDigitCpfToLong() {
+            assertEquals(11144477735L, CpfIndex.toKey("11144477735"));
+            assertEquals(1234567890L, CpfIndex.toKey("01234567890"));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed CPFs")
+        void shouldRejectMalformedCpfs() {
+            assertEquals(CpfIndex.INVALID_CPF, CpfIndex.toKey(null));
+            assertEquals(CpfIndex.INVALID_CPF, CpfIndex.toKey("123"));
+            assertEquals(CpfIndex.INVALID_CPF, CpfIndex.toKey("111.444.777-35"));
+            assertEquals(CpfIndex.INVALID_CPF, CpfIndex.toKey("1114447773a"));
+            assertEquals(CpfIndex.INVALID_CPF, CpfIndex.toKey("00000000000"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Put And Get Tests")
+    class PutAndGetTests {
+
+        @Test
+        @DisplayName("Should return the indexed ID")
+        void shouldReturnIndexedId() {
+            CpfIndex index = new CpfIndex(16);
+            UUID id = UUID.randomUUID();
+
+            index.put(11144477735L, id);
+
+            assertEquals(id, index.get(11144477735L));
+            assertTrue(index.contains(11144477735L));
+            assertFalse(index.contains(52998224725L));
+            assertNull(index.get(CpfIndex.INVALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should overwrite the ID of an existing CPF")
+        void shouldOverwriteIdOfExistingCpf() {
+            CpfIndex index = new CpfIndex(16);
+            UUID replacement = UUID.randomUUID();
+
+            index.put(11144477735L, UUID.randomUUID());
+            index.put(11144477735L, replacement);
+
+            assertEquals(replacement, index.get(11144477735L));
+            assertEquals(1, index.size());
+        }
+
+        @Test
+        @DisplayName("Should keep every entry across resizes")
+        void shouldKeepEveryEntryAcrossResizes() {
+            CpfIndex index = new CpfIndex(1);
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 50_000; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                index.put(10_000_000_000L + i, id);
+            }
+
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(ids.get(i), index.get(10_000_000_000L + i));
+            }
+            assertEquals(50_000, index.size());
+            assertTrue(index.memoryBytes() >= 50_000L * Long.BYTES * 3);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid keys on put")
+        void shouldRejectInvalidKeysOnPut() {
+            CpfIndex index = new CpfIndex(16);
+
+            assertThrows(IllegalArgumentException.class, () -> index.put(CpfIndex.INVALID_CPF, UUID.randomUUID()));
+        }
+
+        @Test
+        @DisplayName("Should drop every entry on clear")
+        void shouldDropEveryEntryOnClear() {
+            CpfIndex index = new CpfIndex(16);
+            index.put(11144477735L, UUID.randomUUID());
+
+            index.clear();
+
+            assertEquals(0, index.size());
+            assertNull(index.get(11144477735L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should serve consistent reads while another thread grows the table")
+        void shouldServeConsistentReadsWhileGrowing() throws Exception {
+            CpfIndex index = new CpfIndex(1);
+            UUID stable = UUID.randomUUID();
+            index.put(11144477735L, stable);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            CountDownLatch done = new CountDownLatch(1);
+            AtomicInteger misses = new AtomicInteger();
+
+            executor.submit(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    index.put(20_000_000_000L + i, UUID.randomUUID());
+                }
+                done.countDown();
+            });
+            executor.submit(() -> {
+                while (done.getCount() > 0) {
+                    if (!stable.equals(index.get(11144477735L))) {
+                        misses.incrementAndGet();
+                    }
+                }
+            });
+            executor.shutdown();
+
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+            assertEquals(0, misses.get());
+            assertEquals(200_001, index.size());
+        }
+    }
+}
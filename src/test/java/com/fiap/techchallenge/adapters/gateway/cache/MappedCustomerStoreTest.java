@@ -0,0 +1,241 @@
+package com.fiap.techchallenge.adapters.gateway.cache;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Mapped Customer Store Tests")
+class MappedCustomerStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private MappedCustomerStore store;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("customers.l2");
+        store = MappedCustomerStore.open(file, 64);
+        mockCustomer = Customer.builder()
+                .id(CUSTOMER_ID)
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Nested
+    @DisplayName("Put And Find Tests")
+    class PutAndFindTests {
+
+        @Test
+        @DisplayName("Should find a stored customer by ID and by CPF")
+        void shouldFindStoredCustomerByIdAndCpf() {
+            assertTrue(store.put(mockCustomer));
+
+            Customer byId = store.findById(CUSTOMER_ID).orElseThrow();
+            Customer byCpf = store.findByCpf(VALID_CPF).orElseThrow();
+
+            assertEquals(mockCustomer, byId);
+            assertEquals("João da Silva", byId.getName());
+            assertEquals("joao.silva@example.com", byId.getEmail());
+            assertEquals(mockCustomer, byCpf);
+            assertTrue(store.containsCpf(VALID_CPF));
+            assertEquals(1, store.size());
+        }
+
+        @Test
+        @DisplayName("Should keep the leading zeros of the CPF")
+        void shouldKeepLeadingZerosOfCpf() {
+            Customer customer = Customer.builder()
+                    .id(UUID.randomUUID()).name("Ana").email("").cpf("01234567890").build();
+
+            store.put(customer);
+
+            assertEquals("01234567890", store.findById(customer.getId()).orElseThrow().getCpf());
+            assertEquals("", store.findByCpf("01234567890").orElseThrow().getEmail());
+        }
+
+        @Test
+        @DisplayName("Should miss unknown keys")
+        void shouldMissUnknownKeys() {
+            store.put(mockCustomer);
+
+            assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+            assertTrue(store.findByCpf("52998224725").isEmpty());
+            assertTrue(store.findByCpf("111.444.777-35").isEmpty());
+            assertFalse(store.containsCpf("52998224725"));
+            assertEquals(Optional.empty(), store.findByCpf(null));
+        }
+
+        @Test
+        @DisplayName("Should overwrite a customer stored with the same ID")
+        void shouldOverwriteCustomerWithSameId() {
+            store.put(mockCustomer);
+            Customer updated = Customer.builder()
+                    .id(CUSTOMER_ID).name("João Atualizado").email("novo@example.com").cpf("52998224725").build();
+
+            store.put(updated);
+
+            assertEquals("João Atualizado", store.findById(CUSTOMER_ID).orElseThrow().getName());
+            assertTrue(store.findByCpf(VALID_CPF).isEmpty());
+            assertTrue(store.findByCpf("52998224725").isPresent());
+            assertEquals(1, store.size());
+        }
+
+        @Test
+        @DisplayName("Should refuse customers that do not fit the fixed layout")
+        void shouldRefuseCustomersThatDoNotFit() {
+            Customer longName = Customer.builder()
+                    .id(UUID.randomUUID()).name("N".repeat(MappedCustomerStore.MAX_NAME_BYTES + 1))
+                    .email("a@example.com").cpf(VALID_CPF).build();
+
+            assertFalse(store.put(longName));
+            assertEquals(0, store.size());
+        }
+
+        @Test
+        @DisplayName("Should refuse new entries beyond the load factor")
+        void shouldRefuseNewEntriesBeyondLoadFactor() {
+            int stored = 0;
+            for (long i = 0; i < 64; i++) {
+                Customer customer = Customer.builder()
+                        .id(UUID.randomUUID()).name("Cliente " + i).email("").cpf(cpfFrom(100_000_000L + i)).build();
+                if (store.put(customer)) {
+                    stored++;
+                }
+            }
+
+            assertEquals(48, stored);
+            assertEquals(48, store.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Remove Tests")
+    class RemoveTests {
+
+        @Test
+        @DisplayName("Should remove a customer from both indexes")
+        void shouldRemoveCustomerFromBothIndexes() {
+            store.put(mockCustomer);
+
+            store.remove(CUSTOMER_ID);
+
+            assertTrue(store.findById(CUSTOMER_ID).isEmpty());
+            assertTrue(store.findByCpf(VALID_CPF).isEmpty());
+            assertEquals(0, store.size());
+        }
+
+        @Test
+        @DisplayName("Should reuse removed slots")
+        void shouldReuseRemovedSlots() {
+            store.put(mockCustomer);
+            store.remove(CUSTOMER_ID);
+
+            store.put(mockCustomer);
+
+            assertEquals(mockCustomer, store.findByCpf(VALID_CPF).orElseThrow());
+            assertEquals(1, store.size());
+        }
+
+        @Test
+        @DisplayName("Should drop everything on clear")
+        void shouldDropEverythingOnClear() {
+            store.put(mockCustomer);
+
+            store.clear();
+
+            assertTrue(store.findById(CUSTOMER_ID).isEmpty());
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence Tests")
+    class PersistenceTests {
+
+        @Test
+        @DisplayName("Should serve stored customers after reopening the file")
+        void shouldServeStoredCustomersAfterReopening() {
+            store.put(mockCustomer);
+            store.close();
+
+            store = MappedCustomerStore.open(file, 64);
+
+            assertEquals(mockCustomer, store.findByCpf(VALID_CPF).orElseThrow());
+            assertEquals(1, store.size());
+        }
+
+        @Test
+        @DisplayName("Should start empty when the layout changes")
+        void shouldStartEmptyWhenLayoutChanges() {
+            store.put(mockCustomer);
+            store.close();
+
+            store = MappedCustomerStore.open(file, 128);
+
+            assertTrue(store.findById(CUSTOMER_ID).isEmpty());
+            assertEquals(MappedCustomerStore.fileSize(128), file.toFile().length());
+        }
+
+        @Test
+        @DisplayName("Should start empty on a corrupted header")
+        void shouldStartEmptyOnCorruptedHeader() throws Exception {
+            store.put(mockCustomer);
+            store.close();
+            byte[] content = Files.readAllBytes(file);
+            content[0] = 0;
+            Files.write(file, content);
+
+            store = MappedCustomerStore.open(file, 64);
+
+            assertTrue(store.findById(CUSTOMER_ID).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject capacities that are not a power of two")
+        void shouldRejectInvalidCapacity() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> MappedCustomerStore.open(directory.resolve("other.l2"), 100));
+        }
+    }
+
+    private static String cpfFrom(long base) {
+        String digits = String.format("%09d", base);
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            sum += (digits.charAt(i) - '0') * (10 - i);
+        }
+        int first = 11 - sum % 11 >= 10 ? 0 : 11 - sum % 11;
+        sum = 0;
+        for (int i = 0; i < 9; i++) {
+            sum += (digits.charAt(i) - '0') * (11 - i);
+        }
+        sum += first * 2;
+        int second = 11 - sum % 11 >= 10 ? 0 : 11 - sum % 11;
+        return digits + first + second;
+    }
+}
@@ -0,0 +1,153 @@
+package com.fiap.techchallenge.adapters.gateway.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("In Memory Customer Change Bus Tests")
+class InMemoryCustomerChangeBusTest {
+
+    private static final String VALID_CPF = "11144477735";
+
+    @Test
+    @DisplayName("Should deliver changes to every subscriber")
+    void shouldDeliverChangesToEverySubscriber() {
+        // Arrange
+        InMemoryCustomerChangeBus bus = new InMemoryCustomerChangeBus();
+        List<UUID> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        bus.subscribe((id, cpf) -> first.add(id));
+        bus.subscribe((id, cpf) -> second.add(cpf));
+        UUID id = UUID.randomUUID();
+
+        // Act
+        bus.publish(id, VALID_CPF);
+
+        // Assert
+        assertEquals(List.of(id), first);
+        assertEquals(List.of(VALID_CPF), second);
+    }
+
+    @Test
+    @DisplayName("Should keep delivering when a subscriber fails")
+    void shouldKeepDeliveringWhenSubscriberFails() {
+        // Arrange
+        InMemoryCustomerChangeBus bus = new InMemoryCustomerChangeBus();
+        List<UUID> received = new ArrayList<>();
+        bus.subscribe((id, cpf) -> {
+            throw new IllegalStateException("boom");
+        });
+        bus.subscribe((id, cpf) -> received.add(id));
+        UUID id = UUID.randomUUID();
+
+        // Act
+        assertDoesNotThrow(() -> bus.publish(id, VALID_CPF));
+
+        // Assert
+        assertEquals(List.of(id), received);
+    }
+
+    @Test
+    @DisplayName("Should deliver only remote changes to remote subscribers")
+    void shouldDeliverOnlyRemoteChangesToRemoteSubscribers() {
+        // Arrange
+        InMemoryCustomerChangeBus bus = new InMemoryCustomerChangeBus();
+        List<UUID> all = new ArrayList<>();
+        List<UUID> remote = new ArrayList<>();
+        bus.subscribe((id, cpf) -> all.add(id));
+        bus.subscribeRemote((id, cpf) -> remote.add(id));
+        UUID localId = UUID.randomUUID();
+        UUID remoteId = UUID.randomUUID();
+
+        // Act
+        bus.publish(localId, VALID_CPF);
+        bus.publishRemote(remoteId, VALID_CPF);
+
+        // Assert
+        assertEquals(List.of(localId, remoteId), all);
+        assertEquals(List.of(remoteId), remote);
+    }
+
+    @Test
+    @DisplayName("Should reset every subscriber")
+    void shouldResetEverySubscriber() {
+        // Arrange
+        InMemoryCustomerChangeBus bus = new InMemoryCustomerChangeBus();
+        AtomicInteger resets = new AtomicInteger();
+        CustomerChangeListener listener = new CustomerChangeListener() {
+            @Override
+            public void onCustomerChanged(UUID id, String cpf) {
+            }
+
+            @Override
+            public void onReset() {
+                resets.incrementAndGet();
+            }
+        };
+        bus.subscribe(listener);
+        bus.subscribeRemote(listener);
+
+        // Act
+        bus.reset();
+
+        // Assert
+        assertEquals(2, resets.get());
+    }
+
+    @Test
+    @DisplayName("Should reset local and remote subscribers on publishReset")
+    void shouldResetAllSubscribersOnPublishReset() {
+        // Arrange
+        InMemoryCustomerChangeBus bus = new InMemoryCustomerChangeBus();
+        AtomicInteger resets = new AtomicInteger();
+        CustomerChangeListener listener = new CustomerChangeListener() {
+            @Override
+            public void onCustomerChanged(UUID id, String cpf) {
+            }
+
+            @Override
+            public void onReset() {
+                resets.incrementAndGet();
+            }
+        };
+        bus.subscribe(listener);
+        bus.subscribeRemote(listener);
+
+        // Act
+        bus.publishReset();
+
+        // Assert
+        assertEquals(2, resets.get());
+    }
+
+    @Test
+    @DisplayName("Should notify remote subscribers of a disconnection")
+    void shouldNotifyRemoteSubscribersOfDisconnection() {
+        // Arrange
+        InMemoryCustomerChangeBus bus = new InMemoryCustomerChangeBus();
+        AtomicInteger disconnections = new AtomicInteger();
+        CustomerChangeListener listener = new CustomerChangeListener() {
+            @Override
+            public void onCustomerChanged(UUID id, String cpf) {
+            }
+
+            @Override
+            public void onDisconnected() {
+                disconnections.incrementAndGet();
+            }
+        };
+        bus.subscribeRemote(listener);
+
+        // Act
+        bus.disconnected();
+
+        // Assert
+        assertEquals(1, disconnections.get());
+    }
+}
@@ -0,0 +1,202 @@
+package com.fiap.techchallenge.adapters.gateway.readmodel;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Read Model Tests")
+class CustomerReadModelTest {
+
+    @Mock
+    private CustomerRepository table;
+
+    private CustomerReadModel readModel;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final String OTHER_CPF = "52998224725";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new CustomerReadModel();
+        mockCustomer = customer(CUSTOMER_ID, "João da Silva", "Joao.Silva@example.com", VALID_CPF);
+    }
+
+    private static Customer customer(UUID id, String name, String email, String cpf) {
+        return Customer.builder().id(id).name(name).email(email).cpf(cpf).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void tableWith(Customer... customers) {
+        doAnswer(invocation -> {
+            Consumer<Customer> action = invocation.getArgument(0);
+            for (Customer customer : customers) {
+                action.accept(customer);
+            }
+            return null;
+        }).when(table).forEach(any(Consumer.class));
+    }
+
+    @Nested
+    @DisplayName("Index Tests")
+    class IndexTests {
+
+        @Test
+        @DisplayName("Should find a customer by ID, CPF and email")
+        void shouldFindCustomerByIdCpfAndEmail() {
+            // Act
+            readModel.put(mockCustomer);
+
+            // Assert
+            assertEquals(mockCustomer, readModel.findById(CUSTOMER_ID).orElseThrow());
+            assertEquals(mockCustomer, readModel.findByCpf(VALID_CPF).orElseThrow());
+            assertEquals(List.of(mockCustomer), readModel.findByEmail("JOAO.SILVA@example.com"));
+            assertTrue(readModel.containsCpf(VALID_CPF));
+            assertEquals(1, readModel.size());
+        }
+
+        @Test
+        @DisplayName("Should keep every customer sharing an email")
+        void shouldKeepEveryCustomerSharingEmail() {
+            // Arrange
+            Customer other = customer(UUID.randomUUID(), "Maria", "joao.silva@example.com", OTHER_CPF);
+
+            // Act
+            readModel.put(mockCustomer);
+            readModel.put(other);
+
+            // Assert
+            assertEquals(2, readModel.findByEmail("joao.silva@example.com").size());
+        }
+
+        @Test
+        @DisplayName("Should drop the old indexes when a customer is replaced")
+        void shouldDropOldIndexesWhenCustomerIsReplaced() {
+            // Arrange
+            readModel.put(mockCustomer);
+            Customer changed = customer(CUSTOMER_ID, "João da Silva", "novo@example.com", VALID_CPF);
+
+            // Act
+            readModel.put(changed);
+
+            // Assert
+            assertTrue(readModel.findByEmail("joao.silva@example.com").isEmpty());
+            assertEquals(List.of(changed), readModel.findByEmail("novo@example.com"));
+            assertEquals("novo@example.com", readModel.findByCpf(VALID_CPF).orElseThrow().getEmail());
+        }
+
+        @Test
+        @DisplayName("Should remove a customer from every index")
+        void shouldRemoveCustomerFromEveryIndex() {
+            // Arrange
+            readModel.put(mockCustomer);
+
+            // Act
+            readModel.remove(CUSTOMER_ID);
+
+            // Assert
+            assertTrue(readModel.findById(CUSTOMER_ID).isEmpty());
+            assertFalse(readModel.containsCpf(VALID_CPF));
+            assertTrue(readModel.findByEmail("joao.silva@example.com").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Page Tests")
+    class PageTests {
+
+        @Test
+        @DisplayName("Should page by ID in the database uuid order")
+        void shouldPageByIdInDatabaseUuidOrder() {
+            // Arrange
+            UUID low = UUID.fromString("00000000-0000-0000-0000-000000000001");
+            UUID middle = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+            // Negativo para UUID.compareTo, mas o maior na ordem de bytes do banco
+            UUID high = UUID.fromString("ffffffff-0000-0000-0000-000000000000");
+            readModel.put(customer(high, "Ana", "ana@example.com", "39053344705"));
+            readModel.put(customer(low, "João", "joao@example.com", VALID_CPF));
+            readModel.put(customer(middle, "Maria", "maria@example.com", OTHER_CPF));
+
+            // Act
+            List<Customer> first = readModel.findPage(null, 2);
+            List<Customer> second = readModel.findPage(first.get(1).getId(), 2);
+
+            // Assert
+            assertEquals(List.of(low, middle), first.stream().map(Customer::getId).toList());
+            assertEquals(List.of(high), second.stream().map(Customer::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Should drop removed customers from the pages")
+        void shouldDropRemovedCustomersFromPages() {
+            // Arrange
+            readModel.put(mockCustomer);
+
+            // Act
+            readModel.remove(CUSTOMER_ID);
+
+            // Assert
+            assertTrue(readModel.findPage(null, 10).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Consistency Check Tests")
+    class ConsistencyCheckTests {
+
+        @Test
+        @DisplayName("Should report a consistent model")
+        void shouldReportConsistentModel() {
+            // Arrange
+            readModel.put(mockCustomer);
+            tableWith(mockCustomer);
+
+            // Act
+            CustomerReadModel.ConsistencyReport report = readModel.verify(table);
+
+            // Assert
+            assertTrue(report.isConsistent());
+            assertEquals(1, report.getTableCount());
+            assertEquals(1, report.getModelCount());
+        }
+
+        @Test
+        @DisplayName("Should report missing, stale and extra customers")
+        void shouldReportMissingStaleAndExtraCustomers() {
+            // Arrange
+            UUID missingId = UUID.randomUUID();
+            UUID extraId = UUID.randomUUID();
+            readModel.put(mockCustomer);
+            readModel.put(customer(extraId, "Extra", "", OTHER_CPF));
+            tableWith(
+                    customer(CUSTOMER_ID, "Nome Novo", "joao.silva@example.com", VALID_CPF),
+                    customer(missingId, "Faltando", "", "12345678909"));
+
+            // Act
+            CustomerReadModel.ConsistencyReport report = readModel.verify(table);
+
+            // Assert
+            assertFalse(report.isConsistent());
+            assertEquals(List.of(missingId), report.getMissingIds());
+            assertEquals(List.of(CUSTOMER_ID), report.getStaleIds());
+            assertEquals(List.of(extraId), report.getExtraIds());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.fiap.techchallenge.adapters.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.application.usecases.CustomerImportRow;
+import com.fiap.techchallenge.domain.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Customer Import Reader Tests")
+class CustomerImportReaderTest {
+
+    private static List<CustomerImportRow> read(CustomerImportFormat format, String content) {
+        List<CustomerImportRow> rows = new ArrayList<>();
+        CustomerImportReader.of(format, new BufferedReader(new StringReader(content)), new ObjectMapper())
+                .forEachRemaining(rows::add);
+        return rows;
+    }
+
+    @Nested
+    @DisplayName("CSV Tests")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Should map columns by header and keep line numbers")
+        void shouldMapColumnsByHeader() {
+            // Act
+            List<CustomerImportRow> rows = read(CustomerImportFormat.CSV,
+                    "cpf,name,email\n11144477735,\"Silva, João \"\"JJ\"\"\",joao@example.com\n\n52998224725,Maria,\n");
+
+            // Assert
+            assertEquals(2, rows.size());
+            assertEquals(2, rows.get(0).getLine());
+            assertEquals("Silva, João \"JJ\"", rows.get(0).getRegistration().getName());
+            assertEquals("11144477735", rows.get(0).getRegistration().getCpf());
+            assertEquals(4, rows.get(1).getLine());
+            assertEquals("", rows.get(1).getRegistration().getEmail());
+        }
+
+        @Test
+        @DisplayName("Should accept semicolon as separator")
+        void shouldAcceptSemicolonSeparator() {
+            List<CustomerImportRow> rows = read(CustomerImportFormat.CSV, "name;cpf\nJoão;111.444.777-35\n");
+
+            assertEquals("111.444.777-35", rows.get(0).getRegistration().getCpf());
+            assertNull(rows.get(0).getRegistration().getEmail());
+        }
+
+        @Test
+        @DisplayName("Should report malformed lines without stopping")
+        void shouldReportMalformedLines() {
+            List<CustomerImportRow> rows = read(CustomerImportFormat.CSV, "name,cpf\n\"João,111\nMaria\nAna,52998224725\n");
+
+            assertEquals(3, rows.size());
+            assertNotNull(rows.get(0).getError());
+            assertNotNull(rows.get(1).getError());
+            assertNull(rows.get(2).getError());
+        }
+
+        @Test
+        @DisplayName("Should reject a header without the required columns")
+        void shouldRejectHeaderWithoutRequiredColumns() {
+            assertThrows(DomainException.class, () -> read(CustomerImportFormat.CSV, "name,email\nJoão,joao@example.com\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON Tests")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("Should read one object per line")
+        void shouldReadOneObjectPerLine() {
+            // Act
+            List<CustomerImportRow> rows = read(CustomerImportFormat.NDJSON,
+                    "{\"name\":\"João\",\"email\":\"joao@example.com\",\"cpf\":\"11144477735\"}\n{not json}\n[1]\n");
+
+            // Assert
+            assertEquals(3, rows.size());
+            assertEquals("João", rows.get(0).getRegistration().getName());
+            assertEquals("11144477735", rows.get(0).getRegistration().getCpf());
+            assertEquals(2, rows.get(1).getLine());
+            assertNotNull(rows.get(1).getError());
+            assertNotNull(rows.get(2).getError());
+        }
+    }
+}
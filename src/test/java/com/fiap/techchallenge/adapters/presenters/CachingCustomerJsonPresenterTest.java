@@ -0,0 +1,169 @@
+package com.fiap.techchallenge.adapters.presenters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Caching Customer JSON Presenter Tests")
+class CachingCustomerJsonPresenterTest {
+
+    private static final String VALID_CPF = "11144477735";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Cache<UUID, CustomerJson> jsonById;
+    private Cache<String, CustomerJson> jsonByCpf;
+    private CachingCustomerJsonPresenter presenter;
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        jsonById = Caffeine.newBuilder().maximumSize(100).build();
+        jsonByCpf = Caffeine.newBuilder().maximumSize(100).build();
+        presenter = new CachingCustomerJsonPresenter(objectMapper, jsonById, jsonByCpf);
+
+        mockCustomer = Customer.builder()
+                .id(CUSTOMER_ID)
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Render Tests")
+    class RenderTests {
+
+        @Test
+        @DisplayName("Should render the same JSON as Jackson")
+        void shouldRenderSameJsonAsJackson() throws Exception {
+            // Act
+            CustomerJson json = presenter.render(mockCustomer);
+
+            // Assert
+            assertArrayEquals(objectMapper.writeValueAsBytes(mockCustomer), json.getBody());
+        }
+
+        @Test
+        @DisplayName("Should derive a strong ETag from the content")
+        void shouldDeriveStrongEtagFromContent() {
+            // Arrange
+            Customer other = Customer.builder()
+                    .id(CUSTOMER_ID)
+                    .name("João da Silva Sauro")
+                    .email("joao.silva@example.com")
+                    .cpf(VALID_CPF)
+                    .build();
+
+            // Act
+            CustomerJson first = presenter.render(mockCustomer);
+            CustomerJson again = presenter.render(mockCustomer);
+            CustomerJson changed = presenter.render(other);
+
+            // Assert
+            assertTrue(first.getEtag().matches("\"[0-9a-f]{32}\""));
+            assertEquals(first.getEtag(), again.getEtag());
+            assertNotEquals(first.getEtag(), changed.getEtag());
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should load and render only once for repeated lookups by ID")
+        void shouldLoadAndRenderOnlyOnceForRepeatedLookupsById() {
+            // Arrange
+            AtomicInteger loads = new AtomicInteger();
+
+            // Act
+            CustomerJson first = presenter.findById(CUSTOMER_ID, id -> {
+                loads.incrementAndGet();
+                return Optional.of(mockCustomer);
+            }).orElseThrow();
+            CustomerJson second = presenter.findById(CUSTOMER_ID, id -> {
+                loads.incrementAndGet();
+                return Optional.of(mockCustomer);
+            }).orElseThrow();
+
+            // Assert
+            assertEquals(1, loads.get());
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("Should share the rendered JSON between ID and CPF entries")
+        void shouldShareRenderedJsonBetweenIdAndCpfEntries() {
+            // Act
+            CustomerJson byCpf = presenter.findByCpf(VALID_CPF, cpf -> Optional.of(mockCustomer)).orElseThrow();
+            CustomerJson byId = presenter.findById(CUSTOMER_ID, id -> {
+                throw new AssertionError("should be served from the cache");
+            }).orElseThrow();
+
+            // Assert
+            assertSame(byCpf, byId);
+        }
+
+        @Test
+        @DisplayName("Should not cache absent customers")
+        void shouldNotCacheAbsentCustomers() {
+            // Act
+            Optional<CustomerJson> result = presenter.findByCpf(VALID_CPF, cpf -> Optional.empty());
+
+            // Assert
+            assertTrue(result.isEmpty());
+            assertNull(jsonByCpf.getIfPresent(VALID_CPF));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should drop both entries when the customer changes")
+        void shouldDropBothEntriesWhenCustomerChanges() {
+            // Arrange
+            presenter.findById(CUSTOMER_ID, id -> Optional.of(mockCustomer));
+
+            // Act
+            presenter.onCustomerChanged(CUSTOMER_ID, VALID_CPF);
+
+            // Assert
+            assertNull(jsonById.getIfPresent(CUSTOMER_ID));
+            assertNull(jsonByCpf.getIfPresent(VALID_CPF));
+        }
+    }
+
+    @Nested
+    @DisplayName("Hottest Keys Tests")
+    class HottestKeysTests {
+
+        @Test
+        @DisplayName("Should list cached IDs as hot keys")
+        void shouldListCachedIdsAsHotKeys() {
+            // Arrange
+            presenter.findById(CUSTOMER_ID, id -> Optional.of(mockCustomer));
+
+            // Act
+            List<UUID> hottest = presenter.hottestIds(10);
+
+            // Assert
+            assertEquals(List.of(CUSTOMER_ID), hottest);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.fiap.techchallenge.adapters.presenters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.application.usecases.CustomerExportUseCase;
+import com.fiap.techchallenge.domain.entities.Customer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Customer Gzip NDJSON Export Tests")
+class CustomerGzipNdjsonExportTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should merge the partitions into one readable gzip stream")
+    void shouldMergePartitionsIntoOneReadableGzipStream() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CustomerGzipNdjsonExport export = new CustomerGzipNdjsonExport(objectMapper, out, 2);
+        CustomerExportUseCase.PartitionSink first = export.open(0);
+        CustomerExportUseCase.PartitionSink second = export.open(1);
+
+        // Act
+        first.accept(customer("11144477735"));
+        second.accept(customer("52998224725"));
+        first.accept(customer("39053344705"));
+        first.accept(customer("86288366757"));
+        second.finish();
+        first.finish();
+
+        // Assert
+        String[] lines = gunzip(out.toByteArray()).split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(Arrays.stream(lines).allMatch(line -> line.startsWith("{")));
+        assertTrue(Arrays.stream(lines).anyMatch(line -> line.contains("\"cpf\":\"52998224725\"")));
+        assertTrue(Arrays.stream(lines).anyMatch(line -> line.contains("\"cpf\":\"86288366757\"")));
+        assertEquals("11144477735", objectMapper.readTree(lines[0]).get("cpf").asText());
+    }
+
+    @Test
+    @DisplayName("Should still produce a valid gzip stream without customers")
+    void shouldProduceValidGzipStreamWithoutCustomers() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CustomerGzipNdjsonExport export = new CustomerGzipNdjsonExport(objectMapper, out);
+
+        // Act
+        export.open(0).finish();
+
+        // Assert
+        assertEquals("", gunzip(out.toByteArray()));
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Customer customer(String cpf) {
+        return Customer.builder()
+                .id(UUID.randomUUID())
+                .name("Cliente " + cpf)
+                .email("cliente@example.com")
+                .cpf(cpf)
+                .build();
+    }
+}
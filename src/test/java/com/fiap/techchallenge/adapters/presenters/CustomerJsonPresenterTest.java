@@ -0,0 +1,127 @@
+package com.fiap.techchallenge.adapters.presenters;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Customer JSON Presenter Tests")
+class CustomerJsonPresenterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CustomerJsonPresenter presenter = new CustomerJsonPresenter(objectMapper);
+
+    @Nested
+    @DisplayName("NDJSON Tests")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("Should write one JSON object per line")
+        void shouldWriteOneJsonObjectPerLine() throws IOException {
+            // Arrange
+            List<Customer> customers = List.of(
+                    customer("João da Silva", "11144477735"),
+                    customer("Maria, \"a segunda\"", "52998224725"));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            presenter.writeNdjson(out, customers::forEach);
+
+            // Assert
+            String expected = objectMapper.writeValueAsString(customers.get(0)) + "\n"
+                    + objectMapper.writeValueAsString(customers.get(1)) + "\n";
+            assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+            JsonNode second = objectMapper.readTree(lines[1]);
+            assertEquals("Maria, \"a segunda\"", second.get("name").asText());
+            assertEquals("52998224725", second.get("cpf").asText());
+        }
+
+        @Test
+        @DisplayName("Should write nothing for an empty source and leave the stream open")
+        void shouldWriteNothingForEmptySource() throws IOException {
+            // Arrange
+            boolean[] closed = {false};
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            OutputStream out = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    buffer.write(b);
+                }
+
+                @Override
+                public void close() {
+                    closed[0] = true;
+                }
+            };
+
+            // Act
+            presenter.writeNdjson(out, action -> { });
+
+            // Assert
+            assertEquals(0, buffer.size());
+            assertFalse(closed[0]);
+        }
+
+        @Test
+        @DisplayName("Should surface a write failure as IOException")
+        void shouldSurfaceWriteFailureAsIoException() {
+            // Arrange
+            OutputStream broken = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+            List<Customer> customers = Collections.nCopies(10_000, customer("João da Silva", "11144477735"));
+
+            // Act & Assert
+            assertThrows(IOException.class, () -> presenter.writeNdjson(broken, customers::forEach));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sparse Fieldset Tests")
+    class SparseFieldsetTests {
+
+        @Test
+        @DisplayName("Should render only the requested fields with an ETag of its own")
+        void shouldRenderOnlyRequestedFields() throws IOException {
+            // Arrange
+            Customer customer = customer("João da Silva", "11144477735");
+
+            // Act
+            CustomerJson json = presenter.render(customer, EnumSet.of(CustomerField.ID, CustomerField.NAME));
+
+            // Assert
+            JsonNode node = objectMapper.readTree(json.getBody());
+            assertEquals(2, node.size());
+            assertEquals(customer.getId().toString(), node.get("id").asText());
+            assertEquals("João da Silva", node.get("name").asText());
+            assertNotEquals(presenter.render(customer).getEtag(), json.getEtag());
+        }
+    }
+
+    private static Customer customer(String name, String cpf) {
+        return Customer.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .email("cliente@example.com")
+                .cpf(cpf)
+                .build();
+    }
+}
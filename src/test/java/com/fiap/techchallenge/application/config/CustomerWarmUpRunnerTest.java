@@ -0,0 +1,83 @@
+package com.fiap.techchallenge.application.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Warm Up Runner Tests")
+class CustomerWarmUpRunnerTest {
+
+    @Mock
+    private CustomerWarmUp warmUp;
+
+    @TempDir
+    Path directory;
+
+    private CustomerWarmUpProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CustomerWarmUpProperties();
+        properties.setHotKeysFile(directory.resolve("hot-keys.txt"));
+        properties.setMaxEntries(50);
+        properties.setBudget(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should run the warm-up with the configured file, limit and budget")
+    void shouldRunWarmUpWithConfiguredFileLimitAndBudget() {
+        // Arrange
+        CustomerWarmUpRunner runner = new CustomerWarmUpRunner(warmUp, properties, limit -> List.of());
+        when(warmUp.warmUp(any(), anyInt(), any())).thenReturn(mock(CustomerWarmUp.WarmUpReport.class));
+
+        // Act
+        runner.run(null);
+
+        // Assert
+        verify(warmUp).warmUp(properties.getHotKeysFile(), 50, Duration.ofSeconds(5));
+        assertNotNull(runner.getLastReport());
+    }
+
+    @Test
+    @DisplayName("Should save the hottest keys on shutdown")
+    void shouldSaveHottestKeysOnShutdown() throws Exception {
+        // Arrange
+        UUID hot = UUID.randomUUID();
+        CustomerWarmUpRunner runner = new CustomerWarmUpRunner(warmUp, properties, limit -> List.of(hot));
+
+        // Act
+        runner.destroy();
+
+        // Assert
+        assertEquals(hot.toString(), Files.readString(properties.getHotKeysFile()).trim());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous file when there are no hot keys")
+    void shouldKeepPreviousFileWhenThereAreNoHotKeys() throws Exception {
+        // Arrange
+        Files.writeString(properties.getHotKeysFile(), "previous");
+        CustomerWarmUpRunner runner = new CustomerWarmUpRunner(warmUp, properties, limit -> List.of());
+
+        // Act
+        runner.destroy();
+
+        // Assert
+        assertEquals("previous", Files.readString(properties.getHotKeysFile()));
+    }
+}
@@ -0,0 +1,184 @@
+package com.fiap.techchallenge.application.config;
+
+import com.fiap.techchallenge.adapters.controllers.CustomerController;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.exception.NotFoundException;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Warm Up Tests")
+class CustomerWarmUpTest {
+
+    @Mock
+    private CustomerController customerController;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @TempDir
+    Path directory;
+
+    private CustomerWarmUp warmUp;
+    private Path hotKeysFile;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final String OTHER_CPF = "52998224725";
+
+    @BeforeEach
+    void setUp() {
+        warmUp = new CustomerWarmUp(customerController, customerRepository);
+        hotKeysFile = directory.resolve("hot-keys.txt");
+    }
+
+    private static Customer customer(String cpf) {
+        return Customer.builder()
+                .id(UUID.randomUUID())
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(cpf)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void tableWith(Customer... customers) {
+        doAnswer(invocation -> {
+            Consumer<Customer> action = invocation.getArgument(0);
+            for (Customer customer : customers) {
+                action.accept(customer);
+            }
+            return null;
+        }).when(customerRepository).forEach(any(Consumer.class));
+    }
+
+    @Nested
+    @DisplayName("Hot Keys Tests")
+    class HotKeysTests {
+
+        @Test
+        @DisplayName("Should warm the keys saved in the hot keys file")
+        void shouldWarmKeysSavedInHotKeysFile() throws Exception {
+            // Arrange
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            CustomerWarmUp.saveHotKeys(hotKeysFile, List.of(first, second));
+
+            // Act
+            CustomerWarmUp.WarmUpReport report = warmUp.warmUp(hotKeysFile, 100, Duration.ofSeconds(5));
+
+            // Assert
+            assertEquals(CustomerWarmUp.Source.HOT_KEYS, report.getSource());
+            assertEquals(2, report.getLoaded());
+            assertEquals(1.0, report.getCoverage());
+            verify(customerController).findCustomerJsonById(first);
+            verify(customerController).findCustomerJsonById(second);
+            verifyNoInteractions(customerRepository);
+        }
+
+        @Test
+        @DisplayName("Should count keys that no longer exist as failed")
+        void shouldCountKeysThatNoLongerExistAsFailed() throws Exception {
+            // Arrange
+            UUID gone = UUID.randomUUID();
+            CustomerWarmUp.saveHotKeys(hotKeysFile, List.of(gone));
+            when(customerController.findCustomerJsonById(gone)).thenThrow(new NotFoundException("Record not found"));
+
+            // Act
+            CustomerWarmUp.WarmUpReport report = warmUp.warmUp(hotKeysFile, 100, Duration.ofSeconds(5));
+
+            // Assert
+            assertEquals(0, report.getLoaded());
+            assertEquals(1, report.getFailed());
+            assertEquals(0.0, report.getCoverage());
+        }
+
+        @Test
+        @DisplayName("Should skip malformed lines and honor the limit")
+        void shouldSkipMalformedLinesAndHonorLimit() throws Exception {
+            // Arrange
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            Files.writeString(hotKeysFile, "garbage\n" + first + "\n\n" + second + "\n");
+
+            // Act
+            List<UUID> ids = CustomerWarmUp.readHotKeys(hotKeysFile, 1);
+
+            // Assert
+            assertEquals(List.of(first), ids);
+        }
+
+        @Test
+        @DisplayName("Should stop when the time budget runs out")
+        void shouldStopWhenTimeBudgetRunsOut() throws Exception {
+            // Arrange
+            CustomerWarmUp.saveHotKeys(hotKeysFile, List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+            // Act
+            CustomerWarmUp.WarmUpReport report = warmUp.warmUp(hotKeysFile, 100, Duration.ZERO);
+
+            // Assert
+            assertTrue(report.isTimedOut());
+            assertEquals(0, report.getLoaded());
+            verifyNoInteractions(customerController);
+        }
+    }
+
+    @Nested
+    @DisplayName("Full Scan Tests")
+    class FullScanTests {
+
+        @Test
+        @DisplayName("Should warm the whole table by ID and CPF when there is no hot keys file")
+        void shouldWarmWholeTableWhenThereIsNoHotKeysFile() {
+            // Arrange
+            Customer first = customer(VALID_CPF);
+            Customer second = customer(OTHER_CPF);
+            tableWith(first, second);
+            when(customerController.findCustomerJsonById(any())).thenReturn(Optional.empty());
+
+            // Act
+            CustomerWarmUp.WarmUpReport report = warmUp.warmUp(hotKeysFile, 100, Duration.ofSeconds(5));
+
+            // Assert
+            assertEquals(CustomerWarmUp.Source.FULL_SCAN, report.getSource());
+            assertEquals(2, report.getRequested());
+            assertEquals(2, report.getLoaded());
+            verify(customerController).findCustomerJsonByCpf(VALID_CPF);
+            verify(customerController).findCustomerJsonByCpf(OTHER_CPF);
+        }
+
+        @Test
+        @DisplayName("Should stop the scan at the maximum number of entries")
+        void shouldStopScanAtMaximumNumberOfEntries() {
+            // Arrange
+            tableWith(customer(VALID_CPF), customer(OTHER_CPF));
+
+            // Act
+            CustomerWarmUp.WarmUpReport report = warmUp.warmUp(hotKeysFile, 1, Duration.ofSeconds(5));
+
+            // Assert
+            assertEquals(1, report.getRequested());
+            assertEquals(1, report.getLoaded());
+            assertFalse(report.isTimedOut());
+        }
+    }
+}
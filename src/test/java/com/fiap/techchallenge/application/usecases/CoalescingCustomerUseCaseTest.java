@@ -0,0 +1,102 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Coalescing Customer UseCase Tests")
+class CoalescingCustomerUseCaseTest {
+
+    @Mock
+    private CustomerUseCase delegate;
+
+    private CoalescingCustomerUseCase useCase;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final String VALID_NAME = "João da Silva";
+    private static final String VALID_EMAIL = "joao.silva@example.com";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CoalescingCustomerUseCase(delegate);
+        mockCustomer = Customer.builder()
+                .id(CUSTOMER_ID)
+                .name(VALID_NAME)
+                .email(VALID_EMAIL)
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should run CPF lookups through the single flight")
+        void shouldRunCpfLookupsThroughSingleFlight() {
+            when(delegate.findCustomerByCpf(VALID_CPF)).thenReturn(Optional.of(mockCustomer));
+
+            Optional<Customer> result = useCase.findCustomerByCpf(VALID_CPF);
+
+            assertEquals(mockCustomer, result.orElseThrow());
+            assertEquals(1, useCase.cpfLookups().executionCount());
+        }
+
+        @Test
+        @DisplayName("Should run ID lookups through the single flight")
+        void shouldRunIdLookupsThroughSingleFlight() {
+            when(delegate.findCustomerById(CUSTOMER_ID)).thenReturn(Optional.of(mockCustomer));
+
+            Optional<Customer> result = useCase.findCustomerById(CUSTOMER_ID);
+
+            assertEquals(mockCustomer, result.orElseThrow());
+            assertEquals(1, useCase.idLookups().executionCount());
+        }
+
+        @Test
+        @DisplayName("Should propagate NotFoundException from the delegate")
+        void shouldPropagateNotFoundException() {
+            when(delegate.findCustomerById(CUSTOMER_ID)).thenThrow(new NotFoundException("Record not found"));
+
+            assertThrows(NotFoundException.class, () -> useCase.findCustomerById(CUSTOMER_ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pass Through Tests")
+    class PassThroughTests {
+
+        @Test
+        @DisplayName("Should delegate registration")
+        void shouldDelegateRegistration() {
+            when(delegate.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF)).thenReturn(mockCustomer);
+
+            assertSame(mockCustomer, useCase.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should delegate findCustomerAll")
+        void shouldDelegateFindCustomerAll() {
+            when(delegate.findCustomerAll()).thenReturn(List.of(mockCustomer));
+
+            assertEquals(List.of(mockCustomer), useCase.findCustomerAll());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.fiap.techchallenge.application.usecases;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CPF Key Table Tests")
+class CpfKeyTableTest {
+
+    @Nested
+    @DisplayName("Insert And Find Tests")
+    class InsertAndFindTests {
+
+        @Test
+        @DisplayName("Should find an inserted CPF in the slot it was given")
+        void shouldFindInsertedCpfInItsSlot() {
+            // Arrange
+            CpfKeyTable table = new CpfKeyTable(16);
+
+            // Act
+            int slot = table.insert(11144477735L);
+
+            // Assert
+            assertTrue(slot >= 0);
+            assertEquals(slot, table.find(11144477735L));
+            assertEquals(11144477735L, table.keyAt(slot));
+            assertEquals(-1, table.find(52998224725L));
+        }
+
+        @Test
+        @DisplayName("Should report the existing slot when inserting a CPF twice")
+        void shouldReportExistingSlotWhenInsertingTwice() {
+            // Arrange
+            CpfKeyTable table = new CpfKeyTable(16);
+            int slot = table.insert(11144477735L);
+
+            // Act
+            int again = table.insert(11144477735L);
+
+            // Assert
+            assertEquals(-(slot + 1), again);
+        }
+
+        @Test
+        @DisplayName("Should keep probing past collisions until the table is full")
+        void shouldKeepProbingUntilTableIsFull() {
+            // Arrange
+            CpfKeyTable table = new CpfKeyTable(16);
+
+            // Act
+            for (long key = 1; key <= 16; key++) {
+                assertTrue(table.insert(key) >= 0);
+            }
+
+            // Assert
+            for (long key = 1; key <= 16; key++) {
+                assertTrue(table.find(key) >= 0);
+            }
+            assertEquals(-1, table.find(17L));
+        }
+
+        @Test
+        @DisplayName("Should reject the empty and invalid keys")
+        void shouldRejectEmptyAndInvalidKeys() {
+            CpfKeyTable table = new CpfKeyTable(16);
+
+            assertThrows(IllegalArgumentException.class, () -> table.insert(CpfKeyTable.EMPTY));
+            assertThrows(IllegalArgumentException.class, () -> table.insert(CpfKeyTable.INVALID_CPF));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sizing Tests")
+    class SizingTests {
+
+        @Test
+        @DisplayName("Should size tables as powers of two within the load factor")
+        void shouldSizeTablesAsPowersOfTwo() {
+            assertEquals(16, CpfKeyTable.tableSizeFor(1, 0.5));
+            assertEquals(2_048, CpfKeyTable.tableSizeFor(1_000, 0.5));
+            assertEquals(2_048, CpfKeyTable.tableSizeFor(1_000, 0.75));
+            assertEquals(1_024, CpfKeyTable.tableSizeFor(768, 0.75));
+        }
+
+        @Test
+        @DisplayName("Should reject capacities that are not powers of two")
+        void shouldRejectCapacitiesThatAreNotPowersOfTwo() {
+            assertThrows(IllegalArgumentException.class, () -> new CpfKeyTable(10));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.repositories.CustomerExportSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Export UseCase Implementation Tests")
+class CustomerExportUseCaseImplTest {
+
+    private static final UUID FIRST_ID = UUID.fromString("00000000-0000-0000-0000-000000000000");
+    private static final UUID LAST_ID = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @Mock
+    private CustomerExportSource source;
+
+    private ExecutorService pool;
+    private CustomerExportUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(2);
+        useCase = new CustomerExportUseCaseImpl(source, pool, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Bounds Tests")
+    class BoundsTests {
+
+        @Test
+        @DisplayName("Should split the id space into ranges of equal width")
+        void shouldSplitIdSpaceIntoEqualRanges() {
+            // Act
+            List<UUID> bounds = CustomerExportUseCaseImpl.bounds(Optional.of(FIRST_ID), Optional.of(LAST_ID), 4);
+
+            // Assert
+            assertEquals(5, bounds.size());
+            assertNull(bounds.get(0));
+            assertEquals(UUID.fromString("40000000-0000-0000-0000-000000000000"), bounds.get(1));
+            assertEquals(UUID.fromString("80000000-0000-0000-0000-000000000000"), bounds.get(2));
+            assertEquals(UUID.fromString("c0000000-0000-0000-0000-000000000000"), bounds.get(3));
+            assertNull(bounds.get(4));
+        }
+
+        @Test
+        @DisplayName("Should drop ranges that would be empty")
+        void shouldDropRangesThatWouldBeEmpty() {
+            // Arrange
+            UUID id = UUID.fromString("01890000-0000-7000-8000-000000000000");
+
+            // Act
+            List<UUID> bounds = CustomerExportUseCaseImpl.bounds(Optional.of(id), Optional.of(id), 8);
+
+            // Assert
+            assertEquals(Collections.nCopies(2, null), bounds);
+        }
+
+        @Test
+        @DisplayName("Should read everything in one range when there are no customers")
+        void shouldReadEverythingInOneRangeWhenThereAreNoCustomers() {
+            assertEquals(Collections.nCopies(2, null),
+                    CustomerExportUseCaseImpl.bounds(Optional.empty(), Optional.empty(), 8));
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Customers Tests")
+    class ExportCustomersTests {
+
+        @Test
+        @DisplayName("Should scan every range into its own sink and report it")
+        void shouldScanEveryRangeIntoItsOwnSink() {
+            // Arrange
+            when(source.findFirstId()).thenReturn(Optional.of(FIRST_ID));
+            when(source.findLastId()).thenReturn(Optional.of(LAST_ID));
+            doAnswer(invocation -> {
+                Consumer<Customer> action = invocation.getArgument(2);
+                action.accept(customer());
+                return null;
+            }).when(source).forEachInRange(any(), any(), any());
+            List<RecordingSink> sinks = Collections.synchronizedList(new ArrayList<>());
+
+            // Act
+            CustomerExportReport report = useCase.exportCustomers(4, partition -> {
+                RecordingSink sink = new RecordingSink();
+                sinks.add(sink);
+                return sink;
+            });
+
+            // Assert
+            assertEquals(4, report.getPartitions().size());
+            assertEquals(4, report.getRows());
+            assertEquals(2, report.getParallelism());
+            assertNull(report.getPartitions().get(0).getFrom());
+            assertNull(report.getPartitions().get(3).getTo());
+            assertEquals(report.getPartitions().get(0).getTo(), report.getPartitions().get(1).getFrom());
+            assertEquals(4, sinks.size());
+            sinks.forEach(sink -> {
+                assertEquals(1, sink.customers.size());
+                assertTrue(sink.finished);
+            });
+        }
+
+        @Test
+        @DisplayName("Should fail the export when a range fails")
+        void shouldFailExportWhenRangeFails() {
+            // Arrange
+            when(source.findFirstId()).thenReturn(Optional.of(FIRST_ID));
+            when(source.findLastId()).thenReturn(Optional.of(LAST_ID));
+            doThrow(new IllegalStateException("connection lost")).when(source).forEachInRange(any(), any(), any());
+
+            // Act & Assert
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> useCase.exportCustomers(4, partition -> new RecordingSink()));
+            assertEquals("connection lost", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid number of partitions")
+        void shouldRejectInvalidNumberOfPartitions() {
+            assertThrows(DomainException.class, () -> useCase.exportCustomers(0, partition -> new RecordingSink()));
+            assertThrows(DomainException.class, () -> useCase.exportCustomers(
+                    CustomerExportUseCaseImpl.MAX_PARTITIONS + 1, partition -> new RecordingSink()));
+            verifyNoInteractions(source);
+        }
+    }
+
+    private static Customer customer() {
+        return Customer.builder()
+                .id(UUID.randomUUID())
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf("11144477735")
+                .build();
+    }
+
+    private static final class RecordingSink implements CustomerExportUseCase.PartitionSink {
+
+        private final List<Customer> customers = new ArrayList<>();
+        private boolean finished;
+
+        @Override
+        public void accept(Customer customer) {
+            customers.add(customer);
+        }
+
+        @Override
+        public void finish() {
+            finished = true;
+        }
+    }
+}
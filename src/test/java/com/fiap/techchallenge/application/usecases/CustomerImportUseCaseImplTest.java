@@ -0,0 +1,126 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.repositories.CustomerBulkLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Import UseCase Implementation Tests")
+class CustomerImportUseCaseImplTest {
+
+    private static final String VALID_CPF = "11144477735";
+    private static final String OTHER_CPF = "52998224725";
+
+    @Mock
+    private CustomerBulkLoader bulkLoader;
+
+    private ForkJoinPool pool;
+    private CustomerImportUseCaseImpl importUseCase;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        importUseCase = new CustomerImportUseCaseImpl(bulkLoader, pool, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static CustomerImportRow row(long line, String name, String cpf) {
+        return CustomerImportRow.of(line, new CustomerRegistration(name, "", cpf));
+    }
+
+    @Test
+    @DisplayName("Should stage valid rows in chunks, reject the rest and merge once")
+    @SuppressWarnings("unchecked")
+    void shouldStageValidRowsInChunksAndMergeOnce() {
+        // Arrange
+        List<CustomerImportRow> rows = List.of(
+                row(2, "João", VALID_CPF),
+                row(3, "Sem CPF", "123"),
+                row(4, "Maria", OTHER_CPF),
+                row(5, "João de novo", VALID_CPF),
+                CustomerImportRow.unreadable(6, "Invalid JSON"));
+        when(bulkLoader.merge(any(UUID.class))).thenReturn(1L);
+        List<CustomerImportReport> progress = new ArrayList<>();
+
+        // Act
+        CustomerImportReport report = importUseCase.importCustomers(rows.iterator(), progress::add);
+
+        // Assert
+        ArgumentCaptor<List<Customer>> staged = ArgumentCaptor.forClass(List.class);
+        verify(bulkLoader, times(2)).stage(any(UUID.class), staged.capture());
+        assertEquals(List.of(VALID_CPF), staged.getAllValues().get(0).stream().map(Customer::getCpf).toList());
+        assertEquals(List.of(OTHER_CPF), staged.getAllValues().get(1).stream().map(Customer::getCpf).toList());
+        verify(bulkLoader).merge(report.getImportId());
+
+        assertTrue(report.isFinished());
+        assertEquals(5, report.getRead());
+        assertEquals(3, report.getRejected());
+        assertEquals(2, report.getStaged());
+        assertEquals(1, report.getInserted());
+        assertEquals(1, report.getAlreadyRegistered());
+        assertEquals(List.of(3L, 5L, 6L), report.getRejections().stream().map(CustomerImportReport.Rejection::getLine).toList());
+        assertEquals(3, progress.size());
+        assertFalse(progress.get(0).isFinished());
+    }
+
+    @Test
+    @DisplayName("Should cap the rejections listed in the report")
+    void shouldCapRejectionsListed() {
+        // Arrange
+        CustomerImportUseCaseImpl capped = new CustomerImportUseCaseImpl(bulkLoader, pool, 100, 1);
+        List<CustomerImportRow> rows = List.of(row(1, "A", "1"), row(2, "B", "2"));
+
+        // Act
+        CustomerImportReport report = capped.importCustomers(rows.iterator(), p -> { });
+
+        // Assert
+        assertEquals(2, report.getRejected());
+        assertEquals(1, report.getRejections().size());
+        verify(bulkLoader, never()).merge(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should discard the staging area when the import fails")
+    void shouldDiscardStagingWhenImportFails() {
+        // Arrange
+        doThrow(new DataAccessResourceFailureException("COPY failed")).when(bulkLoader).stage(any(UUID.class), anyList());
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class, () ->
+                importUseCase.importCustomers(List.of(row(1, "João", VALID_CPF)).iterator(), p -> { }));
+        verify(bulkLoader).discard(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should deduplicate many CPFs across resizes")
+    void shouldDeduplicateManyCpfs() {
+        CpfSet cpfs = new CpfSet(1);
+        for (long i = 1; i <= 10_000; i++) {
+            assertTrue(cpfs.add(String.format("%011d", i)));
+        }
+        assertFalse(cpfs.add("00000000001"));
+        assertEquals(10_000, cpfs.size());
+    }
+}
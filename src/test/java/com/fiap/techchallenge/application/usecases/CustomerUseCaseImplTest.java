@@ -1,7 +1,9 @@
 package com.fiap.techchallenge.application.usecases;
 
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
 import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.exception.InvalidCpfException;
 import com.fiap.techchallenge.domain.exception.NotFoundException;
 import com.fiap.techchallenge.domain.repositories.CustomerRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,17 +12,26 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -31,7 +42,6 @@ class CustomerUseCaseImplTest {
     @Mock
     private CustomerRepository customerRepository;
 
-    @InjectMocks
     private CustomerUseCaseImpl customerUseCase;
 
     private static final String VALID_CPF = "11144477735";
@@ -43,6 +53,7 @@ class CustomerUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
+        customerUseCase = new CustomerUseCaseImpl(customerRepository);
         mockCustomer = Customer.builder()
                 .id(CUSTOMER_ID)
                 .name(VALID_NAME)
@@ -55,11 +66,25 @@ class CustomerUseCaseImplTest {
     @DisplayName("Register Customer Tests")
     class RegisterCustomerTests {
 
+        @Test
+        @DisplayName("Should take the new customer's ID from the generator")
+        void shouldTakeNewCustomerIdFromGenerator() {
+            // Arrange
+            UUID generatedId = UUID.randomUUID();
+            CustomerUseCaseImpl useCase = new CustomerUseCaseImpl(customerRepository, () -> generatedId);
+            when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            Customer result = useCase.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF);
+
+            // Assert
+            assertEquals(generatedId, result.getId());
+        }
+
         @Test
         @DisplayName("Should register customer successfully")
         void shouldRegisterCustomerSuccessfully() {
             // Arrange
-            when(customerRepository.existsByCpf(VALID_CPF)).thenReturn(false);
             when(customerRepository.save(any(Customer.class))).thenReturn(mockCustomer);
 
             // Act
@@ -71,8 +96,8 @@ class CustomerUseCaseImplTest {
             assertEquals(VALID_EMAIL.toLowerCase(), result.getEmail());
             assertEquals(VALID_CPF, result.getCpf());
 
-            verify(customerRepository).existsByCpf(VALID_CPF);
             verify(customerRepository).save(any(Customer.class));
+            verify(customerRepository, never()).existsByCpf(anyString());
         }
 
         @Test
@@ -86,7 +111,6 @@ class CustomerUseCaseImplTest {
                     .cpf(VALID_CPF)
                     .build();
 
-            when(customerRepository.existsByCpf(VALID_CPF)).thenReturn(false);
             when(customerRepository.save(any(Customer.class))).thenReturn(customerWithoutEmail);
 
             // Act
@@ -102,7 +126,6 @@ class CustomerUseCaseImplTest {
         @DisplayName("Should capture customer data when registering")
         void shouldCaptureCustomerDataWhenRegistering() {
             // Arrange
-            when(customerRepository.existsByCpf(VALID_CPF)).thenReturn(false);
             when(customerRepository.save(any(Customer.class))).thenReturn(mockCustomer);
 
             ArgumentCaptor<Customer> customerCaptor = ArgumentCaptor.forClass(Customer.class);
@@ -123,7 +146,8 @@ class CustomerUseCaseImplTest {
         @DisplayName("Should throw exception when CPF already exists")
         void shouldThrowExceptionWhenCpfAlreadyExists() {
             // Arrange
-            when(customerRepository.existsByCpf(VALID_CPF)).thenReturn(true);
+            when(customerRepository.save(any(Customer.class)))
+                    .thenThrow(new DomainException("Customer with CPF " + VALID_CPF + " already exists"));
 
             // Act & Assert
             DomainException exception = assertThrows(DomainException.class, () ->
@@ -131,15 +155,13 @@ class CustomerUseCaseImplTest {
             );
 
             assertEquals("Customer with CPF " + VALID_CPF + " already exists", exception.getMessage());
-            verify(customerRepository).existsByCpf(VALID_CPF);
-            verify(customerRepository, never()).save(any(Customer.class));
+            verify(customerRepository, never()).existsByCpf(anyString());
         }
 
         @Test
         @DisplayName("Should generate unique ID for each customer")
         void shouldGenerateUniqueIdForEachCustomer() {
             // Arrange
-            when(customerRepository.existsByCpf(anyString())).thenReturn(false);
             when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
@@ -153,6 +175,38 @@ class CustomerUseCaseImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Find Or Register Tests")
+    class FindOrRegisterTests {
+
+        @Test
+        @DisplayName("Should return the customer stored for the CPF")
+        void shouldReturnCustomerStoredForCpf() {
+            // Arrange
+            when(customerRepository.saveIfAbsent(any(Customer.class))).thenReturn(mockCustomer);
+
+            // Act
+            Customer result = customerUseCase.findOrRegister("Outro Nome", "outro@example.com", VALID_CPF);
+
+            // Assert
+            assertSame(mockCustomer, result);
+            ArgumentCaptor<Customer> candidate = ArgumentCaptor.forClass(Customer.class);
+            verify(customerRepository).saveIfAbsent(candidate.capture());
+            assertEquals(VALID_CPF, candidate.getValue().getCpf());
+            assertNotNull(candidate.getValue().getId());
+            verify(customerRepository, never()).findByCpf(anyString());
+        }
+
+        @Test
+        @DisplayName("Should validate before touching the repository")
+        void shouldValidateBeforeTouchingRepository() {
+            // Act & Assert
+            assertThrows(InvalidCpfException.class,
+                    () -> customerUseCase.findOrRegister(VALID_NAME, VALID_EMAIL, "12345"));
+            verifyNoInteractions(customerRepository);
+        }
+    }
+
     @Nested
     @DisplayName("Find Customer By CPF Tests")
     class FindCustomerByCpfTests {
@@ -303,5 +357,264 @@ class CustomerUseCaseImplTest {
             assertEquals(VALID_CPF, customer.getCpf());
         }
     }
-}
 
+    @Nested
+    @DisplayName("Find Customers Tests")
+    class FindCustomersTests {
+
+        @Test
+        @DisplayName("Should return found customers and the keys that matched nobody")
+        void shouldReturnFoundCustomersAndMissingKeys() {
+            // Arrange
+            UUID unknownId = UUID.randomUUID();
+            when(customerRepository.findAllByIds(Set.of(CUSTOMER_ID, unknownId))).thenReturn(List.of(mockCustomer));
+            when(customerRepository.findAllByCpfs(Set.of("52998224725"))).thenReturn(List.of());
+
+            // Act
+            CustomerLookupResult result = customerUseCase.findCustomers(
+                    List.of(CUSTOMER_ID.toString(), unknownId.toString()), List.of("529.982.247-25"));
+
+            // Assert
+            assertEquals(List.of(mockCustomer), result.getItems());
+            assertEquals(List.of(unknownId.toString()), result.getMissingIds());
+            assertEquals(List.of("529.982.247-25"), result.getMissingCpfs());
+        }
+
+        @Test
+        @DisplayName("Should return a customer requested by id and CPF only once")
+        void shouldReturnCustomerRequestedByIdAndCpfOnce() {
+            // Arrange
+            when(customerRepository.findAllByIds(Set.of(CUSTOMER_ID))).thenReturn(List.of(mockCustomer));
+            when(customerRepository.findAllByCpfs(Set.of(VALID_CPF))).thenReturn(List.of(mockCustomer));
+
+            // Act
+            CustomerLookupResult result = customerUseCase.findCustomers(
+                    List.of(CUSTOMER_ID.toString(), CUSTOMER_ID.toString()), List.of(VALID_CPF, "111.444.777-35"));
+
+            // Assert
+            assertEquals(List.of(mockCustomer), result.getItems());
+            assertTrue(result.getMissingIds().isEmpty());
+            assertTrue(result.getMissingCpfs().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should report malformed keys as missing without querying them")
+        void shouldReportMalformedKeysAsMissing() {
+            // Act
+            CustomerLookupResult result = customerUseCase.findCustomers(List.of("not-a-uuid"), List.of("123"));
+
+            // Assert
+            assertTrue(result.getItems().isEmpty());
+            assertEquals(List.of("not-a-uuid"), result.getMissingIds());
+            assertEquals(List.of("123"), result.getMissingCpfs());
+            verifyNoInteractions(customerRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject an empty or oversized lookup")
+        void shouldRejectEmptyOrOversizedLookup() {
+            List<String> tooMany = IntStream.range(0, CustomerUseCaseImpl.MAX_BATCH_SIZE + 1)
+                    .mapToObj(i -> UUID.randomUUID().toString())
+                    .collect(Collectors.toList());
+
+            assertThrows(DomainException.class, () -> customerUseCase.findCustomers(null, List.of()));
+            assertThrows(DomainException.class, () -> customerUseCase.findCustomers(tooMany, null));
+            verifyNoInteractions(customerRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Customer Page Tests")
+    class FindCustomerPageTests {
+
+        @Test
+        @DisplayName("Should return a cursor to the last item when there are more customers")
+        void shouldReturnCursorWhenThereAreMoreCustomers() {
+            // Arrange
+            List<Customer> customers = customers(3);
+            when(customerRepository.findPage(null, 3)).thenReturn(customers);
+
+            // Act
+            CustomerPage page = customerUseCase.findCustomerPage(null, 2);
+
+            // Assert
+            assertEquals(customers.subList(0, 2), page.getItems());
+            assertEquals(customers.get(1).getId(), CustomerUseCaseImpl.decodeCursor(page.getNextCursor()));
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor and stop at the last page")
+        void shouldContinueAfterCursorAndStopAtLastPage() {
+            // Arrange
+            UUID lastSeen = UUID.randomUUID();
+            when(customerRepository.findPage(lastSeen, 3)).thenReturn(List.of(mockCustomer));
+
+            // Act
+            CustomerPage page = customerUseCase.findCustomerPage(CustomerUseCaseImpl.encodeCursor(lastSeen), 2);
+
+            // Assert
+            assertEquals(List.of(mockCustomer), page.getItems());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Should cap the page size")
+        void shouldCapPageSize() {
+            // Arrange
+            when(customerRepository.findPage(null, CustomerUseCaseImpl.MAX_PAGE_SIZE + 1)).thenReturn(List.of());
+
+            // Act
+            CustomerPage page = customerUseCase.findCustomerPage(null, 1_000_000);
+
+            // Assert
+            assertTrue(page.getItems().isEmpty());
+            verify(customerRepository).findPage(null, CustomerUseCaseImpl.MAX_PAGE_SIZE + 1);
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid cursor or limit")
+        void shouldRejectInvalidCursorOrLimit() {
+            assertThrows(DomainException.class, () -> customerUseCase.findCustomerPage("not a cursor!", 10));
+            assertThrows(DomainException.class, () -> customerUseCase.findCustomerPage("AAAA", 10));
+            assertThrows(DomainException.class, () -> customerUseCase.findCustomerPage(null, 0));
+            verifyNoInteractions(customerRepository);
+        }
+
+        @Test
+        @DisplayName("Should read only the requested fields plus the id and take the cursor from it")
+        void shouldReadOnlyRequestedFieldsPlusId() {
+            // Arrange
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            List<Map<String, Object>> rows = List.of(
+                    Map.of("id", first, "name", "Customer 0"),
+                    Map.of("id", second, "name", "Customer 1"),
+                    Map.of("id", UUID.randomUUID(), "name", "Customer 2"));
+            when(customerRepository.findPage(null, 3, EnumSet.of(CustomerField.ID, CustomerField.NAME))).thenReturn(rows);
+
+            // Act
+            CustomerProjectionPage page = customerUseCase.findCustomerPage(null, 2, EnumSet.of(CustomerField.NAME));
+
+            // Assert
+            assertEquals(rows.subList(0, 2), page.getItems());
+            assertEquals(second, CustomerUseCaseImpl.decodeCursor(page.getNextCursor()));
+            verify(customerRepository, never()).findPage(any(), anyInt());
+        }
+
+        private List<Customer> customers(int count) {
+            return IntStream.range(0, count)
+                    .mapToObj(i -> Customer.builder()
+                            .id(UUID.randomUUID())
+                            .name("Customer " + i)
+                            .email("customer" + i + "@example.com")
+                            .cpf(VALID_CPF)
+                            .build())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Customers Tests")
+    class ExportCustomersTests {
+
+        @Test
+        @DisplayName("Should hand every customer from the repository cursor to the action")
+        void shouldHandEveryCustomerToAction() {
+            // Arrange
+            doAnswer(invocation -> {
+                Consumer<Customer> action = invocation.getArgument(0);
+                action.accept(mockCustomer);
+                return null;
+            }).when(customerRepository).forEach(any());
+            List<Customer> exported = new ArrayList<>();
+
+            // Act
+            customerUseCase.exportCustomers(exported::add);
+
+            // Assert
+            assertEquals(List.of(mockCustomer), exported);
+            verify(customerRepository, never()).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("Register Customers Batch Tests")
+    class RegisterCustomersBatchTests {
+
+        @Test
+        @DisplayName("Should report a status per item in request order")
+        void shouldReportStatusPerItemInRequestOrder() {
+            // Arrange
+            List<CustomerRegistration> registrations = List.of(
+                    new CustomerRegistration(VALID_NAME, VALID_EMAIL, VALID_CPF),
+                    new CustomerRegistration("Maria", "maria@example.com", "52998224725"),
+                    new CustomerRegistration("Sem CPF", "semcpf@example.com", "123"),
+                    new CustomerRegistration("Repetido", "repetido@example.com", VALID_CPF));
+            when(customerRepository.findExistingCpfs(anyCollection())).thenReturn(Set.of("52998224725"));
+            when(customerRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            List<CustomerRegistrationResult> results = customerUseCase.registerCustomers(registrations);
+
+            // Assert
+            assertEquals(4, results.size());
+            assertEquals(CustomerRegistrationResult.Status.CREATED, results.get(0).getStatus());
+            assertEquals(VALID_CPF, results.get(0).getCustomer().getCpf());
+            assertEquals(CustomerRegistrationResult.Status.DUPLICATE, results.get(1).getStatus());
+            assertEquals(CustomerRegistrationResult.Status.INVALID, results.get(2).getStatus());
+            assertEquals(CustomerRegistrationResult.Status.DUPLICATE, results.get(3).getStatus());
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i, results.get(i).getIndex());
+            }
+            verify(customerRepository).findExistingCpfs(Set.of(VALID_CPF, "52998224725"));
+            verify(customerRepository, never()).save(any(Customer.class));
+        }
+
+        @Test
+        @DisplayName("Should mark as duplicate a row the repository did not insert")
+        void shouldMarkAsDuplicateRowNotInserted() {
+            // Arrange
+            when(customerRepository.findExistingCpfs(anyCollection())).thenReturn(Set.of());
+            when(customerRepository.saveAll(anyList())).thenReturn(List.of());
+
+            // Act
+            List<CustomerRegistrationResult> results = customerUseCase.registerCustomers(
+                    List.of(new CustomerRegistration(VALID_NAME, VALID_EMAIL, VALID_CPF)));
+
+            // Assert
+            assertEquals(CustomerRegistrationResult.Status.DUPLICATE, results.get(0).getStatus());
+        }
+
+        @Test
+        @DisplayName("Should validate large batches and save them in one call")
+        void shouldValidateLargeBatchesAndSaveThemInOneCall() {
+            // Arrange
+            List<CustomerRegistration> registrations = IntStream.range(0, CustomerUseCaseImpl.PARALLEL_VALIDATION_THRESHOLD * 2)
+                    .mapToObj(i -> new CustomerRegistration("Cliente " + i, "", i % 2 == 0 ? "invalid" : VALID_CPF))
+                    .collect(Collectors.toList());
+            when(customerRepository.findExistingCpfs(anyCollection())).thenReturn(Set.of());
+            when(customerRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            List<CustomerRegistrationResult> results = customerUseCase.registerCustomers(registrations);
+
+            // Assert
+            assertEquals(CustomerRegistrationResult.Status.INVALID, results.get(0).getStatus());
+            assertEquals(CustomerRegistrationResult.Status.CREATED, results.get(1).getStatus());
+            assertEquals(1, results.stream().filter(r -> r.getStatus() == CustomerRegistrationResult.Status.CREATED).count());
+            verify(customerRepository).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should reject empty or oversized batches")
+        void shouldRejectEmptyOrOversizedBatches() {
+            List<CustomerRegistration> oversized = IntStream.range(0, CustomerUseCaseImpl.MAX_BATCH_SIZE + 1)
+                    .mapToObj(i -> new CustomerRegistration(VALID_NAME, VALID_EMAIL, VALID_CPF))
+                    .collect(Collectors.toList());
+
+            assertThrows(DomainException.class, () -> customerUseCase.registerCustomers(List.of()));
+            assertThrows(DomainException.class, () -> customerUseCase.registerCustomers(oversized));
+            verifyNoInteractions(customerRepository);
+        }
+    }
+}
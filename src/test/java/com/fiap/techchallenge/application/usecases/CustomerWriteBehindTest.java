@@ -0,0 +1,311 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.exception.RegistrationQueueFullException;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Write-Behind Tests")
+class CustomerWriteBehindTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private CustomerWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Submit Tests")
+    class SubmitTests {
+
+        @Test
+        @DisplayName("Should report pending until the batch is written")
+        void shouldReportPendingUntilBatchIsWritten() throws Exception {
+            // Arrange
+            CountDownLatch release = new CountDownLatch(1);
+            writeBehind = writeBehind(10, null);
+            when(customerRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return List.copyOf(invocation.getArgument(0));
+            });
+            writeBehind.start();
+
+            // Act
+            Customer customer = writeBehind.submit("João Silva", "joao@email.com", "11144477735");
+
+            // Assert
+            assertEquals(CustomerRegistrationStatus.Status.PENDING, writeBehind.status(customer.getId()).getStatus());
+            release.countDown();
+            awaitUntil(() -> writeBehind.writtenCount() == 1);
+            when(customerRepository.findById(customer.getId())).thenReturn(Optional.of(customer));
+            assertEquals(CustomerRegistrationStatus.Status.CREATED, writeBehind.status(customer.getId()).getStatus());
+            assertEquals(1, writeBehind.acceptedCount());
+        }
+
+        @Test
+        @DisplayName("Should reject a CPF that is already queued")
+        void shouldRejectCpfAlreadyQueued() throws Exception {
+            // Arrange
+            CountDownLatch release = new CountDownLatch(1);
+            writeBehind = writeBehind(10, null);
+            when(customerRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return List.copyOf(invocation.getArgument(0));
+            });
+            writeBehind.start();
+            writeBehind.submit("João Silva", "joao@email.com", "11144477735");
+
+            // Act & Assert
+            assertThrows(DomainException.class,
+                    () -> writeBehind.submit("Outro João", "outro@email.com", "11144477735"));
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("Should reject a CPF that is already registered")
+        void shouldRejectCpfAlreadyRegistered() {
+            // Arrange
+            writeBehind = writeBehind(10, null);
+            when(customerRepository.existsByCpf("11144477735")).thenReturn(true);
+            writeBehind.start();
+
+            // Act & Assert
+            assertThrows(DomainException.class,
+                    () -> writeBehind.submit("João Silva", "joao@email.com", "11144477735"));
+            assertEquals(0, writeBehind.acceptedCount());
+            verify(customerRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should refuse registrations when the queue is full")
+        void shouldRefuseRegistrationsWhenQueueIsFull() throws Exception {
+            // Arrange
+            CountDownLatch writing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            writeBehind = new CustomerWriteBehind(customerRepository, 1, 1, Duration.ofMillis(1),
+                    Duration.ofMillis(10), Duration.ofSeconds(5), null);
+            when(customerRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                writing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.copyOf(invocation.getArgument(0));
+            });
+            writeBehind.start();
+            writeBehind.submit("João Silva", "joao@email.com", "11144477735");
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            writeBehind.submit("Maria Souza", "maria@email.com", "52998224725");
+
+            // Act & Assert
+            assertThrows(RegistrationQueueFullException.class,
+                    () -> writeBehind.submit("José Lima", "jose@email.com", "12345678909"));
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("Should refuse registrations before start")
+        void shouldRefuseRegistrationsBeforeStart() {
+            // Arrange
+            writeBehind = writeBehind(10, null);
+
+            // Act & Assert
+            assertThrows(RegistrationQueueFullException.class,
+                    () -> writeBehind.submit("João Silva", "joao@email.com", "11144477735"));
+        }
+
+        @Test
+        @DisplayName("Should mark as rejected a registration that lost the CPF race")
+        void shouldMarkAsRejectedRegistrationThatLostCpfRace() {
+            // Arrange
+            writeBehind = writeBehind(10, null);
+            when(customerRepository.saveAll(anyList())).thenReturn(List.of());
+            writeBehind.start();
+
+            // Act
+            Customer customer = writeBehind.submit("João Silva", "joao@email.com", "11144477735");
+
+            // Assert
+            awaitUntil(() -> writeBehind.rejectedCount() == 1);
+            CustomerRegistrationStatus status = writeBehind.status(customer.getId());
+            assertEquals(CustomerRegistrationStatus.Status.REJECTED, status.getStatus());
+            assertTrue(status.getError().contains("11144477735"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shutdown Tests")
+    class ShutdownTests {
+
+        @Test
+        @DisplayName("Should write the queue before closing")
+        void shouldWriteQueueBeforeClosing() {
+            // Arrange
+            writeBehind = writeBehind(10, null);
+            when(customerRepository.saveAll(anyList()))
+                    .thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+            writeBehind.start();
+            writeBehind.submit("João Silva", "joao@email.com", "11144477735");
+            writeBehind.submit("Maria Souza", "maria@email.com", "52998224725");
+
+            // Act
+            writeBehind.close();
+
+            // Assert
+            assertEquals(2, writeBehind.writtenCount());
+            assertEquals(0, writeBehind.queueSize());
+        }
+
+        @Test
+        @DisplayName("Should spill unwritten customers and replay them on the next start")
+        void shouldSpillUnwrittenCustomersAndReplayThem() {
+            // Arrange
+            Customer customer = spillWhileDatabaseIsDown("11144477735");
+            assertEquals(1, spillFiles().size());
+
+            // Act
+            reset(customerRepository);
+            when(customerRepository.saveAll(anyList()))
+                    .thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+            writeBehind = writeBehind(10, tempDir);
+            writeBehind.start();
+
+            // Assert
+            verify(customerRepository).saveAll(argThat(customers -> customers.size() == 1
+                    && customers.get(0).getId().equals(customer.getId())
+                    && customers.get(0).getCpf().equals("11144477735")));
+            assertEquals(1, writeBehind.writtenCount());
+            assertTrue(spillFiles().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should spill each instance to its own file")
+        void shouldSpillEachInstanceToItsOwnFile() {
+            // Act
+            spillWhileDatabaseIsDown("11144477735");
+            spillWhileDatabaseIsDown("52998224725");
+
+            // Assert
+            List<Path> files = spillFiles();
+            assertEquals(2, files.size());
+            assertTrue(files.stream().allMatch(file -> file.getFileName().toString().matches("write-behind-[0-9a-f-]{36}\\.spill")));
+        }
+
+        @Test
+        @DisplayName("Should replay a spill left after its own start on the next rescan")
+        void shouldReplaySpillLeftAfterStartOnRescan() {
+            // Arrange
+            when(customerRepository.saveAll(anyList()))
+                    .thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+            CustomerWriteBehind newer = writeBehind(10, tempDir);
+            newer.start();
+            try {
+                // A instância antiga só termina o shutdown depois que a nova subiu
+                reset(customerRepository);
+                Customer customer = spillWhileDatabaseIsDown("11144477735");
+                reset(customerRepository);
+                when(customerRepository.saveAll(anyList()))
+                        .thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+                // Act
+                newer.replaySpills();
+
+                // Assert
+                verify(customerRepository).saveAll(argThat(customers -> customers.size() == 1
+                        && customers.get(0).getId().equals(customer.getId())));
+                assertTrue(spillFiles().isEmpty());
+            } finally {
+                newer.close();
+            }
+        }
+
+        @Test
+        @DisplayName("Should leave a spill file alone while another instance holds its lock")
+        void shouldLeaveSpillFileLockedByAnotherInstance() throws IOException {
+            // Arrange
+            spillWhileDatabaseIsDown("11144477735");
+            Path file = spillFiles().get(0);
+            reset(customerRepository);
+            writeBehind = writeBehind(10, tempDir);
+
+            // Act
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                writeBehind.start();
+            }
+
+            // Assert
+            verify(customerRepository, never()).saveAll(anyList());
+            assertTrue(Files.exists(file));
+        }
+    }
+
+    private CustomerWriteBehind writeBehind(int capacity, Path spillDirectory) {
+        return new CustomerWriteBehind(customerRepository, capacity, 256, Duration.ofMillis(1),
+                Duration.ofMillis(10), Duration.ofSeconds(5), spillDirectory);
+    }
+
+    // Instância que não consegue gravar nada e vai para o spill ao fechar
+    private Customer spillWhileDatabaseIsDown(String cpf) {
+        CustomerWriteBehind failing = new CustomerWriteBehind(customerRepository, 10, 256, Duration.ofMillis(1),
+                Duration.ofMillis(10), Duration.ZERO, tempDir);
+        doThrow(new DataAccessResourceFailureException("Database unavailable"))
+                .when(customerRepository).saveAll(anyList());
+        failing.start();
+        Customer customer = failing.submit("João Silva", "joao@email.com", cpf);
+        awaitUntil(() -> failing.failureCount() > 0);
+        failing.close();
+        return customer;
+    }
+
+    private List<Path> spillFiles() {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".spill")).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.IdempotencyRecord;
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.repositories.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Store Tests")
+class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyKeyRepository repository;
+
+    private static final String KEY = "checkout-42";
+    private static final String FINGERPRINT = IdempotencyStore.fingerprint("João da Silva", "joao@example.com", "11144477735");
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        mockCustomer = Customer.builder()
+                .id(UUID.randomUUID())
+                .name("João da Silva")
+                .email("joao@example.com")
+                .cpf("11144477735")
+                .build();
+    }
+
+    @Nested
+    @DisplayName("In-Memory Tests")
+    class InMemoryTests {
+
+        @Test
+        @DisplayName("Should replay the first result without running the registration again")
+        void shouldReplayFirstResult() {
+            // Arrange
+            IdempotencyStore store = new IdempotencyStore(4, 100, Duration.ofHours(1));
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act
+            Customer first = store.execute(KEY, FINGERPRINT, () -> {
+                calls.incrementAndGet();
+                return mockCustomer;
+            });
+            Customer retry = store.execute(KEY, FINGERPRINT, () -> {
+                calls.incrementAndGet();
+                return mockCustomer;
+            });
+
+            // Assert
+            assertSame(first, retry);
+            assertEquals(1, calls.get());
+            assertEquals(1, store.executionCount());
+            assertEquals(1, store.replayCount());
+        }
+
+        @Test
+        @DisplayName("Should make in-flight duplicates wait for the original result")
+        void shouldMakeInFlightDuplicatesWait() throws Exception {
+            // Arrange
+            IdempotencyStore store = new IdempotencyStore(4, 100, Duration.ofHours(1));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // Act
+            Future<Customer> original = executor.submit(() -> store.execute(KEY, FINGERPRINT, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return mockCustomer;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Customer> duplicate = executor.submit(() -> store.execute(KEY, FINGERPRINT, () -> {
+                calls.incrementAndGet();
+                return mockCustomer;
+            }));
+            release.countDown();
+
+            // Assert
+            assertSame(mockCustomer, original.get(5, TimeUnit.SECONDS));
+            assertSame(mockCustomer, duplicate.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+            executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should replay a domain error")
+        void shouldReplayDomainError() {
+            // Arrange
+            IdempotencyStore store = new IdempotencyStore(4, 100, Duration.ofHours(1));
+            DomainException duplicate = new DomainException("Customer with CPF 11144477735 already exists");
+            assertThrows(DomainException.class, () -> store.execute(KEY, FINGERPRINT, () -> {
+                throw duplicate;
+            }));
+
+            // Act & Assert
+            DomainException replayed = assertThrows(DomainException.class,
+                    () -> store.execute(KEY, FINGERPRINT, () -> mockCustomer));
+            assertSame(duplicate, replayed);
+        }
+
+        @Test
+        @DisplayName("Should run again after a transient failure")
+        void shouldRunAgainAfterTransientFailure() {
+            // Arrange
+            IdempotencyStore store = new IdempotencyStore(4, 100, Duration.ofHours(1));
+            assertThrows(IllegalStateException.class, () -> store.execute(KEY, FINGERPRINT, () -> {
+                throw new IllegalStateException("db down");
+            }));
+
+            // Act
+            Customer retry = store.execute(KEY, FINGERPRINT, () -> mockCustomer);
+
+            // Assert
+            assertSame(mockCustomer, retry);
+            assertEquals(2, store.executionCount());
+        }
+
+        @Test
+        @DisplayName("Should reject the same key with a different request")
+        void shouldRejectSameKeyWithDifferentRequest() {
+            // Arrange
+            IdempotencyStore store = new IdempotencyStore(4, 100, Duration.ofHours(1));
+            store.execute(KEY, FINGERPRINT, () -> mockCustomer);
+            String otherFingerprint = IdempotencyStore.fingerprint("Maria", "maria@example.com", "52998224725");
+
+            // Act & Assert
+            assertThrows(DomainException.class, () -> store.execute(KEY, otherFingerprint, () -> mockCustomer));
+        }
+
+        @Test
+        @DisplayName("Should keep at most the configured number of keys")
+        void shouldKeepAtMostConfiguredNumberOfKeys() {
+            // Arrange
+            IdempotencyStore store = new IdempotencyStore(4, 40, Duration.ofHours(1));
+
+            // Act
+            for (int i = 0; i < 1_000; i++) {
+                store.execute("key-" + i, FINGERPRINT, () -> mockCustomer);
+            }
+
+            // Assert
+            assertTrue(store.size() <= 40);
+        }
+
+        @Test
+        @DisplayName("Should require a power of two stripes")
+        void shouldRequirePowerOfTwoStripes() {
+            assertThrows(IllegalArgumentException.class, () -> new IdempotencyStore(3, 100, Duration.ofHours(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shared Tests")
+    class SharedTests {
+
+        @Test
+        @DisplayName("Should record the result of a reserved key")
+        void shouldRecordResultOfReservedKey() {
+            // Arrange
+            IdempotencyStore store = sharedStore();
+            when(repository.reserve(eq(KEY), eq(FINGERPRINT), any(), any())).thenReturn(true);
+
+            // Act
+            Customer customer = store.execute(KEY, FINGERPRINT, () -> mockCustomer);
+
+            // Assert
+            assertSame(mockCustomer, customer);
+            verify(repository).complete(KEY, mockCustomer);
+        }
+
+        @Test
+        @DisplayName("Should replay the result recorded by another replica")
+        void shouldReplayResultRecordedByAnotherReplica() {
+            // Arrange
+            IdempotencyStore store = sharedStore();
+            when(repository.reserve(eq(KEY), eq(FINGERPRINT), any(), any())).thenReturn(false);
+            when(repository.find(KEY))
+                    .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, null, null)))
+                    .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, mockCustomer, null)));
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act
+            Customer customer = store.execute(KEY, FINGERPRINT, () -> {
+                calls.incrementAndGet();
+                return mockCustomer;
+            });
+
+            // Assert
+            assertEquals(mockCustomer.getId(), customer.getId());
+            assertEquals(0, calls.get());
+            verify(repository, never()).complete(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should replay the domain error recorded by another replica")
+        void shouldReplayDomainErrorRecordedByAnotherReplica() {
+            // Arrange
+            IdempotencyStore store = sharedStore();
+            when(repository.reserve(eq(KEY), eq(FINGERPRINT), any(), any())).thenReturn(false);
+            when(repository.find(KEY)).thenReturn(Optional.of(
+                    new IdempotencyRecord(FINGERPRINT, null, "Customer with CPF 11144477735 already exists")));
+
+            // Act & Assert
+            DomainException exception = assertThrows(DomainException.class,
+                    () -> store.execute(KEY, FINGERPRINT, () -> mockCustomer));
+            assertEquals("Customer with CPF 11144477735 already exists", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should record domain errors and release the key on transient failures")
+        void shouldRecordDomainErrorsAndReleaseOnTransientFailures() {
+            // Arrange
+            IdempotencyStore store = sharedStore();
+            when(repository.reserve(any(), any(), any(), any())).thenReturn(true);
+
+            // Act
+            assertThrows(DomainException.class, () -> store.execute(KEY, FINGERPRINT, () -> {
+                throw new DomainException("Customer with CPF 11144477735 already exists");
+            }));
+            assertThrows(IllegalStateException.class, () -> store.execute("other-key", FINGERPRINT, () -> {
+                throw new IllegalStateException("db down");
+            }));
+
+            // Assert
+            verify(repository).fail(KEY, "Customer with CPF 11144477735 already exists");
+            verify(repository).release("other-key");
+        }
+
+        private IdempotencyStore sharedStore() {
+            return new IdempotencyStore(4, 100, Duration.ofHours(1), repository,
+                    Duration.ofSeconds(10), Duration.ofMillis(1));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
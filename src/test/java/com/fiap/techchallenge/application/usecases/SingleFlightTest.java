@@ -0,0 +1,115 @@
+package com.fiap.techchallenge.application.usecases;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    @Nested
+    @DisplayName("Coalescing Tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Should run concurrent calls for the same key only once")
+        void shouldRunConcurrentCallsForSameKeyOnlyOnce() throws Exception {
+            // Arrange
+            SingleFlight<String, String> singleFlight = new SingleFlight<>();
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // Act
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "value";
+            })));
+            while (singleFlight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (singleFlight.coalescedCount() < 7) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+            executor.shutdown();
+            assertEquals(1, calls.get());
+            assertEquals(1, singleFlight.executionCount());
+            assertEquals(7, singleFlight.coalescedCount());
+            assertEquals(0, singleFlight.inFlightCount());
+        }
+
+        @Test
+        @DisplayName("Should run sequential calls independently")
+        void shouldRunSequentialCallsIndependently() {
+            SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+            AtomicInteger calls = new AtomicInteger();
+
+            singleFlight.execute("key", calls::incrementAndGet);
+            Integer second = singleFlight.execute("key", calls::incrementAndGet);
+
+            assertEquals(2, second);
+            assertEquals(0, singleFlight.coalescedCount());
+        }
+
+        @Test
+        @DisplayName("Should share the failure with every waiting caller")
+        void shouldShareFailureWithEveryWaitingCaller() throws Exception {
+            SingleFlight<String, String> singleFlight = new SingleFlight<>();
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                await(release);
+                throw new IllegalStateException("boom");
+            }));
+            while (singleFlight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "unused"));
+            while (singleFlight.coalescedCount() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            executor.shutdown();
+            assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+            assertInstanceOf(IllegalStateException.class, followerError.getCause());
+            assertEquals(0, singleFlight.inFlightCount());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
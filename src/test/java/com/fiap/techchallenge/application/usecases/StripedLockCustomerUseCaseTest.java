@@ -0,0 +1,160 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Striped Lock Customer UseCase Tests")
+class StripedLockCustomerUseCaseTest {
+
+    @Mock
+    private CustomerUseCase delegate;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    private StripedLockCustomerUseCase useCase;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final String OTHER_CPF = "52998224725";
+    private static final String VALID_NAME = "João da Silva";
+    private static final String VALID_EMAIL = "joao.silva@example.com";
+
+    private Customer mockCustomer;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new StripedLockCustomerUseCase(delegate, customerRepository, 64);
+        mockCustomer = Customer.builder()
+                .id(UUID.randomUUID())
+                .name(VALID_NAME)
+                .email(VALID_EMAIL)
+                .cpf(VALID_CPF)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Register Customer Tests")
+    class RegisterCustomerTests {
+
+        @Test
+        @DisplayName("Should register straight through when the stripe is free")
+        void shouldRegisterStraightThroughWhenStripeIsFree() {
+            // Arrange
+            when(delegate.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF)).thenReturn(mockCustomer);
+
+            // Act
+            Customer result = useCase.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF);
+
+            // Assert
+            assertSame(mockCustomer, result);
+            verifyNoInteractions(customerRepository);
+            assertEquals(0, useCase.contendedCount(useCase.stripeOf(VALID_CPF)));
+        }
+
+        @Test
+        @DisplayName("Should reject a waiting registration once the same CPF was stored")
+        void shouldRejectWaitingRegistrationOnceSameCpfWasStored() throws Exception {
+            // Arrange
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch firstInside = new CountDownLatch(1);
+            when(delegate.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF)).thenAnswer(invocation -> {
+                firstInside.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return mockCustomer;
+            });
+            when(customerRepository.existsByCpf(VALID_CPF)).thenReturn(true);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<Customer> first = executor.submit(() -> useCase.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF));
+            assertTrue(firstInside.await(5, TimeUnit.SECONDS));
+
+            AtomicReference<Throwable> secondError = new AtomicReference<>();
+            Thread second = new Thread(() -> {
+                try {
+                    useCase.registerCustomer(VALID_NAME, VALID_EMAIL, "111.444.777-35");
+                } catch (Throwable e) {
+                    secondError.set(e);
+                }
+            });
+            second.start();
+            awaitWaiting(second);
+
+            // Act
+            release.countDown();
+            second.join(5_000);
+
+            // Assert
+            assertSame(mockCustomer, first.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(DomainException.class, secondError.get());
+            verify(delegate, times(1)).registerCustomer(anyString(), anyString(), anyString());
+            assertEquals(1, useCase.contendedCount(useCase.stripeOf(VALID_CPF)));
+            assertTrue(useCase.waitNanos(useCase.stripeOf(VALID_CPF)) > 0);
+            executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should register different CPFs in parallel")
+        void shouldRegisterDifferentCpfsInParallel() throws Exception {
+            // Arrange
+            assertNotEquals(useCase.stripeOf(VALID_CPF), useCase.stripeOf(OTHER_CPF));
+            CountDownLatch bothInside = new CountDownLatch(2);
+            when(delegate.registerCustomer(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+                bothInside.countDown();
+                assertTrue(bothInside.await(5, TimeUnit.SECONDS), "Registrations were serialized");
+                return mockCustomer;
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // Act
+            Future<Customer> first = executor.submit(() -> useCase.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF));
+            Future<Customer> second = executor.submit(() -> useCase.registerCustomer(VALID_NAME, VALID_EMAIL, OTHER_CPF));
+
+            // Assert
+            assertSame(mockCustomer, first.get(10, TimeUnit.SECONDS));
+            assertSame(mockCustomer, second.get(10, TimeUnit.SECONDS));
+            verifyNoInteractions(customerRepository);
+            executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should map formatted and plain CPFs to the same stripe")
+        void shouldMapFormattedAndPlainCpfsToSameStripe() {
+            assertEquals(useCase.stripeOf(VALID_CPF), useCase.stripeOf("111.444.777-35"));
+        }
+
+        @Test
+        @DisplayName("Should require a power of two stripes")
+        void shouldRequirePowerOfTwoStripes() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new StripedLockCustomerUseCase(delegate, customerRepository, 10));
+        }
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "Thread never blocked on the lock");
+            Thread.sleep(1);
+        }
+    }
+}
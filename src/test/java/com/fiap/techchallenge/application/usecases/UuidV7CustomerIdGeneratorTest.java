@@ -0,0 +1,112 @@
+package com.fiap.techchallenge.application.usecases;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UUID v7 Customer Id Generator Tests")
+class UuidV7CustomerIdGeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Nested
+    @DisplayName("Layout Tests")
+    class LayoutTests {
+
+        @Test
+        @DisplayName("Should produce version 7 and the RFC variant")
+        void shouldProduceVersion7AndRfcVariant() {
+            // Act
+            UUID id = new UuidV7CustomerIdGenerator().nextId();
+
+            // Assert
+            assertEquals(7, id.version());
+            assertEquals(2, id.variant());
+        }
+
+        @Test
+        @DisplayName("Should carry the millisecond timestamp in the first 48 bits")
+        void shouldCarryTimestampInFirst48Bits() {
+            // Act
+            UUID id = new UuidV7CustomerIdGenerator(() -> NOW).nextId();
+
+            // Assert
+            assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordering Tests")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("Should increase within the same millisecond")
+        void shouldIncreaseWithinSameMillisecond() {
+            // Arrange
+            UuidV7CustomerIdGenerator generator = new UuidV7CustomerIdGenerator(() -> NOW);
+
+            // Act & Assert
+            UUID previous = generator.nextId();
+            for (int i = 0; i < 10_000; i++) {
+                UUID next = generator.nextId();
+                assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+                previous = next;
+            }
+        }
+
+        @Test
+        @DisplayName("Should not go backwards when the clock does")
+        void shouldNotGoBackwardsWhenClockDoes() {
+            // Arrange
+            AtomicLong clock = new AtomicLong(NOW);
+            UuidV7CustomerIdGenerator generator = new UuidV7CustomerIdGenerator(clock::get);
+            UUID before = generator.nextId();
+
+            // Act
+            clock.set(NOW - 1_000);
+            UUID after = generator.nextId();
+
+            // Assert
+            assertTrue(Long.compareUnsigned(after.getMostSignificantBits(), before.getMostSignificantBits()) > 0);
+        }
+
+        @Test
+        @DisplayName("Should be unique across threads")
+        void shouldBeUniqueAcrossThreads() throws Exception {
+            // Arrange
+            UuidV7CustomerIdGenerator generator = new UuidV7CustomerIdGenerator();
+            Set<UUID> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // Act
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // Assert
+            assertEquals(8 * 50_000, ids.size());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.fiap.techchallenge.domain.entities;
+
+import com.fiap.techchallenge.domain.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Customer Field Tests")
+class CustomerFieldTest {
+
+    @Nested
+    @DisplayName("Parse Tests")
+    class ParseTests {
+
+        @Test
+        @DisplayName("Should always include the id")
+        void shouldAlwaysIncludeId() {
+            assertEquals(EnumSet.of(CustomerField.ID, CustomerField.NAME), CustomerField.parse("name"));
+            assertEquals(EnumSet.of(CustomerField.ID), CustomerField.parse(""));
+        }
+
+        @Test
+        @DisplayName("Should ignore case, blanks and repeated names")
+        void shouldIgnoreCaseBlanksAndRepeatedNames() {
+            assertEquals(EnumSet.of(CustomerField.ID, CustomerField.EMAIL, CustomerField.CPF),
+                    CustomerField.parse(" CPF, email,,cpf "));
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown field")
+        void shouldRejectUnknownField() {
+            DomainException exception = assertThrows(DomainException.class, () -> CustomerField.parse("name,password"));
+            assertEquals("Unknown customer field: password", exception.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Should read each field from the customer")
+    void shouldReadEachFieldFromCustomer() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Customer customer = Customer.builder()
+                .id(id)
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf("11144477735")
+                .build();
+
+        // Act & Assert
+        assertEquals(id, CustomerField.ID.valueOf(customer));
+        assertEquals("João da Silva", CustomerField.NAME.valueOf(customer));
+        assertEquals("joao.silva@example.com", CustomerField.EMAIL.valueOf(customer));
+        assertEquals("11144477735", CustomerField.CPF.valueOf(customer));
+    }
+}
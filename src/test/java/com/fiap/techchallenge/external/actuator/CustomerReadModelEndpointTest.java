@@ -0,0 +1,35 @@
+package com.fiap.techchallenge.external.actuator;
+
+import com.fiap.techchallenge.adapters.gateway.readmodel.CustomerReadModel;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Read Model Endpoint Tests")
+class CustomerReadModelEndpointTest {
+
+    @Mock
+    private CustomerReadModel readModel;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Test
+    @DisplayName("Should verify the read model against the repository")
+    void shouldVerifyReadModelAgainstRepository() {
+        // Arrange
+        CustomerReadModel.ConsistencyReport report = new CustomerReadModel.ConsistencyReport();
+        when(readModel.verify(customerRepository)).thenReturn(report);
+        CustomerReadModelEndpoint endpoint = new CustomerReadModelEndpoint(readModel, customerRepository);
+
+        // Act & Assert
+        assertSame(report, endpoint.verify());
+    }
+}
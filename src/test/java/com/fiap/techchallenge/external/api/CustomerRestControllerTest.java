@@ -2,7 +2,13 @@ package com.fiap.techchallenge.external.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.techchallenge.adapters.controllers.CustomerController;
+import com.fiap.techchallenge.adapters.presenters.CustomerJson;
+import com.fiap.techchallenge.application.usecases.CustomerLookupResult;
+import com.fiap.techchallenge.application.usecases.CustomerPage;
+import com.fiap.techchallenge.application.usecases.CustomerProjectionPage;
+import com.fiap.techchallenge.application.usecases.CustomerRegistrationResult;
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
 import com.fiap.techchallenge.domain.exception.DomainException;
 import com.fiap.techchallenge.domain.exception.InvalidCpfException;
 import com.fiap.techchallenge.domain.exception.InvalidEmailException;
@@ -16,13 +22,22 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -70,7 +85,7 @@ class CustomerRestControllerTest {
             request.setEmail(VALID_EMAIL);
             request.setCpf(VALID_CPF);
 
-            when(customerController.registerCustomer(VALID_NAME, VALID_EMAIL, VALID_CPF))
+            when(customerController.registerCustomer(null, VALID_NAME, VALID_EMAIL, VALID_CPF))
                     .thenReturn(mockCustomer);
 
             // Act & Assert
@@ -84,6 +99,27 @@ class CustomerRestControllerTest {
                     .andExpect(jsonPath("$.cpf").value(VALID_CPF));
         }
 
+        @Test
+        @DisplayName("Should pass the Idempotency-Key header to the controller")
+        void shouldPassIdempotencyKeyHeaderToController() throws Exception {
+            // Arrange
+            CustomerRestController.CustomerRequestDTO request = new CustomerRestController.CustomerRequestDTO();
+            request.setName(VALID_NAME);
+            request.setEmail(VALID_EMAIL);
+            request.setCpf(VALID_CPF);
+
+            when(customerController.registerCustomer("retry-123", VALID_NAME, VALID_EMAIL, VALID_CPF))
+                    .thenReturn(mockCustomer);
+
+            // Act & Assert
+            mockMvc.perform(post("/customers")
+                            .header("Idempotency-Key", "retry-123")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(CUSTOMER_ID.toString()));
+        }
+
         @Test
         @DisplayName("Should return 400 when CPF is invalid")
         void shouldReturn400WhenCpfIsInvalid() throws Exception {
@@ -93,7 +129,7 @@ class CustomerRestControllerTest {
             request.setEmail(VALID_EMAIL);
             request.setCpf("12345678901");
 
-            when(customerController.registerCustomer(anyString(), anyString(), anyString()))
+            when(customerController.registerCustomer(isNull(), anyString(), anyString(), anyString()))
                     .thenThrow(new InvalidCpfException("Invalid CPF checksum"));
 
             // Act & Assert
@@ -113,7 +149,7 @@ class CustomerRestControllerTest {
             request.setEmail("invalid-email");
             request.setCpf(VALID_CPF);
 
-            when(customerController.registerCustomer(anyString(), anyString(), anyString()))
+            when(customerController.registerCustomer(isNull(), anyString(), anyString(), anyString()))
                     .thenThrow(new InvalidEmailException("Invalid email format: invalid-email"));
 
             // Act & Assert
@@ -133,7 +169,7 @@ class CustomerRestControllerTest {
             request.setEmail(VALID_EMAIL);
             request.setCpf(VALID_CPF);
 
-            when(customerController.registerCustomer(anyString(), anyString(), anyString()))
+            when(customerController.registerCustomer(isNull(), anyString(), anyString(), anyString()))
                     .thenThrow(new DomainException("Customer with CPF " + VALID_CPF + " already exists"));
 
             // Act & Assert
@@ -153,13 +189,14 @@ class CustomerRestControllerTest {
         @DisplayName("Should find customer by ID and return 200")
         void shouldFindCustomerByIdAndReturn200() throws Exception {
             // Arrange
-            when(customerController.findCustomerById(CUSTOMER_ID))
-                    .thenReturn(Optional.of(mockCustomer));
+            when(customerController.findCustomerJsonById(CUSTOMER_ID))
+                    .thenReturn(Optional.of(CustomerJson.of(objectMapper.writeValueAsBytes(mockCustomer))));
 
             // Act & Assert
             mockMvc.perform(get("/customers/{id}", CUSTOMER_ID)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.id").value(CUSTOMER_ID.toString()))
                     .andExpect(jsonPath("$.name").value(VALID_NAME))
                     .andExpect(jsonPath("$.email").value(VALID_EMAIL.toLowerCase()))
@@ -171,7 +208,7 @@ class CustomerRestControllerTest {
         void shouldReturn404WhenCustomerNotFoundById() throws Exception {
             // Arrange
             UUID randomId = UUID.randomUUID();
-            when(customerController.findCustomerById(randomId))
+            when(customerController.findCustomerJsonById(randomId))
                     .thenReturn(Optional.empty());
 
             // Act & Assert
@@ -181,6 +218,95 @@ class CustomerRestControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /customers/_mget - Find Customers Tests")
+    class FindCustomersTests {
+
+        @Test
+        @DisplayName("Should return found customers and missing keys with 200")
+        void shouldReturnFoundCustomersAndMissingKeys() throws Exception {
+            // Arrange
+            String unknownId = UUID.randomUUID().toString();
+            when(customerController.findCustomers(List.of(CUSTOMER_ID.toString(), unknownId), List.of("52998224725")))
+                    .thenReturn(new CustomerLookupResult(List.of(mockCustomer), List.of(unknownId), List.of("52998224725")));
+            String body = "{\"ids\":[\"" + CUSTOMER_ID + "\",\"" + unknownId + "\"],\"cpfs\":[\"52998224725\"]}";
+
+            // Act & Assert
+            mockMvc.perform(post("/customers/_mget")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(1)))
+                    .andExpect(jsonPath("$.items[0].id").value(CUSTOMER_ID.toString()))
+                    .andExpect(jsonPath("$.missingIds[0]").value(unknownId))
+                    .andExpect(jsonPath("$.missingCpfs[0]").value("52998224725"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the lookup has no keys")
+        void shouldReturn400WhenLookupHasNoKeys() throws Exception {
+            // Arrange
+            when(customerController.findCustomers(isNull(), isNull()))
+                    .thenThrow(new DomainException("Lookup must contain between 1 and 1000 ids and CPFs"));
+
+            // Act & Assert
+            mockMvc.perform(post("/customers/_mget")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET ?fields= - Sparse Fieldset Tests")
+    class SparseFieldsetTests {
+
+        @Test
+        @DisplayName("Should list only the requested fields")
+        void shouldListOnlyRequestedFields() throws Exception {
+            // Arrange
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", CUSTOMER_ID);
+            row.put("name", VALID_NAME);
+            when(customerController.findCustomerPage(null, 100, EnumSet.of(CustomerField.ID, CustomerField.NAME)))
+                    .thenReturn(new CustomerProjectionPage(List.of(row), null));
+
+            // Act & Assert
+            mockMvc.perform(get("/customers")
+                            .param("fields", "name")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(CUSTOMER_ID.toString()))
+                    .andExpect(jsonPath("$.items[0].name").value(VALID_NAME))
+                    .andExpect(jsonPath("$.items[0].email").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should find customer by ID with only the requested fields")
+        void shouldFindCustomerByIdWithOnlyRequestedFields() throws Exception {
+            // Arrange
+            when(customerController.findCustomerJsonById(CUSTOMER_ID, EnumSet.of(CustomerField.ID, CustomerField.CPF)))
+                    .thenReturn(Optional.of(CustomerJson.of(
+                            ("{\"id\":\"" + CUSTOMER_ID + "\",\"cpf\":\"" + VALID_CPF + "\"}").getBytes(StandardCharsets.UTF_8))));
+
+            // Act & Assert
+            mockMvc.perform(get("/customers/{id}", CUSTOMER_ID)
+                            .param("fields", "id, CPF"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(jsonPath("$.cpf").value(VALID_CPF))
+                    .andExpect(jsonPath("$.name").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown field")
+        void shouldReturn400ForUnknownField() throws Exception {
+            mockMvc.perform(get("/customers/cpf/{cpf}", VALID_CPF)
+                            .param("fields", "name,password"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /customers/cpf/{cpf} - Find Customer By CPF Tests")
     class FindCustomerByCpfTests {
@@ -189,13 +315,14 @@ class CustomerRestControllerTest {
         @DisplayName("Should find customer by CPF and return 200")
         void shouldFindCustomerByCpfAndReturn200() throws Exception {
             // Arrange
-            when(customerController.findCustomerByCpf(VALID_CPF))
-                    .thenReturn(Optional.of(mockCustomer));
+            when(customerController.findCustomerJsonByCpf(VALID_CPF))
+                    .thenReturn(Optional.of(CustomerJson.of(objectMapper.writeValueAsBytes(mockCustomer))));
 
             // Act & Assert
             mockMvc.perform(get("/customers/cpf/{cpf}", VALID_CPF)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.id").value(CUSTOMER_ID.toString()))
                     .andExpect(jsonPath("$.name").value(VALID_NAME))
                     .andExpect(jsonPath("$.email").value(VALID_EMAIL.toLowerCase()))
@@ -206,7 +333,7 @@ class CustomerRestControllerTest {
         @DisplayName("Should return 404 when customer not found by CPF")
         void shouldReturn404WhenCustomerNotFoundByCpf() throws Exception {
             // Arrange
-            when(customerController.findCustomerByCpf(VALID_CPF))
+            when(customerController.findCustomerJsonByCpf(VALID_CPF))
                     .thenReturn(Optional.empty());
 
             // Act & Assert
@@ -216,13 +343,76 @@ class CustomerRestControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Conditional GET Tests")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("Should return the ETag with the customer")
+        void shouldReturnEtagWithCustomer() throws Exception {
+            // Arrange
+            CustomerJson json = CustomerJson.of(objectMapper.writeValueAsBytes(mockCustomer));
+            when(customerController.findCustomerJsonById(CUSTOMER_ID))
+                    .thenReturn(Optional.of(json));
+
+            // Act & Assert
+            mockMvc.perform(get("/customers/{id}", CUSTOMER_ID))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", json.getEtag()));
+        }
+
+        @Test
+        @DisplayName("Should return 304 when If-None-Match matches by ID")
+        void shouldReturn304WhenIfNoneMatchMatchesById() throws Exception {
+            // Arrange
+            CustomerJson json = CustomerJson.of(objectMapper.writeValueAsBytes(mockCustomer));
+            when(customerController.findCustomerJsonById(CUSTOMER_ID))
+                    .thenReturn(Optional.of(json));
+
+            // Act & Assert
+            mockMvc.perform(get("/customers/{id}", CUSTOMER_ID)
+                            .header("If-None-Match", json.getEtag()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", json.getEtag()))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return 304 when If-None-Match matches by CPF")
+        void shouldReturn304WhenIfNoneMatchMatchesByCpf() throws Exception {
+            // Arrange
+            CustomerJson json = CustomerJson.of(objectMapper.writeValueAsBytes(mockCustomer));
+            when(customerController.findCustomerJsonByCpf(VALID_CPF))
+                    .thenReturn(Optional.of(json));
+
+            // Act & Assert
+            mockMvc.perform(get("/customers/cpf/{cpf}", VALID_CPF)
+                            .header("If-None-Match", json.getEtag()))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("Should return 200 when If-None-Match is stale")
+        void shouldReturn200WhenIfNoneMatchIsStale() throws Exception {
+            // Arrange
+            when(customerController.findCustomerJsonById(CUSTOMER_ID))
+                    .thenReturn(Optional.of(CustomerJson.of(objectMapper.writeValueAsBytes(mockCustomer))));
+
+            // Act & Assert
+            mockMvc.perform(get("/customers/{id}", CUSTOMER_ID)
+                            .header("If-None-Match", "\"0123456789abcdef0123456789abcdef\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.cpf").value(VALID_CPF));
+        }
+    }
+
     @Nested
     @DisplayName("GET /customers - Find All Customers Tests")
     class FindAllCustomersTests {
 
         @Test
-        @DisplayName("Should find all customers and return 200")
-        void shouldFindAllCustomersAndReturn200() throws Exception {
+        @DisplayName("Should return the first page and return 200")
+        void shouldReturnFirstPageAndReturn200() throws Exception {
             // Arrange
             Customer customer1 = Customer.builder()
                     .id(UUID.randomUUID())
@@ -239,29 +429,128 @@ class CustomerRestControllerTest {
                     .build();
 
             List<Customer> customers = Arrays.asList(customer1, customer2);
-            when(customerController.findAllCustomers()).thenReturn(customers);
+            when(customerController.findCustomerPage(null, 100)).thenReturn(new CustomerPage(customers, "next-page"));
 
             // Act & Assert
             mockMvc.perform(get("/customers")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(2)))
-                    .andExpect(jsonPath("$[0].name").value("Customer 1"))
-                    .andExpect(jsonPath("$[1].name").value("Customer 2"));
+                    .andExpect(jsonPath("$.items", hasSize(2)))
+                    .andExpect(jsonPath("$.items[0].name").value("Customer 1"))
+                    .andExpect(jsonPath("$.items[1].name").value("Customer 2"))
+                    .andExpect(jsonPath("$.nextCursor").value("next-page"));
         }
 
         @Test
-        @DisplayName("Should return empty list when no customers found")
-        void shouldReturnEmptyListWhenNoCustomersFound() throws Exception {
+        @DisplayName("Should pass cursor and limit through")
+        void shouldPassCursorAndLimitThrough() throws Exception {
             // Arrange
-            when(customerController.findAllCustomers()).thenReturn(List.of());
+            when(customerController.findCustomerPage("next-page", 2)).thenReturn(new CustomerPage(List.of(mockCustomer), null));
 
             // Act & Assert
             mockMvc.perform(get("/customers")
+                            .param("cursor", "next-page")
+                            .param("limit", "2")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(0)));
+                    .andExpect(jsonPath("$.items", hasSize(1)))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return empty page when no customers found")
+        void shouldReturnEmptyPageWhenNoCustomersFound() throws Exception {
+            // Arrange
+            when(customerController.findCustomerPage(null, 100)).thenReturn(new CustomerPage(List.of(), null));
+
+            // Act & Assert
+            mockMvc.perform(get("/customers")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an invalid cursor")
+        void shouldReturn400ForInvalidCursor() throws Exception {
+            // Arrange
+            when(customerController.findCustomerPage("garbage", 100)).thenThrow(new DomainException("Invalid page cursor"));
+
+            // Act & Assert
+            mockMvc.perform(get("/customers")
+                            .param("cursor", "garbage")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest());
         }
     }
-}
 
+    @Nested
+    @DisplayName("GET /customers/export - Export Customers Tests")
+    class ExportCustomersTests {
+
+        @Test
+        @DisplayName("Should stream the export as NDJSON")
+        void shouldStreamExportAsNdjson() throws Exception {
+            // Arrange
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(0);
+                out.write("{\"cpf\":\"11144477735\"}\n".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(customerController).exportCustomers(any(OutputStream.class));
+
+            // Act & Assert
+            mockMvc.perform(get("/customers/export"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andExpect(content().string("{\"cpf\":\"11144477735\"}\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /customers/batch - Register Customers Batch Tests")
+    class RegisterCustomersBatchTests {
+
+        @Test
+        @DisplayName("Should return a status per item and 200")
+        void shouldReturnStatusPerItemAnd200() throws Exception {
+            // Arrange
+            CustomerRestController.CustomerRequestDTO first = new CustomerRestController.CustomerRequestDTO();
+            first.setName(VALID_NAME);
+            first.setEmail(VALID_EMAIL);
+            first.setCpf(VALID_CPF);
+            CustomerRestController.CustomerRequestDTO second = new CustomerRestController.CustomerRequestDTO();
+            second.setName("Maria");
+            second.setCpf("123");
+
+            when(customerController.registerCustomers(anyList())).thenReturn(List.of(
+                    CustomerRegistrationResult.created(0, mockCustomer),
+                    CustomerRegistrationResult.invalid(1, "Invalid CPF")));
+
+            // Act & Assert
+            mockMvc.perform(post("/customers/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(first, second))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].status").value("CREATED"))
+                    .andExpect(jsonPath("$[0].customer.cpf").value(VALID_CPF))
+                    .andExpect(jsonPath("$[1].index").value(1))
+                    .andExpect(jsonPath("$[1].status").value("INVALID"))
+                    .andExpect(jsonPath("$[1].error").value("Invalid CPF"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when batch size is out of bounds")
+        void shouldReturn400WhenBatchSizeIsOutOfBounds() throws Exception {
+            // Arrange
+            when(customerController.registerCustomers(anyList()))
+                    .thenThrow(new DomainException("Batch must contain between 1 and 1000 customers"));
+
+            // Act & Assert
+            mockMvc.perform(post("/customers/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[]"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
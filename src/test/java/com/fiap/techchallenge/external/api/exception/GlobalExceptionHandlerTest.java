@@ -3,10 +3,12 @@ package com.fiap.techchallenge.external.api.exception;
 import com.fiap.techchallenge.domain.exception.DomainException;
 import com.fiap.techchallenge.domain.exception.InvalidCpfException;
 import com.fiap.techchallenge.domain.exception.InvalidEmailException;
+import com.fiap.techchallenge.domain.exception.RegistrationQueueFullException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -170,6 +172,30 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("RegistrationQueueFullException Tests")
+    class RegistrationQueueFullExceptionTests {
+
+        @Test
+        @DisplayName("Should handle RegistrationQueueFullException and return SERVICE_UNAVAILABLE with Retry-After")
+        void shouldHandleRegistrationQueueFullExceptionAndReturnServiceUnavailable() {
+            // Arrange
+            RegistrationQueueFullException exception = new RegistrationQueueFullException("Registration queue is full, retry later");
+
+            // Act
+            ResponseEntity<Object> response = exceptionHandler.handleRegistrationQueueFullException(exception);
+
+            // Assert
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+            Map<String, Object> body = (Map<String, Object>) response.getBody();
+            assertNotNull(body);
+            assertEquals("Registration queue is full, retry later", body.get("error"));
+            assertEquals(503, body.get("status"));
+        }
+    }
+
     @Nested
     @DisplayName("Response Structure Tests")
     class ResponseStructureTests {
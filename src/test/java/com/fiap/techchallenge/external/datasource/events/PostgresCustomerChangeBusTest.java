@@ -0,0 +1,421 @@
+package com.fiap.techchallenge.external.datasource.events;
+
+import com.fiap.techchallenge.adapters.gateway.events.CustomerChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Postgres Customer Change Bus Tests")
+class PostgresCustomerChangeBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock(extraInterfaces = PGConnection.class)
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    private static final String VALID_CPF = "11144477735";
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private PostgresCustomerChangeBus bus;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn((PGConnection) connection);
+        bus = new PostgresCustomerChangeBus(jdbcTemplate, () -> {
+            connections.incrementAndGet();
+            return connection;
+        }, PostgresCustomerChangeBus.DEFAULT_CHANNEL, Duration.ZERO, Duration.ofMillis(20),
+                Duration.ofMillis(10), Duration.ofMillis(40));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.close();
+    }
+
+    private static PGNotification notification(String payload) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+
+    @Nested
+    @DisplayName("Payload Tests")
+    class PayloadTests {
+
+        @Test
+        @DisplayName("Should round trip instance, id and CPF")
+        void shouldRoundTripInstanceIdAndCpf() {
+            // Act
+            String[] parts = PostgresCustomerChangeBus.parse(
+                    PostgresCustomerChangeBus.payload("instance", CUSTOMER_ID, VALID_CPF));
+
+            // Assert
+            assertArrayEquals(new String[]{"instance", CUSTOMER_ID.toString(), VALID_CPF}, parts);
+        }
+
+        @Test
+        @DisplayName("Should keep a missing CPF as null")
+        void shouldKeepMissingCpfAsNull() {
+            String[] parts = PostgresCustomerChangeBus.parse(
+                    PostgresCustomerChangeBus.payload("instance", CUSTOMER_ID, null));
+
+            assertNull(parts[2]);
+        }
+
+        @Test
+        @DisplayName("Should reject malformed payloads")
+        void shouldRejectMalformedPayloads() {
+            assertNull(PostgresCustomerChangeBus.parse(null));
+            assertNull(PostgresCustomerChangeBus.parse("no-separators"));
+            assertNull(PostgresCustomerChangeBus.parse("instance|not-a-uuid|" + VALID_CPF));
+        }
+
+        @Test
+        @DisplayName("Should reject channel names that are not plain identifiers")
+        void shouldRejectInvalidChannelNames() {
+            assertThrows(IllegalArgumentException.class, () -> new PostgresCustomerChangeBus(
+                    jdbcTemplate, () -> connection, "customer; DROP TABLE customers",
+                    Duration.ZERO, Duration.ofMillis(20), Duration.ofMillis(10), Duration.ofMillis(40)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Publish Tests")
+    class PublishTests {
+
+        @Test
+        @DisplayName("Should deliver locally and notify the other replicas")
+        @SuppressWarnings("unchecked")
+        void shouldDeliverLocallyAndNotifyOtherReplicas() {
+            // Arrange
+            List<UUID> received = new CopyOnWriteArrayList<>();
+            bus.subscribe((id, cpf) -> received.add(id));
+
+            // Act
+            bus.publish(CUSTOMER_ID, VALID_CPF);
+
+            // Assert
+            ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+            verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                    eq(PostgresCustomerChangeBus.DEFAULT_CHANNEL), payload.capture());
+            assertTrue(payload.getValue().toString().endsWith("|" + CUSTOMER_ID + "|" + VALID_CPF));
+            assertEquals(List.of(CUSTOMER_ID), received);
+            assertEquals(1, bus.publishedCount());
+        }
+
+        @Test
+        @DisplayName("Should not fail the caller when NOTIFY fails")
+        @SuppressWarnings("unchecked")
+        void shouldNotFailCallerWhenNotifyFails() {
+            // Arrange
+            when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(), any()))
+                    .thenThrow(new DataAccessResourceFailureException("down"));
+
+            // Act & Assert
+            assertDoesNotThrow(() -> bus.publish(CUSTOMER_ID, VALID_CPF));
+            assertEquals(0, bus.publishedCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Listen Tests")
+    class ListenTests {
+
+        @Test
+        @DisplayName("Should deliver a deduplicated batch from other replicas and skip its own")
+        @SuppressWarnings("unchecked")
+        void shouldDeliverDeduplicatedBatchFromOtherReplicas() throws Exception {
+            // Arrange
+            ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+            bus.publish(UUID.randomUUID(), VALID_CPF);
+            verify(jdbcTemplate).query(anyString(), any(ResultSetExtractor.class), any(), payload.capture());
+            String ownPayload = payload.getValue().toString();
+
+            String remote = PostgresCustomerChangeBus.payload("other", CUSTOMER_ID, VALID_CPF);
+            PGNotification[] notifications = {
+                    notification(remote), notification(remote), notification(ownPayload), notification("garbage")};
+            when(((PGConnection) connection).getNotifications(anyInt())).thenReturn(notifications);
+
+            List<UUID> remoteChanges = new CopyOnWriteArrayList<>();
+            bus.subscribeRemote((id, cpf) -> remoteChanges.add(id));
+
+            // Act
+            bus.poll((PGConnection) connection);
+
+            // Assert
+            assertEquals(List.of(CUSTOMER_ID), remoteChanges);
+            assertEquals(4, bus.receivedCount());
+            assertEquals(1, bus.batchCount());
+        }
+
+        @Test
+        @DisplayName("Should reset subscribers when another replica asks for it")
+        void shouldResetSubscribersWhenAnotherReplicaAsksForIt() throws Exception {
+            // Arrange
+            PGNotification[] notifications = {
+                    notification("other|reset"), notification(PostgresCustomerChangeBus.payload("other", CUSTOMER_ID, VALID_CPF))};
+            when(((PGConnection) connection).getNotifications(anyInt())).thenReturn(notifications);
+
+            List<UUID> remoteChanges = new CopyOnWriteArrayList<>();
+            CountDownLatch reset = new CountDownLatch(1);
+            bus.subscribeRemote(new CustomerChangeListener() {
+                @Override
+                public void onCustomerChanged(UUID id, String cpf) {
+                    remoteChanges.add(id);
+                }
+
+                @Override
+                public void onReset() {
+                    reset.countDown();
+                }
+            });
+
+            // Act
+            bus.poll((PGConnection) connection);
+
+            // Assert
+            assertTrue(reset.await(2, TimeUnit.SECONDS));
+            assertTrue(remoteChanges.isEmpty());
+            assertTrue(PostgresCustomerChangeBus.isReset("other|reset"));
+            assertFalse(PostgresCustomerChangeBus.isReset(PostgresCustomerChangeBus.payload("other", CUSTOMER_ID, "reset")));
+        }
+
+        @Test
+        @DisplayName("Should keep draining notifications while a reset runs")
+        void shouldKeepDrainingNotificationsWhileResetRuns() throws Exception {
+            // Arrange
+            PGNotification[] reset = {notification("other|reset")};
+            PGNotification[] change = {notification(PostgresCustomerChangeBus.payload("other", CUSTOMER_ID, VALID_CPF))};
+            when(((PGConnection) connection).getNotifications(anyInt())).thenReturn(reset).thenReturn(change);
+            CountDownLatch resetStarted = new CountDownLatch(1);
+            CountDownLatch releaseReset = new CountDownLatch(1);
+            List<UUID> remoteChanges = new CopyOnWriteArrayList<>();
+            bus.subscribeRemote(new CustomerChangeListener() {
+                @Override
+                public void onCustomerChanged(UUID id, String cpf) {
+                    remoteChanges.add(id);
+                }
+
+                @Override
+                public void onReset() {
+                    resetStarted.countDown();
+                    try {
+                        releaseReset.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+
+            // Act
+            bus.poll((PGConnection) connection);
+            assertTrue(resetStarted.await(2, TimeUnit.SECONDS));
+            bus.poll((PGConnection) connection);
+
+            // Assert
+            assertEquals(List.of(CUSTOMER_ID), remoteChanges);
+            releaseReset.countDown();
+        }
+
+        @Test
+        @DisplayName("Should coalesce resets requested while one is running")
+        void shouldCoalesceResetsRequestedWhileOneIsRunning() throws Exception {
+            // Arrange
+            CountDownLatch firstStarted = new CountDownLatch(1);
+            CountDownLatch releaseFirst = new CountDownLatch(1);
+            CountDownLatch secondDone = new CountDownLatch(2);
+            AtomicInteger resets = new AtomicInteger();
+            bus.subscribeRemote(new CustomerChangeListener() {
+                @Override
+                public void onCustomerChanged(UUID id, String cpf) {
+                }
+
+                @Override
+                public void onReset() {
+                    if (resets.incrementAndGet() == 1) {
+                        firstStarted.countDown();
+                        try {
+                            releaseFirst.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    secondDone.countDown();
+                }
+            });
+
+            // Act
+            bus.requestReset();
+            assertTrue(firstStarted.await(2, TimeUnit.SECONDS));
+            bus.requestReset();
+            bus.requestReset();
+            bus.requestReset();
+            releaseFirst.countDown();
+
+            // Assert
+            assertTrue(secondDone.await(2, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            assertEquals(2, resets.get());
+        }
+
+        @Test
+        @DisplayName("Should LISTEN on a dedicated connection")
+        void shouldListenOnDedicatedConnection() throws Exception {
+            // Arrange
+            when(((PGConnection) connection).getNotifications(anyInt())).thenReturn(new PGNotification[0]);
+
+            // Act
+            bus.start();
+
+            // Assert
+            verify(statement, timeout(1_000)).execute("LISTEN customer_changed");
+            assertEquals(1, connections.get());
+        }
+
+        @Test
+        @DisplayName("Should reconnect and reset listeners after losing the connection")
+        void shouldReconnectAndResetListenersAfterLosingConnection() throws Exception {
+            // Arrange
+            when(((PGConnection) connection).getNotifications(anyInt()))
+                    .thenThrow(new SQLException("connection reset"))
+                    .thenReturn(new PGNotification[0]);
+            CountDownLatch reset = new CountDownLatch(1);
+
+            // Act
+            bus.start();
+            bus.subscribeRemote(new CustomerChangeListener() {
+                @Override
+                public void onCustomerChanged(UUID id, String cpf) {
+                }
+
+                @Override
+                public void onReset() {
+                    reset.countDown();
+                }
+            });
+
+            // Assert
+            assertTrue(reset.await(2, TimeUnit.SECONDS));
+            assertEquals(2, connections.get());
+            assertEquals(1, bus.reconnectCount());
+            verify(connection, atLeastOnce()).close();
+        }
+
+        @Test
+        @DisplayName("Should report subscribers as disconnected until LISTEN is up")
+        void shouldReportSubscribersAsDisconnectedUntilListenIsUp() {
+            // Arrange
+            AtomicInteger disconnects = new AtomicInteger();
+
+            // Act
+            bus.subscribeRemote(new CustomerChangeListener() {
+                @Override
+                public void onCustomerChanged(UUID id, String cpf) {
+                }
+
+                @Override
+                public void onDisconnected() {
+                    disconnects.incrementAndGet();
+                }
+            });
+
+            // Assert
+            assertEquals(1, disconnects.get());
+            assertFalse(bus.isConnected());
+        }
+
+        @Test
+        @DisplayName("Should reset subscribers that loaded before the first connection")
+        void shouldResetSubscribersThatLoadedBeforeFirstConnection() throws Exception {
+            // Arrange
+            when(((PGConnection) connection).getNotifications(anyInt())).thenReturn(new PGNotification[0]);
+            CountDownLatch reset = new CountDownLatch(1);
+            bus.subscribeRemote(new CustomerChangeListener() {
+                @Override
+                public void onCustomerChanged(UUID id, String cpf) {
+                }
+
+                @Override
+                public void onReset() {
+                    reset.countDown();
+                }
+            });
+
+            // Act
+            bus.start();
+
+            // Assert
+            assertTrue(reset.await(2, TimeUnit.SECONDS));
+            assertEquals(1, connections.get());
+            assertEquals(0, bus.reconnectCount());
+        }
+
+        @Test
+        @DisplayName("Should not reset subscribers that joined with LISTEN already up")
+        void shouldNotResetSubscribersThatJoinedWithListenUp() throws Exception {
+            // Arrange
+            when(((PGConnection) connection).getNotifications(anyInt())).thenReturn(new PGNotification[0]);
+            AtomicInteger events = new AtomicInteger();
+            bus.start();
+
+            // Act
+            bus.subscribeRemote(new CustomerChangeListener() {
+                @Override
+                public void onCustomerChanged(UUID id, String cpf) {
+                }
+
+                @Override
+                public void onReset() {
+                    events.incrementAndGet();
+                }
+
+                @Override
+                public void onDisconnected() {
+                    events.incrementAndGet();
+                }
+            });
+
+            // Assert
+            assertTrue(bus.isConnected());
+            Thread.sleep(100);
+            assertEquals(0, events.get());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fiap.techchallenge.adapters.gateway.CustomerExportSourceGateway;
+import com.fiap.techchallenge.application.usecases.CustomerExportReport;
+import com.fiap.techchallenge.application.usecases.CustomerExportUseCase;
+import com.fiap.techchallenge.application.usecases.CustomerExportUseCaseImpl;
+import com.fiap.techchallenge.application.usecases.UuidV7CustomerIdGenerator;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede a exportação particionada com números diferentes de partições, para escolher o N
+ * de {@code GET /customers/export/partitioned} para o tamanho da base.
+ * <p>
+ * Fica de fora do build normal. Para rodar:
+ * {@code mvn test -Dtest=CustomerExportBenchmarkTest -Dbenchmark=true -Dbenchmark.rows=1000000 -Dbenchmark.parallelism=4}.
+ * Com {@code -Dbenchmark.rows=0} mede a tabela como está, sem recriá-la; com
+ * {@code -Dspring.datasource.url=jdbc:postgresql://...} (e usuário, senha e dialeto) mede no PostgreSQL.
+ * </p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CustomerJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Customer Export Benchmark")
+class CustomerExportBenchmarkTest {
+
+    private static final int INSERT_BATCH = 10_000;
+    private static final int[] PARTITIONS = {1, 2, 4, 8, 16, 32};
+
+    @Autowired
+    private CustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private CustomerJdbcRepository customerJdbcRepository;
+
+    @Test
+    @DisplayName("Export throughput by number of partitions")
+    void exportThroughputByPartitions() {
+        int rows = Integer.getInteger("benchmark.rows", 200_000);
+        int parallelism = Integer.getInteger("benchmark.parallelism", 4);
+        if (rows > 0) {
+            populate(rows);
+        }
+        long expected = customerJpaRepository.count();
+
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            CustomerExportUseCase useCase = new CustomerExportUseCaseImpl(
+                    new CustomerExportSourceGateway(customerJdbcRepository), pool, parallelism);
+            useCase.exportCustomers(parallelism, partition -> new DiscardingSink());
+
+            for (int partitions : PARTITIONS) {
+                CustomerExportReport report = useCase.exportCustomers(partitions, partition -> new DiscardingSink());
+                assertEquals(expected, report.getRows());
+                long slowest = 0;
+                long fastest = Long.MAX_VALUE;
+                for (CustomerExportReport.Partition partition : report.getPartitions()) {
+                    slowest = Math.max(slowest, partition.getElapsedMillis());
+                    fastest = Math.min(fastest, partition.getElapsedMillis());
+                }
+                System.out.printf("Export with %d partitions on %d threads: %d rows in %d ms (%d rows/s),"
+                                + " partitions took %d..%d ms%n", report.getPartitions().size(), parallelism,
+                        report.getRows(), report.getElapsedMillis(), report.getRowsPerSecond(), fastest, slowest);
+                for (CustomerExportReport.Partition partition : report.getPartitions()) {
+                    System.out.printf("  partition %d: %d rows, %d rows/s%n",
+                            partition.getIndex(), partition.getRows(), partition.getRowsPerSecond());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void populate(int rows) {
+        customerJpaRepository.deleteAll();
+        UuidV7CustomerIdGenerator generator = new UuidV7CustomerIdGenerator();
+        for (int from = 0; from < rows; from += INSERT_BATCH) {
+            int to = Math.min(from + INSERT_BATCH, rows);
+            List<CustomerJpaEntity> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(new CustomerJpaEntity(generator.nextId(), "Cliente " + i, "cliente" + i + "@example.com",
+                        cpf(i)));
+            }
+            customerJdbcRepository.batchInsertIfAbsent(batch);
+        }
+    }
+
+    // A exportação mapeia cada linha para Customer, que valida o CPF: os dígitos verificadores precisam fechar
+    static String cpf(int i) {
+        String base = String.format("%09d", 100_000_000 + i);
+        int first = checkDigit(base, 10);
+        return base + first + checkDigit(base + first, 11);
+    }
+
+    private static int checkDigit(String digits, int weight) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (weight - i);
+        }
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    // Mede só a leitura e o mapeamento, sem serialização nem compressão
+    private static final class DiscardingSink implements CustomerExportUseCase.PartitionSink {
+
+        private long rows;
+
+        @Override
+        public void accept(Customer customer) {
+            rows++;
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+}
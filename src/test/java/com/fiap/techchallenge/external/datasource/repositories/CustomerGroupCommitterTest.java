@@ -0,0 +1,229 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Group Committer Tests")
+class CustomerGroupCommitterTest {
+
+    @Mock
+    private CustomerJdbcRepository customerJdbcRepository;
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private CustomerGroupCommitter committer;
+
+    @AfterEach
+    void tearDown() {
+        if (committer != null) {
+            committer.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Batching Tests")
+    class BatchingTests {
+
+        @Test
+        @DisplayName("Should write concurrent inserts in a single commit")
+        void shouldWriteConcurrentInsertsInSingleCommit() throws Exception {
+            // Arrange
+            committer = new CustomerGroupCommitter(customerJdbcRepository, 8, Duration.ofSeconds(5), batchSizes::add);
+            when(customerJdbcRepository.insertAllIfAbsent(anyList()))
+                    .thenAnswer(invocation -> allInserted(invocation.getArgument(0)));
+            committer.start();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // Act
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                CustomerJpaEntity customer = customer(String.format("%011d", i));
+                results.add(executor.submit(() -> committer.insertIfAbsent(customer)));
+            }
+
+            // Assert
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS));
+            }
+            executor.shutdown();
+            verify(customerJdbcRepository, times(1)).insertAllIfAbsent(anyList());
+            assertEquals(1, committer.commitCount());
+            assertEquals(8, committer.rowCount());
+            assertEquals(List.of(8), batchSizes);
+        }
+
+        @Test
+        @DisplayName("Should flush a partial batch when the window closes")
+        void shouldFlushPartialBatchWhenWindowCloses() {
+            // Arrange
+            committer = new CustomerGroupCommitter(customerJdbcRepository, 256, Duration.ofMillis(1), batchSizes::add);
+            when(customerJdbcRepository.insertAllIfAbsent(anyList()))
+                    .thenAnswer(invocation -> allInserted(invocation.getArgument(0)));
+            committer.start();
+
+            // Act
+            boolean inserted = committer.insertIfAbsent(customer("11144477735"));
+
+            // Assert
+            assertTrue(inserted);
+            assertEquals(List.of(1), batchSizes);
+        }
+
+        @Test
+        @DisplayName("Should give each caller the result of its own row")
+        void shouldGiveEachCallerResultOfItsOwnRow() throws Exception {
+            // Arrange
+            committer = new CustomerGroupCommitter(customerJdbcRepository, 2, Duration.ofSeconds(5), batchSizes::add);
+            CustomerJpaEntity duplicate = customer("11144477735");
+            when(customerJdbcRepository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+                List<CustomerJpaEntity> customers = invocation.getArgument(0);
+                boolean[] inserted = new boolean[customers.size()];
+                for (int i = 0; i < inserted.length; i++) {
+                    inserted[i] = customers.get(i) != duplicate;
+                }
+                return inserted;
+            });
+            committer.start();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // Act
+            Future<Boolean> first = executor.submit(() -> committer.insertIfAbsent(duplicate));
+            Future<Boolean> second = executor.submit(() -> committer.insertIfAbsent(customer("52998224725")));
+
+            // Assert
+            assertFalse(first.get(5, TimeUnit.SECONDS));
+            assertTrue(second.get(5, TimeUnit.SECONDS));
+            executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should insert directly when not started")
+        void shouldInsertDirectlyWhenNotStarted() {
+            // Arrange
+            committer = new CustomerGroupCommitter(customerJdbcRepository, 256, Duration.ofMillis(2), batchSizes::add);
+            CustomerJpaEntity customer = customer("11144477735");
+            when(customerJdbcRepository.insertIfAbsent(customer)).thenReturn(true);
+
+            // Act
+            boolean inserted = committer.insertIfAbsent(customer);
+
+            // Assert
+            assertTrue(inserted);
+            verify(customerJdbcRepository, never()).insertAllIfAbsent(anyList());
+        }
+
+        @Test
+        @DisplayName("Should reject a non positive batch size")
+        void shouldRejectNonPositiveBatchSize() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new CustomerGroupCommitter(customerJdbcRepository, 0, Duration.ofMillis(2), batchSizes::add));
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should retry rows one by one when the batch fails")
+        void shouldRetryRowsOneByOneWhenBatchFails() throws Exception {
+            // Arrange
+            committer = new CustomerGroupCommitter(customerJdbcRepository, 2, Duration.ofSeconds(5), batchSizes::add);
+            CustomerJpaEntity invalid = customer("11144477735");
+            CustomerJpaEntity valid = customer("52998224725");
+            when(customerJdbcRepository.insertAllIfAbsent(anyList()))
+                    .thenThrow(new DataIntegrityViolationException("value too long"));
+            when(customerJdbcRepository.insertIfAbsent(invalid))
+                    .thenThrow(new DataIntegrityViolationException("value too long"));
+            when(customerJdbcRepository.insertIfAbsent(valid)).thenReturn(true);
+            committer.start();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // Act
+            Future<Boolean> failed = executor.submit(() -> committer.insertIfAbsent(invalid));
+            Future<Boolean> succeeded = executor.submit(() -> committer.insertIfAbsent(valid));
+
+            // Assert
+            Exception error = assertThrows(Exception.class, () -> failed.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(DataIntegrityViolationException.class, error.getCause());
+            assertTrue(succeeded.get(5, TimeUnit.SECONDS));
+            executor.shutdown();
+            assertEquals(1, committer.fallbackCount());
+        }
+
+        @Test
+        @DisplayName("Should propagate the failure of a single row batch to its caller")
+        void shouldPropagateFailureOfSingleRowBatch() {
+            // Arrange
+            committer = new CustomerGroupCommitter(customerJdbcRepository, 256, Duration.ofMillis(1), batchSizes::add);
+            when(customerJdbcRepository.insertAllIfAbsent(anyList()))
+                    .thenThrow(new DataIntegrityViolationException("value too long"));
+            committer.start();
+
+            // Act & Assert
+            assertThrows(DataIntegrityViolationException.class, () ->
+                    committer.insertIfAbsent(customer("11144477735")));
+            verify(customerJdbcRepository, never()).insertIfAbsent(any());
+            assertEquals(0, committer.commitCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Shutdown Tests")
+    class ShutdownTests {
+
+        @Test
+        @DisplayName("Should flush queued inserts on close")
+        void shouldFlushQueuedInsertsOnClose() throws Exception {
+            // Arrange
+            committer = new CustomerGroupCommitter(customerJdbcRepository, 256, Duration.ofSeconds(30), batchSizes::add);
+            when(customerJdbcRepository.insertAllIfAbsent(anyList()))
+                    .thenAnswer(invocation -> allInserted(invocation.getArgument(0)));
+            committer.start();
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<Boolean> pending = executor.submit(() -> committer.insertIfAbsent(customer("11144477735")));
+            Thread.sleep(50);
+
+            // Act
+            committer.close();
+
+            // Assert
+            assertTrue(pending.get(5, TimeUnit.SECONDS));
+            executor.shutdown();
+            verify(customerJdbcRepository).insertAllIfAbsent(argThat(batch -> batch.size() == 1));
+        }
+    }
+
+    private static boolean[] allInserted(List<CustomerJpaEntity> customers) {
+        boolean[] inserted = new boolean[customers.size()];
+        Arrays.fill(inserted, true);
+        return inserted;
+    }
+
+    private static CustomerJpaEntity customer(String cpf) {
+        return new CustomerJpaEntity(UUID.randomUUID(), "Cliente " + cpf, cpf + "@example.com", cpf);
+    }
+}
@@ -0,0 +1,125 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fiap.techchallenge.application.usecases.CustomerIdGenerator;
+import com.fiap.techchallenge.application.usecases.UuidV7CustomerIdGenerator;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara {@link CustomerIdGenerator#RANDOM} (UUID v4) com {@link UuidV7CustomerIdGenerator}:
+ * geração concorrente de IDs e INSERTs numa tabela que vai crescendo.
+ * <p>
+ * Fica de fora do build normal. Para rodar:
+ * {@code mvn test -Dtest=CustomerIdGeneratorBenchmarkTest -Dbenchmark=true -Dbenchmark.rows=1000000}.
+ * Por padrão usa o H2 do perfil de teste; com {@code -Dspring.datasource.url=jdbc:postgresql://...}
+ * (e usuário, senha e dialeto) mede no PostgreSQL, que é onde a localidade do índice importa.
+ * </p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CustomerJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Customer Id Generator Benchmark")
+class CustomerIdGeneratorBenchmarkTest {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int IDS_PER_THREAD = 1_000_000;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Autowired
+    private CustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private CustomerJdbcRepository customerJdbcRepository;
+
+    @Test
+    @DisplayName("Generation throughput across threads")
+    void generationThroughput() throws Exception {
+        generate(CustomerIdGenerator.RANDOM);
+        generate(new UuidV7CustomerIdGenerator());
+
+        double random = generate(CustomerIdGenerator.RANDOM);
+        double uuidV7 = generate(new UuidV7CustomerIdGenerator());
+
+        System.out.printf("Generation (%d threads): random %.0f ids/s, uuid-v7 %.0f ids/s (%.1fx)%n",
+                THREADS, random, uuidV7, uuidV7 / random);
+    }
+
+    @Test
+    @DisplayName("Insert throughput as the table grows")
+    void insertThroughput() {
+        int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+        insert("random", CustomerIdGenerator.RANDOM, rows);
+        insert("uuid-v7", new UuidV7CustomerIdGenerator(), rows);
+    }
+
+    private double generate(CustomerIdGenerator generator) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Long>> tasks = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                tasks.add(executor.submit(() -> {
+                    long sink = 0;
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        sink ^= generator.nextId().getLeastSignificantBits();
+                    }
+                    return sink;
+                }));
+            }
+            for (Future<Long> task : tasks) {
+                task.get(5, TimeUnit.MINUTES);
+            }
+            long elapsed = System.nanoTime() - start;
+            return (double) THREADS * IDS_PER_THREAD * TimeUnit.SECONDS.toNanos(1) / elapsed;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // Vazão geral e vazão do último décimo, quando a tabela (e o índice da PK) já está grande
+    private void insert(String name, CustomerIdGenerator generator, int rows) {
+        customerJpaRepository.deleteAll();
+        int tailFrom = rows - rows / 10;
+        long start = System.nanoTime();
+        long tailStart = start;
+        for (int from = 0; from < rows; from += INSERT_BATCH) {
+            if (from >= tailFrom && tailStart == start) {
+                tailStart = System.nanoTime();
+            }
+            int to = Math.min(from + INSERT_BATCH, rows);
+            List<CustomerJpaEntity> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(new CustomerJpaEntity(generator.nextId(), "Cliente " + i, "cliente" + i + "@example.com",
+                        String.format("%011d", i)));
+            }
+            customerJdbcRepository.batchInsertIfAbsent(batch);
+        }
+        long end = System.nanoTime();
+
+        assertEquals(rows, customerJpaRepository.count());
+        System.out.printf("Insert %s: %d rows, %.0f rows/s overall, %.0f rows/s in the last 10%%%n", name, rows,
+                rows * 1e9 / (end - start), (rows - tailFrom) * 1e9 / (end - tailStart));
+    }
+}
@@ -0,0 +1,430 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CustomerJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Customer JDBC Repository Tests")
+class CustomerJdbcRepositoryTest {
+
+    @Autowired
+    private CustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private CustomerJdbcRepository customerJdbcRepository;
+
+    @Nested
+    @DisplayName("For Each Tests")
+    class ForEachTests {
+
+        @Test
+        @DisplayName("Should visit every stored row")
+        void shouldVisitEveryStoredRow() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            UUID firstId = UUID.randomUUID();
+            customerJpaRepository.save(new CustomerJpaEntity(firstId, "João", "joao@example.com", "11144477735"));
+            customerJpaRepository.save(new CustomerJpaEntity(UUID.randomUUID(), "Maria", "maria@example.com", "52998224725"));
+            List<CustomerJpaEntity> visited = new ArrayList<>();
+
+            // Act
+            customerJdbcRepository.forEach(visited::add);
+
+            // Assert
+            assertEquals(2, visited.size());
+            CustomerJpaEntity first = visited.stream().filter(e -> e.getId().equals(firstId)).findFirst().orElseThrow();
+            assertEquals("João", first.getName());
+            assertEquals("joao@example.com", first.getEmail());
+            assertEquals("11144477735", first.getCpf());
+        }
+    }
+    @Nested
+    @DisplayName("Find Page Tests")
+    class FindPageTests {
+
+        @Test
+        @DisplayName("Should walk every row exactly once, page after page")
+        void shouldWalkEveryRowExactlyOnce() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            Set<UUID> stored = new HashSet<>();
+            for (int i = 0; i < 7; i++) {
+                UUID id = UUID.randomUUID();
+                stored.add(id);
+                customerJpaRepository.save(new CustomerJpaEntity(id, "Cliente " + i, "cliente" + i + "@example.com",
+                        String.format("%011d", i)));
+            }
+            List<UUID> visited = new ArrayList<>();
+
+            // Act
+            List<CustomerJpaEntity> page = customerJdbcRepository.findPage(null, 3);
+            while (!page.isEmpty()) {
+                assertTrue(page.size() <= 3);
+                page.forEach(customer -> visited.add(customer.getId()));
+                page = customerJdbcRepository.findPage(page.get(page.size() - 1).getId(), 3);
+            }
+
+            // Assert
+            assertEquals(7, visited.size());
+            assertEquals(stored, new HashSet<>(visited));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Page Projection Tests")
+    class FindPageProjectionTests {
+
+        @Test
+        @DisplayName("Should read only the requested columns, page after page")
+        void shouldReadOnlyRequestedColumns() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            UUID low = UUID.fromString("10000000-0000-0000-0000-000000000000");
+            UUID high = UUID.fromString("70000000-0000-0000-0000-000000000000");
+            customerJpaRepository.save(new CustomerJpaEntity(high, "Maria Souza", "maria.souza@example.com", "52998224725"));
+            customerJpaRepository.save(new CustomerJpaEntity(low, "João da Silva", "joao.silva@example.com", "11144477735"));
+            Set<CustomerField> fields = EnumSet.of(CustomerField.ID, CustomerField.NAME);
+
+            // Act
+            List<Map<String, Object>> first = customerJdbcRepository.findPage(null, 1, fields);
+            List<Map<String, Object>> second = customerJdbcRepository.findPage(low, 1, fields);
+
+            // Assert
+            assertEquals(List.of(Map.of("id", low, "name", "João da Silva")), first);
+            assertEquals(List.of(Map.of("id", high, "name", "Maria Souza")), second);
+            assertTrue(customerJdbcRepository.findPage(high, 1, fields).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find All By Keys Tests")
+    class FindAllByKeysTests {
+
+        @Test
+        @DisplayName("Should return only the stored customers among the requested ids")
+        void shouldReturnOnlyStoredCustomersAmongRequestedIds() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            customerJpaRepository.save(new CustomerJpaEntity(first, "João da Silva", "joao.silva@example.com", "11144477735"));
+            customerJpaRepository.save(new CustomerJpaEntity(second, "Maria Souza", "maria.souza@example.com", "52998224725"));
+
+            // Act
+            List<CustomerJpaEntity> found = customerJdbcRepository.findAllByIds(List.of(first, second, UUID.randomUUID()));
+
+            // Assert
+            assertEquals(Set.of(first, second), found.stream().map(CustomerJpaEntity::getId).collect(Collectors.toSet()));
+        }
+
+        @Test
+        @DisplayName("Should return only the stored customers among the requested CPFs")
+        void shouldReturnOnlyStoredCustomersAmongRequestedCpfs() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            UUID id = UUID.randomUUID();
+            customerJpaRepository.save(new CustomerJpaEntity(id, "João da Silva", "joao.silva@example.com", "11144477735"));
+
+            // Act
+            List<CustomerJpaEntity> found = customerJdbcRepository.findAllByCpfs(List.of("11144477735", "52998224725"));
+
+            // Assert
+            assertEquals(1, found.size());
+            assertEquals(id, found.get(0).getId());
+            assertTrue(customerJdbcRepository.findAllByCpfs(List.of()).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("For Each In Range Tests")
+    class ForEachInRangeTests {
+
+        private final UUID low = UUID.fromString("10000000-0000-0000-0000-000000000000");
+        private final UUID middle = UUID.fromString("40000000-0000-0000-0000-000000000000");
+        private final UUID high = UUID.fromString("70000000-0000-0000-0000-000000000000");
+
+        @Test
+        @DisplayName("Should split the table into disjoint ranges by id")
+        void shouldSplitTableIntoDisjointRanges() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            customerJpaRepository.save(new CustomerJpaEntity(low, "João", "joao@example.com", "11144477735"));
+            customerJpaRepository.save(new CustomerJpaEntity(middle, "Maria", "maria@example.com", "52998224725"));
+            customerJpaRepository.save(new CustomerJpaEntity(high, "José", "jose@example.com", "39053344705"));
+            List<UUID> before = new ArrayList<>();
+            List<UUID> after = new ArrayList<>();
+            List<UUID> all = new ArrayList<>();
+
+            // Act
+            customerJdbcRepository.forEachInRange(null, middle, customer -> before.add(customer.getId()));
+            customerJdbcRepository.forEachInRange(middle, null, customer -> after.add(customer.getId()));
+            customerJdbcRepository.forEachInRange(null, null, customer -> all.add(customer.getId()));
+
+            // Assert
+            assertEquals(List.of(low), before);
+            assertEquals(List.of(middle, high), after);
+            assertEquals(List.of(low, middle, high), all);
+        }
+
+        @Test
+        @DisplayName("Should read a closed range and the id bounds of the table")
+        void shouldReadClosedRangeAndIdBounds() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            assertTrue(customerJdbcRepository.findFirstId().isEmpty());
+            customerJpaRepository.save(new CustomerJpaEntity(low, "João", "joao@example.com", "11144477735"));
+            customerJpaRepository.save(new CustomerJpaEntity(middle, "Maria", "maria@example.com", "52998224725"));
+            customerJpaRepository.save(new CustomerJpaEntity(high, "José", "jose@example.com", "39053344705"));
+            List<UUID> visited = new ArrayList<>();
+
+            // Act
+            customerJdbcRepository.forEachInRange(low, high, customer -> visited.add(customer.getId()));
+
+            // Assert
+            assertEquals(List.of(low, middle), visited);
+            assertEquals(low, customerJdbcRepository.findFirstId().orElseThrow());
+            assertEquals(high, customerJdbcRepository.findLastId().orElseThrow());
+        }
+    }
+
+    @Nested
+    @DisplayName("Insert If Absent Tests")
+    class InsertIfAbsentTests {
+
+        @Test
+        @DisplayName("Should insert customer when CPF is free")
+        void shouldInsertCustomerWhenCpfIsFree() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            UUID id = UUID.randomUUID();
+
+            // Act
+            boolean inserted = customerJdbcRepository.insertIfAbsent(
+                    new CustomerJpaEntity(id, "João", "joao@example.com", "11144477735"));
+
+            // Assert
+            assertTrue(inserted);
+            assertTrue(customerJpaRepository.findById(id).isPresent());
+        }
+
+        @Test
+        @DisplayName("Should report conflict when CPF already exists")
+        void shouldReportConflictWhenCpfAlreadyExists() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            customerJpaRepository.save(new CustomerJpaEntity(UUID.randomUUID(), "João", "joao@example.com", "11144477735"));
+            UUID duplicateId = UUID.randomUUID();
+
+            // Act
+            boolean inserted = customerJdbcRepository.insertIfAbsent(
+                    new CustomerJpaEntity(duplicateId, "Maria", "maria@example.com", "11144477735"));
+
+            // Assert
+            assertFalse(inserted);
+            assertFalse(customerJpaRepository.findById(duplicateId).isPresent());
+            assertEquals(1, customerJpaRepository.count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Insert Or Find Tests")
+    class InsertOrFindTests {
+
+        @Test
+        @DisplayName("Should insert and return the customer when CPF is free")
+        void shouldInsertAndReturnCustomerWhenCpfIsFree() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            UUID id = UUID.randomUUID();
+
+            // Act
+            CustomerJpaEntity stored = customerJdbcRepository.insertOrFind(
+                    new CustomerJpaEntity(id, "João", "joao@example.com", "11144477735"));
+
+            // Assert
+            assertEquals(id, stored.getId());
+            assertTrue(customerJpaRepository.findById(id).isPresent());
+        }
+
+        @Test
+        @DisplayName("Should return the stored customer when CPF already exists")
+        void shouldReturnStoredCustomerWhenCpfAlreadyExists() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            UUID existingId = UUID.randomUUID();
+            customerJpaRepository.save(new CustomerJpaEntity(existingId, "João", "joao@example.com", "11144477735"));
+
+            // Act
+            CustomerJpaEntity stored = customerJdbcRepository.insertOrFind(
+                    new CustomerJpaEntity(UUID.randomUUID(), "Maria", "maria@example.com", "11144477735"));
+
+            // Assert
+            assertEquals(existingId, stored.getId());
+            assertEquals("João", stored.getName());
+            assertEquals(1, customerJpaRepository.count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Insert All If Absent Tests")
+    class InsertAllIfAbsentTests {
+
+        @Test
+        @DisplayName("Should report per row whether the CPF was free")
+        void shouldReportPerRowWhetherCpfWasFree() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            customerJpaRepository.save(new CustomerJpaEntity(UUID.randomUUID(), "João", "joao@example.com", "11144477735"));
+            List<CustomerJpaEntity> batch = List.of(
+                    new CustomerJpaEntity(UUID.randomUUID(), "Maria", "maria@example.com", "52998224725"),
+                    new CustomerJpaEntity(UUID.randomUUID(), "Outro João", "outro@example.com", "11144477735"),
+                    new CustomerJpaEntity(UUID.randomUUID(), "Maria Repetida", "maria2@example.com", "52998224725"));
+
+            // Act
+            boolean[] inserted = customerJdbcRepository.insertAllIfAbsent(batch);
+
+            // Assert
+            assertArrayEquals(new boolean[]{true, false, false}, inserted);
+            assertEquals(2, customerJpaRepository.count());
+        }
+
+        @Test
+        @DisplayName("Should accept an empty batch")
+        void shouldAcceptEmptyBatch() {
+            assertEquals(0, customerJdbcRepository.insertAllIfAbsent(List.of()).length);
+        }
+
+        @Test
+        @DisplayName("Should build a multi row insert for PostgreSQL")
+        void shouldBuildMultiRowInsertForPostgres() {
+            assertEquals("INSERT INTO customers (id, name, email, cpf) VALUES (?, ?, ?, ?), (?, ?, ?, ?)"
+                            + " ON CONFLICT (cpf) DO NOTHING RETURNING id",
+                    CustomerJdbcRepository.multiRowInsert(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Insert If Absent Tests")
+    class BatchInsertIfAbsentTests {
+
+        @Test
+        @DisplayName("Should report per row whether the CPF was free")
+        void shouldReportPerRowWhetherCpfWasFree() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            customerJpaRepository.save(new CustomerJpaEntity(UUID.randomUUID(), "João", "joao@example.com", "11144477735"));
+            List<CustomerJpaEntity> batch = List.of(
+                    new CustomerJpaEntity(UUID.randomUUID(), "Maria", "maria@example.com", "52998224725"),
+                    new CustomerJpaEntity(UUID.randomUUID(), "Outro João", "outro@example.com", "11144477735"));
+
+            // Act
+            boolean[] inserted = customerJdbcRepository.batchInsertIfAbsent(batch);
+
+            // Assert
+            assertArrayEquals(new boolean[]{true, false}, inserted);
+            assertEquals(2, customerJpaRepository.count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Existing CPFs Tests")
+    class FindExistingCpfsTests {
+
+        @Test
+        @DisplayName("Should return only the CPFs already stored")
+        void shouldReturnOnlyStoredCpfs() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            customerJpaRepository.save(new CustomerJpaEntity(UUID.randomUUID(), "João", "joao@example.com", "11144477735"));
+
+            // Act
+            Set<String> existing = customerJdbcRepository.findExistingCpfs(List.of("11144477735", "52998224725"));
+
+            // Assert
+            assertEquals(Set.of("11144477735"), existing);
+        }
+
+        @Test
+        @DisplayName("Should not query for an empty collection")
+        void shouldNotQueryForEmptyCollection() {
+            assertTrue(customerJdbcRepository.findExistingCpfs(List.of()).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Staging Tests")
+    class StagingTests {
+
+        @Test
+        @DisplayName("Should merge staged rows skipping registered CPFs and clear the staging area")
+        void shouldMergeStagedRowsSkippingRegisteredCpfs() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            customerJpaRepository.save(new CustomerJpaEntity(UUID.randomUUID(), "João", "joao@example.com", "11144477735"));
+            UUID importId = UUID.randomUUID();
+            customerJdbcRepository.copyToStaging(importId, List.of(
+                    new CustomerJpaEntity(UUID.randomUUID(), "Maria", "maria@example.com", "52998224725"),
+                    new CustomerJpaEntity(UUID.randomUUID(), "Outro João", "", "11144477735")));
+
+            // Act
+            long inserted = customerJdbcRepository.mergeStaging(importId);
+
+            // Assert
+            assertEquals(1, inserted);
+            assertEquals(2, customerJpaRepository.count());
+            assertEquals(0, customerJdbcRepository.mergeStaging(importId));
+        }
+
+        @Test
+        @DisplayName("Should discard staged rows")
+        void shouldDiscardStagedRows() {
+            // Arrange
+            customerJpaRepository.deleteAll();
+            UUID importId = UUID.randomUUID();
+            customerJdbcRepository.copyToStaging(importId, List.of(
+                    new CustomerJpaEntity(UUID.randomUUID(), "Maria", "maria@example.com", "52998224725")));
+
+            // Act
+            customerJdbcRepository.clearStaging(importId);
+
+            // Assert
+            assertEquals(0, customerJdbcRepository.mergeStaging(importId));
+            assertEquals(0, customerJpaRepository.count());
+        }
+
+        @Test
+        @DisplayName("Should quote every field of the COPY payload")
+        void shouldQuoteEveryFieldOfCopyPayload() {
+            UUID importId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+            UUID id = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+            String csv = CustomerJdbcRepository.toCsv(importId, List.of(
+                    new CustomerJpaEntity(id, "Silva, \"JJ\"", "", "11144477735")));
+
+            assertEquals(importId + "," + id + ",\"Silva, \"\"JJ\"\"\",\"\",\"11144477735\"\n", csv);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.application.usecases.UuidV7CustomerIdGenerator;
+import com.fiap.techchallenge.application.usecases.mappers.CustomerMapper;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.CustomerField;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a listagem completa com a projeção {@code fields=id,name}: percorre a tabela inteira
+ * em páginas de {@code GET /customers} e mede bytes de JSON e tempo por página, incluindo
+ * a leitura, o mapeamento e a serialização.
+ * <p>
+ * Fica de fora do build normal. Para rodar:
+ * {@code mvn test -Dtest=CustomerProjectionBenchmarkTest -Dbenchmark=true -Dbenchmark.rows=1000000}.
+ * Com {@code -Dbenchmark.rows=0} mede a tabela como está, sem recriá-la; com
+ * {@code -Dspring.datasource.url=jdbc:postgresql://...} (e usuário, senha e dialeto) mede no PostgreSQL.
+ * </p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CustomerJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Customer Projection Benchmark")
+class CustomerProjectionBenchmarkTest {
+
+    private static final int INSERT_BATCH = 10_000;
+    private static final int PAGE_SIZE = 1_000;
+    private static final Set<CustomerField> ID_AND_NAME = EnumSet.of(CustomerField.ID, CustomerField.NAME);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private CustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private CustomerJdbcRepository customerJdbcRepository;
+
+    @Test
+    @DisplayName("Payload size and latency of full reads versus id and name")
+    void fullReadsVersusProjection() throws Exception {
+        int rows = Integer.getInteger("benchmark.rows", 200_000);
+        if (rows > 0) {
+            populate(rows);
+        }
+        long total = customerJpaRepository.count();
+
+        walkFull();
+        walkProjection();
+
+        Result full = walkFull();
+        Result projection = walkProjection();
+
+        assertEquals(total, full.rows);
+        assertEquals(total, projection.rows);
+        System.out.printf("Full:      %d rows, %d pages, %.1f bytes/row, %.2f ms/page%n",
+                full.rows, full.pages, (double) full.bytes / full.rows, full.nanos / 1e6 / full.pages);
+        System.out.printf("id,name:   %d rows, %d pages, %.1f bytes/row, %.2f ms/page%n",
+                projection.rows, projection.pages, (double) projection.bytes / projection.rows,
+                projection.nanos / 1e6 / projection.pages);
+        System.out.printf("Projection: %.0f%% of the payload, %.0f%% of the time%n",
+                100.0 * projection.bytes / full.bytes, 100.0 * projection.nanos / full.nanos);
+    }
+
+    // O caminho atual: entidade JPA, Customer validado e os quatro campos no JSON
+    private Result walkFull() throws Exception {
+        Result result = new Result();
+        long start = System.nanoTime();
+        List<CustomerJpaEntity> page = customerJdbcRepository.findPage(null, PAGE_SIZE);
+        while (!page.isEmpty()) {
+            List<Customer> customers = page.stream().map(CustomerMapper::toDomainEntity).collect(Collectors.toList());
+            result.add(page.size(), objectMapper.writeValueAsBytes(customers).length);
+            page = customerJdbcRepository.findPage(page.get(page.size() - 1).getId(), PAGE_SIZE);
+        }
+        result.nanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private Result walkProjection() throws Exception {
+        Result result = new Result();
+        long start = System.nanoTime();
+        List<Map<String, Object>> page = customerJdbcRepository.findPage(null, PAGE_SIZE, ID_AND_NAME);
+        while (!page.isEmpty()) {
+            result.add(page.size(), objectMapper.writeValueAsBytes(page).length);
+            UUID last = (UUID) page.get(page.size() - 1).get(CustomerField.ID.getFieldName());
+            page = customerJdbcRepository.findPage(last, PAGE_SIZE, ID_AND_NAME);
+        }
+        result.nanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private void populate(int rows) {
+        customerJpaRepository.deleteAll();
+        UuidV7CustomerIdGenerator generator = new UuidV7CustomerIdGenerator();
+        for (int from = 0; from < rows; from += INSERT_BATCH) {
+            int to = Math.min(from + INSERT_BATCH, rows);
+            List<CustomerJpaEntity> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(new CustomerJpaEntity(generator.nextId(), "Cliente " + i, "cliente" + i + "@example.com",
+                        CustomerExportBenchmarkTest.cpf(i)));
+            }
+            customerJdbcRepository.batchInsertIfAbsent(batch);
+        }
+    }
+
+    private static final class Result {
+
+        private long rows;
+        private long pages;
+        private long bytes;
+        private long nanos;
+
+        private void add(int pageRows, int pageBytes) {
+            rows += pageRows;
+            pages++;
+            bytes += pageBytes;
+        }
+    }
+}
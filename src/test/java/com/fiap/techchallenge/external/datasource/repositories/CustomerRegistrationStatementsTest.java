@@ -0,0 +1,166 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fiap.techchallenge.adapters.gateway.CustomerRepositoryGateway;
+import com.fiap.techchallenge.domain.entities.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conta os comandos SQL que chegam ao banco num cadastro, pelo caminho real
+ * ({@link CustomerRepositoryGateway#save} → {@link CustomerJdbcRepository#insertIfAbsent}
+ * ou {@link CustomerGroupCommitter}).
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CustomerJdbcRepository.class, CustomerRegistrationStatementsTest.StatementCounting.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Customer Registration Statements Tests")
+class CustomerRegistrationStatementsTest {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private CustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private CustomerJdbcRepository customerJdbcRepository;
+
+    @TestConfiguration
+    static class StatementCounting {
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    // Registra o SQL de todo Statement criado pelas conexões do pool
+    static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "prepareStatement", "prepareCall" -> statements.add((String) args[0]);
+                            case "createStatement" -> statements.add("<statement>");
+                            default -> { }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        customerJpaRepository.deleteAll();
+        // Primeiro acesso lê os metadados do banco (sem Statement); fora da contagem de qualquer forma
+        customerJdbcRepository.findExistingCpfs(List.of("00000000191"));
+        statements.clear();
+    }
+
+    private static Customer customer(String cpf) {
+        return Customer.builder()
+                .id(UUID.randomUUID())
+                .name("João da Silva")
+                .email("joao.silva@example.com")
+                .cpf(cpf)
+                .build();
+    }
+
+    private static void assertSingleInsert() {
+        assertEquals(1, statements.size(), () -> "Statements: " + statements);
+        assertTrue(statements.get(0).trim().toUpperCase().startsWith("INSERT"), statements.get(0));
+    }
+
+    @Nested
+    @DisplayName("Direct Insert Tests")
+    class DirectInsertTests {
+
+        @Test
+        @DisplayName("Should register a customer with a single INSERT and no SELECT")
+        void shouldRegisterWithSingleInsert() {
+            // Arrange
+            CustomerRepositoryGateway gateway = new CustomerRepositoryGateway(customerJpaRepository, customerJdbcRepository);
+
+            // Act
+            gateway.save(customer("11144477735"));
+
+            // Assert
+            assertSingleInsert();
+        }
+    }
+
+    @Nested
+    @DisplayName("Group Commit Tests")
+    class GroupCommitTests {
+
+        @Test
+        @DisplayName("Should register a customer through the group committer with a single INSERT")
+        void shouldRegisterThroughGroupCommitterWithSingleInsert() {
+            // Arrange
+            CustomerGroupCommitter committer = new CustomerGroupCommitter(
+                    customerJdbcRepository, 64, Duration.ofMillis(1), size -> { });
+            CustomerRepositoryGateway gateway =
+                    new CustomerRepositoryGateway(customerJpaRepository, customerJdbcRepository, committer);
+            committer.start();
+
+            // Act
+            try {
+                gateway.save(customer("52998224725"));
+            } finally {
+                committer.close();
+            }
+
+            // Assert
+            assertSingleInsert();
+            assertEquals(1, committer.commitCount());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import com.fiap.techchallenge.external.datasource.entities.IdempotencyKeyJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(IdempotencyKeyJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Idempotency Key JDBC Repository Tests")
+class IdempotencyKeyJdbcRepositoryTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(10);
+    private static final Duration TTL = Duration.ofHours(24);
+
+    @Autowired
+    private IdempotencyKeyJdbcRepository repository;
+
+    @Test
+    @DisplayName("Should reserve a key only once while the lease holds")
+    void shouldReserveKeyOnlyOnce() {
+        // Arrange
+        String key = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+
+        // Act
+        boolean first = reserve(key, "fingerprint", now);
+        boolean second = reserve(key, "fingerprint", now.plusSeconds(1));
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+    }
+
+    @Test
+    @DisplayName("Should store and read back the completed result")
+    void shouldStoreAndReadBackCompletedResult() {
+        // Arrange
+        String key = UUID.randomUUID().toString();
+        UUID customerId = UUID.randomUUID();
+        reserve(key, "fingerprint", Instant.now());
+
+        // Act
+        repository.complete(key, customerId, "João", "joao@example.com", "11144477735");
+        IdempotencyKeyJpaEntity stored = repository.findByKey(key).orElseThrow();
+
+        // Assert
+        assertEquals("fingerprint", stored.getFingerprint());
+        assertEquals(customerId, stored.getCustomerId());
+        assertEquals("11144477735", stored.getCustomerCpf());
+        assertNull(stored.getError());
+    }
+
+    @Test
+    @DisplayName("Should take over a reservation whose lease expired")
+    void shouldTakeOverExpiredReservation() {
+        // Arrange
+        String key = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        reserve(key, "fingerprint", now);
+
+        // Act
+        boolean takenOver = reserve(key, "fingerprint", now.plus(LEASE).plusSeconds(1));
+
+        // Assert
+        assertTrue(takenOver);
+    }
+
+    @Test
+    @DisplayName("Should not take over a completed key before it expires")
+    void shouldNotTakeOverCompletedKey() {
+        // Arrange
+        String key = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        reserve(key, "fingerprint", now);
+        repository.fail(key, "Customer with CPF 11144477735 already exists");
+
+        // Act
+        boolean takenOver = reserve(key, "fingerprint", now.plus(LEASE).plusSeconds(1));
+
+        // Assert
+        assertFalse(takenOver);
+        assertEquals("Customer with CPF 11144477735 already exists", repository.findByKey(key).orElseThrow().getError());
+    }
+
+    @Test
+    @DisplayName("Should delete an unfinished reservation on release")
+    void shouldDeleteUnfinishedReservationOnRelease() {
+        // Arrange
+        String key = UUID.randomUUID().toString();
+        reserve(key, "fingerprint", Instant.now());
+
+        // Act
+        repository.release(key);
+
+        // Assert
+        assertTrue(repository.findByKey(key).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should purge keys older than the cutoff")
+    void shouldPurgeKeysOlderThanCutoff() {
+        // Arrange
+        String oldKey = UUID.randomUUID().toString();
+        String recentKey = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        reserve(oldKey, "fingerprint", now.minus(TTL).minusSeconds(60));
+        reserve(recentKey, "fingerprint", now);
+
+        // Act
+        repository.deleteCreatedBefore(now.minus(TTL));
+
+        // Assert
+        assertTrue(repository.findByKey(oldKey).isEmpty());
+        assertTrue(repository.findByKey(recentKey).isPresent());
+    }
+
+    private boolean reserve(String key, String fingerprint, Instant now) {
+        return repository.reserve(key, fingerprint, now, now.plus(LEASE), now.minus(TTL));
+    }
+}
@@ -51,6 +51,9 @@ resource "kubernetes_deployment" "app" {
       }
 
       spec {
+        # Precisa cobrir o drain-timeout do write-behind (20s) mais o shutdown do Spring
+        termination_grace_period_seconds = 45
+
         container {
           name  = var.app_name
           image = "${data.terraform_remote_state.infra.outputs.ecr_customer_url}:${var.image_tag}"
@@ -110,6 +113,35 @@ resource "kubernetes_deployment" "app" {
             }
           }
 
+          # Cache L2 de clientes em arquivo mapeado (sobrevive a restarts/deploys no mesmo nó)
+          env {
+            name  = "CUSTOMER_L2_CACHE_ENABLED"
+            value = "true"
+          }
+
+          env {
+            name  = "CUSTOMER_L2_CACHE_DIR"
+            value = "/var/cache/customer-service"
+          }
+
+          # Clientes mais acessados, gravados no shutdown e pré-carregados no próximo start
+          env {
+            name  = "CUSTOMER_WARMUP_HOT_KEYS_FILE"
+            value = "/var/cache/customer-service/hot-keys.txt"
+          }
+
+          # Cadastros assíncronos que não drenaram no shutdown, um arquivo por pod; qualquer pod
+          # deste nó os regrava no start ou na varredura seguinte (a cada 30s)
+          env {
+            name  = "CUSTOMER_WRITE_BEHIND_SPILL_DIR"
+            value = "/var/cache/customer-service"
+          }
+
+          volume_mount {
+            name       = "customer-l2-cache"
+            mount_path = "/var/cache/customer-service"
+          }
+
           resources {
             limits = {
               cpu    = "500m"
@@ -123,22 +155,31 @@ resource "kubernetes_deployment" "app" {
 
           liveness_probe {
             http_get {
-              path = "/api/actuator/health"
+              path = "/api/actuator/health/liveness"
               port = var.container_port
             }
             initial_delay_seconds = 60
             period_seconds        = 10
           }
 
+          # Só fica pronto depois do warm-up dos caches (ou do fim do orçamento de tempo)
           readiness_probe {
             http_get {
-              path = "/api/actuator/health"
+              path = "/api/actuator/health/readiness"
               port = var.container_port
             }
             initial_delay_seconds = 30
             period_seconds        = 5
           }
         }
+
+        volume {
+          name = "customer-l2-cache"
+          host_path {
+            path = "/var/cache/${var.app_name}"
+            type = "DirectoryOrCreate"
+          }
+        }
       }
     }
   }